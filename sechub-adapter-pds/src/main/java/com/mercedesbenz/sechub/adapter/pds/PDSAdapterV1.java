@@ -12,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 
 import com.mercedesbenz.sechub.adapter.AbstractAdapter;
 import com.mercedesbenz.sechub.adapter.AdapterException;
@@ -43,6 +44,20 @@ public class PDSAdapterV1 extends AbstractAdapter<PDSAdapterContext, PDSAdapterC
     private static final String PDS_JOB_UPLOAD_DONE = "PDS_JOB_UPLOAD_DONE";
     private static final String PDS_JOB_MARKED_AS_READY = "PDS_JOB_MARKED_AS_READY";
 
+    /*
+     * Same as default maximum of PDS server - the server limits the wait time by
+     * its own configuration anyway. We do not wait longer inside one request: a
+     * blocked HTTP call cannot be interrupted, so a SecHub job cancel would be
+     * delayed too long otherwise
+     */
+    private static final long MAX_TIME_TO_WAIT_FOR_JOB_STATUS_CHANGE_IN_MILLISECONDS = 30000;
+
+    /*
+     * After this amount of failed waits in a row (e.g. read time outs because a
+     * proxy closes long running requests) the adapter polls the job status
+     */
+    private static final int MAX_WAIT_FOR_JOB_STATUS_CHANGE_FAILURES = 3;
+
     private static final Logger LOG = LoggerFactory.getLogger(PDSAdapterV1.class);
 
     private static final AdapterExecutionResult NO_EXISTING_ADAPTER_EXECUTION_RESULT = null;
@@ -140,6 +155,7 @@ public class PDSAdapterV1 extends AbstractAdapter<PDSAdapterContext, PDSAdapterC
         int count = 0;
         boolean jobEnded = false;
         PDSJobStatus jobstatus = null;
+        PDSJobStatus jobStatusFromWait = null;
 
         long started = getCurrentTimeMilliseconds();
 
@@ -169,7 +185,12 @@ public class PDSAdapterV1 extends AbstractAdapter<PDSAdapterContext, PDSAdapterC
             }
 
             /* see PDSJobStatusState.java */
-            jobstatus = context.getResilientJobStatusResultExecutor().executeResilient(() -> getJobStatus(context));
+            if (jobStatusFromWait != null) {
+                /* already fetched by waiting for status change - no further request necessary */
+                jobstatus = jobStatusFromWait;
+            } else {
+                jobstatus = context.getResilientJobStatusResultExecutor().executeResilient(() -> getJobStatus(context));
+            }
 
             PDSJobStatusState state = jobstatus.state;
             switch (state) {
@@ -190,12 +211,18 @@ public class PDSAdapterV1 extends AbstractAdapter<PDSAdapterContext, PDSAdapterC
 
             assertThreadNotInterrupted();
 
-            try {
-                Thread.sleep(timeToWaitForNextCheckOperationInMilliseconds);
-            } catch (InterruptedException e) {
-                throw new AdapterException(getAdapterLogId(null),
-                        "Execution thread was interrupted. Type:" + context.getRuntimeContext().getType() + ", Thread was:" + Thread.currentThread().getName());
+            long remainingTimeInMilliseconds = config.getTimeOutInMilliseconds() - calculateElapsedTime(started);
+            long waitStarted = getCurrentTimeMilliseconds();
+
+            jobStatusFromWait = waitForJobStatusChange(context, state, remainingTimeInMilliseconds, timeToWaitForNextCheckOperationInMilliseconds);
+            if (jobStatusFromWait != null && !state.equals(jobStatusFromWait.state)) {
+                continue;
             }
+            /*
+             * no change or no wait possible: we do not check more often than the
+             * configured check interval
+             */
+            sleep(context, timeToWaitForNextCheckOperationInMilliseconds - calculateElapsedTime(waitStarted));
 
         }
         if (!jobEnded) {
@@ -207,6 +234,64 @@ public class PDSAdapterV1 extends AbstractAdapter<PDSAdapterContext, PDSAdapterC
 
     }
 
+    private void sleep(PDSContext context, long timeToWaitInMilliseconds) throws AdapterException {
+        if (timeToWaitInMilliseconds <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(timeToWaitInMilliseconds);
+        } catch (InterruptedException e) {
+            throw new AdapterException(getAdapterLogId(null),
+                    "Execution thread was interrupted. Type:" + context.getRuntimeContext().getType() + ", Thread was:" + Thread.currentThread().getName());
+        }
+    }
+
+    /**
+     * Waits on PDS side until the job status differs from given known state
+     * (long polling). So the adapter gets informed about job end immediately
+     * without sending many status requests.
+     *
+     * @return job status returned by PDS server - either changed or (after time
+     *         out) still the known state. <code>null</code> when PDS server does
+     *         not support waiting for status changes or the call failed - in
+     *         this case the caller must fetch the job status by its own
+     */
+    private PDSJobStatus waitForJobStatusChange(PDSContext context, PDSJobStatusState knownState, long remainingTimeInMilliseconds,
+            long timeToWaitForNextCheckOperationInMilliseconds) {
+        if (!context.isWaitForJobStatusChangeSupported() || remainingTimeInMilliseconds <= 0) {
+            return null;
+        }
+        UUID pdsJobUUID = context.getPdsJobUUID();
+        long maximumTimeoutInMilliseconds = Math.max(timeToWaitForNextCheckOperationInMilliseconds, MAX_TIME_TO_WAIT_FOR_JOB_STATUS_CHANGE_IN_MILLISECONDS);
+        long timeoutInMilliseconds = Math.min(remainingTimeInMilliseconds, maximumTimeoutInMilliseconds);
+
+        String url = context.getUrlBuilder().buildWaitForJobStatusChange(pdsJobUUID, knownState, timeoutInMilliseconds);
+        try {
+            ResponseEntity<PDSJobStatus> response = context.getRestOperations().getForEntity(url, PDSJobStatus.class);
+            if (response != null && response.getBody() != null && response.getBody().state != null) {
+                context.resetWaitForJobStatusChangeFailures();
+                return response.getBody();
+            }
+            LOG.info("PDS server returned no job status when waiting for job status change, will poll job status for PDS-job:{}", pdsJobUUID);
+            context.markWaitForJobStatusChangeUnsupported();
+
+        } catch (HttpClientErrorException e) {
+            LOG.info("PDS server does not support waiting for job status changes (http status: {}), will poll job status for PDS-job:{}", e.getRawStatusCode(),
+                    pdsJobUUID);
+            context.markWaitForJobStatusChangeUnsupported();
+
+        } catch (RuntimeException e) {
+            int failures = context.countWaitForJobStatusChangeFailure();
+            if (failures >= MAX_WAIT_FOR_JOB_STATUS_CHANGE_FAILURES) {
+                LOG.warn("Waiting for job status change of PDS-job:{} failed {} times in a row, will poll job status from now on", pdsJobUUID, failures, e);
+                context.markWaitForJobStatusChangeUnsupported();
+            } else {
+                LOG.warn("Was not able to wait for job status change of PDS-job:{}, will poll job status instead", pdsJobUUID, e);
+            }
+        }
+        return null;
+    }
+
     private class StateFulTimeOutCheck {
         boolean stillTimeLeft = true;
 
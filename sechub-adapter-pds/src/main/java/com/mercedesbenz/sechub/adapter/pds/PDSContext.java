@@ -25,6 +25,8 @@ public class PDSContext extends AbstractSpringRestAdapterContext<PDSAdapterConfi
     private JSONAdapterSupport jsonSupport;
     private RestOperationsSupport restSupport;
     private UUID pdsJobUUID;
+    private boolean waitForJobStatusChangeUnsupported;
+    private int waitForJobStatusChangeFailures;
 
     private PDSAdapterResilienceConsultant resilienceConsultant;
     private ResilientRunOrFailExecutor resilientRunOrFailExecutor;
@@ -97,6 +99,32 @@ public class PDSContext extends AbstractSpringRestAdapterContext<PDSAdapterConfi
         return pdsJobUUID;
     }
 
+    /**
+     * Marks that the PDS server does not support waiting for job status changes
+     * (long polling) - e.g. an older PDS server version. Afterwards the adapter
+     * polls the status in fixed intervals.
+     */
+    public void markWaitForJobStatusChangeUnsupported() {
+        this.waitForJobStatusChangeUnsupported = true;
+    }
+
+    public boolean isWaitForJobStatusChangeSupported() {
+        return !waitForJobStatusChangeUnsupported;
+    }
+
+    /**
+     * Counts a failed wait for job status change (e.g. a read time out)
+     *
+     * @return amount of failures since last successful wait
+     */
+    public int countWaitForJobStatusChangeFailure() {
+        return ++waitForJobStatusChangeFailures;
+    }
+
+    public void resetWaitForJobStatusChangeFailures() {
+        this.waitForJobStatusChangeFailures = 0;
+    }
+
     @Override
     protected boolean enableResourceHttpMessageConverterHandlingInputStream() {
         return true;
@@ -3,6 +3,8 @@ package com.mercedesbenz.sechub.adapter.pds;
 
 import java.util.UUID;
 
+import com.mercedesbenz.sechub.commons.pds.data.PDSJobStatusState;
+
 public class PDSUrlBuilder {
 
     private String baseURL;
@@ -23,6 +25,10 @@ public class PDSUrlBuilder {
         return buildUrl(API_PDS_JOB, jobUUID.toString(), "status");
     }
 
+    public String buildWaitForJobStatusChange(UUID jobUUID, PDSJobStatusState knownState, long timeoutInMilliseconds) {
+        return buildUrl(API_PDS_JOB, jobUUID.toString(), "wait-for-status-change") + "?knownState=" + knownState + "&timeout=" + timeoutInMilliseconds;
+    }
+
     public String buildGetJobResult(UUID jobUUID) {
         return buildUrl(API_PDS_JOB, jobUUID.toString(), "result");
     }
@@ -17,6 +17,8 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.EnumSource.Mode;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestOperations;
 
 import com.mercedesbenz.sechub.adapter.AdapterException;
@@ -101,6 +103,133 @@ class PDSAdapterV1Test {
 
     }
 
+    @Test
+    void start__pds_job_running__adapter_waits_for_job_status_change_on_pds_server_and_uses_returned_status() throws Exception {
+        /* prepare */
+        prepareMinimumPDSConfig();
+        when(config.getTimeOutInMilliseconds()).thenReturn(100000);
+
+        UUID pdsJobUUID = pdsJobUUID1;
+
+        preparePDSJobCreation(pdsJobUUID);
+        preparePDSJobStatusSequence(pdsJobUUID, PDSJobStatusState.RUNNING, PDSJobStatusState.DONE);
+        preparePDSMessages(pdsJobUUID, Collections.emptyList());
+
+        String waitUrlPrefix = "null/api/job/" + pdsJobUUID + "/wait-for-status-change?knownState=RUNNING&timeout=";
+        when(restOperations.getForEntity(startsWith(waitUrlPrefix), eq(PDSJobStatus.class))).thenReturn(createJobStatusResponse(PDSJobStatusState.DONE));
+
+        /* execute */
+        AdapterExecutionResult result = adapterToTest.start(config, callback);
+
+        /* test */
+        assertEquals("productResult1", result.getProductResult());
+        // waits as long as the default maximum of the PDS server
+        verify(restOperations).getForEntity(eq("null/api/job/" + pdsJobUUID + "/wait-for-status-change?knownState=RUNNING&timeout=30000"),
+                eq(PDSJobStatus.class));
+        // status returned by wait is used - no further status request
+        verify(restOperations, times(1)).getForEntity(eq("null/api/job/" + pdsJobUUID + "/status"), eq(PDSJobStatus.class));
+    }
+
+    @Test
+    void start__pds_job_still_running_after_wait_time_out__adapter_waits_again_without_status_request() throws Exception {
+        /* prepare */
+        prepareMinimumPDSConfig();
+        when(config.getTimeOutInMilliseconds()).thenReturn(100000);
+
+        UUID pdsJobUUID = pdsJobUUID1;
+
+        preparePDSJobCreation(pdsJobUUID);
+        preparePDSJobStatus(pdsJobUUID, PDSJobStatusState.RUNNING);
+        preparePDSMessages(pdsJobUUID, Collections.emptyList());
+
+        String waitUrlPrefix = "null/api/job/" + pdsJobUUID + "/wait-for-status-change?knownState=RUNNING&timeout=";
+        when(restOperations.getForEntity(startsWith(waitUrlPrefix), eq(PDSJobStatus.class))).thenReturn(createJobStatusResponse(PDSJobStatusState.RUNNING),
+                createJobStatusResponse(PDSJobStatusState.RUNNING), createJobStatusResponse(PDSJobStatusState.DONE));
+
+        /* execute */
+        AdapterExecutionResult result = adapterToTest.start(config, callback);
+
+        /* test */
+        assertEquals("productResult1", result.getProductResult());
+        verify(restOperations, times(3)).getForEntity(startsWith("null/api/job/" + pdsJobUUID + "/wait-for-status-change"), eq(PDSJobStatus.class));
+        verify(restOperations, times(1)).getForEntity(eq("null/api/job/" + pdsJobUUID + "/status"), eq(PDSJobStatus.class));
+    }
+
+    @Test
+    void start__check_interval_bigger_than_server_maximum__adapter_waits_at_least_check_interval() throws Exception {
+        /* prepare */
+        prepareMinimumPDSConfig();
+        when(config.getTimeOutInMilliseconds()).thenReturn(100000);
+        when(config.getTimeToWaitForNextCheckOperationInMilliseconds()).thenReturn(60000);
+
+        UUID pdsJobUUID = pdsJobUUID1;
+
+        preparePDSJobCreation(pdsJobUUID);
+        preparePDSJobStatus(pdsJobUUID, PDSJobStatusState.RUNNING);
+        preparePDSMessages(pdsJobUUID, Collections.emptyList());
+
+        String waitUrlPrefix = "null/api/job/" + pdsJobUUID + "/wait-for-status-change?knownState=RUNNING&timeout=";
+        when(restOperations.getForEntity(startsWith(waitUrlPrefix), eq(PDSJobStatus.class))).thenReturn(createJobStatusResponse(PDSJobStatusState.DONE));
+
+        /* execute */
+        adapterToTest.start(config, callback);
+
+        /* test */
+        verify(restOperations).getForEntity(eq("null/api/job/" + pdsJobUUID + "/wait-for-status-change?knownState=RUNNING&timeout=60000"),
+                eq(PDSJobStatus.class));
+    }
+
+    @Test
+    void start__waiting_for_job_status_change_fails_repeatedly__adapter_stops_waiting_and_polls_job_status() throws Exception {
+        /* prepare */
+        prepareMinimumPDSConfig();
+        when(config.getTimeOutInMilliseconds()).thenReturn(10000);
+
+        UUID pdsJobUUID = pdsJobUUID1;
+
+        preparePDSJobCreation(pdsJobUUID);
+        preparePDSJobStatusSequence(pdsJobUUID, PDSJobStatusState.RUNNING, PDSJobStatusState.RUNNING, PDSJobStatusState.RUNNING, PDSJobStatusState.RUNNING,
+                PDSJobStatusState.RUNNING, PDSJobStatusState.DONE);
+        preparePDSMessages(pdsJobUUID, Collections.emptyList());
+
+        when(restOperations.getForEntity(startsWith("null/api/job/" + pdsJobUUID + "/wait-for-status-change"), eq(PDSJobStatus.class)))
+                .thenThrow(new ResourceAccessException("Read timed out"));
+
+        /* execute */
+        AdapterExecutionResult result = adapterToTest.start(config, callback);
+
+        /* test */
+        assertEquals("productResult1", result.getProductResult());
+        // after 3 failures in a row waiting is no longer tried
+        verify(restOperations, times(3)).getForEntity(startsWith("null/api/job/" + pdsJobUUID + "/wait-for-status-change"), eq(PDSJobStatus.class));
+        verify(restOperations, times(6)).getForEntity(eq("null/api/job/" + pdsJobUUID + "/status"), eq(PDSJobStatus.class));
+    }
+
+    @Test
+    void start__pds_server_does_not_support_waiting_for_job_status_change__adapter_polls_job_status() throws Exception {
+        /* prepare */
+        prepareMinimumPDSConfig();
+        when(config.getTimeOutInMilliseconds()).thenReturn(10000);
+
+        UUID pdsJobUUID = pdsJobUUID1;
+
+        preparePDSJobCreation(pdsJobUUID);
+        preparePDSJobStatusSequence(pdsJobUUID, PDSJobStatusState.RUNNING, PDSJobStatusState.RUNNING, PDSJobStatusState.DONE);
+        preparePDSMessages(pdsJobUUID, Collections.emptyList());
+
+        when(restOperations.getForEntity(startsWith("null/api/job/" + pdsJobUUID + "/wait-for-status-change"), eq(PDSJobStatus.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+
+        /* execute */
+        AdapterExecutionResult result = adapterToTest.start(config, callback);
+
+        /* test */
+        assertEquals("productResult1", result.getProductResult());
+        // unsupported is remembered - so only one try
+        verify(restOperations, times(1)).getForEntity(startsWith("null/api/job/" + pdsJobUUID + "/wait-for-status-change"), eq(PDSJobStatus.class));
+        verify(restOperations, times(3)).getForEntity(eq("null/api/job/" + pdsJobUUID + "/status"), eq(PDSJobStatus.class));
+    }
+
     @Test
     @DisplayName("Restart - Meta data is found but PDS job uuid is NOT set - creates new PDS job 1")
     void restart_pds_job_uuid_NOT_found_in_metadata() throws Exception {
@@ -254,6 +383,23 @@ class PDSAdapterV1Test {
         when(restOperations.getForEntity(eq("null/api/job/" + pdsJobUUID.toString() + "/status"), eq(PDSJobStatus.class))).thenReturn(responseEntity);
     }
 
+    private void preparePDSJobStatusSequence(UUID pdsJobUUID, PDSJobStatusState first, PDSJobStatusState... next) {
+        ResponseEntity<PDSJobStatus> firstResponse = createJobStatusResponse(first);
+        @SuppressWarnings("unchecked")
+        ResponseEntity<PDSJobStatus>[] nextResponses = new ResponseEntity[next.length];
+        for (int i = 0; i < next.length; i++) {
+            nextResponses[i] = createJobStatusResponse(next[i]);
+        }
+        when(restOperations.getForEntity(eq("null/api/job/" + pdsJobUUID.toString() + "/status"), eq(PDSJobStatus.class))).thenReturn(firstResponse,
+                nextResponses);
+    }
+
+    private ResponseEntity<PDSJobStatus> createJobStatusResponse(PDSJobStatusState state) {
+        PDSJobStatus jobStatus = new PDSJobStatus();
+        jobStatus.state = state;
+        return new ResponseEntity<>(jobStatus, HttpStatus.OK);
+    }
+
     private void preparePDSReportResult(UUID pdsJobUUID, String result) {
         ResponseEntity<String> responseEntity = new ResponseEntity<>(result, HttpStatus.OK);
         when(restOperations.getForEntity(eq("null/api/job/" + pdsJobUUID.toString() + "/result"), eq(String.class))).thenReturn(responseEntity);
@@ -79,6 +79,13 @@ public class SchedulerAdministrationMessageHandler implements AsynchronMessageHa
         saveStatusEntry(SchedulerStatusEntryKeys.SCHEDULER_JOBS_CANCELED, status.getAmountOfJobsCanceled());
         saveStatusEntry(SchedulerStatusEntryKeys.SCHEDULER_JOBS_ENDED, status.getAmountOfJobsEnded());
 
+        saveStatusEntry(SchedulerStatusEntryKeys.SCHEDULER_DISPATCH_JOBS_DISPATCHED, status.getAmountOfJobsDispatched());
+        saveStatusEntry(SchedulerStatusEntryKeys.SCHEDULER_DISPATCH_QUEUE_WAIT_TIME_AVERAGE, status.getJobQueueWaitTimeAverageInMilliseconds());
+        saveStatusEntry(SchedulerStatusEntryKeys.SCHEDULER_DISPATCH_QUEUE_WAIT_TIME_MAX, status.getJobQueueWaitTimeMaxInMilliseconds());
+
+        saveStatusEntry(SchedulerStatusEntryKeys.SCHEDULER_EXECUTION_POOL_JOBS, status.getAmountOfJobsInExecutionPool());
+        saveStatusEntry(SchedulerStatusEntryKeys.SCHEDULER_EXECUTION_POOL_MAX, status.getExecutionPoolMaxConcurrentJobs());
+
     }
 
     private void saveStatusEntry(SchedulerStatusEntryKeys key, long value) {
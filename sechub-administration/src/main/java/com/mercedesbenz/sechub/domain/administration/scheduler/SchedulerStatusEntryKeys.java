@@ -20,6 +20,16 @@ public enum SchedulerStatusEntryKeys implements StatusEntryKey {
 
     SCHEDULER_JOBS_ENDED("status.scheduler.jobs.ended"),
 
+    SCHEDULER_DISPATCH_JOBS_DISPATCHED("status.scheduler.dispatch.jobs_dispatched"),
+
+    SCHEDULER_DISPATCH_QUEUE_WAIT_TIME_AVERAGE("status.scheduler.dispatch.queue_wait_time_average_millis"),
+
+    SCHEDULER_DISPATCH_QUEUE_WAIT_TIME_MAX("status.scheduler.dispatch.queue_wait_time_max_millis"),
+
+    SCHEDULER_EXECUTION_POOL_JOBS("status.scheduler.execution_pool.jobs"),
+
+    SCHEDULER_EXECUTION_POOL_MAX("status.scheduler.execution_pool.max"),
+
     ;
 
     private String statusEntryKey;
@@ -59,6 +59,13 @@ public class SecHubClient {
 
     private static final Logger LOG = LoggerFactory.getLogger(SecHubClient.class);
 
+    /**
+     * System property to define the default amount of threads used to create the
+     * source code ZIP archive for uploads. Values lower than 2 mean sequential
+     * creation (default).
+     */
+    public static final String SYSTEM_PROPERTY_ARCHIVE_CREATION_THREADS = "sechub.client.archive.creation.threads";
+
     private static JsonMapper mapper = JsonMapperFactory.createMapper();
 
     private String username;
@@ -106,6 +113,22 @@ public class SecHubClient {
 
         conversionHelper = new OpenApiSecHubClientConversionHelper(adminApi);
         secHubClientListeners = new LinkedList<>();
+
+        setArchiveCreationThreads(Integer.getInteger(SYSTEM_PROPERTY_ARCHIVE_CREATION_THREADS, 1));
+    }
+
+    /**
+     * Defines the amount of threads used to create the source code ZIP archive
+     * before upload. When more than one thread is defined, files are compressed in
+     * parallel and already compressed files (e.g. jar files or images) are stored
+     * without compression. The default can be set by system property
+     * {@value #SYSTEM_PROPERTY_ARCHIVE_CREATION_THREADS}.
+     *
+     * @param archiveCreationThreads amount of threads. Values lower than 2 mean
+     *                               sequential creation
+     */
+    public void setArchiveCreationThreads(int archiveCreationThreads) {
+        archiveSupport.setParallelCreationThreads(archiveCreationThreads);
     }
 
     /**
@@ -25,8 +25,12 @@ class ArchiveCreationContext {
         private Set<String> excludes = new LinkedHashSet<>();
         private Set<String> includes = new LinkedHashSet<>();
 
-        private List<PathMatcher> excludePathMatchers;
-        private List<PathMatcher> includePathMatchers;
+        /*
+         * volatile because parallel archive creation checks filters from multiple
+         * threads - creating the matchers twice does not matter
+         */
+        private volatile List<PathMatcher> excludePathMatchers;
+        private volatile List<PathMatcher> includePathMatchers;
 
         private CreationPathContext() {
 
@@ -47,17 +51,21 @@ class ArchiveCreationContext {
         }
 
         private List<PathMatcher> getExcludePathMatchers() {
-            if (excludePathMatchers == null) {
-                excludePathMatchers = createPathMatchers(excludes);
+            List<PathMatcher> matchers = excludePathMatchers;
+            if (matchers == null) {
+                matchers = createPathMatchers(excludes);
+                excludePathMatchers = matchers;
             }
-            return excludePathMatchers;
+            return matchers;
         }
 
         private List<PathMatcher> getIncudePathMatchers() {
-            if (includePathMatchers == null) {
-                includePathMatchers = createPathMatchers(includes);
+            List<PathMatcher> matchers = includePathMatchers;
+            if (matchers == null) {
+                matchers = createPathMatchers(includes);
+                includePathMatchers = matchers;
             }
-            return includePathMatchers;
+            return matchers;
         }
 
         private boolean isMatching(File file, List<PathMatcher> matchers) {
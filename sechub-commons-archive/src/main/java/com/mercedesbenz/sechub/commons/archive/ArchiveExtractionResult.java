@@ -4,6 +4,10 @@ package com.mercedesbenz.sechub.commons.archive;
 public class ArchiveExtractionResult {
     int extractedFilesCount;
     int createdFoldersCount;
+    int skippedFilesCount;
+
+    long writtenBytes;
+    long skippedBytes;
 
     String sourceLocation;
     String targetLocation;
@@ -16,6 +20,25 @@ public class ArchiveExtractionResult {
         return createdFoldersCount;
     }
 
+    public int getSkippedFilesCount() {
+        return skippedFilesCount;
+    }
+
+    /**
+     * @return amount of bytes written to extracted files
+     */
+    public long getWrittenBytes() {
+        return writtenBytes;
+    }
+
+    /**
+     * @return amount of (uncompressed) bytes of entries which were not extracted
+     *         because of filtering. Entries with unknown size are not counted.
+     */
+    public long getSkippedBytes() {
+        return skippedBytes;
+    }
+
     public String getSourceLocation() {
         return sourceLocation;
     }
@@ -4,6 +4,7 @@ package com.mercedesbenz.sechub.commons.archive;
 import static java.util.Objects.*;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -12,6 +13,8 @@ import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -27,6 +30,8 @@ import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,10 +47,16 @@ import com.mercedesbenz.sechub.commons.model.SecHubFileSystemContainer;
 public class ArchiveSupport {
 
     private static final KeepAsIsTransformationData DO_NOT_TRANSFORM = new KeepAsIsTransformationData();
+
+    /* bigger entries of archive streams are written directly by the reading thread */
+    private static final int MAX_ENTRY_SIZE_FOR_PARALLEL_WRITE = 1024 * 1024;
+
     private static final Logger LOG = LoggerFactory.getLogger(ArchiveSupport.class);
 
     private ArchiveTransformationDataFactory archiveTransformationDataFactory;
     private boolean createMissingFiles;
+    private int parallelCreationThreads;
+    private int parallelExtractionThreads;
 
     public ArchiveSupport() {
         this.archiveTransformationDataFactory = new ArchiveTransformationDataFactory();
@@ -85,10 +96,68 @@ public class ArchiveSupport {
         }
     }
 
+    /**
+     * Extract given archive file to output directory. For ZIP files the central
+     * directory is used: entries not accepted by the file structure data provider
+     * are never read or decompressed. Accepted entries are decompressed and
+     * written by multiple threads when parallel extraction is enabled.
+     *
+     * @param archiveType
+     * @param archiveFile               the archive file to extract
+     * @param outputDir
+     * @param fileStructureDataProvider used to transform/filter the extraction. If
+     *                                  <code>null</code>, a fallback will be used
+     *                                  which does no transformation or filtering
+     *
+     * @return extraction result
+     *
+     * @throws IOException
+     */
+    public ArchiveExtractionResult extract(ArchiveType archiveType, File archiveFile, File outputDir, SecHubFileStructureDataProvider fileStructureDataProvider)
+            throws IOException {
+        if (archiveType == null) {
+            throw new IllegalArgumentException("archive type must be defined!");
+        }
+        requireNonNull(archiveFile, "archiveFile may not be null!");
+
+        if (ArchiveType.ZIP.equals(archiveType)) {
+            return extractZipFile(archiveFile, outputDir, fileStructureDataProvider);
+        }
+        /* tar has no compression - skipping not accepted entries is done by seeking inside the file stream */
+        try (InputStream inputStream = new FileInputStream(archiveFile)) {
+            return extract(archiveType, inputStream, archiveFile.getAbsolutePath(), outputDir, fileStructureDataProvider);
+        }
+    }
+
+    /**
+     * Defines the amount of threads used to write extracted files. The archive
+     * stream itself is always read by the caller thread.
+     *
+     * @param parallelExtractionThreads amount of threads. Values lower than 2 mean
+     *                                  sequential extraction (default)
+     */
+    public void setParallelExtractionThreads(int parallelExtractionThreads) {
+        this.parallelExtractionThreads = parallelExtractionThreads;
+    }
+
     public void setCreateMissingFiles(boolean createPseudoFilesForMissingFiles) {
         this.createMissingFiles = createPseudoFilesForMissingFiles;
     }
 
+    /**
+     * Defines the amount of threads used for ZIP archive creation. When more than
+     * one thread is defined, the file tree is walked in parallel and the entries
+     * are compressed by worker threads. Files which are already compressed (e.g.
+     * jar files or images) are stored without compression. TAR archives are not
+     * compressed and are always created by one thread.
+     *
+     * @param parallelCreationThreads amount of threads. Values lower than 2 mean
+     *                                sequential creation (default)
+     */
+    public void setParallelCreationThreads(int parallelCreationThreads) {
+        this.parallelCreationThreads = parallelCreationThreads;
+    }
+
     /**
      * Creates all necessary archives for a given SecHub configuration
      *
@@ -161,18 +230,13 @@ public class ArchiveSupport {
         File archiveFile = creationContext.getArchiveFile();
         LOG.debug("Start creating {} archive: {}", archiveType, archiveFile);
 
-        try (ArchiveOutputStream outputStream = new ArchiveStreamFactory().createArchiveOutputStream(archiveType.getType(),
-                new FileOutputStream(archiveFile))) {
-
-            if (outputStream instanceof TarArchiveOutputStream) {
-                @SuppressWarnings("resource")
-                TarArchiveOutputStream tarOutputStream = (TarArchiveOutputStream) outputStream;
-                tarOutputStream.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
-            }
+        ParallelZipArchiveCreator parallelZipArchiveCreator = createParallelZipArchiveCreatorOrNull(archiveType);
+        try (ArchiveOutputStream outputStream = createArchiveOutputStream(archiveType, archiveFile, parallelZipArchiveCreator)) {
 
             Map<String, CreationPathContext> uniqueNameToPaths = creationContext.getUniqueToPathsMap();
             Path workingDirectoryRealPath = workingDirectory.toRealPath();
 
+            List<ParallelZipArchiveCreator.FileEntry> parallelEntries = new ArrayList<>();
             for (Entry<String, CreationPathContext> entry : uniqueNameToPaths.entrySet()) {
 
                 String uniqueName = entry.getKey();
@@ -208,21 +272,57 @@ public class ArchiveSupport {
                     } else {
                         pathAddition = ArchiveConstants.DATA_SECTION_FOLDER + uniqueName;
                     }
-                    compressRecursively(workingDirectoryRealPath.toString(), outputStream, file, archiveType, pathAddition, creationPathContext);
+                    if (parallelZipArchiveCreator == null) {
+                        compressRecursively(workingDirectoryRealPath.toString(), outputStream, file, archiveType, pathAddition, creationPathContext);
+                    } else {
+                        parallelEntries
+                                .addAll(parallelZipArchiveCreator.collectFiles(workingDirectoryRealPath.toString(), file, pathAddition, creationPathContext));
+                    }
                     LOG.debug("Create archive entry with relative prefix: {}. Origin file/folder: {}", pathAddition, file);
                 }
 
             }
+            if (parallelZipArchiveCreator != null) {
+                parallelZipArchiveCreator.write((ZipArchiveOutputStream) outputStream, parallelEntries);
+            }
 
             outputStream.finish();
 
         } catch (ArchiveException e) {
             throw new IOException("Was not able to create: " + archiveFile, e);
+        } finally {
+            if (parallelZipArchiveCreator != null) {
+                parallelZipArchiveCreator.shutdown();
+            }
         }
 
         return archiveFile;
     }
 
+    private ParallelZipArchiveCreator createParallelZipArchiveCreatorOrNull(ArchiveType archiveType) {
+        if (!ArchiveType.ZIP.equals(archiveType)) {
+            return null;
+        }
+        if (parallelCreationThreads < 2) {
+            return null;
+        }
+        return new ParallelZipArchiveCreator(parallelCreationThreads);
+    }
+
+    private ArchiveOutputStream createArchiveOutputStream(ArchiveType archiveType, File archiveFile, ParallelZipArchiveCreator parallelZipArchiveCreator)
+            throws IOException, ArchiveException {
+        if (parallelZipArchiveCreator != null) {
+            /* file based zip output is seekable - so entries can be stored without knowing size and crc before */
+            return new ZipArchiveOutputStream(archiveFile);
+        }
+        ArchiveOutputStream outputStream = new ArchiveStreamFactory().createArchiveOutputStream(archiveType.getType(), new FileOutputStream(archiveFile));
+        if (outputStream instanceof TarArchiveOutputStream) {
+            TarArchiveOutputStream tarOutputStream = (TarArchiveOutputStream) outputStream;
+            tarOutputStream.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+        }
+        return outputStream;
+    }
+
     private void collectDataParts(SecHubConfigurationModel configuration, ArchiveCreationContext creationContext) {
         if (configuration.getData().isEmpty()) {
             return;
@@ -308,16 +408,15 @@ public class ArchiveSupport {
             parentFile.mkdirs();
         }
 
-        try (ArchiveOutputStream outputStream = new ArchiveStreamFactory().createArchiveOutputStream(type.getType(), new FileOutputStream(targetArchiveFile))) {
+        ParallelZipArchiveCreator parallelZipArchiveCreator = createParallelZipArchiveCreatorOrNull(type);
+        try (ArchiveOutputStream outputStream = createArchiveOutputStream(type, targetArchiveFile, parallelZipArchiveCreator)) {
             String basePath = folder.toPath().toRealPath().toString();
 
-            if (outputStream instanceof TarArchiveOutputStream) {
-                /* in this case we activate long file support */
-                @SuppressWarnings("resource")
-                TarArchiveOutputStream tarArchiveOutputStream = (TarArchiveOutputStream) outputStream;
-                tarArchiveOutputStream.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+            if (parallelZipArchiveCreator == null) {
+                compressRecursively(basePath, outputStream, folder, type, null, null);
+            } else {
+                parallelZipArchiveCreator.write((ZipArchiveOutputStream) outputStream, parallelZipArchiveCreator.collectFiles(basePath, folder, null, null));
             }
-            compressRecursively(basePath, outputStream, folder, type, null, null);
 
             outputStream.finish();
 
@@ -325,6 +424,10 @@ public class ArchiveSupport {
 
         } catch (ArchiveException e) {
             throw new IOException("Was not able to compress: " + folder, e);
+        } finally {
+            if (parallelZipArchiveCreator != null) {
+                parallelZipArchiveCreator.shutdown();
+            }
         }
 
     }
@@ -332,56 +435,18 @@ public class ArchiveSupport {
     private void compressRecursively(String basePath, ArchiveOutputStream outputStream, File file, ArchiveType type, String pathAddition,
             CreationPathContext creationPathContext) throws IOException {
 
-        if (creationPathContext != null) {
-            if (creationPathContext.isExcluded(file)) {
-                /* shall be excluded */
-                if (!creationPathContext.isIncluded(file)) {
-                    /* exclude not overriden by include filter */
-                    return;
-                }
-            }
+        if (isFilteredOut(file, creationPathContext)) {
+            return;
         }
         if (file.isDirectory()) {
             for (File child : file.listFiles()) {
                 compressRecursively(basePath, outputStream, child, type, pathAddition, creationPathContext);
             }
         } else {
-            String relativePath;
-
-            String parentPath = file.getParentFile().toPath().toRealPath().toString();
-            String relativeFromBasePath = parentPath.substring(basePath.length());
-            relativePath = (pathAddition == null ? "" : pathAddition) + relativeFromBasePath + "/" + file.getName();
-            if (relativePath.isEmpty()) {
-                LOG.error("Relative path is empty");
+            String relativePath = createRelativePath(basePath, file, pathAddition);
+            if (relativePath == null) {
                 return;
             }
-            if (relativePath.startsWith("/")) {
-                relativePath = relativePath.substring(1);
-            }
-
-            Path.of(relativePath).toAbsolutePath();
-            if (LOG.isTraceEnabled()) {
-                /* @formatter:off */
-                    String logText = """
-                        Compress
-                            - pathAddition         :{}
-                            - basePath             :{}
-                            - parentPath           :{}
-                            - file to compress     :{}
-                            - relativeFromBasePath :{}
-                            - relativePath         :{}
-                            """;
-
-                    LOG.trace(logText,
-                            pathAddition,
-                            basePath,
-                            parentPath,
-                            file,
-                            relativeFromBasePath,
-                            relativePath
-                            );
-                    /* @formatter:on */
-            }
 
             ArchiveEntry entry = null;
             switch (type) {
@@ -407,6 +472,67 @@ public class ArchiveSupport {
 
     }
 
+    static boolean isFilteredOut(File file, CreationPathContext creationPathContext) {
+        if (creationPathContext == null) {
+            return false;
+        }
+        if (!creationPathContext.isExcluded(file)) {
+            return false;
+        }
+        /* shall be excluded - when not overriden by include filter */
+        return !creationPathContext.isIncluded(file);
+    }
+
+    /**
+     * Resolves the path of given file inside the archive
+     *
+     * @param basePath     the real path all relative paths start from
+     * @param file         the file to add to the archive
+     * @param pathAddition prefix for the path inside the archive, can be
+     *                     <code>null</code>
+     * @return relative path or <code>null</code> when not resolvable
+     * @throws IOException
+     */
+    static String createRelativePath(String basePath, File file, String pathAddition) throws IOException {
+        String relativePath;
+
+        String parentPath = file.getParentFile().toPath().toRealPath().toString();
+        String relativeFromBasePath = parentPath.substring(basePath.length());
+        relativePath = (pathAddition == null ? "" : pathAddition) + relativeFromBasePath + "/" + file.getName();
+        if (relativePath.isEmpty()) {
+            LOG.error("Relative path is empty");
+            return null;
+        }
+        if (relativePath.startsWith("/")) {
+            relativePath = relativePath.substring(1);
+        }
+
+        Path.of(relativePath).toAbsolutePath();
+        if (LOG.isTraceEnabled()) {
+            /* @formatter:off */
+                String logText = """
+                    Compress
+                        - pathAddition         :{}
+                        - basePath             :{}
+                        - parentPath           :{}
+                        - file to compress     :{}
+                        - relativeFromBasePath :{}
+                        - relativePath         :{}
+                        """;
+
+                LOG.trace(logText,
+                        pathAddition,
+                        basePath,
+                        parentPath,
+                        file,
+                        relativeFromBasePath,
+                        relativePath
+                        );
+                /* @formatter:on */
+        }
+        return relativePath;
+    }
+
     private ArchiveExtractionResult extractTar(InputStream sourceInputStream, String sourceLocation, File outputDir,
             SecHubFileStructureDataProvider fileStructureProvider) throws IOException {
         try (ArchiveInputStream archiveInputStream = new ArchiveStreamFactory().createArchiveInputStream("tar", sourceInputStream)) {
@@ -465,56 +591,143 @@ public class ArchiveSupport {
         result.targetLocation = outputDir.getAbsolutePath();
         result.sourceLocation = sourceLocation;
 
-        ArchiveEntry entry = null;
-        while ((entry = sourceArchiveInputStream.getNextEntry()) != null) {
-            String name = entry.getName();
-            if (name == null) {
-                throw new IllegalStateException("Entry path is null - cannot be handled!");
-            }
-
-            ArchiveTransformationData data = createTransformationData(fileStructureProvider, name);
-            if (data == null) {
-                continue;
-            }
-            if (!data.isAccepted()) {
-                LOG.debug("Filtering: {}", name);
+        ParallelExtractionFileWriter fileWriter = new ParallelExtractionFileWriter(parallelExtractionThreads);
+        try {
+            ArchiveEntry entry = null;
+            while ((entry = sourceArchiveInputStream.getNextEntry()) != null) {
+                /*
+                 * not accepted entries are skipped by next getNextEntry() call - without
+                 * writing them and for zip entries with known size also without inflating
+                 */
+                File outputFile = resolveAcceptedOutputFile(entry.getName(), outputDir, fileStructureProvider);
+                if (outputFile == null) {
+                    markSkipped(entry.isDirectory(), entry.getSize(), result);
+                    continue;
+                }
 
-                continue;
+                if (entry.isDirectory()) {
+                    createDirectory(outputFile, result);
+                    continue;
+                }
+                LOG.debug("Creating output file: {}", outputFile.getAbsolutePath());
+                ensureParentFolderExists(outputFile, result);
+                if (outputFile.isDirectory()) {
+                    continue;
+                }
+                long size = entry.getSize();
+                if (fileWriter.isParallel() && size >= 0 && size <= MAX_ENTRY_SIZE_FOR_PARALLEL_WRITE) {
+                    /* stream can only be read by this thread - but writing can be done by another one */
+                    byte[] data = sourceArchiveInputStream.readAllBytes();
+                    fileWriter.write(() -> {
+                        Files.write(outputFile.toPath(), data);
+                        return (long) data.length;
+                    });
+                } else {
+                    try (OutputStream outputFileStream = new FileOutputStream(outputFile)) {
+                        fileWriter.addWrittenBytes(IOUtils.copyLarge(sourceArchiveInputStream, outputFileStream));
+                    }
+                }
+                result.extractedFilesCount++;
             }
-            if (data.isPathChangeWanted()) {
-                name = data.getChangedPath();
-
-                LOG.debug("Path changed to: {}", name);
+            result.writtenBytes = fileWriter.finish();
+        } finally {
+            fileWriter.shutdown();
+        }
+        return result;
+    }
 
-                if (name == null) {
-                    throw new IllegalStateException("Wanted path is null - cannot be handled!");
+    private ArchiveExtractionResult extractZipFile(File archiveFile, File outputDir, SecHubFileStructureDataProvider fileStructureProvider) throws IOException {
+        ArchiveExtractionResult result = new ArchiveExtractionResult();
+        result.targetLocation = outputDir.getAbsolutePath();
+        result.sourceLocation = archiveFile.getAbsolutePath();
+
+        ParallelExtractionFileWriter fileWriter = new ParallelExtractionFileWriter(parallelExtractionThreads);
+        try (ZipFile zipFile = new ZipFile(archiveFile)) {
+            Enumeration<ZipArchiveEntry> entries = zipFile.getEntriesInPhysicalOrder();
+            while (entries.hasMoreElements()) {
+                ZipArchiveEntry entry = entries.nextElement();
+
+                File outputFile = resolveAcceptedOutputFile(entry.getName(), outputDir, fileStructureProvider);
+                if (outputFile == null) {
+                    /* central directory knows the size - entry data is never touched */
+                    markSkipped(entry.isDirectory(), entry.getSize(), result);
+                    continue;
                 }
-            }
-            File outputFile = new File(outputDir, name);
-
-            if (entry.isDirectory()) {
-                LOG.debug("Write output directory: {}", outputFile.getAbsolutePath());
-                if (!outputFile.exists()) {
-                    result.createdFoldersCount++;
-                    if (!outputFile.mkdirs()) {
-                        throw new IOException("Was not able to create directory: " + outputFile.getAbsolutePath());
-                    }
+                if (entry.isDirectory()) {
+                    createDirectory(outputFile, result);
+                    continue;
                 }
-            } else {
                 LOG.debug("Creating output file: {}", outputFile.getAbsolutePath());
                 ensureParentFolderExists(outputFile, result);
                 if (outputFile.isDirectory()) {
                     continue;
                 }
-                try (OutputStream outputFileStream = new FileOutputStream(outputFile)) {
-                    IOUtils.copy(sourceArchiveInputStream, outputFileStream);
-                    result.extractedFilesCount++;
-                }
+                /* zip file entries can be read concurrently - so inflating is done by the writers as well */
+                fileWriter.write(() -> {
+                    try (InputStream inputStream = zipFile.getInputStream(entry); OutputStream outputFileStream = new FileOutputStream(outputFile)) {
+                        return IOUtils.copyLarge(inputStream, outputFileStream);
+                    }
+                });
+                result.extractedFilesCount++;
             }
+            result.writtenBytes = fileWriter.finish();
+        } finally {
+            fileWriter.shutdown();
         }
         return result;
     }
 
+    /**
+     * Resolves output file for given archive entry name
+     *
+     * @return output file or <code>null</code> when entry is not accepted
+     */
+    private File resolveAcceptedOutputFile(String name, File outputDir, SecHubFileStructureDataProvider fileStructureProvider) {
+        if (name == null) {
+            throw new IllegalStateException("Entry path is null - cannot be handled!");
+        }
+
+        ArchiveTransformationData data = createTransformationData(fileStructureProvider, name);
+        if (data == null) {
+            return null;
+        }
+        if (!data.isAccepted()) {
+            LOG.debug("Filtering: {}", name);
+
+            return null;
+        }
+        if (data.isPathChangeWanted()) {
+            name = data.getChangedPath();
+
+            LOG.debug("Path changed to: {}", name);
+
+            if (name == null) {
+                throw new IllegalStateException("Wanted path is null - cannot be handled!");
+            }
+        }
+        return new File(outputDir, name);
+    }
+
+    private void createDirectory(File outputFile, ArchiveExtractionResult result) throws IOException {
+        LOG.debug("Write output directory: {}", outputFile.getAbsolutePath());
+        if (!outputFile.exists()) {
+            result.createdFoldersCount++;
+            if (!outputFile.mkdirs()) {
+                throw new IOException("Was not able to create directory: " + outputFile.getAbsolutePath());
+            }
+        }
+    }
+
+    private void markSkipped(boolean directory, long size, ArchiveExtractionResult result) {
+        if (directory) {
+            return;
+        }
+        result.skippedFilesCount++;
+        if (size > 0) {
+            result.skippedBytes += size;
+        }
+    }
+
     private ArchiveTransformationData createTransformationData(SecHubFileStructureDataProvider dataProvider, String path) {
         if (dataProvider == null) {
             return DO_NOT_TRANSFORM;
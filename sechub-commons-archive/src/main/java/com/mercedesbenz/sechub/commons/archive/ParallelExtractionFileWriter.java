@@ -0,0 +1,117 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.commons.archive;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Executes file write operations of an archive extraction. When more than one
+ * thread is defined, the operations are executed by worker threads - otherwise
+ * directly inside the caller thread. Only a limited amount of write operations
+ * is in progress at the same time, so data held in memory for the workers stays
+ * limited.
+ */
+class ParallelExtractionFileWriter {
+
+    private static final int WRITES_IN_PROGRESS_PER_THREAD = 4;
+
+    private final ExecutorService executorService;
+    private final int maxWritesInProgress;
+    private final Deque<Future<Long>> writesInProgress = new ArrayDeque<>();
+
+    private long writtenBytes;
+
+    ParallelExtractionFileWriter(int threads) {
+        if (threads < 2) {
+            this.executorService = null;
+            this.maxWritesInProgress = 0;
+        } else {
+            this.executorService = Executors.newFixedThreadPool(threads);
+            this.maxWritesInProgress = threads * WRITES_IN_PROGRESS_PER_THREAD;
+        }
+    }
+
+    boolean isParallel() {
+        return executorService != null;
+    }
+
+    /**
+     * Writes a file - the operation can be done asynchronous.
+     *
+     * @param writeOperation operation returning amount of written bytes
+     * @throws IOException when this or a former operation has failed
+     */
+    void write(Callable<Long> writeOperation) throws IOException {
+        if (!isParallel()) {
+            writtenBytes += call(writeOperation);
+            return;
+        }
+        if (writesInProgress.size() >= maxWritesInProgress) {
+            awaitWrite(writesInProgress.removeFirst());
+        }
+        writesInProgress.addLast(executorService.submit(writeOperation));
+    }
+
+    /**
+     * Adds bytes written by the caller thread itself
+     *
+     * @param bytes amount of written bytes
+     */
+    void addWrittenBytes(long bytes) {
+        writtenBytes += bytes;
+    }
+
+    /**
+     * Waits until all write operations are done
+     *
+     * @return amount of all written bytes
+     * @throws IOException when a write operation has failed
+     */
+    long finish() throws IOException {
+        while (!writesInProgress.isEmpty()) {
+            awaitWrite(writesInProgress.removeFirst());
+        }
+        return writtenBytes;
+    }
+
+    void shutdown() {
+        if (executorService == null) {
+            return;
+        }
+        for (Future<Long> future : writesInProgress) {
+            future.cancel(true);
+        }
+        executorService.shutdownNow();
+    }
+
+    private void awaitWrite(Future<Long> future) throws IOException {
+        try {
+            writtenBytes += future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Extraction was interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Writing extracted file failed", cause);
+        }
+    }
+
+    private long call(Callable<Long> writeOperation) throws IOException {
+        try {
+            return writeOperation.call();
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Writing extracted file failed", e);
+        }
+    }
+}
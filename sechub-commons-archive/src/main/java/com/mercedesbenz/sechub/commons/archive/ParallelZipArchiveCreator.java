@@ -0,0 +1,279 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.commons.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveTask;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.io.IOUtils;
+
+import com.mercedesbenz.sechub.commons.archive.ArchiveCreationContext.CreationPathContext;
+
+/**
+ * Creates ZIP archive content in parallel:
+ * <ol>
+ * <li>The file tree is walked by a fork join pool</li>
+ * <li>Entries are compressed by worker threads into memory</li>
+ * <li>The pre-compressed entries are written as raw entries - in the same order
+ * as the files were found - into the zip output stream</li>
+ * </ol>
+ * To limit memory usage, only a fixed amount of entries is compressed at the
+ * same time and big files are compressed directly by the writing thread. Files
+ * which are already compressed (e.g. jar files or images) are stored without
+ * compression.
+ */
+class ParallelZipArchiveCreator {
+
+    static final int MAX_FILE_SIZE_FOR_PARALLEL_COMPRESSION = 8 * 1024 * 1024;
+
+    private static final int ENTRIES_IN_PROGRESS_PER_THREAD = 4;
+
+    private static final Set<String> ALREADY_COMPRESSED_FILE_ENDINGS = Set.of("zip", "jar", "war", "ear", "aar", "apk", "gz", "tgz", "bz2", "xz", "zst",
+            "7z", "rar", "png", "jpg", "jpeg", "gif", "webp", "mp3", "mp4", "avi", "mov", "woff", "woff2");
+
+    private final ForkJoinPool pool;
+    private final int maxEntriesInProgress;
+
+    ParallelZipArchiveCreator(int threads) {
+        this.pool = new ForkJoinPool(threads);
+        this.maxEntriesInProgress = threads * ENTRIES_IN_PROGRESS_PER_THREAD;
+    }
+
+    /**
+     * Collects all files to add to the archive
+     *
+     * @param basePath            the real path all relative paths start from
+     * @param file                file or folder to add
+     * @param pathAddition        prefix for path inside archive, can be
+     *                            <code>null</code>
+     * @param creationPathContext context for include and exclude filtering, can
+     *                            be <code>null</code>
+     * @return list of file entries, never <code>null</code>
+     * @throws IOException
+     */
+    List<FileEntry> collectFiles(String basePath, File file, String pathAddition, CreationPathContext creationPathContext) throws IOException {
+        try {
+            return pool.invoke(new CollectFilesTask(basePath, file, pathAddition, creationPathContext));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Writes given file entries into the zip output stream. The order of the
+     * entries is kept.
+     *
+     * @param outputStream zip output stream
+     * @param fileEntries  entries to write
+     * @throws IOException
+     */
+    void write(ZipArchiveOutputStream outputStream, List<FileEntry> fileEntries) throws IOException {
+        Deque<Future<CompressedEntry>> entriesInProgress = new ArrayDeque<>();
+        try {
+            for (FileEntry fileEntry : fileEntries) {
+                if (fileEntry.file.length() > MAX_FILE_SIZE_FOR_PARALLEL_COMPRESSION) {
+                    /* keep order - all entries before must be written first */
+                    while (!entriesInProgress.isEmpty()) {
+                        writeCompressedEntry(outputStream, entriesInProgress.removeFirst());
+                    }
+                    writeEntryDirectly(outputStream, fileEntry);
+                    continue;
+                }
+                if (entriesInProgress.size() >= maxEntriesInProgress) {
+                    writeCompressedEntry(outputStream, entriesInProgress.removeFirst());
+                }
+                entriesInProgress.addLast(pool.submit(() -> compress(fileEntry)));
+            }
+            while (!entriesInProgress.isEmpty()) {
+                writeCompressedEntry(outputStream, entriesInProgress.removeFirst());
+            }
+        } finally {
+            for (Future<CompressedEntry> future : entriesInProgress) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    static boolean isAlreadyCompressed(File file) {
+        String name = file.getName();
+        int index = name.lastIndexOf('.');
+        if (index == -1) {
+            return false;
+        }
+        return ALREADY_COMPRESSED_FILE_ENDINGS.contains(name.substring(index + 1).toLowerCase(Locale.ROOT));
+    }
+
+    private void writeCompressedEntry(ZipArchiveOutputStream outputStream, Future<CompressedEntry> future) throws IOException {
+        CompressedEntry compressedEntry;
+        try {
+            compressedEntry = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Archive creation was interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Compression of archive entry failed", cause);
+        }
+        outputStream.addRawArchiveEntry(compressedEntry.entry, new ByteArrayInputStream(compressedEntry.rawData));
+    }
+
+    private void writeEntryDirectly(ZipArchiveOutputStream outputStream, FileEntry fileEntry) throws IOException {
+        ZipArchiveEntry entry = new ZipArchiveEntry(fileEntry.file, fileEntry.relativePath);
+        if (isAlreadyCompressed(fileEntry.file)) {
+            entry.setMethod(ZipEntry.STORED);
+        }
+        outputStream.putArchiveEntry(entry);
+        try (InputStream inputStream = Files.newInputStream(fileEntry.file.toPath())) {
+            IOUtils.copy(inputStream, outputStream);
+        }
+        outputStream.closeArchiveEntry();
+    }
+
+    private CompressedEntry compress(FileEntry fileEntry) throws IOException {
+        byte[] data = Files.readAllBytes(fileEntry.file.toPath());
+
+        CRC32 crc = new CRC32();
+        crc.update(data);
+
+        ZipArchiveEntry entry = new ZipArchiveEntry(fileEntry.file, fileEntry.relativePath);
+        entry.setSize(data.length);
+        entry.setCrc(crc.getValue());
+
+        byte[] rawData;
+        if (isAlreadyCompressed(fileEntry.file)) {
+            entry.setMethod(ZipEntry.STORED);
+            rawData = data;
+        } else {
+            entry.setMethod(ZipEntry.DEFLATED);
+            rawData = deflate(data);
+        }
+        entry.setCompressedSize(rawData.length);
+
+        return new CompressedEntry(entry, rawData);
+    }
+
+    private byte[] deflate(byte[] data) throws IOException {
+        /* zip entries contain raw deflate data - so no zlib header ("nowrap") */
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(Math.max(32, data.length / 2));
+            try (DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(outputStream, deflater)) {
+                deflaterOutputStream.write(data);
+            }
+            return outputStream.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static class FileEntry {
+        private final File file;
+        private final String relativePath;
+
+        private FileEntry(File file, String relativePath) {
+            this.file = file;
+            this.relativePath = relativePath;
+        }
+
+        File getFile() {
+            return file;
+        }
+
+        String getRelativePath() {
+            return relativePath;
+        }
+    }
+
+    private static class CompressedEntry {
+        private final ZipArchiveEntry entry;
+        private final byte[] rawData;
+
+        private CompressedEntry(ZipArchiveEntry entry, byte[] rawData) {
+            this.entry = entry;
+            this.rawData = rawData;
+        }
+    }
+
+    private static class CollectFilesTask extends RecursiveTask<List<FileEntry>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String basePath;
+        private final File file;
+        private final String pathAddition;
+        private final transient CreationPathContext creationPathContext;
+
+        private CollectFilesTask(String basePath, File file, String pathAddition, CreationPathContext creationPathContext) {
+            this.basePath = basePath;
+            this.file = file;
+            this.pathAddition = pathAddition;
+            this.creationPathContext = creationPathContext;
+        }
+
+        @Override
+        protected List<FileEntry> compute() {
+            if (ArchiveSupport.isFilteredOut(file, creationPathContext)) {
+                return Collections.emptyList();
+            }
+            if (!file.isDirectory()) {
+                return createFileEntry(file);
+            }
+            File[] children = file.listFiles();
+            if (children == null) {
+                return Collections.emptyList();
+            }
+            List<CollectFilesTask> subTasks = new ArrayList<>();
+            for (File child : children) {
+                subTasks.add(new CollectFilesTask(basePath, child, pathAddition, creationPathContext));
+            }
+            invokeAll(subTasks);
+
+            /* join in order of listing - so result is same as for sequential creation */
+            List<FileEntry> result = new ArrayList<>();
+            for (CollectFilesTask subTask : subTasks) {
+                result.addAll(subTask.join());
+            }
+            return result;
+        }
+
+        private List<FileEntry> createFileEntry(File file) {
+            try {
+                String relativePath = ArchiveSupport.createRelativePath(basePath, file, pathAddition);
+                if (relativePath == null) {
+                    return Collections.emptyList();
+                }
+                return Collections.singletonList(new FileEntry(file, relativePath));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.commons.archive;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mercedesbenz.sechub.commons.archive.ArchiveSupport.ArchiveType;
+import com.mercedesbenz.sechub.test.ManualTest;
+
+/**
+ * A simple benchmark comparing wall clock time of sequential and parallel zip
+ * archive creation for a synthetic file tree. The tree contains mostly small
+ * text files (source code like) and some already compressed jar files. Usage
+ * example:
+ *
+ * <pre>
+ * -Dsechub.manual.test.by.developer=true
+ * </pre>
+ *
+ * Optional: <code>sechub.manualtest.archive.files</code> (default 50000),
+ * <code>sechub.manualtest.archive.threads</code> (default: available
+ * processors)
+ */
+class ArchiveSupportParallelCreationBenchmarkManualTest implements ManualTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ArchiveSupportParallelCreationBenchmarkManualTest.class);
+
+    private static final int FILES_PER_FOLDER = 50;
+    private static final int JAR_FILE_EVERY = 500;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void manualTestByDeveloper() throws Exception {
+        int files = Integer.getInteger("sechub.manualtest.archive.files", 50000);
+        int threads = Integer.getInteger("sechub.manualtest.archive.threads", Runtime.getRuntime().availableProcessors());
+
+        Path tree = tempDir.resolve("tree");
+        long treeBytes = createSyntheticTree(tree, files);
+
+        /* warm up */
+        compress(tree.toFile(), 0, tempDir.resolve("warmup-sequential.zip").toFile());
+        compress(tree.toFile(), threads, tempDir.resolve("warmup-parallel.zip").toFile());
+
+        BenchmarkResult sequential = measure("sequential", tree.toFile(), 0);
+        BenchmarkResult parallel = measure("parallel(" + threads + ")", tree.toFile(), threads);
+
+        LOG.info("Archive creation benchmark - files: {}, data: {} MB", files, treeBytes / (1024 * 1024));
+        LOG.info(sequential.toString());
+        LOG.info(parallel.toString());
+    }
+
+    private BenchmarkResult measure(String name, File folder, int threads) throws IOException {
+        File target = tempDir.resolve(name.replaceAll("[^a-z0-9]", "_") + ".zip").toFile();
+
+        long start = System.nanoTime();
+        compress(folder, threads, target);
+
+        BenchmarkResult result = new BenchmarkResult();
+        result.name = name;
+        result.elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        result.archiveBytes = target.length();
+        return result;
+    }
+
+    private void compress(File folder, int threads, File target) throws IOException {
+        ArchiveSupport archiveSupport = new ArchiveSupport();
+        archiveSupport.setParallelCreationThreads(threads);
+        archiveSupport.compressFolder(ArchiveType.ZIP, folder, target);
+    }
+
+    private long createSyntheticTree(Path tree, int files) throws IOException {
+        Random random = new Random(4711);
+        StringBuilder line = new StringBuilder();
+        long bytes = 0;
+        for (int i = 0; i < files; i++) {
+            Path folder = tree.resolve("module" + (i / (FILES_PER_FOLDER * 20))).resolve("package" + (i / FILES_PER_FOLDER));
+            Files.createDirectories(folder);
+            if (i % JAR_FILE_EVERY == 0) {
+                byte[] data = new byte[64 * 1024 + random.nextInt(256 * 1024)];
+                random.nextBytes(data);
+                Files.write(folder.resolve("lib" + i + ".jar"), data);
+                bytes += data.length;
+                continue;
+            }
+            line.setLength(0);
+            int lines = 20 + random.nextInt(400);
+            for (int l = 0; l < lines; l++) {
+                line.append("    public void method").append(l).append("() { value = ").append(random.nextInt()).append("; }\n");
+            }
+            Path file = folder.resolve("Source" + i + ".java");
+            Files.writeString(file, line);
+            bytes += Files.size(file);
+        }
+        return bytes;
+    }
+
+    private class BenchmarkResult {
+        private String name;
+        private long elapsedMillis;
+        private long archiveBytes;
+
+        @Override
+        public String toString() {
+            return String.format("%-15s time: %6d ms, archive size: %8d KB", name, elapsedMillis, archiveBytes / 1024);
+        }
+    }
+}
@@ -123,6 +123,76 @@ class ArchiveSupportTest {
 
     }
 
+    @Test
+    void create_archives_in_parallel_mode_contains_all_content_as_expected_without_filestructure_provider() throws Exception {
+        /* prepare */
+        File workingDirectory = new File("./src/test/resources/create-archives/test1/working-directory");
+        File configFile = new File("./src/test/resources/create-archives/test1/sechub-configuration.json");
+        String json = TestFileSupport.loadTextFile(configFile);
+        SecHubConfigurationModel model = JSONConverter.get().fromJSON(SecHubConfigurationModel.class, json);
+
+        Path tempDir = TestUtil.createTempDirectoryInBuildFolder("create-archives-parallel");
+        supportToTest.setParallelCreationThreads(4);
+
+        /* execute */
+        ArchivesCreationResult result = supportToTest.createArchives(model, workingDirectory.toPath(), tempDir);
+
+        /* test */
+        assertTrue(result.isBinaryArchiveCreated());
+        assertTrue(result.isSourceArchiveCreated());
+
+        Path reverseFolder = TestUtil.createTempDirectoryInBuildFolder("decompressed-reverse-parallel");
+        Path reverseFolderZip = reverseFolder.resolve("zip");
+        supportToTest.extract(ZIP, new FileInputStream(result.getSourceArchiveFile().toFile()), result.getSourceArchiveFile().toFile().getAbsolutePath(),
+                reverseFolderZip.toFile(), null);
+
+        expectedExtractedFilesAreAllFoundInOutputDirectory(reverseFolderZip.toFile(),
+                TestFileSupport.loadFilesAsFileList(expectedCreateArchivesTest1DecompressWithoutFileStructureZip),
+                expectedCreateArchivesTest1DecompressWithoutFileStructureZip);
+
+        Path reverseFolderTar = reverseFolder.resolve("tar");
+        supportToTest.extract(TAR, new FileInputStream(result.getBinaryArchiveFile().toFile()), result.getBinaryArchiveFile().toFile().getAbsolutePath(),
+                reverseFolderTar.toFile(), null);
+
+        expectedExtractedFilesAreAllFoundInOutputDirectory(reverseFolderTar.toFile(),
+                TestFileSupport.loadFilesAsFileList(expectedCreateArchivesTest1DecompressWithoutFileStructureTar),
+                expectedCreateArchivesTest1DecompressWithoutFileStructureTar);
+    }
+
+    @Test
+    void compress_zip_in_parallel_mode_has_same_entries_in_same_order_as_sequential() throws Exception {
+        /* prepare */
+        File folder = new File("./src/test/resources/tar/test-tar1/expected-extracted");
+        File sequentialFile = TestUtil.createTempFileInBuildFolder("output-sequential", "zip").toFile();
+        File parallelFile = TestUtil.createTempFileInBuildFolder("output-parallel", "zip").toFile();
+
+        supportToTest.compressFolder(ArchiveType.ZIP, folder, sequentialFile);
+
+        /* execute */
+        supportToTest.setParallelCreationThreads(3);
+        supportToTest.compressFolder(ArchiveType.ZIP, folder, parallelFile);
+
+        /* test */
+        List<String> sequentialEntries = readZipEntryNames(sequentialFile);
+        assertFalse(sequentialEntries.isEmpty());
+        assertEquals(sequentialEntries, readZipEntryNames(parallelFile));
+
+        Path reverseFolder = TestUtil.createTempDirectoryInBuildFolder("compressed-reverse-parallel");
+        supportToTest.extract(ZIP, new FileInputStream(parallelFile), parallelFile.getAbsolutePath(), reverseFolder.toFile(), null);
+        expectedExtractedFilesAreAllFoundInOutputDirectory(reverseFolder.toFile(), TestFileSupport.loadFilesAsFileList(expectedTar1Folder), expectedTar1Folder);
+    }
+
+    private List<String> readZipEntryNames(File zipFile) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new FileInputStream(zipFile))) {
+            ZipEntry entry = null;
+            while ((entry = zip.getNextEntry()) != null) {
+                names.add(entry.getName());
+            }
+        }
+        return names;
+    }
+
     @Test
     void create_archives_for_sources_reduces_absolute_path_origins_to_relative_in_zip() throws Exception {
         /* prepare */
@@ -543,6 +613,80 @@ class ArchiveSupportTest {
 
     }
 
+    @Test
+    void test_tar2_parallel_extraction_with_referencenamefilter_for_ref_name_1_contains_expected_files_and_reports_skipped_and_written_bytes()
+            throws Exception {
+        /* prepare */
+        File tarFile = testTar2File;
+        File expectedFilesFolder = expectedTar2WithFilterReferenceName1AndNoRootAllowedFolder;
+
+        File outputDirectory = TestUtil.createTempDirectoryInBuildFolder("tar-test2-parallel").toFile();
+        List<File> expectedFiles = TestFileSupport.loadFilesAsFileList(expectedFilesFolder);
+
+        MutableSecHubFileStructureDataProvider configuration = new MutableSecHubFileStructureDataProvider();
+        configuration.setRootFolderAccepted(false);
+        configuration.addAcceptedReferenceNames(Arrays.asList("reference-name-1"));
+
+        supportToTest.setParallelExtractionThreads(3);
+
+        /* execute */
+        ArchiveExtractionResult result = supportToTest.extract(TAR, tarFile, outputDirectory, configuration);
+
+        /* test */
+        expectedExtractedFilesAreAllFoundInOutputDirectory(outputDirectory, expectedFiles, expectedFilesFolder);
+
+        long expectedWrittenBytes = 0;
+        for (File expectedFile : expectedFiles) {
+            expectedWrittenBytes += expectedFile.length();
+        }
+        assertEquals(expectedFiles.size(), result.getExtractedFilesCount());
+        assertEquals(expectedWrittenBytes, result.getWrittenBytes());
+        assertTrue(result.getSkippedFilesCount() > 0);
+        assertTrue(result.getSkippedBytes() > 0);
+    }
+
+    @Test
+    void zip_file_extraction_does_not_write_entries_not_accepted() throws Exception {
+        /* prepare */
+        File twoFilesZipfile = resolveTestFile("zipfiles/two_files.zip");
+        File targetFolder = TestUtil.createTempDirectoryInBuildFolder("pds_twofileszip_not_accepted_test").toFile();
+
+        MutableSecHubFileStructureDataProvider configuration = new MutableSecHubFileStructureDataProvider();
+        configuration.setRootFolderAccepted(false);
+
+        /* execute */
+        ArchiveExtractionResult result = supportToTest.extract(ZIP, twoFilesZipfile, targetFolder, configuration);
+
+        /* test */
+        assertEquals(0, targetFolder.listFiles().length);
+        assertEquals(0, result.getExtractedFilesCount());
+        assertEquals(0, result.getWrittenBytes());
+        assertEquals(2, result.getSkippedFilesCount());
+        assertTrue(result.getSkippedBytes() > 0);
+    }
+
+    @Test
+    void zip_file_parallel_extraction_writes_all_accepted_entries() throws Exception {
+        /* prepare */
+        File twoFilesZipfile = resolveTestFile("zipfiles/two_files.zip");
+        File targetFolder = TestUtil.createTempDirectoryInBuildFolder("pds_twofileszip_parallel_test").toFile();
+
+        MutableSecHubFileStructureDataProvider configuration = new MutableSecHubFileStructureDataProvider();
+        configuration.setRootFolderAccepted(true);
+
+        supportToTest.setParallelExtractionThreads(2);
+
+        /* execute */
+        ArchiveExtractionResult result = supportToTest.extract(ZIP, twoFilesZipfile, targetFolder, configuration);
+
+        /* test */
+        assertContainsFiles(targetFolder, "hardcoded_password.go", "README.md");
+        assertEquals(2, result.getExtractedFilesCount());
+        assertEquals(0, result.getSkippedFilesCount());
+        assertEquals(0, result.getSkippedBytes());
+        assertEquals(new File(targetFolder, "hardcoded_password.go").length() + new File(targetFolder, "README.md").length(), result.getWrittenBytes());
+    }
+
     private void expectedExtractedFilesAreAllFoundInOutputDirectory(File outputDirectory, List<File> allExpectedFiles, File expectedOutputBaseFolder)
             throws IOException {
         List<File> allExtractedFiles = TestFileSupport.loadFilesAsFileList(outputDirectory);
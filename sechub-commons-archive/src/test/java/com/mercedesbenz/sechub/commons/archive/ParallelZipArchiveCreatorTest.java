@@ -0,0 +1,126 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.commons.archive;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ParallelZipArchiveCreatorTest {
+
+    private ParallelZipArchiveCreator creatorToTest;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void beforeEach() {
+        creatorToTest = new ParallelZipArchiveCreator(3);
+    }
+
+    @AfterEach
+    void afterEach() {
+        creatorToTest.shutdown();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "lib.jar", "archive.ZIP", "image.png", "data.tar.gz" })
+    void already_compressed_files_are_detected(String fileName) {
+        assertTrue(ParallelZipArchiveCreator.isAlreadyCompressed(new File(fileName)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "Source.java", "README", "data.tar", "zip" })
+    void not_compressed_files_are_detected(String fileName) {
+        assertFalse(ParallelZipArchiveCreator.isAlreadyCompressed(new File(fileName)));
+    }
+
+    @Test
+    void written_archive_contains_deflated_and_stored_entries_with_correct_content() throws Exception {
+        /* prepare */
+        Path folder = Files.createDirectories(tempDir.resolve("folder/sub"));
+        Files.writeString(tempDir.resolve("folder/a.txt"), "text content a ".repeat(100));
+        Files.writeString(folder.resolve("b.txt"), "text content b");
+        byte[] jarContent = new byte[10000];
+        new Random(4711).nextBytes(jarContent);
+        Files.write(folder.resolve("lib.jar"), jarContent);
+
+        String basePath = tempDir.resolve("folder").toRealPath().toString();
+        File zipFile = tempDir.resolve("output.zip").toFile();
+
+        /* execute */
+        List<ParallelZipArchiveCreator.FileEntry> entries = creatorToTest.collectFiles(basePath, tempDir.resolve("folder").toFile(), "prefix", null);
+        try (ZipArchiveOutputStream outputStream = new ZipArchiveOutputStream(zipFile)) {
+            creatorToTest.write(outputStream, entries);
+            outputStream.finish();
+        }
+
+        /* test */
+        assertEquals(3, entries.size());
+        try (ZipFile zip = new ZipFile(zipFile)) {
+            ZipArchiveEntry a = zip.getEntry("prefix/a.txt");
+            assertEquals(ZipEntry.DEFLATED, a.getMethod());
+            assertEquals("text content a ".repeat(100), new String(zip.getInputStream(a).readAllBytes(), StandardCharsets.UTF_8));
+
+            ZipArchiveEntry b = zip.getEntry("prefix/sub/b.txt");
+            assertEquals("text content b", new String(zip.getInputStream(b).readAllBytes(), StandardCharsets.UTF_8));
+
+            ZipArchiveEntry jar = zip.getEntry("prefix/sub/lib.jar");
+            assertEquals(ZipEntry.STORED, jar.getMethod());
+            assertArrayEquals(jarContent, zip.getInputStream(jar).readAllBytes());
+        }
+    }
+
+    @Test
+    void big_files_are_written_in_order_with_parallel_compressed_files() throws Exception {
+        /* prepare */
+        Path folder = Files.createDirectories(tempDir.resolve("folder"));
+        Files.writeString(folder.resolve("1.txt"), "one");
+        byte[] bigContent = new byte[ParallelZipArchiveCreator.MAX_FILE_SIZE_FOR_PARALLEL_COMPRESSION + 1];
+        Files.write(folder.resolve("2.bin"), bigContent);
+        Files.writeString(folder.resolve("3.txt"), "three");
+
+        String basePath = folder.toRealPath().toString();
+        List<ParallelZipArchiveCreator.FileEntry> entries = List.of(fileEntry(basePath, folder.resolve("1.txt")), fileEntry(basePath, folder.resolve("2.bin")),
+                fileEntry(basePath, folder.resolve("3.txt")));
+        File zipFile = tempDir.resolve("output.zip").toFile();
+
+        /* execute */
+        try (ZipArchiveOutputStream outputStream = new ZipArchiveOutputStream(zipFile)) {
+            creatorToTest.write(outputStream, entries);
+            outputStream.finish();
+        }
+
+        /* test */
+        try (ZipFile zip = new ZipFile(zipFile)) {
+            List<ZipArchiveEntry> zipEntries = Collections.list(zip.getEntriesInPhysicalOrder());
+            assertEquals(3, zipEntries.size());
+            assertEquals("1.txt", zipEntries.get(0).getName());
+            assertEquals("2.bin", zipEntries.get(1).getName());
+            assertEquals("3.txt", zipEntries.get(2).getName());
+            assertEquals(bigContent.length, zip.getInputStream(zipEntries.get(1)).readAllBytes().length);
+        }
+    }
+
+    private ParallelZipArchiveCreator.FileEntry fileEntry(String basePath, Path path) throws Exception {
+        List<ParallelZipArchiveCreator.FileEntry> collected = creatorToTest.collectFiles(basePath, path.toFile(), null, null);
+        assertEquals(1, collected.size());
+        return collected.get(0);
+    }
+}
@@ -0,0 +1,140 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.commons.core.cache;
+
+import static java.util.Objects.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Map which knows the summed up size of all its values and removes least
+ * recently used entries when a maximum size has been exceeded. Removed entries
+ * are given back to the caller - e.g. to delete files or to move them to
+ * another cache tier.<br>
+ * <br>
+ * This class is not thread safe. Callers must synchronize access themselves -
+ * normally together with their own state.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class SizeBoundedLRUMap<K, V> {
+
+    /* access ordered - so iteration starts with least recently used entry */
+    private final Map<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ToLongFunction<V> sizeResolver;
+
+    private long size;
+
+    /**
+     * Creates a new map
+     *
+     * @param sizeResolver resolves the size of a value, must return always the
+     *                     same size for the same value
+     */
+    public SizeBoundedLRUMap(ToLongFunction<V> sizeResolver) {
+        this.sizeResolver = requireNonNull(sizeResolver, "sizeResolver may not be null");
+    }
+
+    /**
+     * Resolves value for given key. The entry becomes the most recently used one.
+     *
+     * @param key
+     * @return value or <code>null</code>
+     */
+    public V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Checks if an entry exists for given key - does not change the usage order.
+     *
+     * @param key
+     * @return <code>true</code> when there is an entry
+     */
+    public boolean containsKey(K key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Puts given value as most recently used entry. A former value for the same
+     * key is removed (and not given back). Afterwards least recently used
+     * entries are removed until the summed up size is not bigger than given
+     * maximum size. A value bigger than the maximum size is not added at all but
+     * given back as the only removed entry - other entries are kept.
+     *
+     * @param key
+     * @param value
+     * @param maxSize maximum size
+     * @return removed entries, least recently used first - never
+     *         <code>null</code>
+     */
+    public List<Map.Entry<K, V>> put(K key, V value, long maxSize) {
+        remove(key);
+
+        List<Map.Entry<K, V>> removed = new ArrayList<>();
+        long valueSize = sizeResolver.applyAsLong(value);
+        if (valueSize > maxSize) {
+            removed.add(Map.entry(key, value));
+            return removed;
+        }
+        entries.put(key, value);
+        size += valueSize;
+
+        Iterator<Map.Entry<K, V>> it = entries.entrySet().iterator();
+        while (size > maxSize && it.hasNext()) {
+            Map.Entry<K, V> eldest = it.next();
+            it.remove();
+            size -= sizeResolver.applyAsLong(eldest.getValue());
+            removed.add(Map.entry(eldest.getKey(), eldest.getValue()));
+        }
+        return removed;
+    }
+
+    /**
+     * Removes entry for given key
+     *
+     * @param key
+     * @return removed value or <code>null</code>
+     */
+    public V remove(K key) {
+        V removed = entries.remove(key);
+        if (removed != null) {
+            size -= sizeResolver.applyAsLong(removed);
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all entries matching given filter
+     *
+     * @param filter
+     * @return removed values, never <code>null</code>
+     */
+    public List<V> removeIf(BiPredicate<K, V> filter) {
+        List<V> removed = new ArrayList<>();
+        Iterator<Map.Entry<K, V>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<K, V> entry = it.next();
+            if (filter.test(entry.getKey(), entry.getValue())) {
+                it.remove();
+                size -= sizeResolver.applyAsLong(entry.getValue());
+                removed.add(entry.getValue());
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * @return summed up size of all values
+     */
+    public long getSize() {
+        return size;
+    }
+
+}
@@ -0,0 +1,44 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.commons.core.concurrent;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A simple signal to wake up one waiting worker thread. Multiple signals raised
+ * while the worker is busy are collapsed into one single wake up - so the
+ * worker must always handle everything possible at the moment it is woken up,
+ * there is no need to remember every signal.
+ */
+public class CollapsingSignal {
+
+    private final Semaphore semaphore = new Semaphore(0);
+
+    /**
+     * Raise the signal. Will not block.
+     */
+    public void signal() {
+        if (semaphore.availablePermits() > 0) {
+            /* already signaled, not consumed yet */
+            return;
+        }
+        semaphore.release();
+    }
+
+    /**
+     * Waits until signal was raised or given time has elapsed.
+     *
+     * @param timeoutInMilliseconds maximum time to wait
+     * @return <code>true</code> when signal was raised, <code>false</code> when
+     *         time has elapsed without any signal
+     * @throws InterruptedException
+     */
+    public boolean awaitSignal(long timeoutInMilliseconds) throws InterruptedException {
+        boolean signaled = semaphore.tryAcquire(timeoutInMilliseconds, TimeUnit.MILLISECONDS);
+        if (signaled) {
+            /* collapse all other signals into this one */
+            semaphore.drainPermits();
+        }
+        return signaled;
+    }
+}
@@ -3,16 +3,25 @@ package com.mercedesbenz.sechub.commons.core.security;
 
 import static java.util.Objects.*;
 
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
-import java.security.DigestInputStream;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
 public class CheckSumSupport {
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+    /* the support is used as singleton by multiple threads */
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+
     /**
      * Creates a SHA256 checksum for given file.
      *
@@ -27,7 +36,9 @@ public class CheckSumSupport {
     }
 
     /**
-     * Creates a SHA256 checksum for given file.
+     * Creates a SHA256 checksum for given file. The file content is read by a
+     * file channel into the reused buffer of the current thread - no memory
+     * mapping is used, so no mapped regions remain until garbage collection.
      *
      * @param filepath
      * @return checksum or <code>null</code> when file is not existing
@@ -36,23 +47,19 @@ public class CheckSumSupport {
         if (filepath == null) {
             return null;
         }
-        MessageDigest md = createSha256MessageDigest();
-        // file hashing with DigestInputStream
-        try (DigestInputStream dis = new DigestInputStream(new FileInputStream(filepath), md)) {
-            while (dis.read() != -1)
-                ; // empty loop to clear the data
-            md = dis.getMessageDigest();
+        MessageDigest digest = createSha256MessageDigest();
+        try (FileChannel channel = FileChannel.open(Paths.get(filepath), StandardOpenOption.READ)) {
+            byte[] buffer = BUFFER.get();
+            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+            int read;
+            while ((read = channel.read(byteBuffer)) != -1) {
+                digest.update(buffer, 0, read);
+                byteBuffer.clear();
+            }
         } catch (IOException e) {
             return null;
         }
-
-        // bytes to hex
-        StringBuilder result = new StringBuilder();
-        for (byte b : md.digest()) {
-            result.append(String.format("%02x", b));
-        }
-        return result.toString();
-
+        return convertMessageDigestToHex(digest);
     }
 
     public MessageDigest createSha256MessageDigest() {
@@ -66,6 +73,17 @@ public class CheckSumSupport {
         return md;
     }
 
+    /**
+     * Creates an input stream which calculates the SHA256 digest of all data read
+     * from given input stream.
+     *
+     * @param inputStream
+     * @return digest calculating input stream
+     */
+    public DigestCalculatingInputStream createSha256CalculatingInputStream(InputStream inputStream) {
+        return new DigestCalculatingInputStream(inputStream, createSha256MessageDigest());
+    }
+
     public boolean hasCorrectSha256ChecksumFile(String checkSum, String filepath) {
         if (checkSum == null) {
             return false;// null is never correct...
@@ -74,7 +92,7 @@ public class CheckSumSupport {
             return false;
         }
         String calculated = createSha256Checksum(filepath);
-        return calculated.equals(checkSum);
+        return checkSum.equals(calculated);
     }
 
     public boolean hasCorrectSha256Checksum(String checkSum, InputStream inputStream) {
@@ -91,32 +109,69 @@ public class CheckSumSupport {
         return calculated.equals(checkSum);
     }
 
-    public String convertMessageDigestToHex(MessageDigest digest) {
-        // bytes to hex
-        StringBuilder result = new StringBuilder();
-        for (byte b : digest.digest()) {
-            result.append(String.format("%02x", b));
+    /**
+     * Checks given checksum against an already calculated digest - e.g. when
+     * the data was already streamed through a {@link MessageDigest} while it was
+     * stored. This avoids reading the data a second time.
+     *
+     * @param checkSum     hex encoded checksum to check
+     * @param sha256Digest the calculated digest bytes
+     * @return <code>true</code> when checksum is correct
+     */
+    public boolean hasCorrectSha256Checksum(String checkSum, byte[] sha256Digest) {
+        if (checkSum == null) {
+            return false;// null is never correct...
         }
-        return result.toString();
+        if (sha256Digest == null) {
+            return false;
+        }
+        return checkSum.equals(convertDigestToHex(sha256Digest));
     }
 
     /**
-     * Creates a SHA256 checksum for given file.
+     * Converts the digest result to hex. Be aware: the digest is reset by this
+     * call.
      *
-     * @param filepath
-     * @return checksum or <code>null</code> when file is not existing
-     * @throws IOException
+     * @param digest the message digest
+     * @return hex string
+     */
+    public String convertMessageDigestToHex(MessageDigest digest) {
+        return convertDigestToHex(digest.digest());
+    }
+
+    /**
+     * Converts given digest bytes to a lower case hex string.
+     *
+     * @param digestBytes
+     * @return hex string
+     */
+    public String convertDigestToHex(byte[] digestBytes) {
+        char[] result = new char[digestBytes.length * 2];
+        int pos = 0;
+        for (byte b : digestBytes) {
+            result[pos++] = HEX_CHARS[(b >> 4) & 0xF];
+            result[pos++] = HEX_CHARS[b & 0xF];
+        }
+        return new String(result);
+    }
+
+    /**
+     * Creates a SHA256 checksum for given input stream. The stream is read with a
+     * reused buffer and closed afterwards.
+     *
+     * @param inputStream
+     * @return checksum or <code>null</code> when stream cannot be read
      */
     public String createSha256Checksum(InputStream inputStream) {
         requireNonNull(inputStream, "inputStream may not be null");
 
         MessageDigest digest = createSha256MessageDigest();
-
-        // file hashing with DigestInputStream
-        try (DigestInputStream dis = new DigestInputStream(inputStream, digest)) {
-            while (dis.read() != -1)
-                ; // empty loop to clear the data
-            digest = dis.getMessageDigest();
+        try (InputStream in = inputStream) {
+            byte[] buffer = BUFFER.get();
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
         } catch (IOException e) {
             return null;
         }
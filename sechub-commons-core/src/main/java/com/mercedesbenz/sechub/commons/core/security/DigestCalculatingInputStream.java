@@ -0,0 +1,149 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.commons.core.security;
+
+import static java.util.Objects.*;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+
+/**
+ * Input stream which updates a message digest with all bytes read and counts
+ * them - so a checksum can be calculated while the data is consumed and the
+ * data must not be read a second time. Skipped bytes are read as well,
+ * otherwise they would be missing inside the digest. Mark and reset are not
+ * supported.<br>
+ * <br>
+ * Sub classes can validate the data by overriding
+ * {@link #afterBytesRead(int)} and {@link #afterEndOfStreamReached()}.
+ */
+public class DigestCalculatingInputStream extends FilterInputStream {
+
+    private static final int SKIP_BUFFER_SIZE = 8192;
+
+    private final MessageDigest digest;
+
+    private long byteCount;
+    private byte[] digestResult;
+
+    /**
+     * Creates a digest calculating input stream
+     *
+     * @param in     origin input stream
+     * @param digest message digest to update, may not be <code>null</code>
+     */
+    public DigestCalculatingInputStream(InputStream in, MessageDigest digest) {
+        super(in);
+        this.digest = requireNonNull(digest, "digest may not be null");
+    }
+
+    @Override
+    public int read() throws IOException {
+        int value = super.read();
+        if (value == -1) {
+            afterEndOfStreamReached();
+            return -1;
+        }
+        digest.update((byte) value);
+        byteCount++;
+        afterBytesRead(1);
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int read = super.read(buffer, offset, length);
+        if (read == -1) {
+            afterEndOfStreamReached();
+            return -1;
+        }
+        digest.update(buffer, offset, read);
+        byteCount += read;
+        afterBytesRead(read);
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        byte[] buffer = new byte[SKIP_BUFFER_SIZE];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (read == -1) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        /* not supported */
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("reset not supported");
+    }
+
+    /**
+     * Reads all remaining bytes - necessary when the consumer of the stream has
+     * stopped before the end was reached (e.g. at the end marker of a tar
+     * archive) but the digest must contain all data.
+     *
+     * @throws IOException
+     */
+    public void readRemaining() throws IOException {
+        transferTo(OutputStream.nullOutputStream());
+    }
+
+    /**
+     * @return amount of bytes read (including skipped bytes)
+     */
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    /**
+     * Completes the digest calculation. Bytes read afterwards are not contained
+     * inside the result. Multiple calls return the same result.
+     *
+     * @return digest bytes
+     */
+    public byte[] getDigestResult() {
+        if (digestResult == null) {
+            digestResult = digest.digest();
+        }
+        return digestResult;
+    }
+
+    /**
+     * Called after bytes have been read and added to the digest. Does nothing
+     * per default.
+     *
+     * @param amount amount of bytes read
+     * @throws IOException to abort reading (e.g. on a validation failure)
+     */
+    protected void afterBytesRead(int amount) throws IOException {
+        /* nothing to do per default */
+    }
+
+    /**
+     * Called every time the end of the origin stream has been reached. Does
+     * nothing per default.
+     *
+     * @throws IOException to abort reading (e.g. on a validation failure)
+     */
+    protected void afterEndOfStreamReached() throws IOException {
+        /* nothing to do per default */
+    }
+
+}
@@ -0,0 +1,112 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.commons.core.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SizeBoundedLRUMapTest {
+
+    private SizeBoundedLRUMap<String, String> mapToTest;
+
+    @BeforeEach
+    void beforeEach() {
+        mapToTest = new SizeBoundedLRUMap<>(String::length);
+    }
+
+    @Test
+    void put_sums_up_size_and_removes_nothing_when_maximum_not_exceeded() {
+        /* execute */
+        List<Map.Entry<String, String>> removed1 = mapToTest.put("key1", "12345", 10);
+        List<Map.Entry<String, String>> removed2 = mapToTest.put("key2", "12345", 10);
+
+        /* test */
+        assertTrue(removed1.isEmpty());
+        assertTrue(removed2.isEmpty());
+        assertEquals(10, mapToTest.getSize());
+    }
+
+    @Test
+    void put_removes_least_recently_used_entries_when_maximum_exceeded() {
+        /* prepare */
+        mapToTest.put("key1", "1234", 10);
+        mapToTest.put("key2", "1234", 10);
+        /* use first one - so second one is least recently used */
+        mapToTest.get("key1");
+
+        /* execute */
+        List<Map.Entry<String, String>> removed = mapToTest.put("key3", "1234", 10);
+
+        /* test */
+        assertEquals(1, removed.size());
+        assertEquals("key2", removed.get(0).getKey());
+        assertEquals(8, mapToTest.getSize());
+        assertTrue(mapToTest.containsKey("key1"));
+        assertFalse(mapToTest.containsKey("key2"));
+        assertTrue(mapToTest.containsKey("key3"));
+    }
+
+    @Test
+    void put_gives_back_new_entry_bigger_than_maximum_and_keeps_others() {
+        /* prepare */
+        mapToTest.put("key1", "123", 4);
+
+        /* execute */
+        List<Map.Entry<String, String>> removed = mapToTest.put("key2", "12345", 4);
+
+        /* test */
+        assertEquals(1, removed.size());
+        assertEquals("key2", removed.get(0).getKey());
+        assertEquals(3, mapToTest.getSize());
+        assertNull(mapToTest.get("key2"));
+        assertEquals("123", mapToTest.get("key1"));
+    }
+
+    @Test
+    void put_replaces_former_value_and_size() {
+        /* prepare */
+        mapToTest.put("key1", "12345", 10);
+
+        /* execute */
+        mapToTest.put("key1", "12", 10);
+
+        /* test */
+        assertEquals("12", mapToTest.get("key1"));
+        assertEquals(2, mapToTest.getSize());
+    }
+
+    @Test
+    void remove_reduces_size() {
+        /* prepare */
+        mapToTest.put("key1", "12345", 10);
+
+        /* execute */
+        String removed = mapToTest.remove("key1");
+
+        /* test */
+        assertEquals("12345", removed);
+        assertEquals(0, mapToTest.getSize());
+        assertNull(mapToTest.remove("key1"));
+    }
+
+    @Test
+    void remove_if_removes_only_matching_entries() {
+        /* prepare */
+        mapToTest.put("key1", "1", 10);
+        mapToTest.put("key2", "22", 10);
+        mapToTest.put("other", "333", 10);
+
+        /* execute */
+        List<String> removed = mapToTest.removeIf((key, value) -> key.startsWith("key"));
+
+        /* test */
+        assertEquals(List.of("1", "22"), removed);
+        assertEquals(3, mapToTest.getSize());
+        assertTrue(mapToTest.containsKey("other"));
+    }
+
+}
@@ -0,0 +1,75 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.commons.core.concurrent;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CollapsingSignalTest {
+
+    private CollapsingSignal signalToTest;
+
+    @BeforeEach
+    void beforeEach() {
+        signalToTest = new CollapsingSignal();
+    }
+
+    @Test
+    void await_without_signal_returns_false() throws Exception {
+        /* execute */
+        boolean signaled = signalToTest.awaitSignal(10);
+
+        /* test */
+        assertFalse(signaled);
+    }
+
+    @Test
+    void await_after_signal_returns_true() throws Exception {
+        /* prepare */
+        signalToTest.signal();
+
+        /* execute */
+        boolean signaled = signalToTest.awaitSignal(10);
+
+        /* test */
+        assertTrue(signaled);
+    }
+
+    @Test
+    void multiple_signals_are_collapsed_into_one() throws Exception {
+        /* prepare */
+        signalToTest.signal();
+        signalToTest.signal();
+        signalToTest.signal();
+
+        /* execute */
+        boolean signaled1 = signalToTest.awaitSignal(10);
+        boolean signaled2 = signalToTest.awaitSignal(10);
+
+        /* test */
+        assertTrue(signaled1);
+        assertFalse(signaled2);
+    }
+
+    @Test
+    void signal_from_other_thread_wakes_up_waiting_thread() throws Exception {
+        /* prepare */
+        Thread thread = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            signalToTest.signal();
+        });
+        thread.start();
+
+        /* execute */
+        boolean signaled = signalToTest.awaitSignal(5000);
+
+        /* test */
+        assertTrue(signaled);
+    }
+
+}
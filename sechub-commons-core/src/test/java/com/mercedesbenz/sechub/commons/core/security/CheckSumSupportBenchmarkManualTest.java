@@ -0,0 +1,148 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.commons.core.security;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A simple benchmark comparing the former checksum calculation (byte wise
+ * reading by a digest input stream and hex conversion by
+ * <code>String.format</code>) with the current {@link CheckSumSupport}
+ * implementation - for streams and for files.<br>
+ * <br>
+ * Core does not use the SecHub test framework, so the manual test condition
+ * is defined here directly. Usage example:
+ *
+ * <pre>
+ * -Dsechub.manual.test.by.developer=true
+ * </pre>
+ *
+ * Optional: <code>sechub.manualtest.checksum.megabytes</code> (default 256),
+ * <code>sechub.manualtest.checksum.iterations</code> (default 5)
+ */
+@EnabledIfSystemProperty(named = "sechub.manual.test.by.developer", matches = "true")
+class CheckSumSupportBenchmarkManualTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CheckSumSupportBenchmarkManualTest.class);
+
+    private CheckSumSupport supportToTest = new CheckSumSupport();
+
+    @Test
+    void manualTestByDeveloper(@TempDir Path tempDir) throws Exception {
+        int megabytes = Integer.getInteger("sechub.manualtest.checksum.megabytes", 256);
+        int iterations = Integer.getInteger("sechub.manualtest.checksum.iterations", 5);
+
+        byte[] data = new byte[megabytes * 1024 * 1024];
+        new Random(4711).nextBytes(data);
+        Path file = Files.write(tempDir.resolve("benchmark.bin"), data);
+
+        /* warm up */
+        String expected = supportToTest.createSha256Checksum(file);
+        assertSameChecksum(expected, formerChecksum(new ByteArrayInputStream(data)));
+        assertSameChecksum(expected, supportToTest.createSha256Checksum(new ByteArrayInputStream(data)));
+
+        BenchmarkResult formerStream = measure("former stream", megabytes, iterations,
+                () -> formerChecksum(new BufferedInputStream(Files.newInputStream(file))));
+        BenchmarkResult stream = measure("stream", megabytes, iterations, () -> supportToTest.createSha256Checksum(Files.newInputStream(file)));
+        BenchmarkResult fileChannel = measure("file channel", megabytes, iterations, () -> supportToTest.createSha256Checksum(file));
+        BenchmarkResult hexConversion = measureHexConversion(1_000_000);
+
+        LOG.info("Checksum benchmark - data: {} MB, iterations: {}", megabytes, iterations);
+        LOG.info(formerStream.toString());
+        LOG.info(stream.toString());
+        LOG.info(fileChannel.toString());
+        LOG.info(hexConversion.toString());
+    }
+
+    private interface ChecksumOperation {
+        String calculate() throws IOException;
+    }
+
+    private BenchmarkResult measure(String name, int megabytes, int iterations, ChecksumOperation operation) throws IOException {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            if (operation.calculate() == null) {
+                throw new IllegalStateException("No checksum calculated by " + name);
+            }
+        }
+        BenchmarkResult result = new BenchmarkResult();
+        result.name = name;
+        result.elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        result.megabytes = (long) megabytes * iterations;
+        return result;
+    }
+
+    private BenchmarkResult measureHexConversion(int conversions) {
+        byte[] digest = supportToTest.createSha256MessageDigest().digest(new byte[] { 1, 2, 3 });
+
+        long start = System.nanoTime();
+        int length = 0;
+        for (int i = 0; i < conversions; i++) {
+            length += formerHex(digest).length();
+        }
+        long formerMillis = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        for (int i = 0; i < conversions; i++) {
+            length += supportToTest.convertDigestToHex(digest).length();
+        }
+        long currentMillis = (System.nanoTime() - start) / 1_000_000;
+
+        BenchmarkResult result = new BenchmarkResult();
+        result.name = "hex conversion";
+        result.info = String.format("%d conversions - former: %d ms, current: %d ms (%d chars)", conversions, formerMillis, currentMillis, length);
+        return result;
+    }
+
+    private String formerChecksum(InputStream inputStream) throws IOException {
+        MessageDigest digest = supportToTest.createSha256MessageDigest();
+        try (DigestInputStream dis = new DigestInputStream(inputStream, digest)) {
+            while (dis.read() != -1)
+                ;
+        }
+        return formerHex(digest.digest());
+    }
+
+    private String formerHex(byte[] digest) {
+        StringBuilder result = new StringBuilder();
+        for (byte b : digest) {
+            result.append(String.format("%02x", b));
+        }
+        return result.toString();
+    }
+
+    private void assertSameChecksum(String expected, String checksum) {
+        if (!expected.equals(checksum)) {
+            throw new IllegalStateException("Checksums differ: " + expected + " <> " + checksum);
+        }
+    }
+
+    private class BenchmarkResult {
+        private String name;
+        private long elapsedMillis;
+        private long megabytes;
+        private String info;
+
+        @Override
+        public String toString() {
+            if (info != null) {
+                return String.format("%-15s %s", name, info);
+            }
+            double megabytesPerSecond = elapsedMillis == 0 ? megabytes : (megabytes * 1000.0) / elapsedMillis;
+            return String.format("%-15s time: %6d ms, throughput: %8.1f MB/s", name, elapsedMillis, megabytesPerSecond);
+        }
+    }
+}
@@ -3,16 +3,26 @@ package com.mercedesbenz.sechub.commons.core.security;
 
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Random;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class CheckSumSupportTest {
 
+    private static final File TEST_ZIPFILE = new File("./src/test/resources/zipfile_contains_only_test1.txt.zip");
+    private static final String TEST_ZIPFILE_SHA256 = "59060b6b4e8d137596dc01ec15d5da1ab4c4ad0d756c780ed88225f082ae87b7";
+    private static final String SHA256_OF_EMPTY_DATA = "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+
     private CheckSumSupport serviceToTest;
 
     @BeforeEach
@@ -52,6 +62,82 @@ class CheckSumSupportTest {
 
     }
 
+    @Test
+    void sha256_calculation_for_file_path_works() throws Exception {
+        /* execute */
+        String checksum = serviceToTest.createSha256Checksum(TEST_ZIPFILE.toPath());
+
+        /* test */
+        assertEquals(TEST_ZIPFILE_SHA256, checksum);
+        assertTrue(serviceToTest.hasCorrectSha256ChecksumFile(TEST_ZIPFILE_SHA256, TEST_ZIPFILE.getAbsolutePath()));
+    }
+
+    @Test
+    void sha256_calculation_for_not_existing_file_returns_null() throws Exception {
+        /* execute */
+        String checksum = serviceToTest.createSha256Checksum("./src/test/resources/not-existing.zip");
+
+        /* test */
+        assertNull(checksum);
+        assertFalse(serviceToTest.hasCorrectSha256ChecksumFile(TEST_ZIPFILE_SHA256, "./src/test/resources/not-existing.zip"));
+    }
+
+    @Test
+    void sha256_calculation_for_empty_file_works(@TempDir Path tempDir) throws Exception {
+        /* prepare */
+        Path emptyFile = Files.createFile(tempDir.resolve("empty.txt"));
+
+        /* execute */
+        String checksum = serviceToTest.createSha256Checksum(emptyFile);
+
+        /* test */
+        assertEquals(SHA256_OF_EMPTY_DATA, checksum);
+        assertEquals(SHA256_OF_EMPTY_DATA, serviceToTest.createSha256Checksum(new ByteArrayInputStream(new byte[0])));
+    }
+
+    @Test
+    void sha256_calculation_for_file_and_stream_are_same_for_data_larger_than_buffer(@TempDir Path tempDir) throws Exception {
+        /* prepare */
+        byte[] data = new byte[300 * 1024 + 17];
+        new Random(4711).nextBytes(data);
+        Path file = Files.write(tempDir.resolve("data.bin"), data);
+
+        /* execute */
+        String checksumFile = serviceToTest.createSha256Checksum(file);
+        String checksumStream = serviceToTest.createSha256Checksum(new ByteArrayInputStream(data));
+
+        /* test */
+        String expected = serviceToTest.convertDigestToHex(serviceToTest.createSha256MessageDigest().digest(data));
+        assertEquals(expected, checksumFile);
+        assertEquals(expected, checksumStream);
+    }
+
+    @Test
+    void already_calculated_digest_can_be_checked() throws Exception {
+        /* prepare */
+        MessageDigest digest = serviceToTest.createSha256MessageDigest();
+        digest.update(new byte[0]);
+        byte[] digestBytes = digest.digest();
+
+        /* execute + test */
+        assertTrue(serviceToTest.hasCorrectSha256Checksum(SHA256_OF_EMPTY_DATA, digestBytes));
+        assertFalse(serviceToTest.hasCorrectSha256Checksum(TEST_ZIPFILE_SHA256, digestBytes));
+        assertFalse(serviceToTest.hasCorrectSha256Checksum(null, digestBytes));
+        assertFalse(serviceToTest.hasCorrectSha256Checksum(SHA256_OF_EMPTY_DATA, (byte[]) null));
+    }
+
+    @Test
+    void hex_conversion_uses_lower_case_and_leading_zeros() {
+        /* prepare */
+        byte[] bytes = new byte[] { 0, 1, 15, 16, 127, -128, -1 };
+
+        /* execute */
+        String hex = serviceToTest.convertDigestToHex(bytes);
+
+        /* test */
+        assertEquals("00010f107f80ff", hex);
+    }
+
     private InputStream createFileInputStreamToTestZipfile() throws FileNotFoundException {
         File file = new File("./src/test/resources/zipfile_contains_only_test1.txt.zip");
 
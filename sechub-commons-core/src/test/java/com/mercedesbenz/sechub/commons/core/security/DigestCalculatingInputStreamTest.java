@@ -0,0 +1,112 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.commons.core.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DigestCalculatingInputStreamTest {
+
+    private static final byte[] CONTENT = "some content to calculate a digest for".getBytes();
+
+    private CheckSumSupport checkSumSupport;
+    private String expectedChecksum;
+
+    @BeforeEach
+    void beforeEach() {
+        checkSumSupport = new CheckSumSupport();
+        expectedChecksum = checkSumSupport.createSha256Checksum(new ByteArrayInputStream(CONTENT));
+    }
+
+    @Test
+    void digest_contains_all_read_bytes() throws Exception {
+        /* prepare */
+        DigestCalculatingInputStream streamToTest = checkSumSupport.createSha256CalculatingInputStream(new ByteArrayInputStream(CONTENT));
+
+        /* execute */
+        streamToTest.read();
+        streamToTest.read(new byte[5], 0, 5);
+        streamToTest.readRemaining();
+
+        /* test */
+        assertEquals(CONTENT.length, streamToTest.getByteCount());
+        assertEquals(expectedChecksum, checkSumSupport.convertDigestToHex(streamToTest.getDigestResult()));
+    }
+
+    @Test
+    void skipped_bytes_are_part_of_digest() throws Exception {
+        /* prepare */
+        DigestCalculatingInputStream streamToTest = checkSumSupport.createSha256CalculatingInputStream(new ByteArrayInputStream(CONTENT));
+
+        /* execute */
+        long skipped = streamToTest.skip(10);
+        streamToTest.readRemaining();
+
+        /* test */
+        assertEquals(10, skipped);
+        assertEquals(expectedChecksum, checkSumSupport.convertDigestToHex(streamToTest.getDigestResult()));
+    }
+
+    @Test
+    void digest_result_is_same_on_multiple_calls() throws Exception {
+        /* prepare */
+        DigestCalculatingInputStream streamToTest = checkSumSupport.createSha256CalculatingInputStream(new ByteArrayInputStream(CONTENT));
+        streamToTest.readRemaining();
+
+        /* execute */
+        byte[] result1 = streamToTest.getDigestResult();
+        byte[] result2 = streamToTest.getDigestResult();
+
+        /* test */
+        assertArrayEquals(result1, result2);
+    }
+
+    @Test
+    void mark_and_reset_are_not_supported() throws Exception {
+        /* prepare */
+        DigestCalculatingInputStream streamToTest = checkSumSupport.createSha256CalculatingInputStream(new ByteArrayInputStream(CONTENT));
+
+        /* execute + test */
+        assertFalse(streamToTest.markSupported());
+        assertThrows(IOException.class, () -> streamToTest.reset());
+    }
+
+    @Test
+    void hooks_are_called_after_read_and_at_end_of_stream() throws Exception {
+        /* prepare */
+        HookRecordingInputStream streamToTest = new HookRecordingInputStream(new ByteArrayInputStream(CONTENT), checkSumSupport);
+
+        /* execute */
+        streamToTest.readRemaining();
+
+        /* test */
+        assertEquals(CONTENT.length, streamToTest.bytesReadByHook);
+        assertTrue(streamToTest.endOfStreamReached);
+    }
+
+    private class HookRecordingInputStream extends DigestCalculatingInputStream {
+
+        private long bytesReadByHook;
+        private boolean endOfStreamReached;
+
+        private HookRecordingInputStream(InputStream in, CheckSumSupport checkSumSupport) {
+            super(in, checkSumSupport.createSha256MessageDigest());
+        }
+
+        @Override
+        protected void afterBytesRead(int amount) throws IOException {
+            bytesReadByHook += amount;
+        }
+
+        @Override
+        protected void afterEndOfStreamReached() throws IOException {
+            endOfStreamReached = true;
+        }
+    }
+
+}
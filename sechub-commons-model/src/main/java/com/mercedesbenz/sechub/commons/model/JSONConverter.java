@@ -2,11 +2,15 @@
 package com.mercedesbenz.sechub.commons.model;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.type.CollectionType;
@@ -59,6 +63,50 @@ public class JSONConverter {
         }
     }
 
+    /**
+     * Writes given object as JSON (UTF-8) directly to given output stream - no
+     * JSON string is created. The output stream is NOT closed.
+     *
+     * @param object       object to write
+     * @param outputStream target stream
+     * @throws JSONConverterException
+     */
+    public void toJSON(Object object, OutputStream outputStream) throws JSONConverterException {
+        if (outputStream == null) {
+            throw new IllegalStateException("outputStream may not be null!");
+        }
+        try {
+            mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(outputStream, object);
+        } catch (IOException e) {
+            String type = object == null ? "null" : object.getClass().getName();
+            throw new JSONConverterException("Was not able to write " + type + " as JSON to output stream", e);
+        }
+    }
+
+    /**
+     * Reads an object from JSON (UTF-8) provided by given input stream - no JSON
+     * string is created. The input stream is NOT closed.
+     *
+     * @param <T>         target type
+     * @param clazz       target class
+     * @param inputStream stream containing JSON
+     * @return object
+     * @throws JSONConverterException
+     */
+    public <T> T fromJSON(Class<T> clazz, InputStream inputStream) throws JSONConverterException {
+        if (clazz == null) {
+            throw new IllegalStateException("clazz may not be null!");
+        }
+        if (inputStream == null) {
+            throw new IllegalStateException("inputStream may not be null!");
+        }
+        try {
+            return mapper.readerFor(clazz).without(JsonParser.Feature.AUTO_CLOSE_SOURCE).readValue(inputStream);
+        } catch (IOException e) {
+            throw new JSONConverterException("Was not able to read JSON from input stream to " + clazz + " object", e);
+        }
+    }
+
     public <T> T fromJSON(Class<T> clazz, String json) throws JSONConverterException {
         if (clazz == null) {
             throw new IllegalStateException("clazz may not be null!");
@@ -1,8 +1,19 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.commons.model;
 
+import java.util.Set;
+
 public interface TrafficLightCalculator {
 
     public TrafficLight calculateTrafficLight(SecHubResult result);
 
+    /**
+     * Calculates the traffic light only by the severities of findings. Can be used
+     * when findings are not available as objects.
+     *
+     * @param containedSeverities all severities contained inside findings
+     * @return traffic light, never <code>null</code>
+     */
+    public TrafficLight calculateTrafficLightForSeverities(Set<Severity> containedSeverities);
+
 }
@@ -3,6 +3,7 @@ package com.mercedesbenz.sechub.commons.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 public class TrafficLightSupport implements TrafficLightCalculator, SecHubResultTrafficLightFilter {
 
@@ -21,6 +22,19 @@ public class TrafficLightSupport implements TrafficLightCalculator, SecHubResult
         return TrafficLight.GREEN;
     }
 
+    public TrafficLight calculateTrafficLightForSeverities(Set<Severity> containedSeverities) {
+        if (containedSeverities == null) {
+            throw new IllegalArgumentException("Contained severities may not be null!");
+        }
+        for (Severity severity : Severities.getAllOrderedFromHighToLow()) {
+            if (containedSeverities.contains(severity)) {
+                return mapToTrafficLight(severity);
+            }
+        }
+        /* when no severities... */
+        return TrafficLight.GREEN;
+    }
+
     TrafficLight resolveTrafficLightWhenOneEntryWithSuchSeverity(SecHubResult result, TrafficLight found, Severity severity) {
         if (found != null) {
             return found;
@@ -3,6 +3,10 @@ package com.mercedesbenz.sechub.commons.model;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -327,6 +331,58 @@ public class JSONConverterTest {
         assertEquals("info1", result.getInfo());
     }
 
+    @Test
+    void toJSON_to_output_stream_and_fromJSON_from_input_stream_results_in_same_object_and_streams_are_not_closed() throws Exception {
+        /* prepare */
+        JSONConverterTestObject object = new JSONConverterTestObject();
+        object.setInfo("info1");
+        CloseTrackingOutputStream outputStream = new CloseTrackingOutputStream();
+
+        /* execute */
+        converterToTest.toJSON(object, outputStream);
+        CloseTrackingInputStream inputStream = new CloseTrackingInputStream(outputStream.toByteArray());
+        JSONConverterTestObject result = converterToTest.fromJSON(JSONConverterTestObject.class, inputStream);
+
+        /* test */
+        assertEquals(converterToTest.toJSON(object), outputStream.toString(StandardCharsets.UTF_8));
+        assertEquals("info1", result.getInfo());
+        assertFalse(outputStream.closed);
+        assertFalse(inputStream.closed);
+    }
+
+    @Test
+    void fromJSON_from_input_stream_with_invalid_json_throws_JSONConverterException() throws Exception {
+        /* prepare */
+        ByteArrayInputStream inputStream = new ByteArrayInputStream("{'info':".getBytes(StandardCharsets.UTF_8));
+
+        /* execute + test */
+        assertThrows(JSONConverterException.class, () -> converterToTest.fromJSON(JSONConverterTestObject.class, inputStream));
+    }
+
+    private static class CloseTrackingOutputStream extends ByteArrayOutputStream {
+        private boolean closed;
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+
+    private static class CloseTrackingInputStream extends ByteArrayInputStream {
+        private boolean closed;
+
+        private CloseTrackingInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+
     static class LocalDateTestClass {
         private LocalDate date;
 
@@ -4,6 +4,7 @@ package com.mercedesbenz.sechub.commons.model;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -194,6 +195,31 @@ public class TrafficLightSupportTest {
 			isCalculatedTo(TrafficLight.RED);
 		/* @formatter:on */
     }
+
+    @Test
+    void calculator_for_severities_called_with_null_throws_illegal_argument() {
+        assertThrows(IllegalArgumentException.class, () -> supportToTest.calculateTrafficLightForSeverities(null));
+    }
+
+    @Test
+    void calculator_for_empty_severities_results_in_green() {
+        assertEquals(TrafficLight.GREEN, supportToTest.calculateTrafficLightForSeverities(EnumSet.noneOf(Severity.class)));
+    }
+
+    @Test
+    void calculator_for_severities_results_in_same_traffic_light_as_for_result_with_such_findings() {
+        for (Severity severity : Severity.values()) {
+            /* prepare */
+            SecHubReportModel model = prepareSechubResultWithFindings(Severity.INFO, severity, Severity.LOW);
+
+            /* execute */
+            TrafficLight result = supportToTest.calculateTrafficLightForSeverities(EnumSet.of(Severity.INFO, severity, Severity.LOW));
+
+            /* test */
+            assertEquals(supportToTest.calculateTrafficLight(model.getResult()), result, "Different traffic light for severity: " + severity);
+        }
+    }
+
     /* +-----------------------------------------------------------------------+ */
     /* +............................ Helpers ..................................+ */
     /* +-----------------------------------------------------------------------+ */
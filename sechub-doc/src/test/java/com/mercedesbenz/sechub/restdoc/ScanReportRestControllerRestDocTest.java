@@ -13,7 +13,9 @@ import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuild
 import static org.springframework.restdocs.request.RequestDocumentation.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.io.OutputStream;
 import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
@@ -38,6 +40,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.mercedesbenz.sechub.commons.model.TrafficLight;
 import com.mercedesbenz.sechub.docgen.util.RestDocFactory;
 import com.mercedesbenz.sechub.domain.scan.HTMLScanResultReportModelBuilder;
+import com.mercedesbenz.sechub.domain.scan.HTMLScanResultReportRenderer;
 import com.mercedesbenz.sechub.domain.scan.report.DownloadScanReportService;
 import com.mercedesbenz.sechub.domain.scan.report.DownloadSpdxScanReportService;
 import com.mercedesbenz.sechub.domain.scan.report.ScanReport;
@@ -53,7 +56,8 @@ import com.mercedesbenz.sechub.test.TestPortProvider;
 
 @RunWith(SpringRunner.class)
 @WebMvcTest(ScanReportRestController.class)
-@ContextConfiguration(classes = { ScanReportRestController.class, ScanReportRestControllerRestDocTest.SimpleTestConfiguration.class })
+@ContextConfiguration(classes = { ScanReportRestController.class, HTMLScanResultReportRenderer.class,
+        ScanReportRestControllerRestDocTest.SimpleTestConfiguration.class })
 @AutoConfigureRestDocs(uriScheme = "https", uriHost = ExampleConstants.URI_SECHUB_SERVER, uriPort = 443)
 public class ScanReportRestControllerRestDocTest implements TestIsNecessaryForDocumentation {
 
@@ -73,6 +77,9 @@ public class ScanReportRestControllerRestDocTest implements TestIsNecessaryForDo
     @MockBean
     HTMLScanResultReportModelBuilder modelBuilder;
 
+    @Autowired
+    private HTMLScanResultReportRenderer htmlRenderer;
+
     private UUID jobUUID;
 
     @UseCaseRestDoc(useCase = UseCaseUserDownloadsJobReport.class, variant = "JSON", wanted = {
@@ -94,7 +101,11 @@ public class ScanReportRestControllerRestDocTest implements TestIsNecessaryForDo
         report.setTrafficLight(TrafficLight.YELLOW);
 
         ScanSecHubReport scanSecHubReport = new ScanSecHubReport(report);
-        when(downloadReportService.getScanSecHubReport(PROJECT1_ID, jobUUID)).thenReturn(scanSecHubReport);
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(2);
+            outputStream.write(scanSecHubReport.toJSON().getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(downloadReportService).writeScanSecHubReportJSON(eq(PROJECT1_ID), eq(jobUUID), any(OutputStream.class));
 
         /* execute + test @formatter:off */
 	    this.mockMvc.perform(
@@ -144,7 +155,7 @@ public class ScanReportRestControllerRestDocTest implements TestIsNecessaryForDo
 
         ScanSecHubReport scanSecHubReport = new ScanSecHubReport(report);
         assertNotNull(scanSecHubReport.getMetaData());
-        when(downloadReportService.getScanSecHubReport(PROJECT1_ID, jobUUID)).thenReturn(scanSecHubReport);
+        when(downloadReportService.getScanSecHubReportAsHTML(PROJECT1_ID, jobUUID)).thenAnswer(invocation -> htmlRenderer.render(scanSecHubReport));
 
         /* execute + test @formatter:off */
         this.mockMvc.perform(
@@ -43,8 +43,18 @@ public class GeneratorCommand {
             )
     boolean createMissingFiles;
 
+    @Parameter(
+            names = { "--archiveCreationThreads", "-c"},
+            description="amount of threads used to create the source code zip archive. Values lower than 2 mean sequential creation"
+            )
+    int archiveCreationThreads = 1;
+
     /* @formatter:on */
 
+    public int getArchiveCreationThreads() {
+        return archiveCreationThreads;
+    }
+
     public boolean isCreateMissingFiles() {
         return createMissingFiles;
     }
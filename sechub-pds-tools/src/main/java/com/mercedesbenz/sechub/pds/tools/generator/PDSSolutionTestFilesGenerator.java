@@ -33,6 +33,7 @@ public class PDSSolutionTestFilesGenerator {
     private ConsoleHandler consoleHandler;
     private ScanType scanType;
     private SecHubConfigurationModel config;
+    private int archiveCreationThreads = 1;
 
     ConsoleHandler getConsoleHandler() {
         if (consoleHandler == null) {
@@ -64,10 +65,22 @@ public class PDSSolutionTestFilesGenerator {
                 throw new FileNotFoundException("Working directory " + workingDirectoryFolder.getAbsolutePath() + " does not exist!");
             }
         }
+        archiveCreationThreads = generatorCommand.getArchiveCreationThreads();
+
         return generate(generatorCommand.getPathToConfigFile(), generatorCommand.getScanType(), targetFolder, workingDirectoryFolder,
                 generatorCommand.isCreateMissingFiles());
     }
 
+    /**
+     * Defines the amount of threads used to create the source code zip archive
+     *
+     * @param archiveCreationThreads amount of threads. Values lower than 2 mean
+     *                               sequential creation (default)
+     */
+    public void setArchiveCreationThreads(int archiveCreationThreads) {
+        this.archiveCreationThreads = archiveCreationThreads;
+    }
+
     public File generate(String pathToSecHubConfigFile, String wantedScanType, File targetFolderOrNull, File workingDirectory, boolean createMissingFiles)
             throws Exception {
         try {
@@ -90,6 +103,7 @@ public class PDSSolutionTestFilesGenerator {
 
             ArchiveSupport archiveSupport = new ArchiveSupport();
             archiveSupport.setCreateMissingFiles(createMissingFiles);
+            archiveSupport.setParallelCreationThreads(archiveCreationThreads);
 
             archiveSupport.createArchives(config, workingDirectoryPath, targetFolder.toPath());
 
@@ -146,6 +146,28 @@ class PDSToolsCLITest {
         verify(systemTestLauncher, never()).launch(any());
     }
 
+    @Test
+    void generate_with_archive_creation_threads_set_works() throws Exception {
+        /* prepare */
+        File testConfigFile = new File("./src/test/resources/test_codescan_example1.json");
+        String scanType = "codeScan";
+
+        long timestamp = System.currentTimeMillis();
+        File definedTargetFolder = new File("./build/tmp/pds-tools/" + timestamp + "_parallel_target_folder");
+        File definedWorkingFolder = new File("./build/tmp/pds-tools/" + timestamp + "_parallel_working_folder");
+        Files.createDirectories(definedWorkingFolder.toPath());
+
+        /* execute */
+        cliToTest.start(new String[] { "generate", "--createMissingFiles", "--archiveCreationThreads", "4", "-w", definedWorkingFolder.getAbsolutePath(), "-p",
+                testConfigFile.getAbsolutePath(), "-s", scanType, "-t", definedTargetFolder.getAbsolutePath() });
+
+        /* test */
+        assertFileExists(definedTargetFolder, "sourcecode.zip");
+        assertFileExists(definedTargetFolder, "pdsJobData.json");
+
+        verify(systemTestLauncher, never()).launch(any());
+    }
+
     @Test
     void systemtest_does_call_systemtest_launcher_with_correct_paramters_1() throws Exception {
 
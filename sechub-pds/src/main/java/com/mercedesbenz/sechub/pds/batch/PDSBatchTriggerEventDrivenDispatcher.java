@@ -0,0 +1,86 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.pds.batch;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.mercedesbenz.sechub.pds.PDSMustBeDocumented;
+
+/**
+ * When enabled, this dispatcher waits for {@link PDSBatchTriggerSignal} and
+ * triggers the execution of next jobs immediately - e.g. directly after a job
+ * has been marked as ready to start. The periodic trigger inside
+ * {@link PDSBatchTriggerService} remains as a safety net (e.g. for jobs marked
+ * ready on other cluster members).
+ */
+@Component
+public class PDSBatchTriggerEventDrivenDispatcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PDSBatchTriggerEventDrivenDispatcher.class);
+
+    private static final String PDS_BATCH_DISPATCHER_THREAD_NAME = "pds-batch-dispatcher";
+
+    private static final boolean DEFAULT_EVENT_DRIVEN_TRIGGER_ENABLED = false;
+    private static final long DEFAULT_SIGNAL_WAIT_TIMEOUT_MILLIS = 1000;
+
+    @PDSMustBeDocumented(value = "When enabled, next jobs are triggered immediately when a job has been marked as ready to start or a job execution has ended inside this instance. "
+            + "The periodic trigger (see `pds.config.trigger.nextjob.delay`) is still done as a fallback.", scope = "scheduler")
+    @Value("${pds.config.trigger.nextjob.eventdriven.enabled:" + DEFAULT_EVENT_DRIVEN_TRIGGER_ENABLED + "}")
+    boolean eventDrivenTriggerEnabled = DEFAULT_EVENT_DRIVEN_TRIGGER_ENABLED;
+
+    @Autowired
+    PDSBatchTriggerSignal triggerSignal;
+
+    @Autowired
+    PDSBatchTriggerService triggerService;
+
+    private volatile boolean stopped;
+
+    private Thread dispatcherThread;
+
+    @PostConstruct
+    protected void postConstruct() {
+        if (!eventDrivenTriggerEnabled) {
+            LOG.info("Event driven job trigger is disabled, only periodic trigger will be used");
+            return;
+        }
+        dispatcherThread = new Thread(this::dispatchUntilStopped, PDS_BATCH_DISPATCHER_THREAD_NAME);
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+
+        LOG.info("Event driven job trigger is enabled");
+    }
+
+    @PreDestroy
+    protected void preDestroy() {
+        stopped = true;
+        if (dispatcherThread != null) {
+            dispatcherThread.interrupt();
+        }
+    }
+
+    private void dispatchUntilStopped() {
+        while (!stopped) {
+            try {
+                if (!triggerSignal.awaitSignal(DEFAULT_SIGNAL_WAIT_TIMEOUT_MILLIS)) {
+                    continue;
+                }
+                triggerService.triggerExecutionOfNextJob();
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                LOG.error("Event driven job trigger failed", e);
+            }
+        }
+        LOG.info("Event driven job trigger stopped");
+    }
+
+}
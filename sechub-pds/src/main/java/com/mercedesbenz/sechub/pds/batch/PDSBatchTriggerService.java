@@ -1,7 +1,7 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.pds.batch;
 
-import java.util.Random;
+import java.util.List;
 import java.util.UUID;
 
 import javax.annotation.PostConstruct;
@@ -56,57 +56,55 @@ public class PDSBatchTriggerService {
         LOG.info("Scheduler service created with {} millisecondss initial delay and {} millisecondss as fixed delay", infoInitialDelay, infoFixedDelay);
     }
 
+    /**
+     * Claims as many jobs as this instance is able to execute at the moment and
+     * adds them to the execution queue. Is called periodically and also by
+     * {@link PDSBatchTriggerEventDrivenDispatcher} when a job has been marked as
+     * ready to start or a job execution has ended.
+     */
     // default 10 seconds delay and 5 seconds initial
     @Scheduled(initialDelayString = "${pds.config.trigger.nextjob.initialdelay:" + DEFAULT_INITIAL_DELAY_MILLIS
             + "}", fixedDelayString = "${pds.config.trigger.nextjob.delay:" + DEFAULT_FIXED_DELAY_MILLIS + "}")
-    public void triggerExecutionOfNextJob() {
+    public synchronized void triggerExecutionOfNextJob() {
         if (!schedulingEnabled) {
             LOG.trace("Trigger execution of next job canceled, because scheduling disabled.");
             return;
         }
         LOG.trace("Trigger execution of next job started.");
-        if (executionService.isQueueFull()) {
+        int amountOfJobsToClaim = executionService.calculateAmountOfJobsToClaim();
+        if (amountOfJobsToClaim <= 0) {
             LOG.debug("Execution service is not able to execute next job, so cancel here");
             return;
         }
         /*
-         * find next job and mark it as already queued - so no other PDS instance does
-         * try to process it
+         * find next jobs and mark them as already queued - so no other PDS instance
+         * does try to process them
          */
-        UUID uuid = null;
-
-        boolean fetchedNextJob = false;
-        while (!fetchedNextJob) {
-
-            try {
-                uuid = jobTransactionService.findNextJobToExecuteAndMarkAsQueued();
-
-                fetchedNextJob = true;
-
-            } catch (ObjectOptimisticLockingFailureException e) {
-                /*
-                 * This can happen when PDS instances are started at same time, so the check for
-                 * next jobs can lead to race condiitons - and optmistic locks will occurre
-                 * here.
-                 *
-                 * To avoid this to happen again, we wait a random time here. So next call on
-                 * this machine should normally not collide again.
-                 */
-                Random random = new Random();
-                int millis = random.ints(50, 3000).findFirst().getAsInt();
-                LOG.info("Next job was already handled by another cluster member - will wait {} milliseconds and retry.", millis);
-                try {
-                    Thread.sleep(millis);
-                } catch (InterruptedException e1) {
-                    Thread.currentThread().interrupt();
-                }
-                LOG.info("Wait done - try again");
-            }
+        List<UUID> uuids = null;
+
+        long start = System.currentTimeMillis();
+        try {
+            uuids = jobTransactionService.findNextJobsToExecuteAndMarkAsQueued(amountOfJobsToClaim);
+
+        } catch (ObjectOptimisticLockingFailureException e) {
+            /*
+             * Can happen when the database does not support skipping locked rows and
+             * another cluster member has handled the same jobs. We do not wait here - the
+             * next trigger will just try again.
+             */
+            LOG.info("Next jobs were already handled by another cluster member - will retry on next trigger.");
+            return;
         }
-        if (uuid == null) {
+        executionService.rememberJobClaim(uuids.size(), System.currentTimeMillis() - start);
+
+        if (uuids.isEmpty()) {
             return;
         }
-        executionService.addToExecutionQueueAsynchron(uuid);
+        LOG.debug("Claimed {} of {} possible jobs for execution", uuids.size(), amountOfJobsToClaim);
+
+        for (UUID uuid : uuids) {
+            executionService.addToExecutionQueueAsynchron(uuid);
+        }
 
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.pds.batch;
+
+import org.springframework.stereotype.Component;
+
+import com.mercedesbenz.sechub.commons.core.concurrent.CollapsingSignal;
+
+/**
+ * Signal used to wake up the batch trigger of this PDS instance. Raised when a
+ * job has been marked as ready to start or a job execution has ended and so a
+ * worker is free again.
+ */
+@Component
+public class PDSBatchTriggerSignal extends CollapsingSignal {
+
+}
@@ -6,6 +6,7 @@ import static com.mercedesbenz.sechub.pds.util.PDSAssert.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
@@ -67,6 +68,10 @@ class PDSExecutionCallable implements Callable<PDSExecutionResult> {
 
     private PDSExecutionCallableServiceCollection serviceCollection;
 
+    private PDSStreamFileTailReader outputStreamReader;
+
+    private PDSStreamFileTailReader errorStreamReader;
+
     public PDSExecutionCallable(UUID jobUUID, PDSExecutionCallableServiceCollection serviceCollection) {
         notNull(jobUUID, "pdsJobUUID may not be null!");
         notNull(serviceCollection, "serviceCollection may not be null!");
@@ -378,28 +383,44 @@ class PDSExecutionCallable implements Callable<PDSExecutionResult> {
 
     private void readErrorStream(UUID jobUUID, String encoding, PDSExecutionData executionData) {
         /* handle error stream */
-        File systemErrorFile = getWorkspaceService().getSystemErrorFile(jobUUID);
-        if (!systemErrorFile.exists()) {
-            return;
-        }
+        PDSStreamFileTailReader reader = getErrorStreamReader(jobUUID, encoding);
         try {
-            executionData.errorStreamData = FileUtils.readFileToString(systemErrorFile, encoding);
+            reader.readNewContent();
         } catch (IOException e) {
-            LOG.error("Was not able to fetch error stream data for PDS job:{} on path:{}!", jobUUID, systemErrorFile.getAbsolutePath(), e);
+            LOG.error("Was not able to fetch error stream data for PDS job:{} on path:{}!", jobUUID, getWorkspaceService().getSystemErrorFile(jobUUID), e);
         }
+        executionData.errorStreamData = reader.getContent();
     }
 
     private void readOutputStream(UUID jobUUID, String encoding, PDSExecutionData executionData) {
         /* handle output stream */
-        File systemOutFile = getWorkspaceService().getSystemOutFile(jobUUID);
-        if (!systemOutFile.exists()) {
-            return;
-        }
+        PDSStreamFileTailReader reader = getOutputStreamReader(jobUUID, encoding);
         try {
-            executionData.outputStreamData = FileUtils.readFileToString(systemOutFile, encoding);
+            reader.readNewContent();
         } catch (IOException e) {
-            LOG.error("Was not able to fetch output stream data for PDS job:{} on path:{}!", jobUUID, systemOutFile.getAbsolutePath(), e);
+            LOG.error("Was not able to fetch output stream data for PDS job:{} on path:{}!", jobUUID, getWorkspaceService().getSystemOutFile(jobUUID), e);
         }
+        executionData.outputStreamData = reader.getContent();
+    }
+
+    private synchronized PDSStreamFileTailReader getOutputStreamReader(UUID jobUUID, String encoding) {
+        if (outputStreamReader == null) {
+            outputStreamReader = createStreamReader(getWorkspaceService().getSystemOutFile(jobUUID), encoding);
+        }
+        return outputStreamReader;
+    }
+
+    private synchronized PDSStreamFileTailReader getErrorStreamReader(UUID jobUUID, String encoding) {
+        if (errorStreamReader == null) {
+            errorStreamReader = createStreamReader(getWorkspaceService().getSystemErrorFile(jobUUID), encoding);
+        }
+        return errorStreamReader;
+    }
+
+    private PDSStreamFileTailReader createStreamReader(File file, String encoding) {
+        /* the truncated view must always be available */
+        int maximumCharacters = Math.max(serviceCollection.getMaximumStreamCharacters(), PDSGetJobStreamService.TRUNCATED_STREAM_SIZE);
+        return new PDSStreamFileTailReader(file, Charset.forName(encoding), maximumCharacters);
     }
 
     private String shrinkTo(String content, int max) {
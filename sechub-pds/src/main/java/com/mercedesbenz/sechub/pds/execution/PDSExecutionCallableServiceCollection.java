@@ -2,8 +2,10 @@
 package com.mercedesbenz.sechub.pds.execution;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.mercedesbenz.sechub.pds.PDSMustBeDocumented;
 import com.mercedesbenz.sechub.pds.job.PDSCheckJobStatusService;
 import com.mercedesbenz.sechub.pds.job.PDSGetJobStreamService;
 import com.mercedesbenz.sechub.pds.job.PDSJobTransactionService;
@@ -12,6 +14,12 @@ import com.mercedesbenz.sechub.pds.job.PDSWorkspaceService;
 @Component
 public class PDSExecutionCallableServiceCollection {
 
+    private static final int DEFAULT_MAXIMUM_STREAM_CHARACTERS = 1024 * 1024;
+
+    @PDSMustBeDocumented(value = "Maximum amount of characters kept for output and error stream of a running PDS job. When a product writes more, only the last characters are kept and stored in database.", scope = "execution")
+    @Value("${pds.config.execution.stream.max.characters:" + DEFAULT_MAXIMUM_STREAM_CHARACTERS + "}")
+    int maximumStreamCharacters = DEFAULT_MAXIMUM_STREAM_CHARACTERS;
+
     @Autowired
     PDSJobTransactionService jobTransactionService;
 
@@ -61,4 +69,8 @@ public class PDSExecutionCallableServiceCollection {
         return pdsGetJobStreamService;
     }
 
+    public int getMaximumStreamCharacters() {
+        return maximumStreamCharacters;
+    }
+
 }
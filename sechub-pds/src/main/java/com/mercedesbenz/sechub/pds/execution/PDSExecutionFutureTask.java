@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.pds.execution;
 
+import java.util.UUID;
 import java.util.concurrent.FutureTask;
 
 import org.slf4j.Logger;
@@ -10,7 +11,8 @@ import org.slf4j.LoggerFactory;
  * A special future task, which calls
  * {@link PDSExecutionCallable#prepareForCancel(boolean)} before doing cancel
  * operation - so it's possible to terminate process etc. before thread is
- * interrupted
+ * interrupted. When created for a job registry, the task updates the state of
+ * its job inside the registry when execution starts and ends.
  *
  * @author Albert Tregnaghi
  *
@@ -20,12 +22,35 @@ public class PDSExecutionFutureTask extends FutureTask<PDSExecutionResult> {
     private static final Logger LOG = LoggerFactory.getLogger(PDSExecutionFutureTask.class);
 
     private PDSExecutionCallable execCallable;
+    private PDSExecutionJobRegistry registry;
+    private UUID jobUUID;
 
     public PDSExecutionFutureTask(PDSExecutionCallable callable) {
         super(callable);
         execCallable = callable;
     }
 
+    PDSExecutionFutureTask(PDSExecutionCallable callable, PDSExecutionJobRegistry registry, UUID jobUUID) {
+        this(callable);
+        this.registry = registry;
+        this.jobUUID = jobUUID;
+    }
+
+    @Override
+    public void run() {
+        if (registry != null) {
+            registry.markRunning(jobUUID, this);
+        }
+        super.run();
+    }
+
+    @Override
+    protected void done() {
+        if (registry != null) {
+            registry.markEnded(jobUUID, this);
+        }
+    }
+
     @Override
     public boolean cancel(boolean mayInterruptIfRunning) {
 
@@ -0,0 +1,225 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.pds.execution;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Registry for jobs inside the execution queue of this PDS instance. All
+ * operations are lock free:
+ * <ul>
+ * <li>register, lookup and removal of a job are O(1)</li>
+ * <li>the amount of registered jobs is maintained by a counter, so
+ * {@link #size()} is O(1)</li>
+ * <li>every registered job has a {@link State}. Each state has its own counter,
+ * updated on every state transition, so {@link #count(State)} is O(1)</li>
+ * <li>{@link #snapshot()} creates a copy - ordered by registration - and does
+ * not block any other operation</li>
+ * </ul>
+ */
+class PDSExecutionJobRegistry {
+
+    private final ConcurrentHashMap<UUID, RegisteredJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong registrationSequence = new AtomicLong();
+    private final Map<State, AtomicInteger> stateCounters = new EnumMap<>(State.class);
+
+    /**
+     * State of a job inside the execution queue
+     */
+    enum State {
+        /** registered, but not started by a worker */
+        QUEUED,
+
+        /** execution has been started by a worker */
+        RUNNING,
+
+        /** execution has ended - normally or with a failure */
+        DONE,
+
+        /** execution has been canceled */
+        CANCELED,
+    }
+
+    PDSExecutionJobRegistry() {
+        for (State state : State.values()) {
+            stateCounters.put(state, new AtomicInteger());
+        }
+    }
+
+    /**
+     * Registers the future for given job. The job has state {@link State#QUEUED}.
+     * A former registration for the same job is replaced.
+     *
+     * @param jobUUID job uuid
+     * @param future  future of the job execution
+     * @return former future registered for same job or <code>null</code>
+     */
+    Future<PDSExecutionResult> register(UUID jobUUID, Future<PDSExecutionResult> future) {
+        RegisteredJob registered = new RegisteredJob(jobUUID, future, registrationSequence.incrementAndGet());
+
+        stateCounters.get(State.QUEUED).incrementAndGet();
+        RegisteredJob former = jobs.put(jobUUID, registered);
+        if (former == null) {
+            size.incrementAndGet();
+            return null;
+        }
+        former.leaveState();
+        return former.future;
+    }
+
+    /**
+     * @param jobUUID job uuid
+     * @return registered future or <code>null</code> when job is not registered
+     */
+    Future<PDSExecutionResult> getFuture(UUID jobUUID) {
+        RegisteredJob registered = jobs.get(jobUUID);
+        if (registered == null) {
+            return null;
+        }
+        return registered.future;
+    }
+
+    /**
+     * Removes given job - but only when the registered future is the given one. So
+     * a job registered again in the meantime will not be removed.
+     *
+     * @param jobUUID job uuid
+     * @param future  expected future
+     * @return <code>true</code> when removed
+     */
+    boolean remove(UUID jobUUID, Future<PDSExecutionResult> future) {
+        RegisteredJob registered = jobs.get(jobUUID);
+        if (registered == null || registered.future != future) {
+            return false;
+        }
+        if (!jobs.remove(jobUUID, registered)) {
+            return false;
+        }
+        registered.leaveState();
+        size.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * Marks given job as running - but only when the registered future is the
+     * given one and the job is still queued.
+     *
+     * @param jobUUID job uuid
+     * @param future  expected future
+     * @return <code>true</code> when state has changed
+     */
+    boolean markRunning(UUID jobUUID, Future<PDSExecutionResult> future) {
+        RegisteredJob registered = resolveRegistered(jobUUID, future);
+        if (registered == null) {
+            return false;
+        }
+        return registered.changeState(State.QUEUED, State.RUNNING);
+    }
+
+    /**
+     * Marks given job as ended - {@link State#CANCELED} when the future was
+     * canceled, otherwise {@link State#DONE}. Will only be done when the
+     * registered future is the given one and the job has not already ended.
+     *
+     * @param jobUUID job uuid
+     * @param future  expected future
+     * @return <code>true</code> when state has changed
+     */
+    boolean markEnded(UUID jobUUID, Future<PDSExecutionResult> future) {
+        RegisteredJob registered = resolveRegistered(jobUUID, future);
+        if (registered == null) {
+            return false;
+        }
+        State target = future.isCancelled() ? State.CANCELED : State.DONE;
+        while (true) {
+            State current = registered.state.get();
+            if (current == null || current == State.DONE || current == State.CANCELED) {
+                return false;
+            }
+            if (registered.changeState(current, target)) {
+                return true;
+            }
+        }
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    /**
+     * @param state state to count
+     * @return amount of registered jobs having given state
+     */
+    int count(State state) {
+        return stateCounters.get(state).get();
+    }
+
+    /**
+     * @return snapshot of all registered jobs, ordered by registration
+     */
+    List<RegisteredJob> snapshot() {
+        List<RegisteredJob> result = new ArrayList<>(jobs.values());
+        result.sort(Comparator.comparingLong(registered -> registered.sequence));
+        return result;
+    }
+
+    private RegisteredJob resolveRegistered(UUID jobUUID, Future<PDSExecutionResult> future) {
+        RegisteredJob registered = jobs.get(jobUUID);
+        if (registered == null || registered.future != future) {
+            return null;
+        }
+        return registered;
+    }
+
+    class RegisteredJob {
+        private final UUID jobUUID;
+        private final Future<PDSExecutionResult> future;
+        private final long sequence;
+        /* null when no longer registered */
+        private final AtomicReference<State> state = new AtomicReference<>(State.QUEUED);
+
+        private RegisteredJob(UUID jobUUID, Future<PDSExecutionResult> future, long sequence) {
+            this.jobUUID = jobUUID;
+            this.future = future;
+            this.sequence = sequence;
+        }
+
+        UUID getJobUUID() {
+            return jobUUID;
+        }
+
+        Future<PDSExecutionResult> getFuture() {
+            return future;
+        }
+
+        State getState() {
+            return state.get();
+        }
+
+        private boolean changeState(State expected, State target) {
+            if (!state.compareAndSet(expected, target)) {
+                return false;
+            }
+            stateCounters.get(target).incrementAndGet();
+            stateCounters.get(expected).decrementAndGet();
+            return true;
+        }
+
+        private void leaveState() {
+            State former = state.getAndSet(null);
+            if (former != null) {
+                stateCounters.get(former).decrementAndGet();
+            }
+        }
+    }
+}
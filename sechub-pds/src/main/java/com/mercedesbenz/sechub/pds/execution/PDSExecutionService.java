@@ -4,13 +4,8 @@ package com.mercedesbenz.sechub.pds.execution;
 import static com.mercedesbenz.sechub.pds.util.PDSAssert.*;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -36,8 +31,12 @@ import com.mercedesbenz.sechub.commons.pds.data.PDSJobStatusState;
 import com.mercedesbenz.sechub.commons.pds.execution.ExecutionEventData;
 import com.mercedesbenz.sechub.commons.pds.execution.ExecutionEventType;
 import com.mercedesbenz.sechub.pds.PDSMustBeDocumented;
+import com.mercedesbenz.sechub.pds.batch.PDSBatchTriggerSignal;
+import com.mercedesbenz.sechub.pds.execution.PDSExecutionJobRegistry.RegisteredJob;
+import com.mercedesbenz.sechub.pds.execution.PDSExecutionJobRegistry.State;
 import com.mercedesbenz.sechub.pds.job.PDSJob;
 import com.mercedesbenz.sechub.pds.job.PDSJobRepository;
+import com.mercedesbenz.sechub.pds.job.PDSJobStatusChangeWaitService;
 import com.mercedesbenz.sechub.pds.job.PDSJobTransactionService;
 import com.mercedesbenz.sechub.pds.job.PDSWorkspaceService;
 import com.mercedesbenz.sechub.pds.usecase.PDSStep;
@@ -69,7 +68,8 @@ public class PDSExecutionService {
 
     final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
     private final PDSExecutionWatcher watcher = new PDSExecutionWatcher();
-    private final Map<UUID, Future<PDSExecutionResult>> jobsInQueue = new LinkedHashMap<>();
+    private final PDSExecutionJobRegistry jobsInQueue = new PDSExecutionJobRegistry();
+    private final PDSExecutionStatistic statistic = new PDSExecutionStatistic();
 
     @PDSMustBeDocumented(value = "Set amount of worker threads used for exeuctions", scope = "execution")
     @Value("${pds.config.execute.worker.thread.count:" + DEFAULT_WORKER_THREAD_COUNT + "}")
@@ -94,9 +94,16 @@ public class PDSExecutionService {
     @Autowired
     PDSWorkspaceService workspaceService;
 
+    @Autowired
+    PDSJobStatusChangeWaitService jobStatusChangeWaitService;
+
+    @Autowired
+    PDSBatchTriggerSignal batchTriggerSignal;
+
     @PostConstruct
     protected void postConstruct() {
         workers = Executors.newFixedThreadPool(workerThreadCount);
+        statistic.updateIdleWorkers(workerThreadCount);
 
         scheduler.scheduleAtFixedRate(watcher, 300, 1000, TimeUnit.MILLISECONDS);
     }
@@ -113,14 +120,10 @@ public class PDSExecutionService {
         LOG.info("Scheduler executor service shutdown done");
 
         Set<UUID> jobsToRestart = new LinkedHashSet<>();
-        Iterator<Entry<UUID, Future<PDSExecutionResult>>> it = jobsInQueue.entrySet().iterator();
-        while (it.hasNext()) {
-            Entry<UUID, Future<PDSExecutionResult>> entry = it.next();
-            Future<PDSExecutionResult> future = entry.getValue();
-            if (!future.isDone()) {
+        for (RegisteredJob registered : jobsInQueue.snapshot()) {
+            if (!registered.getFuture().isDone()) {
                 /* still running - must be restarted by next instance */
-                UUID pdsJobUUID = entry.getKey();
-                jobsToRestart.add(pdsJobUUID);
+                jobsToRestart.add(registered.getJobUUID());
             }
         }
         LOG.info("Handling predestroy for {} jobs in queue.", jobsToRestart.size());
@@ -139,49 +142,41 @@ public class PDSExecutionService {
 
         LOG.debug("Try to cancel PDS job: {} if running at this cluster member", jobUUID);
 
-        synchronized (jobsInQueue) {
-
-            Iterator<Entry<UUID, Future<PDSExecutionResult>>> it = jobsInQueue.entrySet().iterator();
-            while (it.hasNext()) {
-                Entry<UUID, Future<PDSExecutionResult>> entry = it.next();
-                if (jobUUID.equals(entry.getKey())) {
-                    Future<PDSExecutionResult> future = entry.getValue();
-                    if (future.isDone()) {
-                        /* already done or canceled */
-                        LOG.info("cancellation of job with uuid:{} skipped, because already done", jobUUID);
-                        return CancelResult.JOB_FOUND_CANCEL_WAS_DONE;
-                    }
-                    LOG.debug("Found PDS job: {} running at this cluster member", jobUUID);
-
-                    ExecutionEventData eventData = new ExecutionEventData();
-
-                    workspaceService.sendEvent(jobUUID, ExecutionEventType.CANCEL_REQUESTED, eventData);
-
-                    /*
-                     * the next call will trigger PDSExecutionCallable to cancel which will use the
-                     * event data for further inspections
-                     */
-                    boolean canceled = future.cancel(true);
-
-                    if (canceled) {
-                        LOG.info("Cancel SUCCESSFUL: canceled PDS job: {}", jobUUID);
-                        jobTransactionService.markJobAsCanceledInOwnTransaction(jobUUID);
-                        return CancelResult.JOB_FOUND_CANCEL_WAS_DONE;
-                    } else {
-                        LOG.info(
-                                "Cancel FAILED: was not able to cancel PDS job :{} - should not happen. Please read logs for details. This will be an orphaned cancel request.",
-                                jobUUID);
-                        return CancelResult.JOB_FOUND_CANCEL_WAS_NOT_POSSIBLE;
-
-                    }
-                }
-            }
+        Future<PDSExecutionResult> future = jobsInQueue.getFuture(jobUUID);
+        if (future == null) {
             /*
              * job not found - either never existed or already canceled/done and removed by
              * watcher
              */
             return CancelResult.JOB_NOT_FOUND;
         }
+        if (future.isDone()) {
+            /* already done or canceled */
+            LOG.info("cancellation of job with uuid:{} skipped, because already done", jobUUID);
+            return CancelResult.JOB_FOUND_CANCEL_WAS_DONE;
+        }
+        LOG.debug("Found PDS job: {} running at this cluster member", jobUUID);
+
+        ExecutionEventData eventData = new ExecutionEventData();
+
+        workspaceService.sendEvent(jobUUID, ExecutionEventType.CANCEL_REQUESTED, eventData);
+
+        /*
+         * the next call will trigger PDSExecutionCallable to cancel which will use the
+         * event data for further inspections
+         */
+        boolean canceled = future.cancel(true);
+
+        if (canceled) {
+            LOG.info("Cancel SUCCESSFUL: canceled PDS job: {}", jobUUID);
+            jobTransactionService.markJobAsCanceledInOwnTransaction(jobUUID);
+            return CancelResult.JOB_FOUND_CANCEL_WAS_DONE;
+        } else {
+            LOG.info("Cancel FAILED: was not able to cancel PDS job :{} - should not happen. Please read logs for details. This will be an orphaned cancel request.",
+                    jobUUID);
+            return CancelResult.JOB_FOUND_CANCEL_WAS_NOT_POSSIBLE;
+
+        }
     }
 
     public enum CancelResult {
@@ -196,57 +191,103 @@ public class PDSExecutionService {
     }
 
     public boolean isQueueFull() {
-        synchronized (jobsInQueue) {
-            return jobsInQueue.size() >= queueMax;
+        return jobsInQueue.size() >= queueMax;
+    }
+
+    /**
+     * Calculates the amount of jobs to claim, so all workers are busy. Workers
+     * are busy for queued and running jobs - ended jobs only occupy a queue slot
+     * until the watcher has removed them. When all
+     * workers are busy but the queue is not full, one job can be claimed (as
+     * before, to have the next job already available inside queue).
+     *
+     * @return amount of jobs to claim, 0 when queue is full
+     */
+    public int calculateAmountOfJobsToClaim() {
+        int size = jobsInQueue.size();
+        int freeQueueSlots = queueMax - size;
+        if (freeQueueSlots <= 0) {
+            return 0;
         }
+        int idleWorkers = workerThreadCount - countJobsForWorkers();
+        return Math.max(1, Math.min(freeQueueSlots, idleWorkers));
+    }
+
+    /**
+     * Remembers a job claim for statistics
+     *
+     * @param amountOfClaimedJobs     amount of claimed jobs
+     * @param claimTimeInMilliseconds time needed to claim the jobs
+     */
+    public void rememberJobClaim(int amountOfClaimedJobs, long claimTimeInMilliseconds) {
+        statistic.addClaim(amountOfClaimedJobs, claimTimeInMilliseconds);
     }
 
     @Async
     public void addToExecutionQueueAsynchron(UUID jobUUID) {
-        Future<?> former = null;
-        synchronized (jobsInQueue) {
-            LOG.debug("add job to execution queue:{}", jobUUID);
-            int size = jobsInQueue.size();
-            if (size >= queueMax) {
-                LOG.warn("execution queue overload:{}/{}", size, queueMax);
-            }
-            PDSExecutionFutureTask task = new PDSExecutionFutureTask(executionCallableFactory.createCallable(jobUUID));
-            workers.execute(task);
-
-            former = jobsInQueue.put(jobUUID, task);
+        LOG.debug("add job to execution queue:{}", jobUUID);
+        int size = jobsInQueue.size();
+        if (size >= queueMax) {
+            LOG.warn("execution queue overload:{}/{}", size, queueMax);
         }
+        PDSExecutionFutureTask task = new PDSExecutionFutureTask(executionCallableFactory.createCallable(jobUUID), jobsInQueue, jobUUID);
+
+        /* register before execution - so the watcher will always find the future */
+        Future<?> former = jobsInQueue.register(jobUUID, task);
+        updateIdleWorkers();
+
+        workers.execute(task);
+
         handleFormerJob(jobUUID, former);
     }
 
     @UseCaseAdminFetchesMonitoringStatus(@PDSStep(name = "db lookup", description = "service fetches all execution state", number = 2))
     public PDSExecutionStatus getExecutionStatus() {
         PDSExecutionStatus status = new PDSExecutionStatus();
-        synchronized (jobsInQueue) {
-            status.queueMax = queueMax;
-            status.jobsInQueue = jobsInQueue.size();
-
-            Iterator<Entry<UUID, Future<PDSExecutionResult>>> it = jobsInQueue.entrySet().iterator();
-            while (it.hasNext()) {
-                Entry<UUID, Future<PDSExecutionResult>> entry = it.next();
-                Future<PDSExecutionResult> future = entry.getValue();
-                PDSExecutionJobInQueueStatusEntry statusEntry = new PDSExecutionJobInQueueStatusEntry();
-                statusEntry.done = future.isDone();
-                statusEntry.canceled = future.isCancelled();
-                statusEntry.jobUUID = entry.getKey();
-
-                Optional<PDSJob> jobOption = repository.findById(entry.getKey());
-                if (jobOption.isPresent()) {
-                    PDSJob job = jobOption.get();
-                    statusEntry.created = job.getCreated();
-                    statusEntry.started = job.getStarted();
-                    statusEntry.state = job.getState();
-                }
-                status.entries.add(statusEntry);
+        List<RegisteredJob> registeredJobs = jobsInQueue.snapshot();
+
+        status.queueMax = queueMax;
+        status.jobsInQueue = registeredJobs.size();
+        status.jobsQueued = jobsInQueue.count(State.QUEUED);
+        status.jobsRunning = jobsInQueue.count(State.RUNNING);
+        status.jobsDone = jobsInQueue.count(State.DONE);
+        status.jobsCanceled = jobsInQueue.count(State.CANCELED);
+        status.workerThreadCount = workerThreadCount;
+
+        status.claims = statistic.getAmountOfClaims();
+        status.claimedJobs = statistic.getAmountOfClaimedJobs();
+        status.claimTimeAverageInMilliseconds = statistic.getClaimTimeAverageInMilliseconds();
+        status.claimTimeMaxInMilliseconds = statistic.getClaimTimeMaxInMilliseconds();
+        status.workerIdleTimeInMilliseconds = statistic.getWorkerIdleTimeInMilliseconds();
+
+        /* database lookups are done on the snapshot - no other operation is blocked */
+        for (RegisteredJob registered : registeredJobs) {
+            Future<PDSExecutionResult> future = registered.getFuture();
+            PDSExecutionJobInQueueStatusEntry statusEntry = new PDSExecutionJobInQueueStatusEntry();
+            statusEntry.done = future.isDone();
+            statusEntry.canceled = future.isCancelled();
+            statusEntry.jobUUID = registered.getJobUUID();
+
+            Optional<PDSJob> jobOption = repository.findById(registered.getJobUUID());
+            if (jobOption.isPresent()) {
+                PDSJob job = jobOption.get();
+                statusEntry.created = job.getCreated();
+                statusEntry.started = job.getStarted();
+                statusEntry.state = job.getState();
             }
+            status.entries.add(statusEntry);
         }
         return status;
     }
 
+    private void updateIdleWorkers() {
+        statistic.updateIdleWorkers(workerThreadCount - countJobsForWorkers());
+    }
+
+    private int countJobsForWorkers() {
+        return jobsInQueue.count(State.QUEUED) + jobsInQueue.count(State.RUNNING);
+    }
+
     private void handleFormerJob(UUID jobUUID, Future<?> former) {
         if (former == null) {
             return;
@@ -271,26 +312,24 @@ public class PDSExecutionService {
         }
 
         private void inspectJobsInQueue() {
-            synchronized (jobsInQueue) {
-                List<UUID> doneAndDatabaseChangesApplied = new ArrayList<>(0);
-                Iterator<Entry<UUID, Future<PDSExecutionResult>>> it = jobsInQueue.entrySet().iterator();
-
-                while (it.hasNext()) {
-
-                    Entry<UUID, Future<PDSExecutionResult>> entry = it.next();
-                    Future<PDSExecutionResult> future = entry.getValue();
-
-                    if (future.isDone()) {
-                        if (isFutureDoneAndChangesToDatabaseCanBeApplied(entry, future)) {
-                            doneAndDatabaseChangesApplied.add(entry.getKey());
-                        }
-                    }
+            int removed = 0;
+            for (RegisteredJob registered : jobsInQueue.snapshot()) {
+                Future<PDSExecutionResult> future = registered.getFuture();
+                if (!future.isDone()) {
+                    continue;
                 }
-
-                for (UUID uuid : doneAndDatabaseChangesApplied) {
-                    jobsInQueue.remove(uuid);
+                if (isFutureDoneAndChangesToDatabaseCanBeApplied(registered.getJobUUID(), future)) {
+                    if (jobsInQueue.remove(registered.getJobUUID(), future)) {
+                        removed++;
+                    }
                 }
             }
+            if (removed == 0) {
+                return;
+            }
+            updateIdleWorkers();
+            /* workers are free again - so trigger next jobs */
+            batchTriggerSignal.signal();
         }
 
         /**
@@ -298,14 +337,12 @@ public class PDSExecutionService {
          * database. The execution will be tried resilient. See
          * {@link #getMaximumRetriesToStoreResilient()}
          *
-         * @param entry
+         * @param jobUUID
          * @param future
          * @return <code>true</code> when work can be removed from jobsInQueue
          */
         @UseCaseSystemHandlesJobCancelRequests(@PDSStep(name = "queue work", description = "canceled job will be marked as CANCELED in db", number = 5))
-        private boolean isFutureDoneAndChangesToDatabaseCanBeApplied(Entry<UUID, Future<PDSExecutionResult>> entry, Future<PDSExecutionResult> future) {
-            UUID jobUUID = entry.getKey();
-
+        private boolean isFutureDoneAndChangesToDatabaseCanBeApplied(UUID jobUUID, Future<PDSExecutionResult> future) {
             int tries = 0;
             while (tries < getMaximumRetriesToStoreResilient()) {
                 if (tries > 0) {
@@ -356,6 +393,8 @@ public class PDSExecutionService {
                     repository.save(job);
                     LOG.debug("Stored job pds uuid={}, state={}", job.getUUID(), job.getState());
 
+                    jobStatusChangeWaitService.notifyStatusChanged(jobUUID);
+
                     return true;
 
                 } catch (OptimisticLockingFailureException e) {
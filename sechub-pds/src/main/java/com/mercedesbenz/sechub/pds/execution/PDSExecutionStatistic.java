@@ -0,0 +1,83 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.pds.execution;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects statistic data about job claiming and worker usage of this PDS
+ * instance:
+ * <ul>
+ * <li>claim latency - the time needed to claim next jobs from database</li>
+ * <li>worker idle time - the sum of time worker threads had nothing to do</li>
+ * </ul>
+ */
+class PDSExecutionStatistic {
+
+    private final LongAdder amountOfClaims = new LongAdder();
+    private final LongAdder amountOfClaimedJobs = new LongAdder();
+    private final LongAdder claimTimeSumInMilliseconds = new LongAdder();
+    private final AtomicLong claimTimeMaxInMilliseconds = new AtomicLong();
+
+    private long workerIdleTimeInMilliseconds;
+    private long lastWorkerUsageChange = System.currentTimeMillis();
+    private int lastIdleWorkers;
+
+    void addClaim(int amountOfJobs, long claimTimeInMilliseconds) {
+        long time = Math.max(0, claimTimeInMilliseconds);
+
+        amountOfClaims.increment();
+        amountOfClaimedJobs.add(amountOfJobs);
+        claimTimeSumInMilliseconds.add(time);
+        claimTimeMaxInMilliseconds.accumulateAndGet(time, Math::max);
+    }
+
+    /**
+     * Updates the amount of idle workers. The time elapsed since last update is
+     * added to the worker idle time for every worker having been idle.
+     *
+     * @param idleWorkers amount of workers being idle from now on
+     */
+    synchronized void updateIdleWorkers(int idleWorkers) {
+        addElapsedWorkerIdleTime();
+        lastIdleWorkers = Math.max(0, idleWorkers);
+    }
+
+    long getAmountOfClaims() {
+        return amountOfClaims.sum();
+    }
+
+    long getAmountOfClaimedJobs() {
+        return amountOfClaimedJobs.sum();
+    }
+
+    long getClaimTimeMaxInMilliseconds() {
+        return claimTimeMaxInMilliseconds.get();
+    }
+
+    /**
+     * @return average claim time in milliseconds or 0 when nothing was claimed
+     */
+    long getClaimTimeAverageInMilliseconds() {
+        long amount = amountOfClaims.sum();
+        if (amount == 0) {
+            return 0;
+        }
+        return claimTimeSumInMilliseconds.sum() / amount;
+    }
+
+    /**
+     * @return sum of worker idle time in milliseconds - including the current idle
+     *         period
+     */
+    synchronized long getWorkerIdleTimeInMilliseconds() {
+        addElapsedWorkerIdleTime();
+        return workerIdleTimeInMilliseconds;
+    }
+
+    private void addElapsedWorkerIdleTime() {
+        long now = System.currentTimeMillis();
+        workerIdleTimeInMilliseconds += Math.max(0, now - lastWorkerUsageChange) * lastIdleWorkers;
+        lastWorkerUsageChange = now;
+    }
+}
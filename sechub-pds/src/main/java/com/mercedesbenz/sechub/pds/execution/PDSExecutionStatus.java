@@ -10,6 +10,26 @@ public class PDSExecutionStatus {
 
     public int jobsInQueue;
 
+    public int jobsQueued;
+
+    public int jobsRunning;
+
+    public int jobsDone;
+
+    public int jobsCanceled;
+
+    public int workerThreadCount;
+
+    public long claims;
+
+    public long claimedJobs;
+
+    public long claimTimeAverageInMilliseconds;
+
+    public long claimTimeMaxInMilliseconds;
+
+    public long workerIdleTimeInMilliseconds;
+
     public List<PDSExecutionJobInQueueStatusEntry> entries = new ArrayList<>();
 
 }
@@ -0,0 +1,116 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.pds.execution;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Follows a stream file (e.g. <code>system-out.log</code>) written by a running
+ * process. Every call of {@link #readNewContent()} reads only the bytes added
+ * since the last call - the complete file is never read again. The content is
+ * kept inside a bounded {@link PDSTextTailBuffer}, so heap usage does not grow
+ * with the output of noisy products.
+ */
+class PDSStreamFileTailReader {
+
+    static final String TRUNCATED_MARKER_FORMAT = "[... %d characters truncated ...]\n";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final File file;
+    private final CharsetDecoder decoder;
+    private final PDSTextTailBuffer tail;
+
+    private final ByteBuffer byteBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final CharBuffer charBuffer = CharBuffer.allocate(BUFFER_SIZE);
+
+    private long position;
+
+    PDSStreamFileTailReader(File file, Charset charset, int maximumCharacters) {
+        this.file = file;
+        this.decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.tail = new PDSTextTailBuffer(maximumCharacters);
+    }
+
+    /**
+     * Reads content added to the file since last call.
+     *
+     * @return <code>true</code> when new content was read, otherwise
+     *         <code>false</code>
+     * @throws IOException
+     */
+    synchronized boolean readNewContent() throws IOException {
+        if (!file.exists()) {
+            return false;
+        }
+        long size = file.length();
+        if (size == position) {
+            return false;
+        }
+        if (size < position) {
+            /* file was truncated or replaced - start again */
+            reset();
+        }
+        long totalBefore = tail.getTotalAppended();
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            channel.position(position);
+            int read;
+            while ((read = channel.read(byteBuffer)) > 0) {
+                position += read;
+                decodeAvailableBytes();
+            }
+        }
+        return tail.getTotalAppended() > totalBefore;
+    }
+
+    /**
+     * @return the content read so far. When more characters were read than the
+     *         maximum, only the last characters are returned - starting with a
+     *         marker containing the amount of truncated characters.
+     */
+    synchronized String getContent() {
+        long discarded = tail.getDiscarded();
+        if (discarded == 0) {
+            return tail.toString();
+        }
+        return String.format(TRUNCATED_MARKER_FORMAT, discarded) + tail.toString();
+    }
+
+    synchronized long getPosition() {
+        return position;
+    }
+
+    private void decodeAvailableBytes() {
+        byteBuffer.flip();
+        CoderResult coderResult;
+        do {
+            /*
+             * end of input is never signaled: the process can still write, and an
+             * incomplete multi byte character stays inside the byte buffer until the
+             * next read
+             */
+            coderResult = decoder.decode(byteBuffer, charBuffer, false);
+            charBuffer.flip();
+            tail.append(charBuffer);
+            charBuffer.clear();
+        } while (coderResult.isOverflow());
+
+        byteBuffer.compact();
+    }
+
+    private void reset() {
+        position = 0;
+        byteBuffer.clear();
+        charBuffer.clear();
+        decoder.reset();
+    }
+}
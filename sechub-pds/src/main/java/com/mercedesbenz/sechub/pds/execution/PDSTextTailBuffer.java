@@ -0,0 +1,91 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.pds.execution;
+
+import java.nio.CharBuffer;
+
+/**
+ * A bounded ring buffer for text. Only the last characters (up to the
+ * capacity) are kept, older characters are overwritten. Used to provide the
+ * "last N characters" of process output streams without holding the complete
+ * output in memory.
+ */
+class PDSTextTailBuffer {
+
+    private final char[] buffer;
+    private int start;
+    private int length;
+    private long totalAppended;
+
+    PDSTextTailBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be greater than 0 but was: " + capacity);
+        }
+        this.buffer = new char[capacity];
+    }
+
+    /**
+     * Appends all remaining characters of given char buffer. The position of the
+     * char buffer will be at its limit afterwards.
+     *
+     * @param chars characters to append
+     */
+    void append(CharBuffer chars) {
+        int remaining = chars.remaining();
+        totalAppended += remaining;
+
+        if (remaining >= buffer.length) {
+            /* only the last characters are relevant */
+            chars.position(chars.limit() - buffer.length);
+            chars.get(buffer, 0, buffer.length);
+            start = 0;
+            length = buffer.length;
+            return;
+        }
+        while (chars.hasRemaining()) {
+            int end = (start + length) % buffer.length;
+            int amount = Math.min(chars.remaining(), buffer.length - end);
+            chars.get(buffer, end, amount);
+
+            int overflow = length + amount - buffer.length;
+            if (overflow > 0) {
+                start = (start + overflow) % buffer.length;
+                length = buffer.length;
+            } else {
+                length += amount;
+            }
+        }
+    }
+
+    void append(CharSequence text) {
+        append(CharBuffer.wrap(text));
+    }
+
+    /**
+     * @return amount of characters appended since creation - includes the
+     *         characters no longer kept inside the buffer
+     */
+    long getTotalAppended() {
+        return totalAppended;
+    }
+
+    /**
+     * @return amount of characters which were appended but are no longer inside
+     *         the buffer
+     */
+    long getDiscarded() {
+        return totalAppended - length;
+    }
+
+    int getCapacity() {
+        return buffer.length;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(length);
+        int firstPart = Math.min(length, buffer.length - start);
+        sb.append(buffer, start, firstPart);
+        sb.append(buffer, 0, length - firstPart);
+        return sb.toString();
+    }
+}
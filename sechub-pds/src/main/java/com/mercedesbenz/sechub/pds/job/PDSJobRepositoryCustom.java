@@ -1,13 +1,23 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.pds.job;
 
-import java.util.Optional;
+import java.util.List;
 
 import com.mercedesbenz.sechub.commons.pds.data.PDSJobStatusState;
 
 public interface PDSJobRepositoryCustom {
 
-    Optional<PDSJob> findNextJobToExecute();
+    /**
+     * Claims next jobs to execute by this server - oldest first. The returned jobs
+     * are locked until end of current transaction. Jobs locked by other cluster
+     * members are skipped (when supported by the database), so cluster members do
+     * not collide when claiming jobs at same time.
+     *
+     * @param maximum maximum amount of jobs to claim
+     * @return list of claimed jobs in state {@link PDSJobStatusState#READY_TO_START},
+     *         never <code>null</code>
+     */
+    List<PDSJob> claimNextJobsToExecute(int maximum);
 
     long countJobsOfServerInState(String serverId, PDSJobStatusState state);
 }
@@ -4,14 +4,14 @@ package com.mercedesbenz.sechub.pds.job;
 import static com.mercedesbenz.sechub.commons.pds.data.PDSJobStatusState.*;
 import static com.mercedesbenz.sechub.pds.job.PDSJob.*;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import javax.persistence.EntityManager;
-import javax.persistence.LockModeType;
 import javax.persistence.PersistenceContext;
 import javax.persistence.Query;
 
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.mercedesbenz.sechub.commons.pds.data.PDSJobStatusState;
@@ -19,13 +19,14 @@ import com.mercedesbenz.sechub.pds.config.PDSServerConfigurationService;
 
 public class PDSJobRepositoryImpl implements PDSJobRepositoryCustom {
 
-    /* @formatter:off */
-	public static final String JPQL_STRING_SELECT_BY_EXECUTION_STATE =
-			"select j from "+CLASS_NAME+" j"+
-					" where j."+PROPERTY_STATE+" = :"+PROPERTY_STATE +
-					" and j."+PROPERTY_SERVER_ID+" = :"+PROPERTY_SERVER_ID +
-					" order by j."+PROPERTY_CREATED;
-	/* @formatter:on */
+    private static final String PARAM_STATE = "p_state";
+    private static final String PARAM_SERVER_ID = "p_server_id";
+    private static final String PARAM_LIMIT = "p_limit";
+
+    private static final String SQL_FOR_UPDATE_SKIP_LOCKED = " FOR UPDATE SKIP LOCKED";
+    private static final String SQL_FOR_UPDATE = " FOR UPDATE";
+
+    private static final String DATABASE_PRODUCT_POSTGRESQL = "PostgreSQL";
 
     /* @formatter:off */
     public static final String JPQL_STRING_SELECT_COUNT_BY_STATUS_AND_SERVER_ID =
@@ -34,29 +35,57 @@ public class PDSJobRepositoryImpl implements PDSJobRepositoryCustom {
                     " and j."+PROPERTY_STATE+" = :"+PROPERTY_STATE ;
     /* @formatter:on */
 
+    /* @formatter:off */
+    static final String SQL_STRING_SELECT_JOBS_BY_STATE_AND_SERVER_ID_FOR_CLAIM =
+            "SELECT j.* FROM " + TABLE_NAME + " j" +
+            " WHERE j." + COLUMN_STATE + " = :" + PARAM_STATE +
+            " AND j." + COLUMN_SERVER_ID + " = :" + PARAM_SERVER_ID +
+            " ORDER BY j." + COLUMN_CREATED +
+            " LIMIT :" + PARAM_LIMIT;
+    /* @formatter:on */
+
     @PersistenceContext
     private EntityManager em;
 
     @Autowired
     PDSServerConfigurationService serverConfigService;
 
+    private Boolean skipLockedSupported;
+
     @Override
-    public Optional<PDSJob> findNextJobToExecute() {
-        Query query = em.createQuery(JPQL_STRING_SELECT_BY_EXECUTION_STATE);
-        query.setParameter(PROPERTY_SERVER_ID, serverConfigService.getServerId());
-        query.setParameter(PROPERTY_STATE, READY_TO_START);
-        query.setMaxResults(1);
-        // we use OPTIMISTIC_FORCE_INCREMENT write lock - so only one POD will be able
-        // to execute next job... (it's just a fuse, it should not happen)
-        // see https://www.baeldung.com/jpa-pessimistic-locking
-        query.setLockMode(LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+    public List<PDSJob> claimNextJobsToExecute(int maximum) {
+        if (maximum < 1) {
+            return new ArrayList<>(0);
+        }
+        String lockingSql = SQL_STRING_SELECT_JOBS_BY_STATE_AND_SERVER_ID_FOR_CLAIM + (isSkipLockedSupported() ? SQL_FOR_UPDATE_SKIP_LOCKED : SQL_FOR_UPDATE);
 
-        List<?> list = query.getResultList();
-        Object singleResult = null;
-        if (!list.isEmpty()) {
-            singleResult = list.iterator().next();
+        Query query = em.createNativeQuery(lockingSql, PDSJob.class);
+        query.setParameter(PARAM_STATE, READY_TO_START.name());
+        query.setParameter(PARAM_SERVER_ID, serverConfigService.getServerId());
+        query.setParameter(PARAM_LIMIT, maximum);
+
+        List<?> candidates = query.getResultList();
+
+        /*
+         * when database does not support skip locked, we could have waited for a lock
+         * of another transaction - so we check state again
+         */
+        List<PDSJob> result = new ArrayList<>(candidates.size());
+        for (Object candidate : candidates) {
+            PDSJob job = (PDSJob) candidate;
+            if (READY_TO_START.equals(job.getState())) {
+                result.add(job);
+            }
+        }
+        return result;
+    }
+
+    private boolean isSkipLockedSupported() {
+        if (skipLockedSupported == null) {
+            String databaseProductName = em.unwrap(Session.class).doReturningWork(connection -> connection.getMetaData().getDatabaseProductName());
+            skipLockedSupported = DATABASE_PRODUCT_POSTGRESQL.equalsIgnoreCase(databaseProductName);
         }
-        return Optional.ofNullable((PDSJob) singleResult);
+        return skipLockedSupported.booleanValue();
     }
 
     public long countJobsOfServerInState(String serverId, PDSJobStatusState state) {
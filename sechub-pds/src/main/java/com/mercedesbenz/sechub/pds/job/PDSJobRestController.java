@@ -13,9 +13,13 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import com.mercedesbenz.sechub.commons.pds.data.PDSJobStatusState;
 import com.mercedesbenz.sechub.pds.PDSAPIConstants;
+import com.mercedesbenz.sechub.pds.batch.PDSBatchTriggerSignal;
 import com.mercedesbenz.sechub.pds.security.PDSRoleConstants;
 import com.mercedesbenz.sechub.pds.usecase.PDSStep;
 import com.mercedesbenz.sechub.pds.usecase.UseCaseUserCreatesJob;
@@ -41,6 +45,9 @@ public class PDSJobRestController {
     @Autowired
     private PDSJobTransactionService updateJobTransactionService;
 
+    @Autowired
+    private PDSBatchTriggerSignal batchTriggerSignal;
+
     @Autowired
     private PDSCreateJobService createJobService;
 
@@ -50,6 +57,9 @@ public class PDSJobRestController {
     @Autowired
     private PDSGetJobStatusService jobStatusService;
 
+    @Autowired
+    private PDSJobStatusChangeWaitService jobStatusChangeWaitService;
+
     @Autowired
     private PDSGetJobResultService jobResultService;
 
@@ -85,6 +95,7 @@ public class PDSJobRestController {
 	public void markReadyToStart(
 				@PathVariable("jobUUID") UUID jobUUID) {
 		updateJobTransactionService.markReadyToStartInOwnTransaction(jobUUID);
+		batchTriggerSignal.signal(); // transaction is committed - wake up trigger for immediate execution
 	}
 	/* @formatter:on */
 
@@ -110,6 +121,19 @@ public class PDSJobRestController {
 
     }
 
+    /* @formatter:off */
+    @Validated
+    @RequestMapping(path = "{jobUUID}/wait-for-status-change", method = RequestMethod.GET)
+    @UseCaseUserFetchesJobStatus(@PDSStep(name="rest call",description = "User waits for status change of a job (long polling). Returns when job state differs from known state or time out has been reached.",number=3))
+    public DeferredResult<PDSJobStatus> waitForJobStatusChange(
+            @PathVariable("jobUUID") UUID jobUUID,
+            @RequestParam("knownState") PDSJobStatusState knownState,
+            @RequestParam(name = "timeout", required = false, defaultValue = "30000") long timeoutInMilliseconds
+            ) {
+        /* @formatter:on */
+        return jobStatusChangeWaitService.waitForStatusChange(jobUUID, knownState, timeoutInMilliseconds);
+    }
+
     /* @formatter:off */
     @Validated
     @RequestMapping(path = "{jobUUID}/result", method = RequestMethod.GET)
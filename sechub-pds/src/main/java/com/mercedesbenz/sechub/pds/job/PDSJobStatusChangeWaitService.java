@@ -0,0 +1,169 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.pds.job;
+
+import static com.mercedesbenz.sechub.pds.job.PDSJobAssert.*;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.mercedesbenz.sechub.commons.pds.data.PDSJobStatusState;
+import com.mercedesbenz.sechub.pds.PDSMustBeDocumented;
+import com.mercedesbenz.sechub.pds.usecase.PDSStep;
+import com.mercedesbenz.sechub.pds.usecase.UseCaseUserFetchesJobStatus;
+
+/**
+ * Provides long polling for job status changes. A client (normally the SecHub
+ * PDS adapter) can wait until the status of a job differs from the status
+ * known by the client - or a time out has been reached. This avoids many
+ * status requests for long running jobs.<br>
+ * <br>
+ * When job execution of this cluster member has ended, waiting clients are
+ * notified immediately. Status changes done by other cluster members are
+ * recognized by a periodic check - one database query for all jobs being
+ * waited for.
+ */
+@Service
+public class PDSJobStatusChangeWaitService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PDSJobStatusChangeWaitService.class);
+
+    private static final long DEFAULT_MAX_TIMEOUT_MILLIS = 30 * 1000;
+    private static final int DEFAULT_INITIAL_DELAY_MILLIS = 1000;
+    private static final int DEFAULT_CHECK_DELAY_MILLIS = 500;
+
+    private static final String TRIGGER_INITIAL_DELAY_STRING = "${pds.config.trigger.jobstatuschange.initialdelay:" + DEFAULT_INITIAL_DELAY_MILLIS + "}";
+    private static final String TRIGGER_FIXED_DELAY_STRING = "${pds.config.trigger.jobstatuschange.delay:" + DEFAULT_CHECK_DELAY_MILLIS + "}";
+
+    @PDSMustBeDocumented(value = "Maximum time in milliseconds a client can wait for a job status change (long polling). When the time has elapsed, the current job status is returned.", scope = "job")
+    @Value("${pds.config.job.statuschange.wait.timeout.max.milliseconds:" + DEFAULT_MAX_TIMEOUT_MILLIS + "}")
+    long maxTimeoutInMilliseconds = DEFAULT_MAX_TIMEOUT_MILLIS;
+
+    @PDSMustBeDocumented(value = "Delay in milliseconds between checks for status changes of jobs being waited for (long polling). Necessary to recognize changes done by other cluster members.", scope = "job")
+    @Value(TRIGGER_FIXED_DELAY_STRING)
+    private String infoFixedDelay; // here only for documentation - used in scheduler annotation as well!
+
+    @Autowired
+    PDSJobRepository repository;
+
+    private final Map<UUID, Set<StatusChangeWaiter>> waitersByJob = new ConcurrentHashMap<>();
+
+    /**
+     * Waits for a status change of given job.
+     *
+     * @param jobUUID               job uuid
+     * @param knownState            the job state known by the client
+     * @param timeoutInMilliseconds time to wait - will be limited by
+     *                              <code>pds.config.job.statuschange.wait.timeout.max.milliseconds</code>
+     * @return deferred result containing job status. The result is set when
+     *         the job state differs from given known state or the time out has
+     *         been reached
+     */
+    @UseCaseUserFetchesJobStatus(@PDSStep(name = "service call", description = "waits until job status has changed or time out reached and returns job status", number = 4))
+    public DeferredResult<PDSJobStatus> waitForStatusChange(UUID jobUUID, PDSJobStatusState knownState, long timeoutInMilliseconds) {
+        long timeout = Math.max(1, Math.min(timeoutInMilliseconds, maxTimeoutInMilliseconds));
+        DeferredResult<PDSJobStatus> result = new DeferredResult<>(timeout);
+
+        PDSJob job = assertJobFound(jobUUID, repository);
+        if (knownState == null || !knownState.equals(job.getState())) {
+            result.setResult(new PDSJobStatus(job));
+            return result;
+        }
+        StatusChangeWaiter waiter = new StatusChangeWaiter(knownState, result);
+        waitersByJob.computeIfAbsent(jobUUID, uuid -> ConcurrentHashMap.newKeySet()).add(waiter);
+
+        result.onTimeout(() -> setCurrentStatus(jobUUID, result));
+        result.onCompletion(() -> removeWaiter(jobUUID, waiter));
+
+        /* state could have been changed between first check and registration */
+        notifyStatusChanged(jobUUID);
+
+        return result;
+    }
+
+    /**
+     * Notifies waiting clients for given job when job status has changed. Must be
+     * called after the change has been committed to database.
+     *
+     * @param jobUUID job uuid
+     */
+    public void notifyStatusChanged(UUID jobUUID) {
+        if (jobUUID == null || !waitersByJob.containsKey(jobUUID)) {
+            return;
+        }
+        Optional<PDSJob> job = repository.findById(jobUUID);
+        if (job.isPresent()) {
+            completeWaitersWhenStatusChanged(job.get());
+        }
+    }
+
+    /**
+     * Inspects all jobs being waited for - necessary for status changes done by
+     * other cluster members.
+     */
+    @Scheduled(initialDelayString = TRIGGER_INITIAL_DELAY_STRING, fixedDelayString = TRIGGER_FIXED_DELAY_STRING)
+    public void checkStatusOfJobsBeingWaitedFor() {
+        if (waitersByJob.isEmpty()) {
+            return;
+        }
+        LOG.trace("Check status of {} jobs being waited for", waitersByJob.size());
+
+        for (PDSJob job : repository.findAllById(waitersByJob.keySet())) {
+            completeWaitersWhenStatusChanged(job);
+        }
+    }
+
+    int getAmountOfJobsBeingWaitedFor() {
+        return waitersByJob.size();
+    }
+
+    private void completeWaitersWhenStatusChanged(PDSJob job) {
+        Set<StatusChangeWaiter> waiters = waitersByJob.get(job.getUUID());
+        if (waiters == null) {
+            return;
+        }
+        PDSJobStatusState state = job.getState();
+        for (StatusChangeWaiter waiter : waiters) {
+            if (waiter.knownState.equals(state)) {
+                continue;
+            }
+            waiter.result.setResult(new PDSJobStatus(job));
+        }
+    }
+
+    private void setCurrentStatus(UUID jobUUID, DeferredResult<PDSJobStatus> result) {
+        Optional<PDSJob> job = repository.findById(jobUUID);
+        if (job.isPresent()) {
+            result.setResult(new PDSJobStatus(job.get()));
+        } else {
+            result.setErrorResult(new IllegalStateException("PDS job " + jobUUID + " does no longer exist"));
+        }
+    }
+
+    private void removeWaiter(UUID jobUUID, StatusChangeWaiter waiter) {
+        waitersByJob.computeIfPresent(jobUUID, (uuid, waiters) -> {
+            waiters.remove(waiter);
+            return waiters.isEmpty() ? null : waiters;
+        });
+    }
+
+    private static class StatusChangeWaiter {
+        private final PDSJobStatusState knownState;
+        private final DeferredResult<PDSJobStatus> result;
+
+        private StatusChangeWaiter(PDSJobStatusState knownState, DeferredResult<PDSJobStatus> result) {
+            this.knownState = knownState;
+            this.result = result;
+        }
+    }
+}
@@ -5,7 +5,8 @@ import static com.mercedesbenz.sechub.pds.job.PDSJobAssert.*;
 import static com.mercedesbenz.sechub.pds.util.PDSAssert.*;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -128,19 +129,22 @@ public class PDSJobTransactionService {
     }
 
     /**
-     * Resolves next job to execute. If found the job will be marked as queued
+     * Resolves next jobs to execute. All found jobs will be marked as queued
+     * inside one transaction.
      *
-     * @return uuid or <code>null</code> if no job found to put in queue.
+     * @param maximum maximum amount of jobs to resolve
+     * @return list of job uuids, never <code>null</code>. Empty if no job found to
+     *         put in queue.
      */
-    public UUID findNextJobToExecuteAndMarkAsQueued() {
+    public List<UUID> findNextJobsToExecuteAndMarkAsQueued(int maximum) {
+        List<PDSJob> nextJobs = repository.claimNextJobsToExecute(maximum);
 
-        Optional<PDSJob> nextJob = repository.findNextJobToExecute();
-        if (!nextJob.isPresent()) {
-            return null;
+        List<UUID> result = new ArrayList<>(nextJobs.size());
+        for (PDSJob pdsJob : nextJobs) {
+            pdsJob.setState(PDSJobStatusState.QUEUED);
+            result.add(pdsJob.getUUID());
         }
-        PDSJob pdsJob = nextJob.get();
-        pdsJob.setState(PDSJobStatusState.QUEUED);
-        return pdsJob.getUUID();
+        return result;
     }
 
     public void updateJobExecutionDataInOwnTransaction(UUID jobUUID, PDSExecutionData data) {
@@ -8,6 +8,7 @@ class PDSWorkspacePreparationContext {
     private boolean sourceAccepted;
     private boolean extractedSourceAvailable;
     private boolean extractedBinaryAvailable;
+    private boolean binaryExtractedFromStorage;
     private int jobStorageReadResilienceRetriesMax;
     private int jobStorageReadResilienceRetryWaitSeconds;
 
@@ -51,6 +52,18 @@ class PDSWorkspacePreparationContext {
         return extractedSourceAvailable;
     }
 
+    public void setBinaryExtractedFromStorage(boolean binaryExtractedFromStorage) {
+        this.binaryExtractedFromStorage = binaryExtractedFromStorage;
+    }
+
+    /**
+     * @return <code>true</code> when binaries were extracted directly from storage
+     *         stream - means there is no tar file inside upload folder
+     */
+    public boolean isBinaryExtractedFromStorage() {
+        return binaryExtractedFromStorage;
+    }
+
     public void setJobStorageReadResilienceRetriesMax(int jobStorageReadResilienceRetriesMax) {
         this.jobStorageReadResilienceRetriesMax = jobStorageReadResilienceRetriesMax;
     }
@@ -70,7 +83,8 @@ class PDSWorkspacePreparationContext {
     @Override
     public String toString() {
         return "PDSWorkspacePreparationContext [noneAccepted=" + noneAccepted + ", binaryAccepted=" + binaryAccepted + ", sourceAccepted=" + sourceAccepted
-                + ", extractedSourceAvailable=" + extractedSourceAvailable + ", extractedBinaryAvailable=" + extractedBinaryAvailable + "]";
+                + ", extractedSourceAvailable=" + extractedSourceAvailable + ", extractedBinaryAvailable=" + extractedBinaryAvailable
+                + ", binaryExtractedFromStorage=" + binaryExtractedFromStorage + "]";
     }
 
 }
\ No newline at end of file
@@ -2,10 +2,10 @@
 package com.mercedesbenz.sechub.pds.job;
 
 import static com.mercedesbenz.sechub.commons.core.CommonConstants.*;
+import static java.nio.charset.StandardCharsets.*;
 
 import java.io.File;
 import java.io.FileFilter;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -19,6 +19,7 @@ import java.util.UUID;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.file.PathUtils;
+import org.apache.commons.io.input.CloseShieldInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,6 +32,8 @@ import com.mercedesbenz.sechub.commons.archive.ArchiveExtractionResult;
 import com.mercedesbenz.sechub.commons.archive.ArchiveSupport;
 import com.mercedesbenz.sechub.commons.archive.ArchiveSupport.ArchiveType;
 import com.mercedesbenz.sechub.commons.archive.SecHubFileStructureDataProvider;
+import com.mercedesbenz.sechub.commons.core.security.CheckSumSupport;
+import com.mercedesbenz.sechub.commons.core.security.DigestCalculatingInputStream;
 import com.mercedesbenz.sechub.commons.model.JSONConverter;
 import com.mercedesbenz.sechub.commons.model.JSONConverterException;
 import com.mercedesbenz.sechub.commons.model.ScanType;
@@ -97,6 +100,16 @@ public class PDSWorkspaceService {
     @Autowired
     PDSWorkspacePreparationResultCalculator preparationResultCalculator;
 
+    @Autowired
+    CheckSumSupport checksumSupport;
+
+    @Autowired
+    PDSWorkspaceUploadCache uploadCache;
+
+    @PDSMustBeDocumented(value = "When enabled, uploaded binaries (tar) are extracted directly from the storage stream into the workspace. The tar file is not copied into the workspace before, the checksum is calculated while extracting. When disabled, the tar file is copied first and extracted afterwards.", scope = "execution")
+    @Value("${pds.workspace.binaries.direct.extraction.enabled:false}")
+    boolean binariesDirectExtractionEnabled;
+
     @PDSMustBeDocumented(value = "Defines if workspace is automatically cleaned when no longer necessary - means launcher script has been executed and finished (failed or done)", scope = "execution")
     @Value("${pds.workspace.autoclean.disabled:false}")
     private boolean workspaceAutoCleanDisabled;
@@ -121,7 +134,8 @@ public class PDSWorkspaceService {
      * Prepares workspace:
      * <ol>
      * <li>Creates preparation context depending on job configuration</li>
-     * <li>Fetch data from storage and copy to local workspace for wanted parts</li>
+     * <li>Fetch data from storage and copy to local workspace for wanted parts
+     * (binaries are extracted directly from storage when configured)</li>
      * <li>Extract data</li>
      * <li>Calculate preparation and return preparation result</li>
      * </ol>
@@ -178,7 +192,27 @@ public class PDSWorkspaceService {
         for (String name : names) {
 
             if (isWantedStorageContent(name, configurationSupport, preparationContext)) {
-                resilientStorageReadExecutor.execute(() -> readAndCopyStorageToFileSystem(jobUUID, jobFolder, storage, name),
+                String checksum = null;
+                if (uploadCache.isEnabled()) {
+                    checksum = resilientStorageReadExecutor.execute(() -> readChecksumOrNull(storage, name + DOT_CHECKSUM),
+                            "Read checksum of storage: " + name + " for job: " + jobUUID.toString());
+
+                    if (uploadCache.provide(checksum, name, new File(jobFolder, name))) {
+                        LOG.debug("Imported '{}' for job {} from upload cache", name, jobUUID);
+                        continue;
+                    }
+                }
+                if (binariesDirectExtractionEnabled && FILENAME_BINARIES_TAR.equals(name)) {
+                    boolean extractedBinaryAvailable = resilientStorageReadExecutor.execute(
+                            () -> readAndExtractTarStorageToFileSystem(jobUUID, config, jobFolder, storage, name),
+                            "Read and extract storage: " + name + " for job: " + jobUUID.toString());
+
+                    preparationContext.setBinaryExtractedFromStorage(true);
+                    preparationContext.setExtractedBinaryAvailable(extractedBinaryAvailable);
+                    continue;
+                }
+                String expectedChecksum = checksum;
+                resilientStorageReadExecutor.execute(() -> readAndCopyStorageToFileSystem(jobUUID, jobFolder, storage, name, expectedChecksum),
                         "Read and copy storage: " + name + " for job: " + jobUUID.toString());
 
             } else {
@@ -197,11 +231,19 @@ public class PDSWorkspaceService {
         return resilientExecutor;
     }
 
-    private void readAndCopyStorageToFileSystem(UUID jobUUID, File jobFolder, JobStorage storage, String name) throws IOException {
+    /*
+     * When an expected checksum is given, the checksum is calculated while copying
+     * and the file is added to the upload cache when the checksum is correct.
+     */
+    private void readAndCopyStorageToFileSystem(UUID jobUUID, File jobFolder, JobStorage storage, String name, String expectedChecksum) throws IOException {
 
         File uploadFile = new File(jobFolder, name);
 
-        try (InputStream fetchedInputStream = storage.fetch(name)) {
+        InputStream storageInputStream = storage.fetch(name);
+        DigestCalculatingInputStream checksumInputStream = expectedChecksum == null ? null
+                : checksumSupport.createSha256CalculatingInputStream(storageInputStream);
+
+        try (InputStream fetchedInputStream = checksumInputStream == null ? storageInputStream : checksumInputStream) {
 
             try {
 
@@ -209,6 +251,10 @@ public class PDSWorkspaceService {
 
                 LOG.debug("Imported '{}' for job {} from storage to {}", name, jobUUID, uploadFile.getAbsolutePath());
 
+                if (checksumInputStream != null) {
+                    addToUploadCacheWhenChecksumCorrect(jobUUID, name, uploadFile, expectedChecksum, checksumInputStream.getDigestResult());
+                }
+
             } catch (IOException e) {
 
                 LOG.error("Was not able to copy stream of uploaded file: {} for job {}, reason: ", name, jobUUID, e.getMessage());
@@ -223,6 +269,82 @@ public class PDSWorkspaceService {
 
     }
 
+    private void addToUploadCacheWhenChecksumCorrect(UUID jobUUID, String name, File uploadFile, String expectedChecksum, byte[] sha256Digest) {
+        if (!checksumSupport.hasCorrectSha256Checksum(expectedChecksum, sha256Digest)) {
+            LOG.warn("Checksum of '{}' for job {} is not correct - will not be added to upload cache", name, jobUUID);
+            return;
+        }
+        uploadCache.add(expectedChecksum, name, uploadFile);
+    }
+
+    /*
+     * Extracts the tar archive directly from the storage stream - the tar file is
+     * never written into the workspace. Zip files are not handled here: their
+     * extraction needs random access (central directory) to skip not wanted
+     * entries, so they are always copied to the workspace before.
+     */
+    private boolean readAndExtractTarStorageToFileSystem(UUID jobUUID, PDSJobConfiguration config, File jobFolder, JobStorage storage, String name)
+            throws IOException {
+
+        File extractionTargetFolder = new File(jobFolder, EXTRACTED_BINARIES);
+        if (extractionTargetFolder.exists()) {
+            /* former attempt failed - start again from scratch */
+            FileUtils.deleteDirectory(extractionTargetFolder);
+        }
+        if (!extractionTargetFolder.mkdirs()) {
+            throw new IOException("Was not able to create " + extractionTargetFolder.getAbsolutePath());
+        }
+        String expectedChecksum = readChecksumOrNull(storage, name + DOT_CHECKSUM);
+
+        PDSProductSetup productSetup = resolveProductSetup(config);
+        SecHubFileStructureDataProvider provider = resolveFileStructureDataProviderOrNull(jobUUID, config, productSetup.getScanType());
+
+        ArchiveExtractionResult extractionResult;
+
+        try (DigestCalculatingInputStream checksumInputStream = checksumSupport.createSha256CalculatingInputStream(storage.fetch(name))) {
+            /* archive stream is closed after extraction, but remaining bytes must still be read for the checksum */
+            extractionResult = archiveSupportProvider.getArchiveSupport().extract(ArchiveType.TAR, CloseShieldInputStream.wrap(checksumInputStream), name,
+                    extractionTargetFolder, provider);
+            checksumInputStream.readRemaining();
+
+            if (expectedChecksum == null) {
+                LOG.warn("No checksum found for '{}' of job {} - cannot verify extracted data", name, jobUUID);
+
+            } else if (!checksumSupport.hasCorrectSha256Checksum(expectedChecksum, checksumInputStream.getDigestResult())) {
+                FileUtils.deleteDirectory(extractionTargetFolder);
+                throw new IOException(
+                        "Checksum of '" + name + "' for job " + jobUUID + " is not correct - read " + checksumInputStream.getByteCount() + " bytes");
+            }
+        } catch (IOException e) {
+            LOG.error("Was not able to extract stream of uploaded file: {} for job {}, reason: {}", name, jobUUID, e.getMessage());
+            throw e;
+        }
+
+        LOG.info("Extracted {} files ({} bytes) from storage to {}, skipped {} files ({} bytes) by filtering", extractionResult.getExtractedFilesCount(),
+                extractionResult.getWrittenBytes(), extractionResult.getTargetLocation(), extractionResult.getSkippedFilesCount(),
+                extractionResult.getSkippedBytes());
+
+        File[] extractedFiles = extractionTargetFolder.listFiles();
+        if (extractedFiles == null || extractedFiles.length == 0) {
+            LOG.info("No files found to extract into {} for {} - after filters have been applied.", EXTRACTED_BINARIES, jobUUID);
+            return false;
+        }
+        return true;
+    }
+
+    /*
+     * Checksums are normalized to lower case - same as calculated by
+     * CheckSumSupport - so all callers can compare them directly.
+     */
+    private String readChecksumOrNull(JobStorage storage, String checksumName) throws IOException {
+        if (!storage.isExisting(checksumName)) {
+            return null;
+        }
+        try (InputStream inputStream = storage.fetch(checksumName)) {
+            return new String(inputStream.readAllBytes(), UTF_8).trim().toLowerCase();
+        }
+    }
+
     void extractZipFileUploadsWhenConfigured(UUID jobUUID, PDSJobConfiguration config, PDSWorkspacePreparationContext preparationContext) throws IOException {
         if (!preparationContext.isSourceAccepted()) {
             return;
@@ -238,6 +360,10 @@ public class PDSWorkspaceService {
         if (!preparationContext.isBinaryAccepted()) {
             return;
         }
+        if (preparationContext.isBinaryExtractedFromStorage()) {
+            LOG.debug("Binaries for job {} were already extracted from storage", jobUUID);
+            return;
+        }
         PDSProductSetup productSetup = resolveProductSetup(config);
 
         ScanType scanType = productSetup.getScanType();
@@ -396,17 +522,15 @@ public class PDSWorkspaceService {
         ArchiveSupport archiveSupport = archiveSupportProvider.getArchiveSupport();
 
         for (File archiveFile : archiveFiles) {
-            try (FileInputStream archiveFileInputStream = new FileInputStream(archiveFile)) {
-
-                ArchiveExtractionResult extractionResult = archiveSupport.extract(archiveType, archiveFileInputStream, archiveFile.getAbsolutePath(),
-                        extractionTargetFolder, configuration);
+            ArchiveExtractionResult extractionResult = archiveSupport.extract(archiveType, archiveFile, extractionTargetFolder, configuration);
 
-                LOG.info("Extracted {} files to {}", extractionResult.getExtractedFilesCount(), extractionResult.getTargetLocation());
+            LOG.info("Extracted {} files ({} bytes) to {}, skipped {} files ({} bytes) by filtering", extractionResult.getExtractedFilesCount(),
+                    extractionResult.getWrittenBytes(), extractionResult.getTargetLocation(), extractionResult.getSkippedFilesCount(),
+                    extractionResult.getSkippedBytes());
 
-                if (deleteOriginFiles) {
-                    LOG.debug("Forcing delete of origin file: {} ", archiveFile.getAbsolutePath());
-                    FileUtils.forceDelete(archiveFile);
-                }
+            if (deleteOriginFiles) {
+                LOG.debug("Forcing delete of origin file: {} ", archiveFile.getAbsolutePath());
+                FileUtils.forceDelete(archiveFile);
             }
         }
         File[] extractedFiles = extractionTargetFolder.listFiles();
@@ -0,0 +1,267 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.pds.job;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import javax.annotation.PostConstruct;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.mercedesbenz.sechub.commons.core.cache.SizeBoundedLRUMap;
+import com.mercedesbenz.sechub.pds.PDSMustBeDocumented;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Node local, size bounded cache for uploaded archives (sourcecode.zip,
+ * binaries.tar). When one SecHub job is executed by multiple PDS products on
+ * the same PDS node, the archive is downloaded from storage only once.<br>
+ * <br>
+ * Entries are addressed by the SHA-256 checksum of the archive - the checksum
+ * is stored next to the upload. An archive is only added after its checksum has
+ * been verified. Cached archives are read only and given to the job workspace
+ * as hard links (or as a copy when hard links are not possible). Least recently
+ * used archives are removed first when the maximum size has been reached.<br>
+ * <br>
+ * The cache directory must not be shared between PDS instances.
+ */
+@Component
+public class PDSWorkspaceUploadCache implements MeterBinder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PDSWorkspaceUploadCache.class);
+
+    private static final long DEFAULT_MAX_BYTES = 5L * 1024 * 1024 * 1024;
+
+    private static final String CACHE_FILE_ENDING = ".cached-upload";
+    private static final String TEMP_FILE_ENDING = ".tmp";
+
+    private static final Pattern SHA256_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    @PDSMustBeDocumented(value = "Directory for the node local upload cache. Uploaded archives are cached by their checksum, so PDS jobs for the same SecHub job on this node need no further download from storage. When not defined, the cache is disabled.", scope = "execution")
+    @Value("${pds.workspace.upload.cache.directory:}")
+    String directory;
+
+    @PDSMustBeDocumented(value = "Maximum size in bytes of archives held inside the node local upload cache. Least recently used archives are removed first.", scope = "execution")
+    @Value("${pds.workspace.upload.cache.maxbytes:" + DEFAULT_MAX_BYTES + "}")
+    long maxBytes = DEFAULT_MAX_BYTES;
+
+    /* key is the cache file name without ending ("$checksum-$name"), value the archive size */
+    private final SizeBoundedLRUMap<String, Long> archiveSizes = new SizeBoundedLRUMap<>(Long::longValue);
+
+    private Path cachePath;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    @PostConstruct
+    void postConstruct() throws IOException {
+        if (directory == null || directory.isBlank()) {
+            return;
+        }
+        Path path = Paths.get(directory);
+        Files.createDirectories(path);
+
+        /*
+         * Archives left by a former PDS run are not part of the size accounting and
+         * would never be evicted - so they are removed, same as interrupted additions.
+         */
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
+            for (Path file : stream) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(CACHE_FILE_ENDING) || fileName.endsWith(TEMP_FILE_ENDING)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        cachePath = path;
+        LOG.info("Upload cache uses directory: {}", path.toAbsolutePath());
+    }
+
+    /**
+     * @return <code>true</code> when cache is enabled
+     */
+    public boolean isEnabled() {
+        return cachePath != null;
+    }
+
+    /**
+     * Provides cached archive at given target location.
+     *
+     * @param checksum SHA-256 checksum of the archive
+     * @param name     name of the archive inside storage (e.g. sourcecode.zip)
+     * @param target   target file inside job workspace, may not exist
+     * @return <code>true</code> when archive was cached and is available at target
+     *         location, otherwise <code>false</code>
+     */
+    public boolean provide(String checksum, String name, File target) {
+        String key = createKeyOrNull(checksum, name);
+        if (key == null) {
+            return false;
+        }
+        Long size;
+        synchronized (this) {
+            size = archiveSizes.get(key);
+        }
+        if (size == null) {
+            misses.incrementAndGet();
+            return false;
+        }
+        Path cacheFile = resolveCacheFile(key);
+        try {
+            Files.createDirectories(target.toPath().getParent());
+            linkOrCopy(cacheFile, target.toPath());
+        } catch (IOException e) {
+            /* e.g. evicted meanwhile by another job */
+            LOG.warn("Was not able to provide cached upload {} at {}", cacheFile, target, e);
+            misses.incrementAndGet();
+            return false;
+        }
+        hits.incrementAndGet();
+        bytesSaved.addAndGet(size);
+
+        LOG.debug("Provided cached upload '{}' from {} at {}", name, cacheFile, target);
+        return true;
+    }
+
+    /**
+     * Adds given archive to cache. The caller must ensure the file has the given
+     * checksum. The file itself is not changed but shares content with the cache
+     * when possible - so it may not be changed afterwards.
+     *
+     * @param checksum SHA-256 checksum of the archive
+     * @param name     name of the archive inside storage (e.g. sourcecode.zip)
+     * @param file     archive file
+     */
+    public void add(String checksum, String name, File file) {
+        String key = createKeyOrNull(checksum, name);
+        if (key == null) {
+            return;
+        }
+        long size = file.length();
+        if (size > maxBytes) {
+            LOG.debug("Upload '{}' with {} bytes is too big for upload cache", name, size);
+            return;
+        }
+        synchronized (this) {
+            if (archiveSizes.containsKey(key)) {
+                return;
+            }
+        }
+        /* linked or copied outside the lock - the final move is atomic */
+        Path tempFile = cachePath.resolve(key + "-" + UUID.randomUUID() + TEMP_FILE_ENDING);
+        try {
+            linkOrCopy(file.toPath(), tempFile);
+            tempFile.toFile().setReadOnly();
+        } catch (IOException e) {
+            LOG.warn("Was not able to add upload '{}' to upload cache", name, e);
+            FileUtils.deleteQuietly(tempFile.toFile());
+            return;
+        }
+        List<Path> filesToDelete = new ArrayList<>();
+        synchronized (this) {
+            if (archiveSizes.containsKey(key)) {
+                /* meanwhile added by another job */
+                filesToDelete.add(tempFile);
+            } else {
+                try {
+                    Files.move(tempFile, resolveCacheFile(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+                    /* workspaces using an evicted archive have own hard links - so deletion is safe */
+                    for (Map.Entry<String, Long> evicted : archiveSizes.put(key, size, maxBytes)) {
+                        filesToDelete.add(resolveCacheFile(evicted.getKey()));
+                    }
+                } catch (IOException e) {
+                    LOG.warn("Was not able to add upload '{}' to upload cache", name, e);
+                    filesToDelete.add(tempFile);
+                }
+            }
+        }
+        for (Path fileToDelete : filesToDelete) {
+            FileUtils.deleteQuietly(fileToDelete.toFile());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        /* @formatter:off */
+        FunctionCounter.builder("pds.workspace.upload.cache.requests", hits, AtomicLong::get).
+            tag("result", "hit").
+            description("Uploads provided by node local upload cache").
+            register(registry);
+        FunctionCounter.builder("pds.workspace.upload.cache.requests", misses, AtomicLong::get).
+            tag("result", "miss").
+            description("Uploads which had to be downloaded from storage").
+            register(registry);
+        FunctionCounter.builder("pds.workspace.upload.cache.saved", bytesSaved, AtomicLong::get).
+            baseUnit("bytes").
+            description("Bytes not downloaded from storage because of upload cache").
+            register(registry);
+        /* @formatter:on */
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+
+    long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
+    synchronized long getBytes() {
+        return archiveSizes.getSize();
+    }
+
+    private String createKeyOrNull(String checksum, String name) {
+        if (!isEnabled() || checksum == null || name == null) {
+            return null;
+        }
+        String normalizedChecksum = checksum.trim().toLowerCase();
+        if (!SHA256_PATTERN.matcher(normalizedChecksum).matches()) {
+            /* checksum is used inside file name - so only valid ones are accepted */
+            LOG.warn("Upload '{}' has no valid sha256 checksum - will not be cached", name);
+            return null;
+        }
+        if (name.contains("/") || name.contains("\\")) {
+            return null;
+        }
+        return normalizedChecksum + "-" + name;
+    }
+
+    private Path resolveCacheFile(String key) {
+        return cachePath.resolve(key + CACHE_FILE_ENDING);
+    }
+
+    private void linkOrCopy(Path source, Path target) throws IOException {
+        try {
+            Files.createLink(target, source);
+        } catch (IOException | UnsupportedOperationException e) {
+            /* e.g. different file systems */
+            LOG.debug("Was not able to create hard link for {} - will copy instead", source);
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+}
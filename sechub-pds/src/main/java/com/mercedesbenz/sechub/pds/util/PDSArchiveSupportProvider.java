@@ -1,14 +1,36 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.pds.util;
 
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.mercedesbenz.sechub.commons.archive.ArchiveSupport;
+import com.mercedesbenz.sechub.pds.PDSMustBeDocumented;
 
 @Component
 public class PDSArchiveSupportProvider {
+
+    private static final int DEFAULT_EXTRACTION_THREADS = 4;
+    private static final int DEFAULT_CREATION_THREADS = 1;
+
+    @PDSMustBeDocumented(value = "Amount of threads used to write extracted files of uploaded archives into the job workspace. 1 means sequential extraction.", scope = "execution")
+    @Value("${pds.config.archive.extraction.threads:" + DEFAULT_EXTRACTION_THREADS + "}")
+    int extractionThreads = DEFAULT_EXTRACTION_THREADS;
+
+    @PDSMustBeDocumented(value = "Amount of threads used to create ZIP archives. Already compressed files are stored without compression when more than one thread is used. 1 means sequential creation.", scope = "execution")
+    @Value("${pds.config.archive.creation.threads:" + DEFAULT_CREATION_THREADS + "}")
+    int creationThreads = DEFAULT_CREATION_THREADS;
+
     ArchiveSupport zipSupport = new ArchiveSupport();
 
+    @PostConstruct
+    void postConstruct() {
+        zipSupport.setParallelExtractionThreads(extractionThreads);
+        zipSupport.setParallelCreationThreads(creationThreads);
+    }
+
     public ArchiveSupport getArchiveSupport() {
         return zipSupport;
     }
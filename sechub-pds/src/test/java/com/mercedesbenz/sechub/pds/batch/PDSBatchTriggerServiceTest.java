@@ -4,11 +4,13 @@ package com.mercedesbenz.sechub.pds.batch;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-import java.util.Optional;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.UUID;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import com.mercedesbenz.sechub.pds.execution.PDSExecutionService;
 import com.mercedesbenz.sechub.pds.job.PDSJob;
@@ -22,18 +24,17 @@ public class PDSBatchTriggerServiceTest {
     private PDSJobRepository repository;
     private PDSJobTransactionService jobTransactionService;
     private UUID nextJobUUID;
-    private PDSJob job;
 
     @Before
     public void before() throws Exception {
         nextJobUUID = UUID.randomUUID();
-        job = mock(PDSJob.class);
-        when(job.getUUID()).thenReturn(nextJobUUID);
 
         executionService = mock(PDSExecutionService.class);
+        when(executionService.calculateAmountOfJobsToClaim()).thenReturn(1);
+
         repository = mock(PDSJobRepository.class);
         jobTransactionService = mock(PDSJobTransactionService.class);
-        when(jobTransactionService.findNextJobToExecuteAndMarkAsQueued()).thenReturn(nextJobUUID);
+        when(jobTransactionService.findNextJobsToExecuteAndMarkAsQueued(anyInt())).thenReturn(Arrays.asList(nextJobUUID));
 
         serviceToTest = new PDSBatchTriggerService();
 
@@ -44,33 +45,84 @@ public class PDSBatchTriggerServiceTest {
 
     @Test
     public void a_job_found_for_next_execution_executor_service_called() {
+        /* execute */
+        serviceToTest.triggerExecutionOfNextJob();
+
+        /* test */
+        verify(executionService).addToExecutionQueueAsynchron(nextJobUUID);
+    }
+
+    @Test
+    public void a_job_found_for_next_execution_jobtransaction_service_is_called() {
+        /* execute */
+        serviceToTest.triggerExecutionOfNextJob();
+
+        /* test */
+        verify(jobTransactionService).findNextJobsToExecuteAndMarkAsQueued(1);
+    }
+
+    @Test
+    public void idle_workers_available_jobs_for_all_of_them_are_claimed_in_one_call() {
         /* prepare */
-        when(repository.findNextJobToExecute()).thenReturn(Optional.of(job));
+        UUID nextJobUUID2 = UUID.randomUUID();
+        UUID nextJobUUID3 = UUID.randomUUID();
+        when(executionService.calculateAmountOfJobsToClaim()).thenReturn(8);
+        when(jobTransactionService.findNextJobsToExecuteAndMarkAsQueued(8)).thenReturn(Arrays.asList(nextJobUUID, nextJobUUID2, nextJobUUID3));
 
         /* execute */
         serviceToTest.triggerExecutionOfNextJob();
 
         /* test */
+        verify(jobTransactionService, times(1)).findNextJobsToExecuteAndMarkAsQueued(8);
         verify(executionService).addToExecutionQueueAsynchron(nextJobUUID);
+        verify(executionService).addToExecutionQueueAsynchron(nextJobUUID2);
+        verify(executionService).addToExecutionQueueAsynchron(nextJobUUID3);
+        verify(executionService).rememberJobClaim(eq(3), anyLong());
     }
 
     @Test
-    public void a_job_found_for_next_execution_jobtransaction_service_is_called() {
+    public void no_job_to_claim_possible_jobtransaction_service_is_NOT_called() {
+        /* prepare */
+        when(executionService.calculateAmountOfJobsToClaim()).thenReturn(0);
+
+        /* execute */
+        serviceToTest.triggerExecutionOfNextJob();
+
+        /* test */
+        verify(jobTransactionService, never()).findNextJobsToExecuteAndMarkAsQueued(anyInt());
+    }
+
+    @Test
+    public void no_job_found_executor_service_is_NOT_called_but_claim_remembered() {
         /* prepare */
-        when(repository.findNextJobToExecute()).thenReturn(Optional.of(job));
+        when(jobTransactionService.findNextJobsToExecuteAndMarkAsQueued(anyInt())).thenReturn(Collections.emptyList());
 
         /* execute */
         serviceToTest.triggerExecutionOfNextJob();
 
         /* test */
-        verify(jobTransactionService).findNextJobToExecuteAndMarkAsQueued();
+        verify(executionService, never()).addToExecutionQueueAsynchron(any());
+        verify(executionService).rememberJobClaim(eq(0), anyLong());
+    }
+
+    @Test
+    public void optimistic_lock_failure_on_claim_executor_service_is_NOT_called_and_no_retry() {
+        /* prepare */
+        when(jobTransactionService.findNextJobsToExecuteAndMarkAsQueued(anyInt()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(PDSJob.class, nextJobUUID));
+
+        /* execute */
+        serviceToTest.triggerExecutionOfNextJob();
+
+        /* test */
+        verify(jobTransactionService, times(1)).findNextJobsToExecuteAndMarkAsQueued(anyInt());
+        verify(executionService, never()).addToExecutionQueueAsynchron(any());
     }
 
     @Test
     public void a_job_found_for_next_execution_but_scheduling_disabled_executor_service_is_NOT_called() {
         /* prepare */
         serviceToTest.schedulingEnabled = false;
-        when(repository.findNextJobToExecute()).thenReturn(Optional.of(job));
 
         /* execute */
         serviceToTest.triggerExecutionOfNextJob();
@@ -83,13 +135,12 @@ public class PDSBatchTriggerServiceTest {
     public void a_job_found_for_next_execution_but_scheduling_disabled_jobtransaction_service_is_NOT_called() {
         /* prepare */
         serviceToTest.schedulingEnabled = false;
-        when(repository.findNextJobToExecute()).thenReturn(Optional.of(job));
 
         /* execute */
         serviceToTest.triggerExecutionOfNextJob();
 
         /* test */
-        verify(jobTransactionService, never()).findNextJobToExecuteAndMarkAsQueued();
+        verify(jobTransactionService, never()).findNextJobsToExecuteAndMarkAsQueued(anyInt());
     }
 
 }
@@ -0,0 +1,238 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.pds.execution;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mercedesbenz.sechub.pds.execution.PDSExecutionJobRegistry.RegisteredJob;
+import com.mercedesbenz.sechub.test.ManualTest;
+
+/**
+ * A simple concurrency benchmark for the job registry used inside
+ * {@link PDSExecutionService}. Compares the former approach (one
+ * <code>LinkedHashMap</code> guarded by <code>synchronized</code>) with
+ * {@link PDSExecutionJobRegistry}. Threads simulate concurrent
+ * <ul>
+ * <li>status polling (monitoring - iterates all jobs)</li>
+ * <li>queue full checks</li>
+ * <li>enqueueing and removal of done jobs (watcher)</li>
+ * <li>cancellation lookups</li>
+ * </ul>
+ * Usage example:
+ *
+ * <pre>
+ * -Dsechub.manual.test.by.developer=true
+ * </pre>
+ *
+ * Optional: <code>pds.manualtest.registry.threads</code> (default 16),
+ * <code>pds.manualtest.registry.seconds</code> (default 5),
+ * <code>pds.manualtest.registry.jobs</code> (default 50)
+ */
+class PDSExecutionJobRegistryConcurrencyManualTest implements ManualTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PDSExecutionJobRegistryConcurrencyManualTest.class);
+
+    @Test
+    void manualTestByDeveloper() throws Exception {
+        int threads = Integer.getInteger("pds.manualtest.registry.threads", 16);
+        int seconds = Integer.getInteger("pds.manualtest.registry.seconds", 5);
+        int jobs = Integer.getInteger("pds.manualtest.registry.jobs", 50);
+
+        BenchmarkResult synchronizedResult = measure("synchronized", new SynchronizedMapRegistry(), threads, seconds, jobs);
+        BenchmarkResult concurrentResult = measure("concurrent", new ConcurrentRegistry(), threads, seconds, jobs);
+
+        LOG.info("Registry benchmark - threads: {}, seconds: {}, jobs in queue: {}", threads, seconds, jobs);
+        LOG.info(synchronizedResult.toString());
+        LOG.info(concurrentResult.toString());
+    }
+
+    private interface BenchmarkRegistry {
+        void register(UUID jobUUID, Future<PDSExecutionResult> future);
+
+        Future<PDSExecutionResult> getFuture(UUID jobUUID);
+
+        void remove(UUID jobUUID, Future<PDSExecutionResult> future);
+
+        boolean isFull(int max);
+
+        int countDone();
+    }
+
+    private class SynchronizedMapRegistry implements BenchmarkRegistry {
+        private final Map<UUID, Future<PDSExecutionResult>> jobsInQueue = new LinkedHashMap<>();
+
+        public void register(UUID jobUUID, Future<PDSExecutionResult> future) {
+            synchronized (jobsInQueue) {
+                jobsInQueue.put(jobUUID, future);
+            }
+        }
+
+        public Future<PDSExecutionResult> getFuture(UUID jobUUID) {
+            synchronized (jobsInQueue) {
+                Iterator<Entry<UUID, Future<PDSExecutionResult>>> it = jobsInQueue.entrySet().iterator();
+                while (it.hasNext()) {
+                    Entry<UUID, Future<PDSExecutionResult>> entry = it.next();
+                    if (jobUUID.equals(entry.getKey())) {
+                        return entry.getValue();
+                    }
+                }
+                return null;
+            }
+        }
+
+        public void remove(UUID jobUUID, Future<PDSExecutionResult> future) {
+            synchronized (jobsInQueue) {
+                jobsInQueue.remove(jobUUID);
+            }
+        }
+
+        public boolean isFull(int max) {
+            synchronized (jobsInQueue) {
+                return jobsInQueue.size() >= max;
+            }
+        }
+
+        public int countDone() {
+            synchronized (jobsInQueue) {
+                int done = 0;
+                for (Future<PDSExecutionResult> future : jobsInQueue.values()) {
+                    if (future.isDone()) {
+                        done++;
+                    }
+                }
+                return done;
+            }
+        }
+    }
+
+    private class ConcurrentRegistry implements BenchmarkRegistry {
+        private final PDSExecutionJobRegistry registry = new PDSExecutionJobRegistry();
+
+        public void register(UUID jobUUID, Future<PDSExecutionResult> future) {
+            registry.register(jobUUID, future);
+        }
+
+        public Future<PDSExecutionResult> getFuture(UUID jobUUID) {
+            return registry.getFuture(jobUUID);
+        }
+
+        public void remove(UUID jobUUID, Future<PDSExecutionResult> future) {
+            registry.remove(jobUUID, future);
+        }
+
+        public boolean isFull(int max) {
+            return registry.size() >= max;
+        }
+
+        public int countDone() {
+            int done = 0;
+            for (RegisteredJob registered : registry.snapshot()) {
+                if (registered.getFuture().isDone()) {
+                    done++;
+                }
+            }
+            return done;
+        }
+    }
+
+    private BenchmarkResult measure(String name, BenchmarkRegistry registry, int threads, int seconds, int jobs) throws Exception {
+        List<UUID> jobUUIDs = new ArrayList<>();
+        for (int i = 0; i < jobs; i++) {
+            UUID jobUUID = UUID.randomUUID();
+            jobUUIDs.add(jobUUID);
+            registry.register(jobUUID, createFuture());
+        }
+        LongAdder statusCalls = new LongAdder();
+        LongAdder queueChecks = new LongAdder();
+        LongAdder enqueues = new LongAdder();
+        LongAdder cancels = new LongAdder();
+
+        AtomicBoolean stopped = new AtomicBoolean();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int operation = t % 4;
+            futures.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (!stopped.get()) {
+                    switch (operation) {
+                    case 0:
+                        registry.countDone();
+                        statusCalls.increment();
+                        break;
+                    case 1:
+                        registry.isFull(jobs * 2);
+                        queueChecks.increment();
+                        break;
+                    case 2:
+                        UUID jobUUID = UUID.randomUUID();
+                        Future<PDSExecutionResult> future = createFuture();
+                        registry.register(jobUUID, future);
+                        registry.remove(jobUUID, future);
+                        enqueues.increment();
+                        break;
+                    default:
+                        registry.getFuture(jobUUIDs.get(random.nextInt(jobUUIDs.size())));
+                        cancels.increment();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+        stopped.set(true);
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        BenchmarkResult result = new BenchmarkResult();
+        result.name = name;
+        result.seconds = seconds;
+        result.statusCalls = statusCalls.sum();
+        result.queueChecks = queueChecks.sum();
+        result.enqueues = enqueues.sum();
+        result.cancels = cancels.sum();
+        return result;
+    }
+
+    private Future<PDSExecutionResult> createFuture() {
+        return new FutureTask<>(() -> null);
+    }
+
+    private class BenchmarkResult {
+        private String name;
+        private int seconds;
+        private long statusCalls;
+        private long queueChecks;
+        private long enqueues;
+        private long cancels;
+
+        @Override
+        public String toString() {
+            return String.format("%-12s ops/s - status: %12d, queue full checks: %12d, enqueue+remove: %12d, cancel lookups: %12d", name, statusCalls / seconds,
+                    queueChecks / seconds, enqueues / seconds, cancels / seconds);
+        }
+    }
+}
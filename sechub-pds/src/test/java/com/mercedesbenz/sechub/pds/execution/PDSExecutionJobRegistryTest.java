@@ -0,0 +1,274 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.pds.execution;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mercedesbenz.sechub.pds.execution.PDSExecutionJobRegistry.RegisteredJob;
+import com.mercedesbenz.sechub.pds.execution.PDSExecutionJobRegistry.State;
+
+class PDSExecutionJobRegistryTest {
+
+    private PDSExecutionJobRegistry registryToTest;
+
+    @BeforeEach
+    void beforeEach() {
+        registryToTest = new PDSExecutionJobRegistry();
+    }
+
+    @Test
+    void new_registry_is_empty() {
+        assertEquals(0, registryToTest.size());
+        assertTrue(registryToTest.snapshot().isEmpty());
+        assertStateCounts(0, 0, 0, 0);
+    }
+
+    @Test
+    void registered_job_is_queued() {
+        /* execute */
+        registryToTest.register(UUID.randomUUID(), createFuture());
+
+        /* test */
+        assertStateCounts(1, 0, 0, 0);
+        assertEquals(State.QUEUED, registryToTest.snapshot().get(0).getState());
+    }
+
+    @Test
+    void mark_running_and_ended_updates_state_counters() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        Future<PDSExecutionResult> future = createFuture();
+        registryToTest.register(jobUUID, future);
+
+        /* execute + test */
+        assertTrue(registryToTest.markRunning(jobUUID, future));
+        assertStateCounts(0, 1, 0, 0);
+
+        assertTrue(registryToTest.markEnded(jobUUID, future));
+        assertStateCounts(0, 0, 1, 0);
+
+        assertFalse(registryToTest.markEnded(jobUUID, future));
+        assertFalse(registryToTest.markRunning(jobUUID, future));
+        assertStateCounts(0, 0, 1, 0);
+    }
+
+    @Test
+    void mark_ended_for_canceled_future_counts_canceled() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        Future<PDSExecutionResult> future = createFuture();
+        registryToTest.register(jobUUID, future);
+        future.cancel(false);
+
+        /* execute */
+        boolean changed = registryToTest.markEnded(jobUUID, future);
+
+        /* test */
+        assertTrue(changed);
+        assertStateCounts(0, 0, 0, 1);
+    }
+
+    @Test
+    void mark_with_other_future_does_not_change_state() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        registryToTest.register(jobUUID, createFuture());
+
+        /* execute */
+        boolean running = registryToTest.markRunning(jobUUID, createFuture());
+        boolean ended = registryToTest.markEnded(jobUUID, createFuture());
+
+        /* test */
+        assertFalse(running);
+        assertFalse(ended);
+        assertStateCounts(1, 0, 0, 0);
+    }
+
+    @Test
+    void remove_and_replace_decrease_counter_of_former_state() {
+        /* prepare */
+        UUID jobUUID1 = UUID.randomUUID();
+        UUID jobUUID2 = UUID.randomUUID();
+        Future<PDSExecutionResult> future1 = createFuture();
+        Future<PDSExecutionResult> future2 = createFuture();
+        registryToTest.register(jobUUID1, future1);
+        registryToTest.register(jobUUID2, future2);
+        registryToTest.markRunning(jobUUID1, future1);
+        registryToTest.markRunning(jobUUID2, future2);
+        registryToTest.markEnded(jobUUID2, future2);
+
+        /* execute */
+        registryToTest.register(jobUUID1, createFuture());
+        registryToTest.remove(jobUUID2, future2);
+
+        /* test */
+        assertStateCounts(1, 0, 0, 0);
+        assertFalse(registryToTest.markEnded(jobUUID1, future1));
+        assertStateCounts(1, 0, 0, 0);
+    }
+
+    @Test
+    void future_task_created_for_registry_updates_state_when_executed() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        PDSExecutionCallable callable = mock(PDSExecutionCallable.class);
+        PDSExecutionFutureTask task = new PDSExecutionFutureTask(callable, registryToTest, jobUUID);
+        registryToTest.register(jobUUID, task);
+
+        /* execute */
+        task.run();
+
+        /* test */
+        assertStateCounts(0, 0, 1, 0);
+    }
+
+    @Test
+    void registered_job_can_be_found_and_size_is_increased() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        Future<PDSExecutionResult> future = createFuture();
+
+        /* execute */
+        Future<PDSExecutionResult> former = registryToTest.register(jobUUID, future);
+
+        /* test */
+        assertNull(former);
+        assertSame(future, registryToTest.getFuture(jobUUID));
+        assertEquals(1, registryToTest.size());
+    }
+
+    @Test
+    void register_same_job_again_returns_former_future_and_size_is_unchanged() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        Future<PDSExecutionResult> future1 = createFuture();
+        Future<PDSExecutionResult> future2 = createFuture();
+        registryToTest.register(jobUUID, future1);
+
+        /* execute */
+        Future<PDSExecutionResult> former = registryToTest.register(jobUUID, future2);
+
+        /* test */
+        assertSame(future1, former);
+        assertSame(future2, registryToTest.getFuture(jobUUID));
+        assertEquals(1, registryToTest.size());
+    }
+
+    @Test
+    void remove_with_other_future_does_not_remove_job() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        Future<PDSExecutionResult> future1 = createFuture();
+        Future<PDSExecutionResult> future2 = createFuture();
+        registryToTest.register(jobUUID, future1);
+        registryToTest.register(jobUUID, future2);
+
+        /* execute */
+        boolean removed = registryToTest.remove(jobUUID, future1);
+
+        /* test */
+        assertFalse(removed);
+        assertSame(future2, registryToTest.getFuture(jobUUID));
+        assertEquals(1, registryToTest.size());
+    }
+
+    @Test
+    void remove_with_registered_future_removes_job_and_size_is_decreased() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        Future<PDSExecutionResult> future = createFuture();
+        registryToTest.register(jobUUID, future);
+
+        /* execute */
+        boolean removed = registryToTest.remove(jobUUID, future);
+
+        /* test */
+        assertTrue(removed);
+        assertNull(registryToTest.getFuture(jobUUID));
+        assertEquals(0, registryToTest.size());
+        assertFalse(registryToTest.remove(jobUUID, future));
+    }
+
+    @Test
+    void snapshot_is_ordered_by_registration() {
+        /* prepare */
+        List<UUID> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            UUID jobUUID = UUID.randomUUID();
+            expected.add(jobUUID);
+            registryToTest.register(jobUUID, createFuture());
+        }
+
+        /* execute */
+        List<RegisteredJob> snapshot = registryToTest.snapshot();
+
+        /* test */
+        List<UUID> found = new ArrayList<>();
+        for (RegisteredJob registered : snapshot) {
+            found.add(registered.getJobUUID());
+        }
+        assertEquals(expected, found);
+    }
+
+    @Test
+    void concurrent_register_and_remove_keeps_size_consistent() throws Exception {
+        /* prepare */
+        int threads = 8;
+        int jobsPerThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+
+        /* execute */
+        for (int t = 0; t < threads; t++) {
+            int threadNumber = t;
+            results.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < jobsPerThread; i++) {
+                    UUID jobUUID = UUID.randomUUID();
+                    Future<PDSExecutionResult> future = createFuture();
+                    registryToTest.register(jobUUID, future);
+                    if (threadNumber % 2 == 0) {
+                        registryToTest.remove(jobUUID, future);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        /* test - only jobs of odd threads remain */
+        int expected = (threads / 2) * jobsPerThread;
+        assertEquals(expected, registryToTest.size());
+        assertEquals(expected, registryToTest.snapshot().size());
+        assertStateCounts(expected, 0, 0, 0);
+    }
+
+    private void assertStateCounts(int queued, int running, int done, int canceled) {
+        assertEquals(queued, registryToTest.count(State.QUEUED), "queued");
+        assertEquals(running, registryToTest.count(State.RUNNING), "running");
+        assertEquals(done, registryToTest.count(State.DONE), "done");
+        assertEquals(canceled, registryToTest.count(State.CANCELED), "canceled");
+    }
+
+    private Future<PDSExecutionResult> createFuture() {
+        return new FutureTask<>(() -> null);
+    }
+}
@@ -21,9 +21,11 @@ import org.slf4j.LoggerFactory;
 import com.mercedesbenz.sechub.commons.pds.data.PDSJobStatusState;
 import com.mercedesbenz.sechub.commons.pds.execution.ExecutionEventData;
 import com.mercedesbenz.sechub.commons.pds.execution.ExecutionEventType;
+import com.mercedesbenz.sechub.pds.batch.PDSBatchTriggerSignal;
 import com.mercedesbenz.sechub.pds.job.PDSCheckJobStatusService;
 import com.mercedesbenz.sechub.pds.job.PDSJob;
 import com.mercedesbenz.sechub.pds.job.PDSJobRepository;
+import com.mercedesbenz.sechub.pds.job.PDSJobStatusChangeWaitService;
 import com.mercedesbenz.sechub.pds.job.PDSJobTestHelper;
 import com.mercedesbenz.sechub.pds.job.PDSJobTransactionService;
 import com.mercedesbenz.sechub.pds.job.PDSWorkspaceService;
@@ -41,6 +43,10 @@ public class PDSExecutionServiceTest {
 
     private PDSWorkspaceService workspaceService;
 
+    private PDSJobStatusChangeWaitService jobStatusChangeWaitService;
+
+    private PDSBatchTriggerSignal batchTriggerSignal;
+
     private PDSExecutionCallableServiceCollection serviceCollection;
 
     @BeforeEach
@@ -49,6 +55,8 @@ public class PDSExecutionServiceTest {
         executionCallableFactory = mock(PDSExecutionCallableFactory.class);
         jobTransactionService = mock(PDSJobTransactionService.class);
         workspaceService = mock(PDSWorkspaceService.class);
+        jobStatusChangeWaitService = mock(PDSJobStatusChangeWaitService.class);
+        batchTriggerSignal = mock(PDSBatchTriggerSignal.class);
 
         PDSCheckJobStatusService jobStatusService = mock(PDSCheckJobStatusService.class);
 
@@ -65,6 +73,8 @@ public class PDSExecutionServiceTest {
         serviceToTest.executionCallableFactory = executionCallableFactory;
         serviceToTest.jobTransactionService = jobTransactionService;
         serviceToTest.workspaceService = workspaceService;
+        serviceToTest.jobStatusChangeWaitService = jobStatusChangeWaitService;
+        serviceToTest.batchTriggerSignal = batchTriggerSignal;
 
     }
 
@@ -153,7 +163,77 @@ public class PDSExecutionServiceTest {
 
         /* test */
         assertQueueNoLongerAndNotTimedOut(10, 300);
+        verify(batchTriggerSignal, timeout(1000)).signal();
+
+    }
+
+    @Test
+    void amount_of_jobs_to_claim_is_amount_of_idle_workers() throws Exception {
+        /* prepare */
+        serviceToTest.queueMax = 50;
+        serviceToTest.workerThreadCount = 8;
+        serviceToTest.postConstruct(); // simulate spring boot container...
+        UUID uuid1 = UUID.randomUUID();
+        when(executionCallableFactory.createCallable(uuid1)).thenReturn(createTestCallable(uuid1, 500, result1));
+
+        /* execute */
+        int amountBefore = serviceToTest.calculateAmountOfJobsToClaim();
+        serviceToTest.addToExecutionQueueAsynchron(uuid1);
+        int amountAfter = serviceToTest.calculateAmountOfJobsToClaim();
+
+        /* test */
+        assertEquals(8, amountBefore);
+        assertEquals(7, amountAfter);
+    }
+
+    @Test
+    void amount_of_jobs_to_claim_is_one_when_all_workers_busy_but_queue_not_full() throws Exception {
+        /* prepare */
+        serviceToTest.queueMax = 5;
+        serviceToTest.workerThreadCount = 1;
+        serviceToTest.postConstruct(); // simulate spring boot container...
+        UUID uuid1 = UUID.randomUUID();
+        when(executionCallableFactory.createCallable(uuid1)).thenReturn(createTestCallable(uuid1, 500, result1));
+        serviceToTest.addToExecutionQueueAsynchron(uuid1);
+
+        /* execute */
+        int amount = serviceToTest.calculateAmountOfJobsToClaim();
 
+        /* test */
+        assertEquals(1, amount);
+    }
+
+    @Test
+    void amount_of_jobs_to_claim_is_zero_when_queue_is_full() throws Exception {
+        /* prepare */
+        serviceToTest.queueMax = 1;
+        serviceToTest.postConstruct(); // simulate spring boot container...
+        UUID uuid1 = UUID.randomUUID();
+        when(executionCallableFactory.createCallable(uuid1)).thenReturn(createTestCallable(uuid1, 500, result1));
+        serviceToTest.addToExecutionQueueAsynchron(uuid1);
+
+        /* execute */
+        int amount = serviceToTest.calculateAmountOfJobsToClaim();
+
+        /* test */
+        assertEquals(0, amount);
+    }
+
+    @Test
+    void remembered_job_claims_are_available_in_execution_status() throws Exception {
+        /* prepare */
+        serviceToTest.postConstruct(); // simulate spring boot container...
+
+        /* execute */
+        serviceToTest.rememberJobClaim(3, 10);
+        serviceToTest.rememberJobClaim(1, 30);
+
+        /* test */
+        PDSExecutionStatus status = serviceToTest.getExecutionStatus();
+        assertEquals(2, status.claims);
+        assertEquals(4, status.claimedJobs);
+        assertEquals(20, status.claimTimeAverageInMilliseconds);
+        assertEquals(30, status.claimTimeMaxInMilliseconds);
     }
 
     @Test
@@ -0,0 +1,136 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.pds.execution;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PDSStreamFileTailReaderTest {
+
+    @TempDir
+    File tempFolder;
+
+    private File file;
+
+    @BeforeEach
+    void beforeEach() {
+        file = new File(tempFolder, "system-out.log");
+    }
+
+    @Test
+    void not_existing_file_has_no_content() throws Exception {
+        /* prepare */
+        PDSStreamFileTailReader readerToTest = new PDSStreamFileTailReader(file, StandardCharsets.UTF_8, 100);
+
+        /* execute */
+        boolean newContent = readerToTest.readNewContent();
+
+        /* test */
+        assertFalse(newContent);
+        assertEquals("", readerToTest.getContent());
+    }
+
+    @Test
+    void only_new_bytes_are_read_on_next_call() throws Exception {
+        /* prepare */
+        PDSStreamFileTailReader readerToTest = new PDSStreamFileTailReader(file, StandardCharsets.UTF_8, 100);
+        append("line1\n");
+        assertTrue(readerToTest.readNewContent());
+        long positionAfterFirstRead = readerToTest.getPosition();
+
+        /* execute */
+        append("line2\n");
+        boolean newContent = readerToTest.readNewContent();
+
+        /* test */
+        assertTrue(newContent);
+        assertEquals(6, positionAfterFirstRead);
+        assertEquals(12, readerToTest.getPosition());
+        assertEquals("line1\nline2\n", readerToTest.getContent());
+    }
+
+    @Test
+    void unchanged_file_has_no_new_content() throws Exception {
+        /* prepare */
+        PDSStreamFileTailReader readerToTest = new PDSStreamFileTailReader(file, StandardCharsets.UTF_8, 100);
+        append("line1\n");
+        readerToTest.readNewContent();
+
+        /* execute */
+        boolean newContent = readerToTest.readNewContent();
+
+        /* test */
+        assertFalse(newContent);
+        assertEquals("line1\n", readerToTest.getContent());
+    }
+
+    @Test
+    void multi_byte_character_split_between_two_reads_is_decoded_correctly() throws Exception {
+        /* prepare */
+        PDSStreamFileTailReader readerToTest = new PDSStreamFileTailReader(file, StandardCharsets.UTF_8, 100);
+        byte[] euro = "\u20AC".getBytes(StandardCharsets.UTF_8);
+        assertEquals(3, euro.length);
+
+        /* execute */
+        append(Arrays.copyOfRange(euro, 0, 1));
+        readerToTest.readNewContent();
+        String contentAfterFirstRead = readerToTest.getContent();
+
+        append(Arrays.copyOfRange(euro, 1, 3));
+        readerToTest.readNewContent();
+
+        /* test */
+        assertEquals("", contentAfterFirstRead);
+        assertEquals("\u20AC", readerToTest.getContent());
+    }
+
+    @Test
+    void content_greater_than_maximum_is_truncated_with_marker() throws Exception {
+        /* prepare */
+        PDSStreamFileTailReader readerToTest = new PDSStreamFileTailReader(file, StandardCharsets.UTF_8, 5);
+        append("0123456789");
+
+        /* execute */
+        readerToTest.readNewContent();
+
+        /* test */
+        assertEquals("[... 5 characters truncated ...]\n56789", readerToTest.getContent());
+    }
+
+    @Test
+    void content_greater_than_internal_buffer_is_read_completely() throws Exception {
+        /* prepare */
+        int size = 200 * 1024;
+        StringBuilder sb = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            sb.append((char) ('a' + (i % 26)));
+        }
+        append(sb.toString());
+        PDSStreamFileTailReader readerToTest = new PDSStreamFileTailReader(file, StandardCharsets.UTF_8, size);
+
+        /* execute */
+        readerToTest.readNewContent();
+
+        /* test */
+        assertEquals(sb.toString(), readerToTest.getContent());
+        assertEquals(size, readerToTest.getPosition());
+    }
+
+    private void append(String text) throws IOException {
+        append(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void append(byte[] bytes) throws IOException {
+        try (FileOutputStream out = new FileOutputStream(file, true)) {
+            out.write(bytes);
+        }
+    }
+}
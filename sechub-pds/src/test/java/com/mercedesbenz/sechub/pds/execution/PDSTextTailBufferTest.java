@@ -0,0 +1,88 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.pds.execution;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class PDSTextTailBufferTest {
+
+    @Test
+    void empty_buffer_returns_empty_string() {
+        /* prepare */
+        PDSTextTailBuffer bufferToTest = new PDSTextTailBuffer(5);
+
+        /* execute + test */
+        assertEquals("", bufferToTest.toString());
+        assertEquals(0, bufferToTest.getTotalAppended());
+        assertEquals(0, bufferToTest.getDiscarded());
+    }
+
+    @Test
+    void text_smaller_than_capacity_is_kept_completely() {
+        /* prepare */
+        PDSTextTailBuffer bufferToTest = new PDSTextTailBuffer(10);
+
+        /* execute */
+        bufferToTest.append("abc");
+        bufferToTest.append("def");
+
+        /* test */
+        assertEquals("abcdef", bufferToTest.toString());
+        assertEquals(6, bufferToTest.getTotalAppended());
+        assertEquals(0, bufferToTest.getDiscarded());
+    }
+
+    @Test
+    void text_greater_than_capacity_only_last_characters_are_kept() {
+        /* prepare */
+        PDSTextTailBuffer bufferToTest = new PDSTextTailBuffer(5);
+
+        /* execute */
+        bufferToTest.append("abc");
+        bufferToTest.append("defg");
+        bufferToTest.append("hi");
+
+        /* test */
+        assertEquals("efghi", bufferToTest.toString());
+        assertEquals(9, bufferToTest.getTotalAppended());
+        assertEquals(4, bufferToTest.getDiscarded());
+    }
+
+    @Test
+    void one_text_greater_than_capacity_only_last_characters_are_kept() {
+        /* prepare */
+        PDSTextTailBuffer bufferToTest = new PDSTextTailBuffer(5);
+        bufferToTest.append("xy");
+
+        /* execute */
+        bufferToTest.append("0123456789");
+
+        /* test */
+        assertEquals("56789", bufferToTest.toString());
+        assertEquals(12, bufferToTest.getTotalAppended());
+    }
+
+    @Test
+    void many_small_appends_wrap_around_correctly() {
+        /* prepare */
+        PDSTextTailBuffer bufferToTest = new PDSTextTailBuffer(7);
+        StringBuilder expected = new StringBuilder();
+
+        /* execute */
+        for (int i = 0; i < 100; i++) {
+            String text = Integer.toString(i);
+            bufferToTest.append(text);
+            expected.append(text);
+        }
+
+        /* test */
+        assertEquals(expected.substring(expected.length() - 7), bufferToTest.toString());
+    }
+
+    @Test
+    void capacity_0_is_not_accepted() {
+        assertThrows(IllegalArgumentException.class, () -> new PDSTextTailBuffer(0));
+    }
+
+}
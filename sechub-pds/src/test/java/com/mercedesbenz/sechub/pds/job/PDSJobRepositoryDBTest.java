@@ -8,7 +8,6 @@ import static org.junit.jupiter.api.Assertions.*;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -330,44 +329,34 @@ public class PDSJobRepositoryDBTest {
     }
 
     @Test
-    void when_no_job_created_findNextJobToExecute_returns_optional_not_present() {
-        /* execute */
-        Optional<PDSJob> nextJob = repositoryToTest.findNextJobToExecute();
-
-        /* test */
-        assertFalse(nextJob.isPresent());
-
-    }
-
-    @Test
-    void when_one_jobs_created_findNextJobToExecute_returns_none() {
+    void when_one_jobs_created_claimNextJobsToExecute_with_maximum_1_returns_none() {
         /* prepare */
         createJob(PDSJobStatusState.CREATED);
 
         /* execute */
-        Optional<PDSJob> nextJob = repositoryToTest.findNextJobToExecute();
+        List<PDSJob> nextJobs = repositoryToTest.claimNextJobsToExecute(1);
 
         /* test */
-        assertFalse(nextJob.isPresent());
+        assertTrue(nextJobs.isEmpty());
 
     }
 
     @Test
-    void when_one_jobs_marked_as_ready_to_start_findNextJobToExecute_returns_this_one() {
+    void when_one_jobs_marked_as_ready_to_start_claimNextJobsToExecute_with_maximum_1_returns_this_one() {
         /* prepare */
         PDSJob job1 = createJob(PDSJobStatusState.READY_TO_START, 0);
 
         /* execute */
-        Optional<PDSJob> nextJob = repositoryToTest.findNextJobToExecute();
+        List<PDSJob> nextJobs = repositoryToTest.claimNextJobsToExecute(1);
 
         /* test */
-        assertTrue(nextJob.isPresent());
-        assertEquals(job1, nextJob.get());
+        assertEquals(1, nextJobs.size());
+        assertEquals(job1, nextJobs.get(0));
 
     }
 
     @Test
-    void when_two_jobs_just_created_findNextJobToExecute_returns_none() {
+    void when_two_jobs_just_created_claimNextJobsToExecute_with_maximum_1_returns_none() {
         /* prepare */
         createJob(PDSJobStatusState.CREATED, 0);
         createJob(PDSJobStatusState.CREATED, 1);
@@ -375,71 +364,124 @@ public class PDSJobRepositoryDBTest {
         entityManager.flush();
 
         /* execute */
-        Optional<PDSJob> nextJob = repositoryToTest.findNextJobToExecute();
+        List<PDSJob> nextJobs = repositoryToTest.claimNextJobsToExecute(1);
 
         /* test */
-        assertFalse(nextJob.isPresent());
+        assertTrue(nextJobs.isEmpty());
 
     }
 
     @Test
-    void when_two_jobs_ready_to_start_findNextJobToExecute_returns_older_one() {
+    void when_two_jobs_ready_to_start_claimNextJobsToExecute_with_maximum_1_returns_older_one() {
         /* prepare */
         PDSJob job1 = createJob(PDSJobStatusState.READY_TO_START, 1);
         createJob(PDSJobStatusState.READY_TO_START, 0);
 
         /* execute */
-        Optional<PDSJob> nextJob = repositoryToTest.findNextJobToExecute();
+        List<PDSJob> nextJobs = repositoryToTest.claimNextJobsToExecute(1);
 
         /* test */
-        assertTrue(nextJob.isPresent());
-        assertEquals(job1, nextJob.get());
+        assertEquals(1, nextJobs.size());
+        assertEquals(job1, nextJobs.get(0));
 
     }
 
     @Test
-    void when_two_jobs_exist_but_older_is_already_running_findNextJobToExecute_returns_new_ready_to_start() {
+    void when_two_jobs_exist_but_older_is_already_running_claimNextJobsToExecute_with_maximum_1_returns_new_ready_to_start() {
         /* prepare */
         createJob(PDSJobStatusState.RUNNING, 2);
         PDSJob job2 = createJob(PDSJobStatusState.READY_TO_START, 1);
 
         /* execute */
-        Optional<PDSJob> nextJob = repositoryToTest.findNextJobToExecute();
+        List<PDSJob> nextJobs = repositoryToTest.claimNextJobsToExecute(1);
 
         /* test */
-        assertTrue(nextJob.isPresent());
-        assertEquals(job2, nextJob.get());
+        assertEquals(1, nextJobs.size());
+        assertEquals(job2, nextJobs.get(0));
 
     }
 
     @Test
-    void when_two_jobs_exist_but_older_is_done_and_newer_already_running_findNextJobToExecute_returns_none() {
+    void when_two_jobs_exist_but_older_is_done_and_newer_already_running_claimNextJobsToExecute_with_maximum_1_returns_none() {
         /* prepare */
         createJob(PDSJobStatusState.DONE, 1);
         createJob(PDSJobStatusState.RUNNING, 0);
 
         /* execute */
-        Optional<PDSJob> nextJob = repositoryToTest.findNextJobToExecute();
+        List<PDSJob> nextJobs = repositoryToTest.claimNextJobsToExecute(1);
 
         /* test */
-        assertFalse(nextJob.isPresent());
+        assertTrue(nextJobs.isEmpty());
 
     }
 
     @Test
-    void when_two_jobs_exist_but_older_is_canceled_and_newer_failed_findNextJobToExecute_returns_none() {
+    void when_two_jobs_exist_but_older_is_canceled_and_newer_failed_claimNextJobsToExecute_with_maximum_1_returns_none() {
         /* prepare */
         createJob(PDSJobStatusState.CANCEL_REQUESTED, 1);
         createJob(PDSJobStatusState.FAILED, 0);
 
         /* execute */
-        Optional<PDSJob> nextJob = repositoryToTest.findNextJobToExecute();
+        List<PDSJob> nextJobs = repositoryToTest.claimNextJobsToExecute(1);
 
         /* test */
-        assertFalse(nextJob.isPresent());
+        assertTrue(nextJobs.isEmpty());
 
     }
 
+    @Test
+    void when_no_job_created_claimNextJobsToExecute_returns_empty_list() {
+        /* execute */
+        List<PDSJob> nextJobs = repositoryToTest.claimNextJobsToExecute(5);
+
+        /* test */
+        assertTrue(nextJobs.isEmpty());
+    }
+
+    @Test
+    void when_three_jobs_ready_to_start_claimNextJobsToExecute_with_maximum_2_returns_two_oldest() {
+        /* prepare */
+        PDSJob job1 = createJob(PDSJobStatusState.READY_TO_START, 3);
+        PDSJob job2 = createJob(PDSJobStatusState.READY_TO_START, 2);
+        createJob(PDSJobStatusState.READY_TO_START, 1);
+
+        /* execute */
+        List<PDSJob> nextJobs = repositoryToTest.claimNextJobsToExecute(2);
+
+        /* test */
+        assertEquals(2, nextJobs.size());
+        assertEquals(job1, nextJobs.get(0));
+        assertEquals(job2, nextJobs.get(1));
+    }
+
+    @Test
+    void claimNextJobsToExecute_returns_only_ready_to_start_jobs_of_this_server() {
+        /* prepare */
+        createJob(PDSJobStatusState.RUNNING, 4);
+        createJob(PDSJobStatusState.CREATED, 3);
+        createJob(PDSJobStatusState.READY_TO_START, 2, "other-server");
+        PDSJob job4 = createJob(PDSJobStatusState.READY_TO_START, 1);
+
+        /* execute */
+        List<PDSJob> nextJobs = repositoryToTest.claimNextJobsToExecute(10);
+
+        /* test */
+        assertEquals(1, nextJobs.size());
+        assertEquals(job4, nextJobs.get(0));
+    }
+
+    @Test
+    void claimNextJobsToExecute_with_maximum_0_returns_empty_list() {
+        /* prepare */
+        createJob(PDSJobStatusState.READY_TO_START, 1);
+
+        /* execute */
+        List<PDSJob> nextJobs = repositoryToTest.claimNextJobsToExecute(0);
+
+        /* test */
+        assertTrue(nextJobs.isEmpty());
+    }
+
     /**
      * Creates a new job and stores inside db
      *
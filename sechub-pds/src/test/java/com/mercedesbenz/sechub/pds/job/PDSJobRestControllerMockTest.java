@@ -27,8 +27,12 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import com.mercedesbenz.sechub.commons.pds.data.PDSJobStatusState;
 import com.mercedesbenz.sechub.pds.PDSProfiles;
+import com.mercedesbenz.sechub.pds.batch.PDSBatchTriggerSignal;
 import com.mercedesbenz.sechub.pds.security.AbstractAllowPDSAPISecurityConfiguration;
 import com.mercedesbenz.sechub.pds.security.PDSRoleConstants;
 import com.mercedesbenz.sechub.test.TestPortProvider;
@@ -61,6 +65,9 @@ public class PDSJobRestControllerMockTest {
     @MockBean
     private PDSGetJobStatusService mockedJobStatusService;
 
+    @MockBean
+    private PDSJobStatusChangeWaitService mockedJobStatusChangeWaitService;
+
     @MockBean
     private PDSGetJobResultService mockedJobResultService;
 
@@ -73,6 +80,9 @@ public class PDSJobRestControllerMockTest {
     @MockBean
     private PDSRequestJobCancellationService mockedCancelJobService;
 
+    @MockBean
+    private PDSBatchTriggerSignal mockedBatchTriggerSignal;
+
     @MockBean
     private PDSGetJobMessagesService pdsJobMessageService;
 
@@ -129,6 +139,40 @@ public class PDSJobRestControllerMockTest {
 
     }
 
+    @Test
+    public void a_wait_for_job_status_change_call_calls_wait_service_and_returns_status_as_JSON() throws Exception {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+
+        PDSJobStatus status = new PDSJobStatus();
+        status.created = "created1";
+        status.jobUUID = jobUUID;
+        status.owner = "owner1";
+        status.state = "DONE";
+
+        DeferredResult<PDSJobStatus> deferredResult = new DeferredResult<>();
+        deferredResult.setResult(status);
+
+        when(mockedJobStatusChangeWaitService.waitForStatusChange(jobUUID, PDSJobStatusState.RUNNING, 5000)).thenReturn(deferredResult);
+
+        /* execute */
+        /* @formatter:off */
+        MvcResult mvcResult = this.mockMvc.perform(
+                get(https(PORT_USED).buildWaitForJobStatusChange(jobUUID)).
+                    param("knownState", "RUNNING").
+                    param("timeout", "5000")
+                ).
+                    andExpect(request().asyncStarted()).
+                    andReturn();
+
+        /* test */
+        this.mockMvc.perform(asyncDispatch(mvcResult)).
+                    andExpect(status().isOk()).
+                    andExpect(content().json(status.toJSON(),true)
+                );
+        /* @formatter:on */
+    }
+
     @Test
     public void a_get_job_result_call_calls_result_service_and_returns_result_string() throws Exception {
         /* prepare */
@@ -166,6 +210,7 @@ public class PDSJobRestControllerMockTest {
         /* @formatter:on */
 
         verify(mockedMarkReadyToStartJobService).markReadyToStartInOwnTransaction(jobUUID);
+        verify(mockedBatchTriggerSignal).signal();
 
     }
 
@@ -0,0 +1,137 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.pds.job;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.mercedesbenz.sechub.commons.pds.data.PDSJobStatusState;
+import com.mercedesbenz.sechub.pds.PDSNotFoundException;
+
+class PDSJobStatusChangeWaitServiceTest {
+
+    private PDSJobStatusChangeWaitService serviceToTest;
+    private PDSJobRepository repository;
+    private UUID jobUUID;
+    private PDSJob job;
+
+    @BeforeEach
+    void beforeEach() {
+        repository = mock(PDSJobRepository.class);
+
+        jobUUID = UUID.randomUUID();
+        job = new PDSJob();
+        job.uUID = jobUUID;
+        job.created = LocalDateTime.of(2020, 06, 23, 16, 35, 01);
+        job.owner = "theOwner";
+        job.setState(PDSJobStatusState.RUNNING);
+
+        when(repository.findById(jobUUID)).thenReturn(Optional.of(job));
+
+        serviceToTest = new PDSJobStatusChangeWaitService();
+        serviceToTest.repository = repository;
+    }
+
+    @Test
+    void state_already_different_from_known_state_result_is_set_immediately() {
+        /* execute */
+        DeferredResult<PDSJobStatus> result = serviceToTest.waitForStatusChange(jobUUID, PDSJobStatusState.READY_TO_START, 1000);
+
+        /* test */
+        assertTrue(result.hasResult());
+        assertEquals("RUNNING", ((PDSJobStatus) result.getResult()).state);
+        assertEquals(0, serviceToTest.getAmountOfJobsBeingWaitedFor());
+    }
+
+    @Test
+    void state_same_as_known_state_result_is_not_set_and_job_is_waited_for() {
+        /* execute */
+        DeferredResult<PDSJobStatus> result = serviceToTest.waitForStatusChange(jobUUID, PDSJobStatusState.RUNNING, 1000);
+
+        /* test */
+        assertFalse(result.hasResult());
+        assertEquals(1, serviceToTest.getAmountOfJobsBeingWaitedFor());
+    }
+
+    @Test
+    void notify_after_state_change_sets_result() {
+        /* prepare */
+        DeferredResult<PDSJobStatus> result = serviceToTest.waitForStatusChange(jobUUID, PDSJobStatusState.RUNNING, 1000);
+        job.setState(PDSJobStatusState.DONE);
+
+        /* execute */
+        serviceToTest.notifyStatusChanged(jobUUID);
+
+        /* test */
+        assertTrue(result.hasResult());
+        assertEquals("DONE", ((PDSJobStatus) result.getResult()).state);
+    }
+
+    @Test
+    void notify_without_state_change_does_not_set_result() {
+        /* prepare */
+        DeferredResult<PDSJobStatus> result = serviceToTest.waitForStatusChange(jobUUID, PDSJobStatusState.RUNNING, 1000);
+
+        /* execute */
+        serviceToTest.notifyStatusChanged(jobUUID);
+
+        /* test */
+        assertFalse(result.hasResult());
+    }
+
+    @Test
+    void scheduled_check_sets_result_for_changes_done_by_other_cluster_members() {
+        /* prepare */
+        DeferredResult<PDSJobStatus> result = serviceToTest.waitForStatusChange(jobUUID, PDSJobStatusState.RUNNING, 1000);
+
+        PDSJob jobChangedByOtherMember = new PDSJob();
+        jobChangedByOtherMember.uUID = jobUUID;
+        jobChangedByOtherMember.created = job.created;
+        jobChangedByOtherMember.setState(PDSJobStatusState.FAILED);
+        when(repository.findAllById(any())).thenReturn(Arrays.asList(jobChangedByOtherMember));
+
+        /* execute */
+        serviceToTest.checkStatusOfJobsBeingWaitedFor();
+
+        /* test */
+        assertTrue(result.hasResult());
+        assertEquals("FAILED", ((PDSJobStatus) result.getResult()).state);
+    }
+
+    @Test
+    void scheduled_check_without_waiting_clients_does_not_access_database() {
+        /* execute */
+        serviceToTest.checkStatusOfJobsBeingWaitedFor();
+
+        /* test */
+        verify(repository, never()).findAllById(any());
+    }
+
+    @Test
+    void timeout_is_limited_by_configured_maximum() {
+        /* prepare */
+        serviceToTest.maxTimeoutInMilliseconds = 500;
+
+        /* execute */
+        DeferredResult<PDSJobStatus> result = serviceToTest.waitForStatusChange(jobUUID, PDSJobStatusState.RUNNING, 100000);
+
+        /* test */
+        assertEquals(500L, result.getTimeoutValue());
+    }
+
+    @Test
+    void unknown_job_throws_not_found_exception() {
+        /* execute + test */
+        assertThrows(PDSNotFoundException.class, () -> serviceToTest.waitForStatusChange(UUID.randomUUID(), PDSJobStatusState.RUNNING, 1000));
+    }
+
+}
@@ -10,20 +10,30 @@ import static org.mockito.Mockito.*;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.mercedesbenz.sechub.commons.archive.ArchiveSupport;
+import com.mercedesbenz.sechub.commons.archive.ArchiveSupport.ArchiveType;
+import com.mercedesbenz.sechub.commons.core.CommonConstants;
+import com.mercedesbenz.sechub.commons.core.security.CheckSumSupport;
 import com.mercedesbenz.sechub.commons.pds.PDSDefaultParameterKeyConstants;
 import com.mercedesbenz.sechub.pds.commons.core.config.PDSProductSetup;
 import com.mercedesbenz.sechub.pds.config.PDSServerConfigurationService;
 import com.mercedesbenz.sechub.pds.execution.PDSExecutionParameterEntry;
 import com.mercedesbenz.sechub.pds.storage.PDSMultiStorageService;
 import com.mercedesbenz.sechub.pds.storage.PDSStorageInfoCollector;
+import com.mercedesbenz.sechub.pds.util.PDSArchiveSupportProvider;
 import com.mercedesbenz.sechub.storage.core.JobStorage;
 import com.mercedesbenz.sechub.test.TestFileReader;
 import com.mercedesbenz.sechub.test.TestUtil;
@@ -73,6 +83,12 @@ class PDSWorkspaceServiceTest {
         serviceToTest.preparationContextFactory = preparationContextFactory;
         serviceToTest.serverConfigService = serverConfigService;
         serviceToTest.preparationResultCalculator = preparationResultCalculator;
+        serviceToTest.checksumSupport = new CheckSumSupport();
+        serviceToTest.uploadCache = new PDSWorkspaceUploadCache();
+
+        PDSArchiveSupportProvider archiveSupportProvider = mock(PDSArchiveSupportProvider.class);
+        when(archiveSupportProvider.getArchiveSupport()).thenReturn(new ArchiveSupport());
+        serviceToTest.archiveSupportProvider = archiveSupportProvider;
 
         config = new PDSJobConfiguration();
 
@@ -209,6 +225,145 @@ class PDSWorkspaceServiceTest {
         verify(storageService).getJobStorage("xyz/abc/project1", config.getSechubJobUUID());
     }
 
+    @Test
+    void binaries_direct_extraction_enabled_extracts_tar_from_storage_without_copying_tar_to_workspace() throws Exception {
+        /* prepare */
+        serviceToTest.binariesDirectExtractionEnabled = true;
+        PDSWorkspacePreparationContext context = useBinaryAcceptingPreparationContext();
+        byte[] tar = createTarContainingFile("binary1.txt", "binary-content");
+        prepareStorageWithBinariesTar(tar, createSha256Checksum(tar));
+
+        /* execute */
+        serviceToTest.prepare(jobUUID, config, null);
+
+        /* test */
+        assertTrue(context.isBinaryExtractedFromStorage());
+        assertTrue(context.isExtractedBinaryAvailable());
+        assertFalse(new File(serviceToTest.getUploadFolder(jobUUID), CommonConstants.FILENAME_BINARIES_TAR).exists());
+        assertEquals("binary-content", Files.readString(findExtractedBinary("binary1.txt")));
+    }
+
+    @Test
+    void binaries_direct_extraction_enabled_fails_and_removes_extracted_binaries_when_checksum_not_correct() throws Exception {
+        /* prepare */
+        serviceToTest.binariesDirectExtractionEnabled = true;
+        useBinaryAcceptingPreparationContext();
+        byte[] tar = createTarContainingFile("binary1.txt", "binary-content");
+        prepareStorageWithBinariesTar(tar, "0".repeat(64));
+
+        /* execute + test */
+        assertThrows(IOException.class, () -> serviceToTest.prepare(jobUUID, config, null));
+
+        File extractedBinariesFolder = new File(serviceToTest.getUploadFolder(jobUUID), PDSWorkspaceService.EXTRACTED_BINARIES);
+        assertFalse(extractedBinariesFolder.exists());
+    }
+
+    @Test
+    void binaries_direct_extraction_disabled_copies_tar_to_workspace_and_extracts_it() throws Exception {
+        /* prepare */
+        serviceToTest.binariesDirectExtractionEnabled = false;
+        PDSWorkspacePreparationContext context = useBinaryAcceptingPreparationContext();
+        byte[] tar = createTarContainingFile("binary1.txt", "binary-content");
+        prepareStorageWithBinariesTar(tar, "not-checked-here");
+
+        /* execute */
+        serviceToTest.prepare(jobUUID, config, null);
+
+        /* test */
+        assertFalse(context.isBinaryExtractedFromStorage());
+        assertTrue(context.isExtractedBinaryAvailable());
+        assertEquals("binary-content", Files.readString(findExtractedBinary("binary1.txt")));
+    }
+
+    @Test
+    void upload_cache_enabled_second_job_with_same_upload_does_not_download_from_storage_again() throws Exception {
+        /* prepare */
+        PDSWorkspaceUploadCache uploadCache = new PDSWorkspaceUploadCache();
+        uploadCache.directory = TestUtil.createTempDirectoryInBuildFolder("pds_ws_test_upload_cache").toString();
+        uploadCache.postConstruct();
+        serviceToTest.uploadCache = uploadCache;
+
+        PDSWorkspacePreparationContext context = useBinaryAcceptingPreparationContext();
+        byte[] tar = createTarContainingFile("binary1.txt", "binary-content");
+        prepareStorageWithBinariesTar(tar, createSha256Checksum(tar));
+
+        serviceToTest.prepare(jobUUID, config, null);
+
+        jobUUID = UUID.randomUUID();
+
+        /* execute */
+        serviceToTest.prepare(jobUUID, config, null);
+
+        /* test */
+        verify(storage, times(1)).fetch(CommonConstants.FILENAME_BINARIES_TAR);
+        assertTrue(context.isExtractedBinaryAvailable());
+        assertEquals("binary-content", Files.readString(findExtractedBinary("binary1.txt")));
+        assertEquals(1, uploadCache.getHits());
+        assertEquals(tar.length, uploadCache.getBytesSaved());
+    }
+
+    @Test
+    void upload_cache_enabled_upload_with_wrong_checksum_is_not_cached() throws Exception {
+        /* prepare */
+        PDSWorkspaceUploadCache uploadCache = new PDSWorkspaceUploadCache();
+        uploadCache.directory = TestUtil.createTempDirectoryInBuildFolder("pds_ws_test_upload_cache").toString();
+        uploadCache.postConstruct();
+        serviceToTest.uploadCache = uploadCache;
+
+        useBinaryAcceptingPreparationContext();
+        byte[] tar = createTarContainingFile("binary1.txt", "binary-content");
+        prepareStorageWithBinariesTar(tar, "0".repeat(64));
+
+        serviceToTest.prepare(jobUUID, config, null);
+
+        jobUUID = UUID.randomUUID();
+
+        /* execute */
+        serviceToTest.prepare(jobUUID, config, null);
+
+        /* test */
+        verify(storage, times(2)).fetch(CommonConstants.FILENAME_BINARIES_TAR);
+        assertEquals(0, uploadCache.getBytes());
+    }
+
+    private PDSWorkspacePreparationContext useBinaryAcceptingPreparationContext() {
+        PDSWorkspacePreparationContext context = new PDSWorkspacePreparationContext();
+        context.setBinaryAccepted(true);
+        when(preparationContextFactory.createPreparationContext(any())).thenReturn(context);
+        return context;
+    }
+
+    private void prepareStorageWithBinariesTar(byte[] tar, String checksum) throws IOException {
+        when(storage.listNames()).thenReturn(Set.of(CommonConstants.FILENAME_BINARIES_TAR, CommonConstants.FILENAME_BINARIES_TAR_CHECKSUM));
+        when(storage.isExisting(CommonConstants.FILENAME_BINARIES_TAR_CHECKSUM)).thenReturn(true);
+        when(storage.fetch(CommonConstants.FILENAME_BINARIES_TAR)).thenAnswer(invocation -> new ByteArrayInputStream(tar));
+        when(storage.fetch(CommonConstants.FILENAME_BINARIES_TAR_CHECKSUM)).thenAnswer(invocation -> new ByteArrayInputStream(checksum.getBytes()));
+    }
+
+    private byte[] createTarContainingFile(String fileName, String content) throws IOException {
+        Path folder = TestUtil.createTempDirectoryInBuildFolder("pds_ws_test_tar_content");
+        Files.writeString(folder.resolve(fileName), content);
+
+        Path tarFile = TestUtil.createTempFileInBuildFolder("pds_ws_test", "tar");
+        new ArchiveSupport().compressFolder(ArchiveType.TAR, folder.toFile(), tarFile.toFile());
+
+        return Files.readAllBytes(tarFile);
+    }
+
+    private String createSha256Checksum(byte[] data) {
+        CheckSumSupport checkSumSupport = new CheckSumSupport();
+        return checkSumSupport.convertDigestToHex(checkSumSupport.createSha256MessageDigest().digest(data));
+    }
+
+    private Path findExtractedBinary(String fileName) throws IOException {
+        Path extractedBinariesFolder = new File(serviceToTest.getUploadFolder(jobUUID), PDSWorkspaceService.EXTRACTED_BINARIES).toPath();
+        try (Stream<Path> files = Files.walk(extractedBinariesFolder)) {
+            Optional<Path> found = files.filter(path -> path.getFileName().toString().equals(fileName)).findFirst();
+            assertTrue(found.isPresent(), "Extracted file not found: " + fileName);
+            return found.get();
+        }
+    }
+
     private PDSExecutionParameterEntry createEntry(String key, String value) {
         PDSExecutionParameterEntry entry = new PDSExecutionParameterEntry();
         entry.setKey(key);
@@ -0,0 +1,169 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.pds.job;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mercedesbenz.sechub.test.TestUtil;
+
+class PDSWorkspaceUploadCacheTest {
+
+    private static final String CHECKSUM1 = "1".repeat(64);
+    private static final String CHECKSUM2 = "2".repeat(64);
+    private static final String CHECKSUM3 = "3".repeat(64);
+
+    private PDSWorkspaceUploadCache cacheToTest;
+    private Path cacheDirectory;
+    private Path workspace;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        cacheDirectory = TestUtil.createTempDirectoryInBuildFolder("pds_upload_cache_test");
+        workspace = TestUtil.createTempDirectoryInBuildFolder("pds_upload_cache_test_workspace");
+
+        cacheToTest = new PDSWorkspaceUploadCache();
+        cacheToTest.directory = cacheDirectory.toString();
+        cacheToTest.postConstruct();
+    }
+
+    @Test
+    void cache_without_directory_is_disabled_and_provides_nothing() throws Exception {
+        /* prepare */
+        PDSWorkspaceUploadCache disabledCache = new PDSWorkspaceUploadCache();
+        disabledCache.postConstruct();
+        File upload = createUpload("upload1", "content1");
+
+        /* execute */
+        disabledCache.add(CHECKSUM1, "sourcecode.zip", upload);
+        boolean provided = disabledCache.provide(CHECKSUM1, "sourcecode.zip", workspace.resolve("target").toFile());
+
+        /* test */
+        assertFalse(disabledCache.isEnabled());
+        assertFalse(provided);
+        assertEquals(0, disabledCache.getMisses());
+    }
+
+    @Test
+    void added_upload_is_provided_with_same_content_and_counted_as_hit() throws Exception {
+        /* prepare */
+        File upload = createUpload("upload1", "content1");
+        cacheToTest.add(CHECKSUM1, "sourcecode.zip", upload);
+        Files.delete(upload.toPath());
+
+        File target = workspace.resolve("job2/upload/sourcecode.zip").toFile();
+
+        /* execute */
+        boolean provided = cacheToTest.provide(CHECKSUM1, "sourcecode.zip", target);
+
+        /* test */
+        assertTrue(provided);
+        assertEquals("content1", Files.readString(target.toPath()));
+        assertEquals(1, cacheToTest.getHits());
+        assertEquals(0, cacheToTest.getMisses());
+        assertEquals(8, cacheToTest.getBytesSaved());
+    }
+
+    @Test
+    void unknown_upload_is_not_provided_and_counted_as_miss() throws Exception {
+        /* prepare */
+        cacheToTest.add(CHECKSUM1, "sourcecode.zip", createUpload("upload1", "content1"));
+        File target = workspace.resolve("target").toFile();
+
+        /* execute */
+        boolean providedOtherChecksum = cacheToTest.provide(CHECKSUM2, "sourcecode.zip", target);
+        boolean providedOtherName = cacheToTest.provide(CHECKSUM1, "binaries.tar", target);
+
+        /* test */
+        assertFalse(providedOtherChecksum);
+        assertFalse(providedOtherName);
+        assertFalse(target.exists());
+        assertEquals(2, cacheToTest.getMisses());
+    }
+
+    @Test
+    void upper_case_checksum_is_same_entry() throws Exception {
+        /* prepare */
+        String checksum = "abcdef".repeat(10) + "abcd";
+        cacheToTest.add(checksum.toUpperCase(), "sourcecode.zip", createUpload("upload1", "content1"));
+
+        /* execute + test */
+        assertTrue(cacheToTest.provide(checksum, "sourcecode.zip", workspace.resolve("target").toFile()));
+    }
+
+    @Test
+    void upload_with_invalid_checksum_is_not_cached() throws Exception {
+        /* execute */
+        cacheToTest.add("../../etc/passwd", "sourcecode.zip", createUpload("upload1", "content1"));
+        cacheToTest.add("xyz", "sourcecode.zip", createUpload("upload2", "content2"));
+
+        /* test */
+        assertEquals(0, cacheToTest.getBytes());
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void least_recently_used_upload_is_removed_when_max_bytes_reached() throws Exception {
+        /* prepare */
+        cacheToTest.maxBytes = 20;
+        cacheToTest.add(CHECKSUM1, "sourcecode.zip", createUpload("upload1", "content1"));
+        cacheToTest.add(CHECKSUM2, "sourcecode.zip", createUpload("upload2", "content2"));
+        /* use first one - so second one is least recently used */
+        assertTrue(cacheToTest.provide(CHECKSUM1, "sourcecode.zip", workspace.resolve("target1").toFile()));
+
+        /* execute */
+        cacheToTest.add(CHECKSUM3, "sourcecode.zip", createUpload("upload3", "content3"));
+
+        /* test */
+        assertEquals(16, cacheToTest.getBytes());
+        assertTrue(cacheToTest.provide(CHECKSUM1, "sourcecode.zip", workspace.resolve("target2").toFile()));
+        assertFalse(cacheToTest.provide(CHECKSUM2, "sourcecode.zip", workspace.resolve("target3").toFile()));
+        assertTrue(cacheToTest.provide(CHECKSUM3, "sourcecode.zip", workspace.resolve("target4").toFile()));
+    }
+
+    @Test
+    void upload_bigger_than_max_bytes_is_not_cached() throws Exception {
+        /* prepare */
+        cacheToTest.maxBytes = 5;
+
+        /* execute */
+        cacheToTest.add(CHECKSUM1, "sourcecode.zip", createUpload("upload1", "content1"));
+
+        /* test */
+        assertEquals(0, cacheToTest.getBytes());
+        assertFalse(cacheToTest.provide(CHECKSUM1, "sourcecode.zip", workspace.resolve("target").toFile()));
+    }
+
+    @Test
+    void cached_files_of_former_run_are_removed_on_startup() throws Exception {
+        /* prepare */
+        cacheToTest.add(CHECKSUM1, "sourcecode.zip", createUpload("upload1", "content1"));
+
+        PDSWorkspaceUploadCache restartedCache = new PDSWorkspaceUploadCache();
+        restartedCache.directory = cacheDirectory.toString();
+
+        /* execute */
+        restartedCache.postConstruct();
+
+        /* test */
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            assertEquals(0, files.count());
+        }
+        assertFalse(restartedCache.provide(CHECKSUM1, "sourcecode.zip", workspace.resolve("target").toFile()));
+    }
+
+    private File createUpload(String fileName, String content) throws Exception {
+        Path file = workspace.resolve(fileName);
+        Files.writeString(file, content);
+        return file.toFile();
+    }
+
+}
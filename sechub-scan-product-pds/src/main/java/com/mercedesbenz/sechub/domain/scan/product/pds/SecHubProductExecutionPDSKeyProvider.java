@@ -6,6 +6,7 @@ import static com.mercedesbenz.sechub.sharedkernel.util.Assert.*;
 import com.mercedesbenz.sechub.adapter.pds.PDSAdapterResilienceConsultant;
 import com.mercedesbenz.sechub.commons.pds.PDSKeyProvider;
 import com.mercedesbenz.sechub.domain.scan.NetworkTargetType;
+import com.mercedesbenz.sechub.domain.scan.product.AbstractProductExecutionService;
 
 /**
  * These providers/keys are used by sechub PDS product executors at runtime
@@ -37,6 +38,9 @@ public enum SecHubProductExecutionPDSKeyProvider implements PDSKeyProvider<SecHu
             "Amount of milliseconds the PDS adapter shall wait before doing a next retry to handle resilience. When not defined or smaller than 1 the default will be: "
                     + PDSAdapterResilienceConsultant.DEFAULT_RETRY_TIME_TO_WAIT_IN_MILLISECONDS)),
 
+    PARALLEL_EXECUTION_MAX(new AdapterSetupPDSKey(AbstractProductExecutionService.JOB_PARAMETER_PARALLEL_EXECUTION_MAX,
+            "Maximum amount of product executors running in parallel for the scan type of this executor. When multiple executor configurations define this value, the lowest one is used. If not defined, the SecHub server default is used.")),
+
     ;
 
     private SecHubProductExecutionPDSKey key;
@@ -0,0 +1,264 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.product.sereco;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mercedesbenz.sechub.commons.model.ScanType;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveCodeMetaData;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveCodePartMetaData;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveEntry;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveMetaData;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveWebMetaData;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveWebRequestMetaData;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoClassification;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoCodeCallStackElement;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoVulnerability;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoWeb;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoWebRequest;
+
+/**
+ * Precompiled index for false positive entries of one project. Entries are
+ * bucketed by the data the false positive strategies compare for equality:
+ * scan type, CWE id and the start location (code and secret scans) or target
+ * and method (web scans).<br>
+ * <br>
+ * The index only reduces the entries which must be inspected - the final
+ * decision is still done by {@link SerecoFalsePositiveFinder}. Entries or
+ * vulnerabilities where no key can be built are never dropped: such entries
+ * are candidates for every vulnerability of the same scan type and such
+ * vulnerabilities get all entries of their scan type as candidates. Candidates
+ * are always returned in configuration order, so the first matching entry is
+ * the same as when inspecting all entries.
+ */
+class SerecoFalsePositiveIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SerecoFalsePositiveIndex.class);
+
+    private Map<ScanType, List<IndexedEntry>> allEntries = new EnumMap<>(ScanType.class);
+    private Map<ScanType, List<IndexedEntry>> entriesWithoutKey = new EnumMap<>(ScanType.class);
+    private Map<IndexKey, List<IndexedEntry>> buckets = new HashMap<>();
+
+    SerecoFalsePositiveIndex(List<FalsePositiveEntry> falsePositives) {
+        if (falsePositives == null) {
+            return;
+        }
+        int position = 0;
+        for (FalsePositiveEntry entry : falsePositives) {
+            add(new IndexedEntry(position++, entry));
+        }
+    }
+
+    /**
+     * Resolves the entries which must be inspected for given vulnerability
+     *
+     * @param vulnerability
+     * @return candidate entries in configuration order, never <code>null</code>
+     */
+    List<FalsePositiveEntry> getCandidates(SerecoVulnerability vulnerability) {
+        ScanType scanType = vulnerability.getScanType();
+        if (scanType == null) {
+            return Collections.emptyList();
+        }
+        List<IndexedEntry> all = allEntries.get(scanType);
+        if (all == null) {
+            return Collections.emptyList();
+        }
+        IndexKey key = createKey(vulnerability);
+        if (key == null) {
+            return toEntries(all);
+        }
+        List<IndexedEntry> bucket = buckets.getOrDefault(key, Collections.emptyList());
+        List<IndexedEntry> withoutKey = entriesWithoutKey.getOrDefault(scanType, Collections.emptyList());
+
+        return merge(bucket, withoutKey);
+    }
+
+    private void add(IndexedEntry indexedEntry) {
+        FalsePositiveMetaData metaData = indexedEntry.entry.getMetaData();
+        if (metaData == null) {
+            return;
+        }
+        ScanType scanType = metaData.getScanType();
+        if (scanType == null) {
+            return;
+        }
+        if (!isSupported(scanType)) {
+            LOG.error("Cannot handle scan type {} - not implemented!", scanType);
+            return;
+        }
+        allEntries.computeIfAbsent(scanType, type -> new ArrayList<>()).add(indexedEntry);
+
+        IndexKey key = createKey(metaData);
+        if (key == null) {
+            entriesWithoutKey.computeIfAbsent(scanType, type -> new ArrayList<>()).add(indexedEntry);
+        } else {
+            buckets.computeIfAbsent(key, k -> new ArrayList<>()).add(indexedEntry);
+        }
+    }
+
+    private boolean isSupported(ScanType scanType) {
+        switch (scanType) {
+        case CODE_SCAN:
+        case SECRET_SCAN:
+        case WEB_SCAN:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private IndexKey createKey(FalsePositiveMetaData metaData) {
+        ScanType scanType = metaData.getScanType();
+        Integer cweId = metaData.getCweId();
+
+        if (scanType == ScanType.WEB_SCAN) {
+            FalsePositiveWebMetaData web = metaData.getWeb();
+            if (web == null) {
+                return null;
+            }
+            FalsePositiveWebRequestMetaData request = web.getRequest();
+            if (request == null) {
+                return null;
+            }
+            return new IndexKey(scanType, cweId, trimmed(request.getTarget()), trimmed(request.getMethod()));
+        }
+        FalsePositiveCodeMetaData code = metaData.getCode();
+        if (code == null) {
+            return null;
+        }
+        FalsePositiveCodePartMetaData start = code.getStart();
+        if (start == null || start.getLocation() == null) {
+            return null;
+        }
+        return new IndexKey(scanType, cweId, start.getLocation(), null);
+    }
+
+    private IndexKey createKey(SerecoVulnerability vulnerability) {
+        ScanType scanType = vulnerability.getScanType();
+        SerecoClassification classification = vulnerability.getClassification();
+        if (classification == null) {
+            return null;
+        }
+        Integer cweId = null;
+        String cwe = classification.getCwe();
+        if (cwe != null && !cwe.isEmpty()) {
+            try {
+                cweId = Integer.parseInt(cwe);
+            } catch (NumberFormatException e) {
+                /* finder will handle (and log) this */
+                return null;
+            }
+        }
+        if (scanType == ScanType.WEB_SCAN) {
+            SerecoWeb web = vulnerability.getWeb();
+            if (web == null) {
+                return null;
+            }
+            SerecoWebRequest request = web.getRequest();
+            if (request == null) {
+                return null;
+            }
+            return new IndexKey(scanType, cweId, trimmed(request.getTarget()), trimmed(request.getMethod()));
+        }
+        SerecoCodeCallStackElement code = vulnerability.getCode();
+        if (code == null || code.getLocation() == null) {
+            return null;
+        }
+        return new IndexKey(scanType, cweId, code.getLocation(), null);
+    }
+
+    /* same semantic as SimpleStringUtils.isTrimmedEqual(..) */
+    private String trimmed(String string) {
+        if (string == null) {
+            return "";
+        }
+        return string.trim();
+    }
+
+    private List<FalsePositiveEntry> merge(List<IndexedEntry> list1, List<IndexedEntry> list2) {
+        List<FalsePositiveEntry> result = new ArrayList<>(list1.size() + list2.size());
+        int index1 = 0;
+        int index2 = 0;
+        while (index1 < list1.size() && index2 < list2.size()) {
+            IndexedEntry entry1 = list1.get(index1);
+            IndexedEntry entry2 = list2.get(index2);
+            if (entry1.position < entry2.position) {
+                result.add(entry1.entry);
+                index1++;
+            } else {
+                result.add(entry2.entry);
+                index2++;
+            }
+        }
+        for (; index1 < list1.size(); index1++) {
+            result.add(list1.get(index1).entry);
+        }
+        for (; index2 < list2.size(); index2++) {
+            result.add(list2.get(index2).entry);
+        }
+        return result;
+    }
+
+    private List<FalsePositiveEntry> toEntries(List<IndexedEntry> list) {
+        List<FalsePositiveEntry> result = new ArrayList<>(list.size());
+        for (IndexedEntry indexedEntry : list) {
+            result.add(indexedEntry.entry);
+        }
+        return result;
+    }
+
+    private static class IndexedEntry {
+
+        private final int position;
+        private final FalsePositiveEntry entry;
+
+        private IndexedEntry(int position, FalsePositiveEntry entry) {
+            this.position = position;
+            this.entry = entry;
+        }
+    }
+
+    private static class IndexKey {
+
+        private final ScanType scanType;
+        private final Integer cweId;
+        private final String location;
+        private final String method;
+        private final int hashCode;
+
+        private IndexKey(ScanType scanType, Integer cweId, String location, String method) {
+            this.scanType = scanType;
+            this.cweId = cweId;
+            this.location = location;
+            this.method = method;
+            this.hashCode = Objects.hash(scanType, cweId, location, method);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof IndexKey)) {
+                return false;
+            }
+            IndexKey other = (IndexKey) obj;
+            return scanType == other.scanType && Objects.equals(cweId, other.cweId) && Objects.equals(location, other.location)
+                    && Objects.equals(method, other.method);
+        }
+    }
+}
@@ -4,6 +4,7 @@ package com.mercedesbenz.sechub.domain.scan.product.sereco;
 import static com.mercedesbenz.sechub.sharedkernel.util.Assert.*;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,10 +15,7 @@ import com.mercedesbenz.sechub.commons.model.ScanType;
 import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveEntry;
 import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveJobData;
 import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveMetaData;
-import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveProjectConfiguration;
-import com.mercedesbenz.sechub.domain.scan.project.ScanProjectConfig;
-import com.mercedesbenz.sechub.domain.scan.project.ScanProjectConfigID;
-import com.mercedesbenz.sechub.domain.scan.project.ScanProjectConfigService;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveProjectConfigurationCache;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoVulnerability;
 
 /**
@@ -37,7 +35,7 @@ public class SerecoFalsePositiveMarker {
     SerecoFalsePositiveFinder falsePositiveFinder;
 
     @Autowired
-    ScanProjectConfigService scanProjectConfigService;
+    FalsePositiveProjectConfigurationCache falsePositiveConfigurationCache;
 
     public void markFalsePositives(String projectId, List<SerecoVulnerability> all) {
         notEmpty(projectId, "project id may not be null or empty!");
@@ -46,25 +44,37 @@ public class SerecoFalsePositiveMarker {
             /* no vulnerabilities found */
             return;
         }
-        ScanProjectConfig config = scanProjectConfigService.get(projectId, ScanProjectConfigID.FALSE_POSITIVE_CONFIGURATION, false);
-        if (config == null) {
-            /* nothing configured */
-            return;
+        Consumer<SerecoVulnerability> marker = createMarker(projectId);
+        for (SerecoVulnerability vulnerability : all) {
+            marker.accept(vulnerability);
         }
 
-        String data = config.getData();
-        FalsePositiveProjectConfiguration falsePositiveConfig = FalsePositiveProjectConfiguration.fromJSONString(data);
-        List<FalsePositiveEntry> falsePositives = falsePositiveConfig.getFalsePositives();
+    }
 
-        for (SerecoVulnerability vulnerability : all) {
+    /**
+     * Creates a marker for vulnerabilities of given project. The false positive
+     * configuration is resolved only one time, so the marker can be used for
+     * vulnerabilities which are read one by one.
+     *
+     * @param projectId
+     * @return marker, never <code>null</code>
+     */
+    public Consumer<SerecoVulnerability> createMarker(String projectId) {
+        notEmpty(projectId, "project id may not be null or empty!");
 
-            handleVulnereability(falsePositives, vulnerability);
+        /* parsing and indexing is only done when configuration has changed */
+        SerecoFalsePositiveIndex index = falsePositiveConfigurationCache.getCompiled(projectId, SerecoFalsePositiveIndex.class,
+                config -> new SerecoFalsePositiveIndex(config.getFalsePositives()));
+        if (index == null) {
+            /* nothing configured */
+            return vulnerability -> {
+            };
         }
-
+        return vulnerability -> handleVulnereability(index, vulnerability);
     }
 
-    private void handleVulnereability(List<FalsePositiveEntry> falsePositives, SerecoVulnerability vulnerability) {
-        for (FalsePositiveEntry entry : falsePositives) {
+    private void handleVulnereability(SerecoFalsePositiveIndex index, SerecoVulnerability vulnerability) {
+        for (FalsePositiveEntry entry : index.getCandidates(vulnerability)) {
             if (isFalsePositive(vulnerability, entry)) {
                 vulnerability.setFalsePositive(true);
                 FalsePositiveJobData jobData = entry.getJobData();
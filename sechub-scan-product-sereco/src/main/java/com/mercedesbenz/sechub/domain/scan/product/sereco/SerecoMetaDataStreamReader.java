@@ -0,0 +1,102 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.product.sereco;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.mercedesbenz.sechub.commons.model.JsonMapperFactory;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoAnnotation;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoMetaData;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoVulnerability;
+
+/**
+ * Reads {@link SerecoMetaData} JSON incrementally. Vulnerabilities and
+ * annotations are given to consumers one by one, in the order they appear
+ * inside the JSON - so a vulnerability can be garbage collected after it was
+ * handled and the complete meta data object is never created.
+ */
+class SerecoMetaDataStreamReader {
+
+    private static final String PROPERTY_VULNERABILITIES = "vulnerabilities";
+    private static final String PROPERTY_ANNOTATIONS = "annotations";
+
+    private final JsonMapper mapper = JsonMapperFactory.createMapper();
+
+    /**
+     * Reads given sereco meta data JSON
+     *
+     * @param json                  sereco meta data as JSON
+     * @param vulnerabilityConsumer called for every vulnerability
+     * @param annotationConsumer    called for every annotation
+     * @throws IOException when JSON is not valid
+     */
+    void read(String json, Consumer<SerecoVulnerability> vulnerabilityConsumer, Consumer<SerecoAnnotation> annotationConsumer) throws IOException {
+        try (JsonParser parser = mapper.createParser(json == null ? "" : json)) {
+            read(parser, vulnerabilityConsumer, annotationConsumer);
+        }
+    }
+
+    /**
+     * Reads given sereco meta data JSON stream (UTF-8). The stream is not closed.
+     *
+     * @param inputStream           sereco meta data as JSON stream, can be
+     *                              <code>null</code>
+     * @param vulnerabilityConsumer called for every vulnerability
+     * @param annotationConsumer    called for every annotation
+     * @throws IOException when stream cannot be read or JSON is not valid
+     */
+    void read(InputStream inputStream, Consumer<SerecoVulnerability> vulnerabilityConsumer, Consumer<SerecoAnnotation> annotationConsumer)
+            throws IOException {
+        if (inputStream == null) {
+            return;
+        }
+        try (JsonParser parser = mapper.createParser(inputStream)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            read(parser, vulnerabilityConsumer, annotationConsumer);
+        }
+    }
+
+    private void read(JsonParser parser, Consumer<SerecoVulnerability> vulnerabilityConsumer, Consumer<SerecoAnnotation> annotationConsumer)
+            throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            /* empty content - same as empty meta data */
+            return;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new IOException("Sereco meta data must be a JSON object, but found: " + token);
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+
+            if (PROPERTY_VULNERABILITIES.equals(fieldName)) {
+                readElements(parser, SerecoVulnerability.class, vulnerabilityConsumer);
+            } else if (PROPERTY_ANNOTATIONS.equals(fieldName)) {
+                readElements(parser, SerecoAnnotation.class, annotationConsumer);
+            } else {
+                /* not necessary for report - e.g. license documents */
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private <T> void readElements(JsonParser parser, Class<T> clazz, Consumer<T> consumer) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            /* single value accepted as array - same as done by mapper for the model */
+            consumer.accept(mapper.readValue(parser, clazz));
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            consumer.accept(mapper.readValue(parser, clazz));
+        }
+    }
+}
@@ -5,10 +5,12 @@ import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.mercedesbenz.sechub.commons.model.JSONConverter;
 import com.mercedesbenz.sechub.domain.scan.product.ProductResult;
+import com.mercedesbenz.sechub.domain.scan.product.ProductResultStorageService;
 import com.mercedesbenz.sechub.domain.scan.resolve.ProductResultSpdxJsonResolver;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoLicenseDocument;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoLicenseSpdx;
@@ -19,6 +21,9 @@ import com.mercedesbenz.sechub.sharedkernel.ProductIdentifier;
 public class SerecoProductResultSpdxJsonResolver implements ProductResultSpdxJsonResolver {
     private static final Logger LOG = LoggerFactory.getLogger(SerecoProductResultSpdxJsonResolver.class);
 
+    @Autowired
+    ProductResultStorageService productResultStorageService;
+
     /**
      * Fetches SPDX-Json from Sereco ProductResult
      *
@@ -33,7 +38,7 @@ public class SerecoProductResultSpdxJsonResolver implements ProductResultSpdxJso
             throw new IllegalArgumentException("Must be of type Sereco, but was: " + productIdentifier);
         }
 
-        String origin = serecoProductResult.getResult();
+        String origin = productResultStorageService.loadResult(serecoProductResult);
         SerecoMetaData data = JSONConverter.get().fromJSON(SerecoMetaData.class, origin);
         List<SerecoLicenseDocument> licenseDocuments = data.getLicenseDocuments();
 
@@ -1,10 +1,14 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.scan.product.sereco;
 
-import java.util.Collections;
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,7 +16,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import com.mercedesbenz.sechub.commons.model.JSONConverter;
 import com.mercedesbenz.sechub.commons.model.ScanType;
 import com.mercedesbenz.sechub.commons.model.SecHubCodeCallStack;
 import com.mercedesbenz.sechub.commons.model.SecHubFinding;
@@ -30,12 +33,13 @@ import com.mercedesbenz.sechub.commons.model.web.SecHubReportWebResponse;
 import com.mercedesbenz.sechub.domain.scan.ReportTransformationResult;
 import com.mercedesbenz.sechub.domain.scan.SecHubExecutionException;
 import com.mercedesbenz.sechub.domain.scan.product.ProductResult;
+import com.mercedesbenz.sechub.domain.scan.product.ProductResultStorageService;
+import com.mercedesbenz.sechub.domain.scan.report.ReportFindingStore;
 import com.mercedesbenz.sechub.domain.scan.report.ReportProductResultTransformer;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoAnnotation;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoAnnotationType;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoClassification;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoCodeCallStackElement;
-import com.mercedesbenz.sechub.sereco.metadata.SerecoMetaData;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoVulnerability;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoWeb;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoWebAttack;
@@ -52,90 +56,108 @@ public class SerecoProductResultTransformer implements ReportProductResultTransf
     @Autowired
     SerecoFalsePositiveMarker falsePositiveMarker;
 
+    @Autowired
+    ProductResultStorageService productResultStorageService;
+
     @Value("${sechub.feature.showProductResultLink:false}")
     @MustBeDocumented(scope = "administration", value = "Administrators can turn on this mode to allow product links in json and HTML output")
     boolean showProductLineResultLink;
 
     private static final Logger LOG = LoggerFactory.getLogger(SerecoProductResultTransformer.class);
 
+    SerecoMetaDataStreamReader metaDataReader = new SerecoMetaDataStreamReader();
+
     @Override
     public ReportTransformationResult transform(ProductResult serecoProductResult) throws SecHubExecutionException {
-        String origin = serecoProductResult.getResult();
         String projectId = serecoProductResult.getProjectId();
         UUID sechubJobUUID = serecoProductResult.getSecHubJobUUID();
 
-        SerecoMetaData data = JSONConverter.get().fromJSON(SerecoMetaData.class, origin);
-
-        falsePositiveMarker.markFalsePositives(projectId, data.getVulnerabilities());
-
         ReportTransformationResult transformerResult = new ReportTransformationResult();
         transformerResult.setReportVersion(SecHubReportVersion.VERSION_1_0.getVersionAsString());
         transformerResult.setJobUUID(sechubJobUUID);
 
-        List<SecHubFinding> findings = transformerResult.getResult().getFindings();
-
-        int findingId = 0;
-        for (SerecoVulnerability vulnerability : data.getVulnerabilities()) {
-            findingId++;
-            if (vulnerability.isFalsePositive()) {
-                /*
-                 * we do not add false positives to report - so we store only real positives.
-                 * False positive data is still available in SeReCo results and so in admin scan
-                 * logs,
-                 */
-                continue;
+        /*
+         * vulnerabilities are read, marked and converted one by one. Converted findings
+         * are written into a finding store - so neither the complete sereco meta data
+         * nor all findings are kept in memory. The store provides the findings sorted.
+         */
+        ReportFindingStore findingStore = createFindingStore(sechubJobUUID);
+        transformerResult.setFindingStore(findingStore);
+
+        FindingCollector collector = new FindingCollector(sechubJobUUID, falsePositiveMarker.createMarker(projectId), findingStore);
+        Set<SerecoAnnotation> annotations = new LinkedHashSet<>();
+        /* offloaded results are streamed directly from storage */
+        try (InputStream origin = productResultStorageService.openResult(serecoProductResult)) {
+            metaDataReader.read(origin, collector, annotations::add);
+            if (origin != null) {
+                /* read until end, so checksum of offloaded results is verified */
+                origin.transferTo(OutputStream.nullOutputStream());
             }
-            SecHubFinding finding = new SecHubFinding();
-            handleClassifications(finding, vulnerability, serecoProductResult.getSecHubJobUUID());
+        } catch (IOException | UncheckedIOException e) {
+            transformerResult.closeFindingStore();
+            throw new SecHubExecutionException("Was not able to read sereco meta data for job: " + sechubJobUUID, e);
+        } catch (RuntimeException e) {
+            transformerResult.closeFindingStore();
+            throw e;
+        }
+        transformerResult.getResult().setCount(findingStore.getCount());
 
-            finding.setDescription(vulnerability.getDescription());
-            finding.setName(vulnerability.getType());
-            finding.setSolution(vulnerability.getSolution());
-            finding.setId(findingId);
-            finding.setSeverity(transformSeverity(vulnerability.getSeverity()));
+        handleAnnotations(sechubJobUUID, annotations, transformerResult);
 
-            if (showProductLineResultLink) {
-                finding.setProductResultLink(vulnerability.getProductResultLink());
-            }
-            ScanType scanType = vulnerability.getScanType();
-            finding.setType(scanType);
-
-            if (scanType == null) {
-                // this should normally only happen for artificial vulnerability which
-                // were added for SecHub failures (a legacy feature which will be removed in
-                // future).
-                scanType = ScanType.UNKNOWN;
-                LOG.debug("Finding:{} '{}' has no scan type set. Use {} as fallback.", findingId, vulnerability.getType(), scanType);
-            }
-            switch (scanType) {
-            case CODE_SCAN:
-            case SECRET_SCAN:
-                finding.setCode(convert(vulnerability.getCode()));
-                break;
-            case INFRA_SCAN:
-                break;
-            case WEB_SCAN:
-                appendWebData(sechubJobUUID, vulnerability, finding);
-                break;
-            default:
-                break;
+        /* when status is not set already, no failure has appeared and we mark as OK */
+        if (transformerResult.getStatus() == null) {
+            transformerResult.setStatus(SecHubStatus.SUCCESS);
+        }
 
-            }
+        return transformerResult;
+    }
 
-            findings.add(finding);
+    private ReportFindingStore createFindingStore(UUID sechubJobUUID) throws SecHubExecutionException {
+        try {
+            return new ReportFindingStore();
+        } catch (IOException e) {
+            throw new SecHubExecutionException("Was not able to create finding store for job: " + sechubJobUUID, e);
         }
+    }
 
-        // we sort the findings
-        Collections.sort(findings);
+    private SecHubFinding createFinding(SerecoVulnerability vulnerability, int findingId, UUID sechubJobUUID) {
+        SecHubFinding finding = new SecHubFinding();
+        handleClassifications(finding, vulnerability, sechubJobUUID);
 
-        handleAnnotations(sechubJobUUID, data, transformerResult);
+        finding.setDescription(vulnerability.getDescription());
+        finding.setName(vulnerability.getType());
+        finding.setSolution(vulnerability.getSolution());
+        finding.setId(findingId);
+        finding.setSeverity(transformSeverity(vulnerability.getSeverity()));
 
-        /* when status is not set already, no failure has appeared and we mark as OK */
-        if (transformerResult.getStatus() == null) {
-            transformerResult.setStatus(SecHubStatus.SUCCESS);
+        if (showProductLineResultLink) {
+            finding.setProductResultLink(vulnerability.getProductResultLink());
         }
+        ScanType scanType = vulnerability.getScanType();
+        finding.setType(scanType);
+
+        if (scanType == null) {
+            // this should normally only happen for artificial vulnerability which
+            // were added for SecHub failures (a legacy feature which will be removed in
+            // future).
+            scanType = ScanType.UNKNOWN;
+            LOG.debug("Finding:{} '{}' has no scan type set. Use {} as fallback.", findingId, vulnerability.getType(), scanType);
+        }
+        switch (scanType) {
+        case CODE_SCAN:
+        case SECRET_SCAN:
+            finding.setCode(convert(vulnerability.getCode()));
+            break;
+        case INFRA_SCAN:
+            break;
+        case WEB_SCAN:
+            appendWebData(sechubJobUUID, vulnerability, finding);
+            break;
+        default:
+            break;
 
-        return transformerResult;
+        }
+        return finding;
     }
 
     private void appendWebData(UUID sechubJobUUID, SerecoVulnerability vulnerability, SecHubFinding finding) {
@@ -192,8 +214,7 @@ public class SerecoProductResultTransformer implements ReportProductResultTransf
         finding.setWeb(sechubWeb);
     }
 
-    private void handleAnnotations(UUID sechubJobUUID, SerecoMetaData data, ReportTransformationResult transformerResult) {
-        Set<SerecoAnnotation> annotations = data.getAnnotations();
+    private void handleAnnotations(UUID sechubJobUUID, Set<SerecoAnnotation> annotations, ReportTransformationResult transformerResult) {
         for (SerecoAnnotation annotation : annotations) {
             handleAnnotation(annotation, transformerResult, sechubJobUUID);
         }
@@ -296,4 +317,40 @@ public class SerecoProductResultTransformer implements ReportProductResultTransf
         return ProductIdentifier.SERECO.equals(productIdentifier);
     }
 
+    private class FindingCollector implements Consumer<SerecoVulnerability> {
+
+        private final UUID sechubJobUUID;
+        private final Consumer<SerecoVulnerability> falsePositiveMarker;
+        private final ReportFindingStore findingStore;
+        private int findingId;
+
+        private FindingCollector(UUID sechubJobUUID, Consumer<SerecoVulnerability> falsePositiveMarker, ReportFindingStore findingStore) {
+            this.sechubJobUUID = sechubJobUUID;
+            this.falsePositiveMarker = falsePositiveMarker;
+            this.findingStore = findingStore;
+        }
+
+        @Override
+        public void accept(SerecoVulnerability vulnerability) {
+            findingId++;
+            if (vulnerability == null) {
+                return;
+            }
+            falsePositiveMarker.accept(vulnerability);
+            if (vulnerability.isFalsePositive()) {
+                /*
+                 * we do not add false positives to report - so we store only real positives.
+                 * False positive data is still available in SeReCo results and so in admin scan
+                 * logs,
+                 */
+                return;
+            }
+            try {
+                findingStore.add(createFinding(vulnerability, findingId, sechubJobUUID));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Was not able to store finding " + findingId + " for job: " + sechubJobUUID, e);
+            }
+        }
+    }
+
 }
@@ -6,12 +6,23 @@ import static com.mercedesbenz.sechub.sereco.ImportParameter.*;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.mercedesbenz.sechub.commons.model.ScanType;
@@ -24,8 +35,11 @@ import com.mercedesbenz.sechub.domain.scan.product.ProductExecutor;
 import com.mercedesbenz.sechub.domain.scan.product.ProductExecutorContext;
 import com.mercedesbenz.sechub.domain.scan.product.ProductResult;
 import com.mercedesbenz.sechub.domain.scan.product.ProductResultRepository;
+import com.mercedesbenz.sechub.domain.scan.product.ProductResultStorageService;
 import com.mercedesbenz.sechub.sereco.Sereco;
 import com.mercedesbenz.sechub.sereco.Workspace;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoMetaData;
+import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
 import com.mercedesbenz.sechub.sharedkernel.ProductIdentifier;
 import com.mercedesbenz.sechub.sharedkernel.UUIDTraceLogID;
 import com.mercedesbenz.sechub.sharedkernel.configuration.SecHubConfiguration;
@@ -35,9 +49,25 @@ public class SerecoReportProductExecutor implements ProductExecutor {
 
     private static final Logger LOG = LoggerFactory.getLogger(SerecoReportProductExecutor.class);
 
+    private static final String SERECO_IMPORT_THREAD_PREFIX = "sechub-sereco-import:";
+
+    private static final boolean DEFAULT_PARALLEL_IMPORT_ENABLED = false;
+    private static final int DEFAULT_MAXIMUM_PARALLEL_IMPORTS = 4;
+
+    @MustBeDocumented(value = "When enabled, the product results of a SecHub job are imported by SERECO in parallel. The imported data is always merged in the same order, so the report does not differ from a sequential import. Only turn on when all used importers are thread safe.", scope = "scan")
+    @Value("${sechub.sereco.import.parallel.enabled:" + DEFAULT_PARALLEL_IMPORT_ENABLED + "}")
+    boolean parallelImportEnabled = DEFAULT_PARALLEL_IMPORT_ENABLED;
+
+    @MustBeDocumented(value = "Maximum amount of product results imported in parallel by SERECO for one SecHub job.", scope = "scan")
+    @Value("${sechub.sereco.import.parallel.max:" + DEFAULT_MAXIMUM_PARALLEL_IMPORTS + "}")
+    int maximumParallelImports = DEFAULT_MAXIMUM_PARALLEL_IMPORTS;
+
     @Autowired
     ProductResultRepository productResultRepository;
 
+    @Autowired
+    ProductResultStorageService productResultStorageService;
+
     @Autowired
     Sereco sechubReportCollector;
 
@@ -61,6 +91,14 @@ public class SerecoReportProductExecutor implements ProductExecutor {
     };
     /* @formatter:on */
 
+    @PostConstruct
+    void postConstruct() {
+        if (maximumParallelImports < 1) {
+            LOG.warn("Illegal maximum parallel imports defined: {} - will use: {} as fallback.", maximumParallelImports, DEFAULT_MAXIMUM_PARALLEL_IMPORTS);
+            maximumParallelImports = DEFAULT_MAXIMUM_PARALLEL_IMPORTS;
+        }
+    }
+
     @Override
     public ProductIdentifier getIdentifier() {
         return PRODUCT_IDENTIFIER;
@@ -91,30 +129,107 @@ public class SerecoReportProductExecutor implements ProductExecutor {
             return new ProductResult(secHubJobUUID, projectId, executorContext.getExecutorConfig(), "{}");
         }
 
-        return createReport(projectId, secHubJobUUID, context.getConfiguration(), traceLogId, executorContext, foundProductResults);
+        return createReport(projectId, secHubJobUUID, context, traceLogId, executorContext, foundProductResults);
     }
 
-    private ProductResult createReport(String projectId, UUID secHubJobUUID, SecHubConfiguration sechubConfig, UUIDTraceLogID traceLogId,
+    private ProductResult createReport(String projectId, UUID secHubJobUUID, SecHubExecutionContext context, UUIDTraceLogID traceLogId,
             ProductExecutorContext executorContext, List<ProductResult> foundProductResults) {
         Workspace workspace = sechubReportCollector.createWorkspace(projectId);
+        SecHubConfiguration sechubConfig = context.getConfiguration();
+
+        List<ProductImport> productImports;
+        if (parallelImportEnabled && foundProductResults.size() > 1) {
+            productImports = importProductResultsParallel(traceLogId, sechubConfig, workspace, foundProductResults);
+        } else {
+            productImports = new ArrayList<>();
+            for (ProductResult productResult : foundProductResults) {
+                productImports.add(importProductResult(traceLogId, sechubConfig, workspace, productResult));
+            }
+        }
 
-        for (ProductResult productResult : foundProductResults) {
-            importProductResult(traceLogId, sechubConfig, workspace, productResult);
+        /* merge always in order of product results - so report is always the same */
+        Map<String, Long> importTimesInMilliseconds = new LinkedHashMap<>();
+        for (ProductImport productImport : productImports) {
+            workspace.merge(productImport.metaData);
+            importTimesInMilliseconds.merge(productImport.productId, productImport.timeInMilliseconds, Long::sum);
+        }
+        for (Map.Entry<String, Long> entry : importTimesInMilliseconds.entrySet()) {
+            context.rememberPhaseTime(SCAN_TYPE.getId() + "." + entry.getKey(), entry.getValue());
         }
+
         String json = workspace.createReport();
         /* fetch + return all vulnerabilities as JSON */
         return new ProductResult(secHubJobUUID, projectId, executorContext.getExecutorConfig(), json);
     }
 
-    private void importProductResult(UUIDTraceLogID traceLogId, SecHubConfiguration sechubConfig, Workspace workspace, ProductResult productResult) {
-        String importData = productResult.getResult();
+    private List<ProductImport> importProductResultsParallel(UUIDTraceLogID traceLogId, SecHubConfiguration sechubConfig, Workspace workspace,
+            List<ProductResult> productResults) {
+        int threadCount = Math.min(maximumParallelImports, productResults.size());
+        LOG.debug("{} will import {} product results with maximum {} in parallel", traceLogId, productResults.size(), threadCount);
+
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount,
+                runnable -> new Thread(runnable, SERECO_IMPORT_THREAD_PREFIX + traceLogId.getPlainId() + ":" + threadNumber.incrementAndGet()));
+        try {
+            List<Future<ProductImport>> futures = new ArrayList<>();
+            for (ProductResult productResult : productResults) {
+                futures.add(executorService.submit(() -> {
+                    if (mdcContext != null) {
+                        MDC.setContextMap(mdcContext);
+                    }
+                    try {
+                        return importProductResult(traceLogId, sechubConfig, workspace, productResult);
+                    } finally {
+                        MDC.clear();
+                    }
+                }));
+            }
+            executorService.shutdown();
+
+            List<ProductImport> productImports = new ArrayList<>();
+            for (Future<ProductImport> future : futures) {
+                try {
+                    productImports.add(future.get());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    throw new SecHubRuntimeException("Parallel import into workspace failed", cause);
+                }
+            }
+            return productImports;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SecHubRuntimeException("Parallel import into workspace was interrupted for " + traceLogId, e);
+        } finally {
+            /* on failures other imports are not necessary any more */
+            executorService.shutdownNow();
+        }
+    }
 
+    private ProductImport importProductResult(UUIDTraceLogID traceLogId, SecHubConfiguration sechubConfig, Workspace workspace, ProductResult productResult) {
+        long start = System.currentTimeMillis();
         String productId = productResult.getProductIdentifier().name();
 
+        SerecoMetaData metaData = importProductResult(traceLogId, sechubConfig, workspace, productResult, productId);
+
+        long timeInMilliseconds = System.currentTimeMillis() - start;
+        LOG.debug("{} import of product result '{}' from product '{}' needed {} ms", traceLogId, productResult.getUUID(), productId, timeInMilliseconds);
+
+        return new ProductImport(productId, metaData, timeInMilliseconds);
+    }
+
+    private SerecoMetaData importProductResult(UUIDTraceLogID traceLogId, SecHubConfiguration sechubConfig, Workspace workspace, ProductResult productResult,
+            String productId) {
+        String importData = productResultStorageService.loadResult(productResult);
+
         if (importData == null) {
             LOG.info("For SecHub job: {} the product: {} did return not even an empty string - so we skip here gracefully.", traceLogId.getPlainId(),
                     productId);
-            return;
+            return null;
         }
         List<SecHubMessage> productMessages = new ArrayList<>();
         String messagesJson = productResult.getMessages();
@@ -134,7 +249,7 @@ public class SerecoReportProductExecutor implements ProductExecutor {
 
         /* @formatter:off */
 		try {
-			workspace.doImport(sechubConfig, builder().
+			return workspace.importToMetaData(sechubConfig, builder().
 						productId(productId).
 						importData(importData).
 						importProductMessages(productMessages).
@@ -165,4 +280,17 @@ public class SerecoReportProductExecutor implements ProductExecutor {
         return "AbstractProductExecutor [" + (PRODUCT_IDENTIFIER != null ? "PRODUCT_IDENTIFIER=" + PRODUCT_IDENTIFIER + ", " : "") + "VERSION=" + VERSION + ", "
                 + (SCAN_TYPE != null ? "SCAN_TYPE=" + SCAN_TYPE : "") + "]";
     }
+
+    private static class ProductImport {
+
+        private final String productId;
+        private final SerecoMetaData metaData;
+        private final long timeInMilliseconds;
+
+        private ProductImport(String productId, SerecoMetaData metaData, long timeInMilliseconds) {
+            this.productId = productId;
+            this.metaData = metaData;
+            this.timeInMilliseconds = timeInMilliseconds;
+        }
+    }
 }
@@ -0,0 +1,263 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.product.sereco;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mercedesbenz.sechub.commons.model.ScanType;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveCodeMetaData;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveCodePartMetaData;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveEntry;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveJobData;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveMetaData;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveWebMetaData;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoVulnerability;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoWeb;
+
+public class SerecoFalsePositiveIndexTest {
+
+    private List<FalsePositiveEntry> entries;
+
+    @Before
+    public void before() throws Exception {
+        entries = new ArrayList<>();
+    }
+
+    @Test
+    public void code_scan_entry_is_candidate_only_for_vulnerability_with_same_cwe_and_location() {
+        /* prepare */
+        FalsePositiveEntry entry = addCodeEntry(ScanType.CODE_SCAN, 79, "location1");
+        SerecoFalsePositiveIndex indexToTest = new SerecoFalsePositiveIndex(entries);
+
+        /* execute + test */
+        assertEquals(List.of(entry), indexToTest.getCandidates(createCodeVulnerability(ScanType.CODE_SCAN, 79, "location1")));
+        assertEquals(List.of(), indexToTest.getCandidates(createCodeVulnerability(ScanType.CODE_SCAN, 89, "location1")));
+        assertEquals(List.of(), indexToTest.getCandidates(createCodeVulnerability(ScanType.CODE_SCAN, 79, "location2")));
+        assertEquals(List.of(), indexToTest.getCandidates(createCodeVulnerability(ScanType.SECRET_SCAN, 79, "location1")));
+    }
+
+    @Test
+    public void entries_without_key_are_candidates_for_all_vulnerabilities_of_same_scan_type_in_configuration_order() {
+        /* prepare */
+        FalsePositiveEntry entry1 = addEntryWithoutKey(ScanType.CODE_SCAN);
+        FalsePositiveEntry entry2 = addCodeEntry(ScanType.CODE_SCAN, 79, "location1");
+        FalsePositiveEntry entry3 = addEntryWithoutKey(ScanType.CODE_SCAN);
+        FalsePositiveEntry entry4 = addCodeEntry(ScanType.CODE_SCAN, 79, "location1");
+        addEntryWithoutKey(ScanType.WEB_SCAN);
+        SerecoFalsePositiveIndex indexToTest = new SerecoFalsePositiveIndex(entries);
+
+        /* execute */
+        List<FalsePositiveEntry> result = indexToTest.getCandidates(createCodeVulnerability(ScanType.CODE_SCAN, 79, "location1"));
+
+        /* test */
+        assertEquals(List.of(entry1, entry2, entry3, entry4), result);
+    }
+
+    @Test
+    public void vulnerability_without_code_gets_all_entries_of_same_scan_type() {
+        /* prepare */
+        FalsePositiveEntry entry1 = addCodeEntry(ScanType.CODE_SCAN, 79, "location1");
+        FalsePositiveEntry entry2 = addCodeEntry(ScanType.CODE_SCAN, 89, "location2");
+        addCodeEntry(ScanType.SECRET_SCAN, 79, "location1");
+        SerecoFalsePositiveIndex indexToTest = new SerecoFalsePositiveIndex(entries);
+
+        SerecoVulnerability vulnerability = new SerecoVulnerability();
+        vulnerability.setScanType(ScanType.CODE_SCAN);
+
+        /* execute */
+        List<FalsePositiveEntry> result = indexToTest.getCandidates(vulnerability);
+
+        /* test */
+        assertEquals(List.of(entry1, entry2), result);
+    }
+
+    @Test
+    public void web_scan_entry_target_and_method_are_compared_trimmed() {
+        /* prepare */
+        FalsePositiveEntry entry = addWebEntry(null, " https://example.org/path ", "GET");
+        SerecoFalsePositiveIndex indexToTest = new SerecoFalsePositiveIndex(entries);
+
+        /* execute + test */
+        assertEquals(List.of(entry), indexToTest.getCandidates(createWebVulnerability(null, "https://example.org/path", " GET")));
+        assertEquals(List.of(), indexToTest.getCandidates(createWebVulnerability(null, "https://example.org/path", "POST")));
+        assertEquals(List.of(), indexToTest.getCandidates(createWebVulnerability(null, "https://example.org/other", "GET")));
+        assertEquals(List.of(), indexToTest.getCandidates(createWebVulnerability(79, "https://example.org/path", "GET")));
+    }
+
+    @Test
+    public void entries_for_unsupported_scan_types_are_never_candidates() {
+        /* prepare */
+        addEntryWithoutKey(ScanType.INFRA_SCAN);
+        SerecoFalsePositiveIndex indexToTest = new SerecoFalsePositiveIndex(entries);
+
+        SerecoVulnerability vulnerability = new SerecoVulnerability();
+        vulnerability.setScanType(ScanType.INFRA_SCAN);
+
+        /* execute + test */
+        assertEquals(List.of(), indexToTest.getCandidates(vulnerability));
+    }
+
+    @Test
+    public void marker_with_index_has_same_results_as_comparing_all_entries() {
+        /* prepare */
+        Random random = new Random(4711);
+        for (int i = 0; i < 500; i++) {
+            int cweId = 70 + random.nextInt(10);
+            String location = "location" + random.nextInt(50);
+            switch (random.nextInt(4)) {
+            case 0:
+                addCodeEntry(ScanType.CODE_SCAN, cweId, location).getMetaData().getCode().getStart().setRelevantPart("relevant" + random.nextInt(3));
+                break;
+            case 1:
+                addCodeEntry(ScanType.SECRET_SCAN, cweId, location).getMetaData().getCode().getStart().setRelevantPart("relevant" + random.nextInt(3));
+                break;
+            case 2:
+                addWebEntry(cweId, "https://example.org/" + location, random.nextBoolean() ? "GET" : "POST");
+                break;
+            default:
+                addEntryWithoutKey(ScanType.CODE_SCAN);
+            }
+        }
+        List<SerecoVulnerability> vulnerabilities = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int cweId = 70 + random.nextInt(10);
+            String location = "location" + random.nextInt(50);
+            SerecoVulnerability vulnerability;
+            switch (random.nextInt(3)) {
+            case 0:
+                vulnerability = createCodeVulnerability(ScanType.CODE_SCAN, cweId, location);
+                vulnerability.getCode().setRelevantPart("relevant" + random.nextInt(3));
+                break;
+            case 1:
+                vulnerability = createCodeVulnerability(ScanType.SECRET_SCAN, cweId, location);
+                vulnerability.getCode().setRelevantPart("relevant" + random.nextInt(3));
+                break;
+            default:
+                vulnerability = createWebVulnerability(cweId, "https://example.org/" + location, random.nextBoolean() ? "GET" : "POST");
+            }
+            vulnerability.setType("type" + i);
+            vulnerabilities.add(vulnerability);
+        }
+        SerecoFalsePositiveFinder finder = createFinder();
+        SerecoFalsePositiveIndex indexToTest = new SerecoFalsePositiveIndex(entries);
+
+        /* execute + test */
+        int found = 0;
+        for (SerecoVulnerability vulnerability : vulnerabilities) {
+            FalsePositiveEntry expected = findFirstByComparingAll(finder, vulnerability);
+            FalsePositiveEntry result = null;
+            for (FalsePositiveEntry candidate : indexToTest.getCandidates(vulnerability)) {
+                if (finder.isFound(vulnerability, candidate.getMetaData())) {
+                    result = candidate;
+                    break;
+                }
+            }
+            assertSame(expected, result);
+            if (result != null) {
+                found++;
+            }
+        }
+        assertTrue("test data must contain false positives, but found: " + found, found > 0);
+    }
+
+    private FalsePositiveEntry findFirstByComparingAll(SerecoFalsePositiveFinder finder, SerecoVulnerability vulnerability) {
+        for (FalsePositiveEntry entry : entries) {
+            if (entry.getMetaData().getScanType() == vulnerability.getScanType() && finder.isFound(vulnerability, entry.getMetaData())) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private SerecoFalsePositiveFinder createFinder() {
+        SerecoFalsePositiveSupport support = new SerecoFalsePositiveSupport();
+        SerecoSourceRelevantPartResolver resolver = new SerecoSourceRelevantPartResolver();
+
+        CodeScanFalsePositiveStrategy codeScanStrategy = new CodeScanFalsePositiveStrategy();
+        codeScanStrategy.falsePositiveSupport = support;
+        codeScanStrategy.relevantPartResolver = resolver;
+
+        SecretScanFalsePositiveStrategy secretScanStrategy = new SecretScanFalsePositiveStrategy();
+        secretScanStrategy.falsePositiveSupport = support;
+        secretScanStrategy.relevantPartResolver = resolver;
+
+        WebScanFalsePositiveStrategy webScanStrategy = new WebScanFalsePositiveStrategy();
+        webScanStrategy.falsePositiveSupport = support;
+
+        SerecoFalsePositiveFinder finder = new SerecoFalsePositiveFinder();
+        finder.codeScanStrategy = codeScanStrategy;
+        finder.secretScanStrategy = secretScanStrategy;
+        finder.webScanStrategy = webScanStrategy;
+        return finder;
+    }
+
+    private SerecoVulnerability createCodeVulnerability(ScanType scanType, int cweId, String location) {
+        TestSerecoVulnerabilityBuilder builder = TestSerecoVulnerabilityBuilder.builder().name("name1").cwe(cweId);
+        if (scanType == ScanType.SECRET_SCAN) {
+            builder.secretScan().location(location).end();
+        } else {
+            builder.codeScan().location(location).end();
+        }
+        return builder.build();
+    }
+
+    private SerecoVulnerability createWebVulnerability(Integer cweId, String target, String method) {
+        TestSerecoVulnerabilityBuilder builder = TestSerecoVulnerabilityBuilder.builder().name("name1").webScan().end();
+        if (cweId != null) {
+            builder.cwe(cweId);
+        }
+        SerecoVulnerability vulnerability = builder.build();
+        SerecoWeb web = new SerecoWeb();
+        web.getRequest().setTarget(target);
+        web.getRequest().setMethod(method);
+        vulnerability.setWeb(web);
+        return vulnerability;
+    }
+
+    private FalsePositiveEntry addCodeEntry(ScanType scanType, int cweId, String location) {
+        FalsePositiveCodePartMetaData start = new FalsePositiveCodePartMetaData();
+        start.setLocation(location);
+        FalsePositiveCodeMetaData code = new FalsePositiveCodeMetaData();
+        code.setStart(start);
+
+        FalsePositiveEntry entry = addEntryWithoutKey(scanType);
+        entry.getMetaData().setCweId(cweId);
+        entry.getMetaData().setCode(code);
+        return entry;
+    }
+
+    private FalsePositiveEntry addWebEntry(Integer cweId, String target, String method) {
+        FalsePositiveWebMetaData web = new FalsePositiveWebMetaData();
+        web.getRequest().setTarget(target);
+        web.getRequest().setMethod(method);
+
+        FalsePositiveEntry entry = addEntryWithoutKey(ScanType.WEB_SCAN);
+        entry.getMetaData().setCweId(cweId);
+        entry.getMetaData().setWeb(web);
+        return entry;
+    }
+
+    private FalsePositiveEntry addEntryWithoutKey(ScanType scanType) {
+        FalsePositiveMetaData metaData = new FalsePositiveMetaData();
+        metaData.setScanType(scanType);
+        metaData.setName("name1");
+
+        FalsePositiveJobData jobData = new FalsePositiveJobData();
+        jobData.setJobUUID(UUID.randomUUID());
+        jobData.setFindingId(entries.size());
+
+        FalsePositiveEntry entry = new FalsePositiveEntry();
+        entry.setMetaData(metaData);
+        entry.setJobData(jobData);
+        entries.add(entry);
+        return entry;
+    }
+
+}
@@ -0,0 +1,220 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.product.sereco;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mercedesbenz.sechub.commons.model.ScanType;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveCodeMetaData;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveCodePartMetaData;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveEntry;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveJobData;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveMetaData;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveProjectConfiguration;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveProjectConfigurationCache;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveWebMetaData;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoCodeCallStackElement;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoVulnerability;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoWeb;
+import com.mercedesbenz.sechub.test.ManualTest;
+
+/**
+ * A simple benchmark comparing false positive marking by inspecting all
+ * configured entries for every vulnerability (former implementation) with
+ * {@link SerecoFalsePositiveMarker} which uses the
+ * {@link SerecoFalsePositiveIndex}. Usage example:
+ *
+ * <pre>
+ * -Dsechub.manual.test.by.developer=true
+ * </pre>
+ *
+ * Optional: <code>sechub.manualtest.falsepositives.entries</code> (default
+ * 5000), <code>sechub.manualtest.falsepositives.vulnerabilities</code> (default
+ * 20000)
+ */
+class SerecoFalsePositiveMarkerBenchmarkManualTest implements ManualTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SerecoFalsePositiveMarkerBenchmarkManualTest.class);
+
+    private static final String PROJECT_ID = "benchmark-project";
+    private static final int FILES = 2000;
+    private static final int CWE_IDS = 40;
+
+    @Test
+    void manualTestByDeveloper() throws Exception {
+        int entryCount = Integer.getInteger("sechub.manualtest.falsepositives.entries", 5000);
+        int vulnerabilityCount = Integer.getInteger("sechub.manualtest.falsepositives.vulnerabilities", 20000);
+
+        List<FalsePositiveEntry> entries = createEntries(entryCount);
+        SerecoFalsePositiveFinder finder = createFinder();
+        SerecoFalsePositiveMarker marker = createMarker(finder, entries);
+
+        /* warm up */
+        markByComparingAll(finder, entries.subList(0, 100), createVulnerabilities(1000));
+        marker.markFalsePositives(PROJECT_ID, createVulnerabilities(1000));
+
+        List<SerecoVulnerability> vulnerabilities1 = createVulnerabilities(vulnerabilityCount);
+        long start = System.nanoTime();
+        int found1 = markByComparingAll(finder, entries, vulnerabilities1);
+        long compareAllMillis = (System.nanoTime() - start) / 1_000_000;
+
+        List<SerecoVulnerability> vulnerabilities2 = createVulnerabilities(vulnerabilityCount);
+        start = System.nanoTime();
+        marker.markFalsePositives(PROJECT_ID, vulnerabilities2);
+        long indexMillis = (System.nanoTime() - start) / 1_000_000;
+        int found2 = countFalsePositives(vulnerabilities2);
+
+        LOG.info("False positive marking benchmark - entries: {}, vulnerabilities: {}", entryCount, vulnerabilityCount);
+        LOG.info("compare all : false positives: {}, time: {} ms", found1, compareAllMillis);
+        LOG.info("index       : false positives: {}, time: {} ms", found2, indexMillis);
+        if (found1 != found2) {
+            throw new IllegalStateException("Different results: " + found1 + " != " + found2);
+        }
+    }
+
+    private int markByComparingAll(SerecoFalsePositiveFinder finder, List<FalsePositiveEntry> entries, List<SerecoVulnerability> vulnerabilities) {
+        for (SerecoVulnerability vulnerability : vulnerabilities) {
+            for (FalsePositiveEntry entry : entries) {
+                FalsePositiveMetaData metaData = entry.getMetaData();
+                if (metaData.getScanType() == vulnerability.getScanType() && finder.isFound(vulnerability, metaData)) {
+                    vulnerability.setFalsePositive(true);
+                    break;
+                }
+            }
+        }
+        return countFalsePositives(vulnerabilities);
+    }
+
+    private int countFalsePositives(List<SerecoVulnerability> vulnerabilities) {
+        int count = 0;
+        for (SerecoVulnerability vulnerability : vulnerabilities) {
+            if (vulnerability.isFalsePositive()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private SerecoFalsePositiveMarker createMarker(SerecoFalsePositiveFinder finder, List<FalsePositiveEntry> entries) {
+        FalsePositiveProjectConfiguration projectConfig = new FalsePositiveProjectConfiguration();
+        projectConfig.getFalsePositives().addAll(entries);
+
+        String json = projectConfig.toJSON();
+
+        /* no caching here - so parsing and indexing is measured for every marking */
+        FalsePositiveProjectConfigurationCache cache = mock(FalsePositiveProjectConfigurationCache.class);
+        when(cache.getCompiled(eq(PROJECT_ID), eq(SerecoFalsePositiveIndex.class), any())).thenAnswer(invocation -> {
+            Function<FalsePositiveProjectConfiguration, SerecoFalsePositiveIndex> compiler = invocation.getArgument(2);
+            return compiler.apply(FalsePositiveProjectConfiguration.fromJSONString(json));
+        });
+
+        SerecoFalsePositiveMarker marker = new SerecoFalsePositiveMarker();
+        marker.falsePositiveFinder = finder;
+        marker.falsePositiveConfigurationCache = cache;
+        return marker;
+    }
+
+    private SerecoFalsePositiveFinder createFinder() {
+        SerecoFalsePositiveSupport support = new SerecoFalsePositiveSupport();
+        SerecoSourceRelevantPartResolver resolver = new SerecoSourceRelevantPartResolver();
+
+        CodeScanFalsePositiveStrategy codeScanStrategy = new CodeScanFalsePositiveStrategy();
+        codeScanStrategy.falsePositiveSupport = support;
+        codeScanStrategy.relevantPartResolver = resolver;
+
+        SecretScanFalsePositiveStrategy secretScanStrategy = new SecretScanFalsePositiveStrategy();
+        secretScanStrategy.falsePositiveSupport = support;
+        secretScanStrategy.relevantPartResolver = resolver;
+
+        WebScanFalsePositiveStrategy webScanStrategy = new WebScanFalsePositiveStrategy();
+        webScanStrategy.falsePositiveSupport = support;
+
+        SerecoFalsePositiveFinder finder = new SerecoFalsePositiveFinder();
+        finder.codeScanStrategy = codeScanStrategy;
+        finder.secretScanStrategy = secretScanStrategy;
+        finder.webScanStrategy = webScanStrategy;
+        return finder;
+    }
+
+    private List<FalsePositiveEntry> createEntries(int count) {
+        Random random = new Random(1);
+        List<FalsePositiveEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            FalsePositiveMetaData metaData = new FalsePositiveMetaData();
+            metaData.setName("name" + i);
+            metaData.setCweId(random.nextInt(CWE_IDS));
+
+            int file = random.nextInt(FILES);
+            if (i % 10 == 0) {
+                FalsePositiveWebMetaData web = new FalsePositiveWebMetaData();
+                web.getRequest().setTarget("https://example.org/app/path" + file);
+                web.getRequest().setMethod("GET");
+                metaData.setScanType(ScanType.WEB_SCAN);
+                metaData.setWeb(web);
+            } else {
+                FalsePositiveCodePartMetaData start = new FalsePositiveCodePartMetaData();
+                start.setLocation(createLocation(file));
+                start.setSourceCode(createSource(random.nextInt(5)));
+                FalsePositiveCodeMetaData code = new FalsePositiveCodeMetaData();
+                code.setStart(start);
+                metaData.setScanType(i % 10 == 1 ? ScanType.SECRET_SCAN : ScanType.CODE_SCAN);
+                metaData.setCode(code);
+            }
+            FalsePositiveJobData jobData = new FalsePositiveJobData();
+            jobData.setJobUUID(UUID.randomUUID());
+            jobData.setFindingId(i);
+
+            FalsePositiveEntry entry = new FalsePositiveEntry();
+            entry.setJobData(jobData);
+            entry.setMetaData(metaData);
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    private List<SerecoVulnerability> createVulnerabilities(int count) {
+        Random random = new Random(2);
+        List<SerecoVulnerability> vulnerabilities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            SerecoVulnerability vulnerability = new SerecoVulnerability();
+            vulnerability.setType("type" + i);
+            vulnerability.getClassification().setCwe("" + random.nextInt(CWE_IDS));
+
+            int file = random.nextInt(FILES);
+            if (i % 10 == 0) {
+                SerecoWeb web = new SerecoWeb();
+                web.getRequest().setTarget("https://example.org/app/path" + file);
+                web.getRequest().setMethod("GET");
+                vulnerability.setScanType(ScanType.WEB_SCAN);
+                vulnerability.setWeb(web);
+            } else {
+                SerecoCodeCallStackElement code = new SerecoCodeCallStackElement();
+                code.setLocation(createLocation(file));
+                code.setSource(createSource(random.nextInt(5)));
+                vulnerability.setScanType(i % 10 == 1 ? ScanType.SECRET_SCAN : ScanType.CODE_SCAN);
+                vulnerability.setCode(code);
+            }
+            vulnerabilities.add(vulnerability);
+        }
+        return vulnerabilities;
+    }
+
+    private String createLocation(int file) {
+        return "src/main/java/com/example/module" + (file % 20) + "/File" + file + ".java";
+    }
+
+    private String createSource(int variant) {
+        return "    String value = request.getParameter(\"param" + variant + "\");";
+    }
+
+}
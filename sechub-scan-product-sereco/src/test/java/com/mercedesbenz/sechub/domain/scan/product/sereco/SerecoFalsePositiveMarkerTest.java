@@ -1,10 +1,14 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.scan.product.sereco;
 
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -13,17 +17,14 @@ import com.mercedesbenz.sechub.commons.model.ScanType;
 import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveEntry;
 import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveMetaData;
 import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveProjectConfiguration;
-import com.mercedesbenz.sechub.domain.scan.project.ScanProjectConfig;
-import com.mercedesbenz.sechub.domain.scan.project.ScanProjectConfigID;
-import com.mercedesbenz.sechub.domain.scan.project.ScanProjectConfigService;
+import com.mercedesbenz.sechub.domain.scan.project.FalsePositiveProjectConfigurationCache;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoVulnerability;
 
 public class SerecoFalsePositiveMarkerTest {
 
     private static final String PROJECT_ID = "project1";
     private SerecoFalsePositiveMarker markerToTest;
-    private ScanProjectConfigService scanProjectConfigService;
-    private ScanProjectConfig config;
+    private FalsePositiveProjectConfigurationCache falsePositiveConfigurationCache;
     private SerecoFalsePositiveFinder falsePositiveFinder;
     private FalsePositiveProjectConfiguration projectConfig;
 
@@ -31,15 +32,18 @@ public class SerecoFalsePositiveMarkerTest {
     public void before() throws Exception {
         markerToTest = new SerecoFalsePositiveMarker();
 
-        scanProjectConfigService = mock(ScanProjectConfigService.class);
+        falsePositiveConfigurationCache = mock(FalsePositiveProjectConfigurationCache.class);
         falsePositiveFinder = mock(SerecoFalsePositiveFinder.class);
 
-        config = new ScanProjectConfig(ScanProjectConfigID.FALSE_POSITIVE_CONFIGURATION, PROJECT_ID);
-        when(scanProjectConfigService.get(PROJECT_ID, ScanProjectConfigID.FALSE_POSITIVE_CONFIGURATION, false)).thenReturn(config);
-        markerToTest.scanProjectConfigService = scanProjectConfigService;
-        markerToTest.falsePositiveFinder = falsePositiveFinder;
-
         projectConfig = new FalsePositiveProjectConfiguration();
+
+        /* cache mock compiles always the (re-parsed) current project configuration */
+        when(falsePositiveConfigurationCache.getCompiled(eq(PROJECT_ID), eq(SerecoFalsePositiveIndex.class), any())).thenAnswer(invocation -> {
+            Function<FalsePositiveProjectConfiguration, SerecoFalsePositiveIndex> compiler = invocation.getArgument(2);
+            return compiler.apply(FalsePositiveProjectConfiguration.fromJSONString(projectConfig.toJSON()));
+        });
+        markerToTest.falsePositiveConfigurationCache = falsePositiveConfigurationCache;
+        markerToTest.falsePositiveFinder = falsePositiveFinder;
     }
 
     @Test
@@ -47,7 +51,6 @@ public class SerecoFalsePositiveMarkerTest {
 
         /* prepare */
         FalsePositiveMetaData metaData = addEntryAndReturnMetaData(projectConfig, ScanType.WEB_SCAN);
-        config.setData(projectConfig.toJSON());
 
         List<SerecoVulnerability> all = new ArrayList<>();
         SerecoVulnerability v1 = addVulnerability(all, ScanType.WEB_SCAN);
@@ -64,7 +67,6 @@ public class SerecoFalsePositiveMarkerTest {
 
         /* prepare */
         FalsePositiveMetaData metaData = addEntryAndReturnMetaData(projectConfig, ScanType.CODE_SCAN);
-        config.setData(projectConfig.toJSON());
 
         List<SerecoVulnerability> all = new ArrayList<>();
         SerecoVulnerability v1 = addVulnerability(all, ScanType.WEB_SCAN);
@@ -81,7 +83,6 @@ public class SerecoFalsePositiveMarkerTest {
 
         /* prepare */
         FalsePositiveMetaData metaData = addEntryAndReturnMetaData(projectConfig, ScanType.CODE_SCAN);
-        config.setData(projectConfig.toJSON());
 
         List<SerecoVulnerability> all = new ArrayList<>();
         SerecoVulnerability v1 = addVulnerability(all, ScanType.CODE_SCAN);
@@ -98,7 +99,6 @@ public class SerecoFalsePositiveMarkerTest {
 
         /* prepare */
         FalsePositiveMetaData metaData = addEntryAndReturnMetaData(projectConfig, ScanType.WEB_SCAN);
-        config.setData(projectConfig.toJSON());
 
         List<SerecoVulnerability> all = new ArrayList<>();
         SerecoVulnerability v1 = addVulnerability(all, ScanType.CODE_SCAN);
@@ -110,6 +110,43 @@ public class SerecoFalsePositiveMarkerTest {
         verify(falsePositiveFinder, never()).isFound(v1, metaData);
     }
 
+    @Test
+    public void no_false_positive_configuration_triggers_NOT_falsePositiveFinder() {
+
+        /* prepare */
+        when(falsePositiveConfigurationCache.getCompiled(eq(PROJECT_ID), eq(SerecoFalsePositiveIndex.class), any())).thenReturn(null);
+
+        List<SerecoVulnerability> all = new ArrayList<>();
+        addVulnerability(all, ScanType.CODE_SCAN);
+
+        /* execute */
+        markerToTest.markFalsePositives(PROJECT_ID, all);
+
+        /* test */
+        verifyNoInteractions(falsePositiveFinder);
+    }
+
+    @Test
+    public void created_marker_resolves_configuration_only_once_and_marks_found_vulnerabilities() {
+
+        /* prepare */
+        FalsePositiveMetaData metaData = addEntryAndReturnMetaData(projectConfig, ScanType.CODE_SCAN);
+        List<SerecoVulnerability> all = new ArrayList<>();
+        SerecoVulnerability v1 = addVulnerability(all, ScanType.CODE_SCAN);
+        SerecoVulnerability v2 = addVulnerability(all, ScanType.CODE_SCAN);
+        when(falsePositiveFinder.isFound(v1, metaData)).thenReturn(true);
+
+        /* execute */
+        Consumer<SerecoVulnerability> marker = markerToTest.createMarker(PROJECT_ID);
+        marker.accept(v1);
+        marker.accept(v2);
+
+        /* test */
+        verify(falsePositiveConfigurationCache, times(1)).getCompiled(eq(PROJECT_ID), eq(SerecoFalsePositiveIndex.class), any());
+        assertTrue(v1.isFalsePositive());
+        assertFalse(v2.isFalsePositive());
+    }
+
     private SerecoVulnerability addVulnerability(List<SerecoVulnerability> all, ScanType scanType) {
         SerecoVulnerability v1 = new SerecoVulnerability();
         v1.setScanType(scanType);
@@ -0,0 +1,141 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.product.sereco;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mercedesbenz.sechub.commons.model.JSONConverter;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoAnnotation;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoAnnotationType;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoLicenseDocument;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoMetaData;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoVulnerability;
+
+public class SerecoMetaDataStreamReaderTest {
+
+    private SerecoMetaDataStreamReader readerToTest;
+    private List<SerecoVulnerability> vulnerabilities;
+    private List<SerecoAnnotation> annotations;
+
+    @Before
+    public void before() throws Exception {
+        readerToTest = new SerecoMetaDataStreamReader();
+        vulnerabilities = new ArrayList<>();
+        annotations = new ArrayList<>();
+    }
+
+    @Test
+    public void vulnerabilities_and_annotations_are_read_in_origin_order() throws Exception {
+        /* prepare */
+        SerecoMetaData data = new SerecoMetaData();
+        data.getLicenseDocuments().add(new SerecoLicenseDocument());
+        for (int i = 0; i < 3; i++) {
+            SerecoVulnerability vulnerability = new SerecoVulnerability();
+            vulnerability.setType("type" + i);
+            data.getVulnerabilities().add(vulnerability);
+        }
+        SerecoAnnotation annotation = new SerecoAnnotation();
+        annotation.setType(SerecoAnnotationType.USER_INFO);
+        annotation.setValue("info");
+        data.getAnnotations().add(annotation);
+
+        /* execute */
+        readerToTest.read(JSONConverter.get().toJSON(data), vulnerabilities::add, annotations::add);
+
+        /* test */
+        assertEquals(3, vulnerabilities.size());
+        assertEquals("type0", vulnerabilities.get(0).getType());
+        assertEquals("type1", vulnerabilities.get(1).getType());
+        assertEquals("type2", vulnerabilities.get(2).getType());
+        assertEquals(1, annotations.size());
+        assertEquals(annotation, annotations.get(0));
+    }
+
+    @Test
+    public void vulnerabilities_are_read_from_stream_and_stream_is_not_closed() throws Exception {
+        /* prepare */
+        SerecoMetaData data = new SerecoMetaData();
+        SerecoVulnerability vulnerability = new SerecoVulnerability();
+        vulnerability.setType("type1");
+        data.getVulnerabilities().add(vulnerability);
+        boolean[] closed = new boolean[1];
+        InputStream inputStream = new ByteArrayInputStream(JSONConverter.get().toJSON(data).getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() throws IOException {
+                closed[0] = true;
+            }
+        };
+
+        /* execute */
+        readerToTest.read(inputStream, vulnerabilities::add, annotations::add);
+
+        /* test */
+        assertEquals(1, vulnerabilities.size());
+        assertEquals("type1", vulnerabilities.get(0).getType());
+        assertFalse(closed[0]);
+    }
+
+    @Test
+    public void null_stream_results_in_nothing_read() throws Exception {
+        /* execute */
+        readerToTest.read((InputStream) null, vulnerabilities::add, annotations::add);
+
+        /* test */
+        assertTrue(vulnerabilities.isEmpty());
+        assertTrue(annotations.isEmpty());
+    }
+
+    @Test
+    public void unknown_properties_are_ignored() throws Exception {
+        /* execute */
+        readerToTest.read("{'other': {'vulnerabilities':[{}]}, 'vulnerabilities':[{'type':'type1', 'unknown':[1,2]}]}", vulnerabilities::add,
+                annotations::add);
+
+        /* test */
+        assertEquals(1, vulnerabilities.size());
+        assertEquals("type1", vulnerabilities.get(0).getType());
+        assertTrue(annotations.isEmpty());
+    }
+
+    @Test
+    public void single_vulnerability_without_array_is_accepted() throws Exception {
+        /* execute */
+        readerToTest.read("{'vulnerabilities':{'type':'type1'}}", vulnerabilities::add, annotations::add);
+
+        /* test */
+        assertEquals(1, vulnerabilities.size());
+    }
+
+    @Test
+    public void empty_json_results_in_nothing_read() throws Exception {
+        /* execute */
+        readerToTest.read("", vulnerabilities::add, annotations::add);
+        readerToTest.read((String) null, vulnerabilities::add, annotations::add);
+
+        /* test */
+        assertTrue(vulnerabilities.isEmpty());
+        assertTrue(annotations.isEmpty());
+    }
+
+    @Test(expected = IOException.class)
+    public void json_array_is_not_accepted() throws Exception {
+        /* execute */
+        readerToTest.read("[]", vulnerabilities::add, annotations::add);
+    }
+
+    @Test(expected = IOException.class)
+    public void incomplete_json_is_not_accepted() throws Exception {
+        /* execute */
+        readerToTest.read("{'vulnerabilities':[{'type':'type1'}", vulnerabilities::add, annotations::add);
+    }
+
+}
@@ -4,6 +4,9 @@ package com.mercedesbenz.sechub.domain.scan.product.sereco;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
@@ -16,11 +19,18 @@ import com.mercedesbenz.sechub.commons.model.ScanType;
 import com.mercedesbenz.sechub.commons.model.SecHubCodeCallStack;
 import com.mercedesbenz.sechub.commons.model.SecHubFinding;
 import com.mercedesbenz.sechub.commons.model.SecHubResult;
+import com.mercedesbenz.sechub.commons.model.SecHubMessage;
+import com.mercedesbenz.sechub.commons.model.SecHubMessageType;
+import com.mercedesbenz.sechub.commons.model.SecHubStatus;
 import com.mercedesbenz.sechub.commons.model.Severity;
 import com.mercedesbenz.sechub.domain.scan.AssertSecHubResult;
 import com.mercedesbenz.sechub.domain.scan.ReportTransformationResult;
+import com.mercedesbenz.sechub.domain.scan.SecHubExecutionException;
 import com.mercedesbenz.sechub.domain.scan.product.ProductResult;
+import com.mercedesbenz.sechub.domain.scan.product.ProductResultStorageService;
 import com.mercedesbenz.sechub.domain.scan.product.config.WithoutProductExecutorConfigInfo;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoAnnotation;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoAnnotationType;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoClassification;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoCodeCallStackElement;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoMetaData;
@@ -33,9 +43,16 @@ public class SerecoProductResultTransformerTest {
     private SerecoProductResultTransformer transformerToTest;
 
     @Before
-    public void before() {
+    public void before() throws Exception {
         transformerToTest = new SerecoProductResultTransformer();
+        transformerToTest.productResultStorageService = mock(ProductResultStorageService.class);
+        when(transformerToTest.productResultStorageService.openResult(any())).thenAnswer(invocation -> {
+            ProductResult productResult = invocation.getArgument(0);
+            return new ByteArrayInputStream(productResult.getResult().getBytes(StandardCharsets.UTF_8));
+        });
         transformerToTest.falsePositiveMarker = mock(SerecoFalsePositiveMarker.class);
+        when(transformerToTest.falsePositiveMarker.createMarker(any())).thenReturn(vulnerability -> {
+        });
     }
 
     @Test
@@ -44,7 +61,7 @@ public class SerecoProductResultTransformerTest {
         String converted = createMetaDataWithOneVulnerabilityFound();
 
         /* execute */
-        ReportTransformationResult result = transformerToTest.transform(createProductResult(converted));
+        ReportTransformationResult result = transformAndLoadStoredFindings(createProductResult(converted));
 
         /* test */
         AssertSecHubResult.assertSecHubResult(result.getResult()).hasFindings(1);
@@ -56,7 +73,7 @@ public class SerecoProductResultTransformerTest {
         String converted = createMetaDataWithOneVulnerabilityAsSecretFound();
 
         /* execute */
-        ReportTransformationResult result = transformerToTest.transform(createProductResult(converted));
+        ReportTransformationResult result = transformAndLoadStoredFindings(createProductResult(converted));
 
         /* test */
         SecHubResult sechubResult = result.getResult();
@@ -92,7 +109,7 @@ public class SerecoProductResultTransformerTest {
         String converted = createMetaDataWithOneVulnerabilityAsCodeFound();
 
         /* execute */
-        ReportTransformationResult result = transformerToTest.transform(createProductResult(converted));
+        ReportTransformationResult result = transformAndLoadStoredFindings(createProductResult(converted));
 
         /* test */
         SecHubResult sechubResult = result.getResult();
@@ -128,7 +145,7 @@ public class SerecoProductResultTransformerTest {
         String converted = createMetaDataWithOneVulnerabilityFound();
 
         /* execute */
-        ReportTransformationResult result = transformerToTest.transform(createProductResult(converted));
+        ReportTransformationResult result = transformAndLoadStoredFindings(createProductResult(converted));
 
         /* test */
         /* @formatter:off */
@@ -149,7 +166,7 @@ public class SerecoProductResultTransformerTest {
         String converted = createMetaDataWithOneVulnerabilityFound();
 
         /* execute */
-        ReportTransformationResult result = transformerToTest.transform(createProductResult(converted));
+        ReportTransformationResult result = transformAndLoadStoredFindings(createProductResult(converted));
 
         /* test */
         /* @formatter:off */
@@ -165,7 +182,7 @@ public class SerecoProductResultTransformerTest {
         String converted = createMetaDataWithTwoVulnerabilitiesWrongOrdered();
 
         /* execute */
-        ReportTransformationResult result = transformerToTest.transform(createProductResult(converted));
+        ReportTransformationResult result = transformAndLoadStoredFindings(createProductResult(converted));
 
         /* test */
         List<SecHubFinding> findings = result.getResult().getFindings();
@@ -180,6 +197,101 @@ public class SerecoProductResultTransformerTest {
 
     }
 
+    @Test
+    public void vulnerabilities_marked_as_false_positive_are_not_in_findings_but_ids_are_kept() throws Exception {
+        /* prepare */
+        String converted = createMetaDataWithTwoVulnerabilitiesWrongOrdered();
+        when(transformerToTest.falsePositiveMarker.createMarker("project1")).thenReturn(vulnerability -> {
+            if (vulnerability.getSeverity() == SerecoSeverity.MEDIUM) {
+                vulnerability.setFalsePositive(true);
+            }
+        });
+
+        /* execute */
+        ReportTransformationResult result = transformAndLoadStoredFindings(createProductResult(converted));
+
+        /* test */
+        List<SecHubFinding> findings = result.getResult().getFindings();
+        assertEquals(1, findings.size());
+        assertEquals(Severity.CRITICAL, findings.get(0).getSeverity());
+        assertEquals(2, findings.get(0).getId());
+    }
+
+    @Test
+    public void annotations_are_transformed_to_messages_and_status() throws Exception {
+        /* prepare */
+        SerecoMetaData data = new SerecoMetaData();
+        data.getAnnotations().add(createAnnotation("warning1", SerecoAnnotationType.USER_WARNING));
+        data.getAnnotations().add(createAnnotation("", SerecoAnnotationType.INTERNAL_INFO_PRODUCT_SUCCESSFUL_IMPORTED));
+
+        /* execute */
+        ReportTransformationResult result = transformAndLoadStoredFindings(createProductResult(JSONConverter.get().toJSON(data)));
+
+        /* test */
+        assertEquals(1, result.getMessages().size());
+        SecHubMessage message = result.getMessages().iterator().next();
+        assertEquals(SecHubMessageType.WARNING, message.getType());
+        assertEquals("warning1", message.getText());
+        assertTrue(result.isAtLeastOneRealProductResultContained());
+        assertEquals(SecHubStatus.SUCCESS, result.getStatus());
+    }
+
+    @Test(expected = SecHubExecutionException.class)
+    public void invalid_meta_data_json_throws_sechub_execution_exception() throws Exception {
+        /* execute */
+        transformerToTest.transform(createProductResult("{\"vulnerabilities\": [ {"));
+    }
+
+    @Test
+    public void findings_are_kept_inside_finding_store_and_not_inside_result_list() throws Exception {
+        /* prepare */
+        String converted = createMetaDataWithTwoVulnerabilitiesWrongOrdered();
+
+        /* execute */
+        ReportTransformationResult result = transformerToTest.transform(createProductResult(converted));
+
+        /* test */
+        try {
+            assertNotNull(result.getFindingStore());
+            assertEquals(2, result.getFindingStore().getCount());
+            assertEquals(2, result.getResult().getCount());
+            assertTrue(result.getResult().getFindings().isEmpty());
+            assertEquals(EnumSet.of(Severity.MEDIUM, Severity.CRITICAL), result.getFindingStore().getContainedSeverities());
+        } finally {
+            result.closeFindingStore();
+        }
+    }
+
+    @Test
+    public void loading_stored_findings_provides_sorted_findings_and_closes_store() throws Exception {
+        /* prepare */
+        String converted = createMetaDataWithTwoVulnerabilitiesWrongOrdered();
+        ReportTransformationResult result = transformerToTest.transform(createProductResult(converted));
+
+        /* execute */
+        result.loadStoredFindings();
+
+        /* test */
+        assertNull(result.getFindingStore());
+        List<SecHubFinding> findings = result.getResult().getFindings();
+        assertEquals(2, findings.size());
+        assertEquals(Severity.CRITICAL, findings.get(0).getSeverity());
+        assertEquals(Severity.MEDIUM, findings.get(1).getSeverity());
+    }
+
+    private ReportTransformationResult transformAndLoadStoredFindings(ProductResult productResult) throws SecHubExecutionException {
+        ReportTransformationResult result = transformerToTest.transform(productResult);
+        result.loadStoredFindings();
+        return result;
+    }
+
+    private SerecoAnnotation createAnnotation(String value, SerecoAnnotationType type) {
+        SerecoAnnotation annotation = new SerecoAnnotation();
+        annotation.setValue(value);
+        annotation.setType(type);
+        return annotation;
+    }
+
     private ProductResult createProductResult(String converted) {
         ProductResult r = new ProductResult(UUID.randomUUID(), "project1", new WithoutProductExecutorConfigInfo(ProductIdentifier.PDS_WEBSCAN), converted);
         return r;
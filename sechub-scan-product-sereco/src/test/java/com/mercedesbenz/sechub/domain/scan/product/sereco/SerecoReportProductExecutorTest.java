@@ -0,0 +1,237 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.product.sereco;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import com.mercedesbenz.sechub.commons.model.SecHubRuntimeException;
+import com.mercedesbenz.sechub.domain.scan.SecHubExecutionContext;
+import com.mercedesbenz.sechub.domain.scan.product.ProductExecutorContext;
+import com.mercedesbenz.sechub.domain.scan.product.ProductResult;
+import com.mercedesbenz.sechub.domain.scan.product.ProductResultRepository;
+import com.mercedesbenz.sechub.domain.scan.product.ProductResultStorageService;
+import com.mercedesbenz.sechub.domain.scan.product.config.ProductExecutorConfig;
+import com.mercedesbenz.sechub.sereco.ImportParameter;
+import com.mercedesbenz.sechub.sereco.Sereco;
+import com.mercedesbenz.sechub.sereco.Workspace;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoMetaData;
+import com.mercedesbenz.sechub.sharedkernel.ProductIdentifier;
+import com.mercedesbenz.sechub.sharedkernel.configuration.SecHubConfiguration;
+
+class SerecoReportProductExecutorTest {
+
+    private static final long IMPORT_TIME_IN_MILLISECONDS = 20;
+
+    private SerecoReportProductExecutor executorToTest;
+
+    private ProductResultRepository productResultRepository;
+    private ProductResultStorageService productResultStorageService;
+    private Workspace workspace;
+    private SecHubExecutionContext context;
+    private ProductExecutorContext executorContext;
+
+    private ProductResult codeScanResult;
+    private ProductResult webScanResult1;
+    private ProductResult webScanResult2;
+
+    private SerecoMetaData codeScanMetaData;
+    private SerecoMetaData webScanMetaData1;
+    private SerecoMetaData webScanMetaData2;
+
+    private List<String> importThreadNames;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        UUID sechubJobUUID = UUID.randomUUID();
+
+        SecHubConfiguration configuration = mock(SecHubConfiguration.class);
+        when(configuration.getProjectId()).thenReturn("project1");
+        context = new SecHubExecutionContext(sechubJobUUID, configuration, "test", UUID.randomUUID());
+
+        ProductExecutorConfig executorConfig = mock(ProductExecutorConfig.class);
+        when(executorConfig.getProductIdentifier()).thenReturn(ProductIdentifier.SERECO);
+        executorContext = mock(ProductExecutorContext.class);
+        when(executorContext.getExecutorConfig()).thenReturn(executorConfig);
+
+        productResultStorageService = mock(ProductResultStorageService.class);
+        codeScanResult = createProductResult(ProductIdentifier.PDS_CODESCAN, "codescan");
+        webScanResult1 = createProductResult(ProductIdentifier.PDS_WEBSCAN, "webscan1");
+        webScanResult2 = createProductResult(ProductIdentifier.PDS_WEBSCAN, "webscan2");
+
+        productResultRepository = mock(ProductResultRepository.class);
+        when(productResultRepository.findAllProductResults(eq(sechubJobUUID), any())).thenReturn(List.of(codeScanResult, webScanResult1, webScanResult2));
+
+        codeScanMetaData = new SerecoMetaData();
+        webScanMetaData1 = new SerecoMetaData();
+        webScanMetaData2 = new SerecoMetaData();
+
+        workspace = mock(Workspace.class);
+        when(workspace.createReport()).thenReturn("{}");
+
+        Sereco sereco = mock(Sereco.class);
+        when(sereco.createWorkspace("project1")).thenReturn(workspace);
+
+        importThreadNames = Collections.synchronizedList(new ArrayList<>());
+
+        executorToTest = new SerecoReportProductExecutor();
+        executorToTest.productResultRepository = productResultRepository;
+        executorToTest.productResultStorageService = productResultStorageService;
+        executorToTest.sechubReportCollector = sereco;
+        executorToTest.parallelImportEnabled = true;
+    }
+
+    @Test
+    void parallel_import_merges_meta_data_in_order_of_product_results_even_when_first_import_ends_last() throws Exception {
+        /* prepare */
+        CountDownLatch webScanImportsDone = new CountDownLatch(2);
+        when(workspace.importToMetaData(any(), any())).thenAnswer(invocation -> {
+            ImportParameter parameter = invocation.getArgument(1);
+            importThreadNames.add(Thread.currentThread().getName());
+
+            String importData = parameter.getImportData();
+            if ("codescan".equals(importData)) {
+                /* code scan is the first product result but its import shall end last */
+                assertTrue(webScanImportsDone.await(10, TimeUnit.SECONDS), "Web scan imports were not done in parallel");
+                Thread.sleep(IMPORT_TIME_IN_MILLISECONDS);
+                return codeScanMetaData;
+            }
+            Thread.sleep(IMPORT_TIME_IN_MILLISECONDS);
+            webScanImportsDone.countDown();
+            return "webscan1".equals(importData) ? webScanMetaData1 : webScanMetaData2;
+        });
+
+        /* execute */
+        List<ProductResult> result = executorToTest.execute(context, executorContext);
+
+        /* test */
+        assertEquals(1, result.size());
+        assertEquals("{}", result.get(0).getResult());
+
+        InOrder inOrder = inOrder(workspace);
+        inOrder.verify(workspace).merge(codeScanMetaData);
+        inOrder.verify(workspace).merge(webScanMetaData1);
+        inOrder.verify(workspace).merge(webScanMetaData2);
+        inOrder.verify(workspace).createReport();
+
+        assertEquals(3, importThreadNames.size());
+        for (String threadName : importThreadNames) {
+            assertTrue(threadName.startsWith("sechub-sereco-import:"), "Unexpected import thread: " + threadName);
+        }
+    }
+
+    @Test
+    void parallel_import_remembers_import_time_per_product_as_report_phase_time() throws Exception {
+        /* prepare */
+        when(workspace.importToMetaData(any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(IMPORT_TIME_IN_MILLISECONDS);
+            return new SerecoMetaData();
+        });
+
+        /* execute */
+        executorToTest.execute(context, executorContext);
+
+        /* test */
+        Map<String, Long> phaseTimes = context.getPhaseTimesInMilliseconds();
+        assertEquals(List.of("report.PDS_CODESCAN", "report.PDS_WEBSCAN"), new ArrayList<>(phaseTimes.keySet()));
+        assertTrue(phaseTimes.get("report.PDS_CODESCAN") >= IMPORT_TIME_IN_MILLISECONDS);
+        /* both web scan imports are summed up */
+        assertTrue(phaseTimes.get("report.PDS_WEBSCAN") >= 2 * IMPORT_TIME_IN_MILLISECONDS);
+    }
+
+    @Test
+    void parallel_import_rethrows_runtime_exception_of_one_import_and_does_not_merge() throws Exception {
+        /* prepare */
+        IllegalStateException failure = new IllegalStateException("webscan1 import failed");
+        when(workspace.importToMetaData(any(), any())).thenAnswer(invocation -> {
+            ImportParameter parameter = invocation.getArgument(1);
+            if ("webscan1".equals(parameter.getImportData())) {
+                throw failure;
+            }
+            return new SerecoMetaData();
+        });
+
+        /* execute */
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> executorToTest.execute(context, executorContext));
+
+        /* test */
+        assertSame(failure, exception);
+        verify(workspace, never()).merge(any());
+        verify(workspace, never()).createReport();
+    }
+
+    @Test
+    void parallel_import_rethrows_io_exception_of_one_import_wrapped_into_sechub_runtime_exception() throws Exception {
+        /* prepare */
+        IOException failure = new IOException("webscan2 not readable");
+        when(workspace.importToMetaData(any(), any())).thenAnswer(invocation -> {
+            ImportParameter parameter = invocation.getArgument(1);
+            if ("webscan2".equals(parameter.getImportData())) {
+                throw failure;
+            }
+            return new SerecoMetaData();
+        });
+
+        /* execute */
+        SecHubRuntimeException exception = assertThrows(SecHubRuntimeException.class, () -> executorToTest.execute(context, executorContext));
+
+        /* test */
+        assertSame(failure, exception.getCause());
+        assertTrue(exception.getMessage().contains(webScanResult2.getUUID().toString()));
+        verify(workspace, never()).merge(any());
+    }
+
+    @Test
+    void parallel_import_is_disabled_by_default() {
+        assertFalse(new SerecoReportProductExecutor().parallelImportEnabled);
+    }
+
+    @Test
+    void sequential_import_merges_meta_data_in_order_of_product_results_and_remembers_phase_times() throws Exception {
+        /* prepare */
+        executorToTest.parallelImportEnabled = false;
+        when(workspace.importToMetaData(any(), any())).thenAnswer(invocation -> {
+            ImportParameter parameter = invocation.getArgument(1);
+            importThreadNames.add(Thread.currentThread().getName());
+
+            String importData = parameter.getImportData();
+            if ("codescan".equals(importData)) {
+                return codeScanMetaData;
+            }
+            return "webscan1".equals(importData) ? webScanMetaData1 : webScanMetaData2;
+        });
+
+        /* execute */
+        executorToTest.execute(context, executorContext);
+
+        /* test */
+        InOrder inOrder = inOrder(workspace);
+        inOrder.verify(workspace).merge(codeScanMetaData);
+        inOrder.verify(workspace).merge(webScanMetaData1);
+        inOrder.verify(workspace).merge(webScanMetaData2);
+
+        assertEquals(Collections.nCopies(3, Thread.currentThread().getName()), importThreadNames);
+        assertEquals(List.of("report.PDS_CODESCAN", "report.PDS_WEBSCAN"), new ArrayList<>(context.getPhaseTimesInMilliseconds().keySet()));
+    }
+
+    private ProductResult createProductResult(ProductIdentifier productIdentifier, String importData) {
+        ProductResult productResult = mock(ProductResult.class);
+        when(productResult.getProductIdentifier()).thenReturn(productIdentifier);
+        when(productResult.getUUID()).thenReturn(UUID.randomUUID());
+        when(productResultStorageService.loadResult(productResult)).thenReturn(importData);
+        return productResult;
+    }
+}
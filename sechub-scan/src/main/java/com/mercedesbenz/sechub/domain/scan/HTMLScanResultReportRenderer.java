@@ -0,0 +1,36 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan;
+
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import com.mercedesbenz.sechub.domain.scan.report.ScanSecHubReport;
+
+/**
+ * Renders the HTML representation of a scan report. The result does not
+ * depend on the request, so it can be cached.
+ */
+@Component
+public class HTMLScanResultReportRenderer {
+
+    static final String TEMPLATE_NAME = "report/html/scanresult";
+
+    @Autowired
+    HTMLScanResultReportModelBuilder modelBuilder;
+
+    @Autowired
+    ITemplateEngine templateEngine;
+
+    public String render(ScanSecHubReport report) {
+        Map<String, Object> model = modelBuilder.build(report);
+
+        Context context = new Context(Locale.ROOT, model);
+        return templateEngine.process(TEMPLATE_NAME, context);
+    }
+
+}
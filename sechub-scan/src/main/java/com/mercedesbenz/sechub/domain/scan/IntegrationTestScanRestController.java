@@ -33,6 +33,7 @@ import com.mercedesbenz.sechub.domain.scan.product.ProductResult;
 import com.mercedesbenz.sechub.domain.scan.product.ProductResultCountService;
 import com.mercedesbenz.sechub.domain.scan.product.ProductResultRepository;
 import com.mercedesbenz.sechub.domain.scan.product.ProductResultService;
+import com.mercedesbenz.sechub.domain.scan.product.ProductResultStorageService;
 import com.mercedesbenz.sechub.domain.scan.product.config.DefaultProductExecutorConfigInfo;
 import com.mercedesbenz.sechub.domain.scan.product.config.ProductExecutionProfileRepository;
 import com.mercedesbenz.sechub.domain.scan.product.config.ProductExecutorConfigInfo;
@@ -79,6 +80,9 @@ public class IntegrationTestScanRestController {
     @Autowired
     private ProductResultService productResultService;
 
+    @Autowired
+    private ProductResultStorageService productResultStorageService;
+
     @Autowired
     private FullScanDataService fullScanDataService;
 
@@ -137,7 +141,7 @@ public class IntegrationTestScanRestController {
         List<ProductResult> originResults = productResultService.fetchAllResultsInProject(projectId);
         List<ProductResult> shrinkedResults = new ArrayList<ProductResult>();
         for (ProductResult originProductResult : originResults) {
-            String result = originProductResult.getResult();
+            String result = productResultStorageService.loadResult(originProductResult);
             if (result.length() > maxLength) {
                 result = result.substring(0, maxLength - 3) + "...";
             }
@@ -175,6 +179,7 @@ public class IntegrationTestScanRestController {
 
         }
         resultToPersist.setResult(body);
+        productResultStorageService.offloadIfNecessary(resultToPersist);
         productResultRepository.save(resultToPersist);
     }
 
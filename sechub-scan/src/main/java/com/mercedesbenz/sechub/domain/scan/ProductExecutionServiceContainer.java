@@ -2,6 +2,7 @@
 package com.mercedesbenz.sechub.domain.scan;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
@@ -11,11 +12,18 @@ import com.mercedesbenz.sechub.domain.scan.product.InfrastructureScanProductExec
 import com.mercedesbenz.sechub.domain.scan.product.LicenseScanProductExecutionService;
 import com.mercedesbenz.sechub.domain.scan.product.SecretScanProductExecutionService;
 import com.mercedesbenz.sechub.domain.scan.product.WebScanProductExecutionService;
+import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
 import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessageService;
 
 @Component
 public class ProductExecutionServiceContainer {
 
+    private static final boolean DEFAULT_PARALLEL_SCAN_TYPE_EXECUTION_ENABLED = false;
+
+    @MustBeDocumented(value = "When enabled, the scan types of one SecHub job (code scan, web scan, infra scan, license scan and secret scan) are executed in parallel after the analytics phase has been done. When disabled, the scan types are executed one after another.", scope = "scan")
+    @Value("${sechub.config.scan.scantypes.parallel.enabled:" + DEFAULT_PARALLEL_SCAN_TYPE_EXECUTION_ENABLED + "}")
+    private boolean parallelScanTypeExecutionEnabled = DEFAULT_PARALLEL_SCAN_TYPE_EXECUTION_ENABLED;
+
     @Autowired
     private AnalyticsProductExecutionService analyticsProductExecutionService;
 
@@ -65,4 +73,8 @@ public class ProductExecutionServiceContainer {
     public SecretScanProductExecutionService getSecretScanProductExecutionService() {
         return secretScanProductExecutionService;
     }
+
+    public boolean isParallelScanTypeExecutionEnabled() {
+        return parallelScanTypeExecutionEnabled;
+    }
 }
@@ -1,6 +1,8 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.scan;
 
+import java.util.List;
+
 import javax.transaction.Transactional;
 
 import org.slf4j.Logger;
@@ -9,9 +11,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.mercedesbenz.sechub.domain.scan.log.ProjectScanLogRepository;
+import com.mercedesbenz.sechub.domain.scan.product.ProductResult;
 import com.mercedesbenz.sechub.domain.scan.product.ProductResultRepository;
+import com.mercedesbenz.sechub.domain.scan.product.ProductResultStorageService;
 import com.mercedesbenz.sechub.domain.scan.product.config.ProductExecutionProfileRepository;
+import com.mercedesbenz.sechub.domain.scan.project.ScanFalsePositiveRepository;
 import com.mercedesbenz.sechub.domain.scan.project.ScanProjectConfigRepository;
+import com.mercedesbenz.sechub.domain.scan.report.ScanReportRenderCache;
 import com.mercedesbenz.sechub.domain.scan.report.ScanReportRepository;
 import com.mercedesbenz.sechub.sharedkernel.Step;
 import com.mercedesbenz.sechub.sharedkernel.logging.LogSanitizer;
@@ -36,12 +42,18 @@ public class ProjectDataDeleteService {
     @Autowired
     ProductResultRepository productResultRepository;
 
+    @Autowired
+    ProductResultStorageService productResultStorageService;
+
     @Autowired
     ScanReportRepository scanReportRepository;
 
     @Autowired
     ScanProjectConfigRepository scanProjectConfigRepository;
 
+    @Autowired
+    ScanFalsePositiveRepository falsePositiveRepository;
+
     @Autowired
     ProductExecutionProfileRepository profileRepository;
 
@@ -51,18 +63,27 @@ public class ProjectDataDeleteService {
     @Autowired
     LogSanitizer logSanitizer;
 
+    @Autowired
+    ScanReportRenderCache renderCache;
+
     @Transactional
     @UseCaseAdminDeleteProject(@Step(number = 8, name = "delete all project scan data"))
     public void deleteAllDataForProject(String projectId) {
         assertion.assertIsValidProjectId(projectId);
 
+        List<ProductResult> offloadedResults = productResultRepository.findOffloadedResultsForProject(projectId);
         productResultRepository.deleteAllResultsForProject(projectId);
         scanReportRepository.deleteAllReportsForProject(projectId);
         scanLogRepository.deleteAllLogDataForProject(projectId);
         scanProjectConfigRepository.deleteAllConfigurationsForProject(projectId);
+        falsePositiveRepository.deleteAllFalsePositivesForProject(projectId);
         profileRepository.deleteAllProfileRelationsToProject(projectId);
+        renderCache.invalidateProject(projectId);
+
+        /* storage deletion cannot be rolled back - so it is done only after this transaction has been committed */
+        productResultStorageService.deleteOffloadedResults(offloadedResults);
 
-        LOG.info("Deleted all data (results,reports, scanlogs,profile-relations) for project:{}", logSanitizer.sanitize(projectId, 30));
+        LOG.info("Deleted all data (results,reports, scanlogs,false positives,profile-relations) for project:{}", logSanitizer.sanitize(projectId, 30));
     }
 
 }
@@ -1,8 +1,12 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.scan;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.mercedesbenz.sechub.commons.model.SecHubReportModel;
+import com.mercedesbenz.sechub.domain.scan.report.ReportFindingStore;
 
 /**
  * Represents the output of a transformation from a report product (like SERECO)
@@ -21,6 +25,9 @@ public class ReportTransformationResult extends SecHubReportModel {
     @JsonIgnore
     private boolean atLeastOneRealProductResultContained;
 
+    @JsonIgnore
+    private ReportFindingStore findingStore;
+
     public void setAtLeastOneRealProductResultContained(boolean containingNoProductResultsAtAl) {
         this.atLeastOneRealProductResultContained = containingNoProductResultsAtAl;
     }
@@ -29,4 +36,54 @@ public class ReportTransformationResult extends SecHubReportModel {
         return atLeastOneRealProductResultContained;
     }
 
+    /**
+     * Set a finding store when findings are not kept inside the findings list of
+     * the result but inside the store.
+     *
+     * @param findingStore store or <code>null</code>
+     */
+    public void setFindingStore(ReportFindingStore findingStore) {
+        this.findingStore = findingStore;
+    }
+
+    /**
+     * @return finding store or <code>null</code> when all findings are inside the
+     *         findings list of the result
+     */
+    public ReportFindingStore getFindingStore() {
+        return findingStore;
+    }
+
+    /**
+     * Reads all findings from the finding store (if there is one) into the
+     * findings list of the result. The store is closed afterwards. Only necessary
+     * when findings are needed as objects.
+     *
+     * @throws UncheckedIOException when stored findings cannot be read
+     */
+    public void loadStoredFindings() {
+        if (findingStore == null) {
+            return;
+        }
+        try {
+            getResult().getFindings().addAll(findingStore.readSortedFindings());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Was not able to read stored findings of job: " + getJobUUID(), e);
+        } finally {
+            closeFindingStore();
+        }
+    }
+
+    /**
+     * Closes the finding store - if there is one. Stored findings are no longer
+     * available afterwards.
+     */
+    public void closeFindingStore() {
+        if (findingStore == null) {
+            return;
+        }
+        findingStore.close();
+        findingStore = null;
+    }
+
 }
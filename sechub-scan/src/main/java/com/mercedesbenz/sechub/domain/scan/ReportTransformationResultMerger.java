@@ -32,6 +32,12 @@ public class ReportTransformationResultMerger {
         if (result2 == null) {
             return result1;
         }
+        /*
+         * merged findings are kept as objects inside one list - normally there is only
+         * one transformation result, so this is seldom necessary
+         */
+        result1.loadStoredFindings();
+        result2.loadStoredFindings();
 
         ReportTransformationResult mergedTransformerResult = new ReportTransformationResult();
         SecHubResult merged = mergedTransformerResult.getResult();
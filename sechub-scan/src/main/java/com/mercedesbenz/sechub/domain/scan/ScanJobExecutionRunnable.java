@@ -1,6 +1,9 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.scan;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -9,6 +12,7 @@ import com.mercedesbenz.sechub.domain.scan.product.AnalyticsProductExecutionServ
 import com.mercedesbenz.sechub.domain.scan.product.CodeScanProductExecutionService;
 import com.mercedesbenz.sechub.domain.scan.product.InfrastructureScanProductExecutionService;
 import com.mercedesbenz.sechub.domain.scan.product.LicenseScanProductExecutionService;
+import com.mercedesbenz.sechub.domain.scan.product.ProductExecutionStoreService;
 import com.mercedesbenz.sechub.domain.scan.product.SecretScanProductExecutionService;
 import com.mercedesbenz.sechub.domain.scan.product.WebScanProductExecutionService;
 import com.mercedesbenz.sechub.sharedkernel.LogConstants;
@@ -45,9 +49,11 @@ class ScanJobExecutionRunnable implements Runnable, CanceableScanJob {
             SecHubExecutionContext executionContext = runnableData.getExecutionContext();
             ProductExecutionServiceContainer executionServiceContainer = runnableData.getExecutionServiceContainer();
 
-            /* analytics scan phase */
+            ScanJobPhaseExecutor phaseExecutor = new ScanJobPhaseExecutor(executionContext);
+
+            /* analytics scan phase - must be done before all other phases */
             AnalyticsProductExecutionService analyticsProductExecutionService = executionServiceContainer.getAnalyticsProductExecutionService();
-            analyticsProductExecutionService.executeProductsAndStoreResults(executionContext);
+            phaseExecutor.executePhase(analyticsProductExecutionService);
 
             /* normal scan phase */
             CodeScanProductExecutionService codeScanProductExecutionService = executionServiceContainer.getCodeScanProductExecutionService();
@@ -56,14 +62,20 @@ class ScanJobExecutionRunnable implements Runnable, CanceableScanJob {
             LicenseScanProductExecutionService licenseScanProductExecutionService = executionServiceContainer.getLicenseScanProductExecutionService();
             SecretScanProductExecutionService secretScanProductExecutionService = executionServiceContainer.getSecretScanProductExecutionService();
 
-            codeScanProductExecutionService.executeProductsAndStoreResults(executionContext);
-            webScanProductExecutionService.executeProductsAndStoreResults(executionContext);
-            infraScanProductExecutionService.executeProductsAndStoreResults(executionContext);
-            licenseScanProductExecutionService.executeProductsAndStoreResults(executionContext);
-            secretScanProductExecutionService.executeProductsAndStoreResults(executionContext);
+            List<ProductExecutionStoreService> independentPhases = Arrays.asList(codeScanProductExecutionService, webScanProductExecutionService,
+                    infraScanProductExecutionService, licenseScanProductExecutionService, secretScanProductExecutionService);
+
+            if (executionServiceContainer.isParallelScanTypeExecutionEnabled()) {
+                phaseExecutor.executePhasesInParallel(independentPhases);
+            } else {
+                phaseExecutor.executePhasesSequential(independentPhases);
+            }
 
         } catch (SecHubExecutionException e) {
             runnableData.setException(e);
+        } catch (InterruptedException e) {
+            LOG.info("Execution services for SecHub job: {} have been interrupted", runnableData.getSechubJobUUID());
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
             LOG.error("Unhandled exception appeared!", e);
         } finally {
@@ -0,0 +1,176 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import com.mercedesbenz.sechub.domain.scan.product.ProductExecutionStoreService;
+
+/**
+ * Executes scan phases of one SecHub job. Every phase is represented by the
+ * {@link ProductExecutionStoreService} responsible for one scan type. The time
+ * needed by a phase is remembered inside the {@link SecHubExecutionContext}.
+ * <br>
+ * <br>
+ * Phases being independent of each other (e.g. code scan, secret scan and
+ * license scan) can be executed in parallel - so the job needs only the time of
+ * the longest phase instead of the sum of all phases.
+ */
+class ScanJobPhaseExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScanJobPhaseExecutor.class);
+
+    private static final String SECHUB_SCAN_PHASE_THREAD_PREFIX = "sechub-scan-phase:";
+
+    /*
+     * when the scan thread is interrupted (cancel) we wait for the interrupted
+     * phase threads - otherwise cleanup could be done while product executors are
+     * still running
+     */
+    private static final long MAX_SECONDS_TO_WAIT_FOR_INTERRUPTED_PHASES = 60;
+
+    private SecHubExecutionContext context;
+
+    ScanJobPhaseExecutor(SecHubExecutionContext context) {
+        if (context == null) {
+            throw new IllegalArgumentException("context may not be null!");
+        }
+        this.context = context;
+    }
+
+    /**
+     * Executes given phase inside the caller thread.
+     *
+     * @param phase phase to execute
+     * @throws SecHubExecutionException
+     */
+    void executePhase(ProductExecutionStoreService phase) throws SecHubExecutionException {
+        long start = System.currentTimeMillis();
+        try {
+            phase.executeProductsAndStoreResults(context);
+        } finally {
+            rememberPhaseTime(phase, start);
+        }
+    }
+
+    /**
+     * Executes given phases one after another inside the caller thread. When a
+     * phase fails, the remaining phases are not executed.
+     *
+     * @param phases phases to execute
+     * @throws SecHubExecutionException
+     */
+    void executePhasesSequential(List<? extends ProductExecutionStoreService> phases) throws SecHubExecutionException {
+        for (ProductExecutionStoreService phase : phases) {
+            executePhase(phase);
+        }
+    }
+
+    /**
+     * Executes given phases in parallel and waits until all of them are done. When
+     * one or more phases fail, the first failure will be thrown after all phases
+     * have ended.<br>
+     * <br>
+     * When the caller thread is interrupted (e.g. because the job was canceled),
+     * all phase threads are interrupted as well.
+     *
+     * @param phases phases to execute
+     * @throws SecHubExecutionException
+     * @throws InterruptedException     when the caller thread was interrupted
+     */
+    void executePhasesInParallel(List<? extends ProductExecutionStoreService> phases) throws SecHubExecutionException, InterruptedException {
+        if (phases.size() < 2) {
+            executePhasesSequential(phases);
+            return;
+        }
+        UUID sechubJobUUID = context.getSechubJobUUID();
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(phases.size(),
+                runnable -> new Thread(runnable, SECHUB_SCAN_PHASE_THREAD_PREFIX + sechubJobUUID + ":" + threadNumber.incrementAndGet()));
+
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (ProductExecutionStoreService phase : phases) {
+                futures.add(executorService.submit(() -> executePhaseInsidePhaseThread(phase, mdcContext)));
+            }
+            executorService.shutdown();
+
+            SecHubExecutionException firstFailure = null;
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    SecHubExecutionException failure = asSecHubExecutionException(e.getCause());
+                    if (firstFailure == null) {
+                        firstFailure = failure;
+                    } else {
+                        LOG.error("Another scan phase has failed as well for SecHub job: {}", sechubJobUUID, failure);
+                    }
+                }
+            }
+            if (firstFailure != null) {
+                throw firstFailure;
+            }
+
+        } catch (InterruptedException e) {
+            LOG.info("Scan phase execution was interrupted for SecHub job: {}, will interrupt all phase threads", sechubJobUUID);
+            interruptPhasesAndWait(executorService);
+            throw e;
+        }
+    }
+
+    private Void executePhaseInsidePhaseThread(ProductExecutionStoreService phase, Map<String, String> mdcContext) throws SecHubExecutionException {
+        if (mdcContext != null) {
+            MDC.setContextMap(mdcContext);
+        }
+        try {
+            executePhase(phase);
+            return null;
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private void interruptPhasesAndWait(ExecutorService executorService) {
+        executorService.shutdownNow();
+        try {
+            if (!executorService.awaitTermination(MAX_SECONDS_TO_WAIT_FOR_INTERRUPTED_PHASES, TimeUnit.SECONDS)) {
+                LOG.warn("Interrupted scan phases for SecHub job: {} did not end after {} seconds", context.getSechubJobUUID(),
+                        MAX_SECONDS_TO_WAIT_FOR_INTERRUPTED_PHASES);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void rememberPhaseTime(ProductExecutionStoreService phase, long start) {
+        long timeInMilliseconds = System.currentTimeMillis() - start;
+        String phaseName = phase.getScanType().getId();
+
+        context.rememberPhaseTime(phaseName, timeInMilliseconds);
+
+        LOG.debug("Scan phase {} for SecHub job: {} needed {} ms", phaseName, context.getSechubJobUUID(), timeInMilliseconds);
+    }
+
+    private SecHubExecutionException asSecHubExecutionException(Throwable cause) {
+        if (cause instanceof SecHubExecutionException) {
+            return (SecHubExecutionException) cause;
+        }
+        return new SecHubExecutionException("Scan phase failed unexpected", cause);
+    }
+
+}
@@ -16,6 +16,7 @@ import com.mercedesbenz.sechub.domain.scan.config.ScanConfigService;
 import com.mercedesbenz.sechub.domain.scan.config.UpdateScanMappingConfigurationService;
 import com.mercedesbenz.sechub.domain.scan.product.ProductResultService;
 import com.mercedesbenz.sechub.domain.scan.project.ScanProjectConfigAccessLevelService;
+import com.mercedesbenz.sechub.domain.scan.report.ScanReportRenderCache;
 import com.mercedesbenz.sechub.sharedkernel.Step;
 import com.mercedesbenz.sechub.sharedkernel.mapping.MappingIdentifier;
 import com.mercedesbenz.sechub.sharedkernel.mapping.MappingIdentifier.MappingType;
@@ -68,6 +69,9 @@ public class ScanMessageHandler implements AsynchronMessageHandler, SynchronMess
     @Autowired
     ScanConfigService configService;
 
+    @Autowired
+    ScanReportRenderCache renderCache;
+
     @Override
     public void receiveAsyncMessage(DomainMessage request) {
         MessageID messageId = request.getMessageId();
@@ -126,6 +130,7 @@ public class ScanMessageHandler implements AsynchronMessageHandler, SynchronMess
         try {
             /* delete all former results */
             productResultService.deleteAllResultsForJob(jobUUID);
+            renderCache.invalidate(jobUUID);
             return purgeDone(jobUUID);
         } catch (Exception e) {
             LOG.error("Was not able to purge results for job {}", e);
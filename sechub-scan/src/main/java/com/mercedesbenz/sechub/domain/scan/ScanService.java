@@ -139,10 +139,10 @@ public class ScanService implements SynchronMessageHandler {
                     millisecondsToWaitBeforeCancelCheck);
             executor.startScanAndInspectCancelRequests();
 
-            scanLogService.logScanEnded(logUUID);
+            scanLogService.logScanEnded(logUUID, context);
 
         } catch (Exception e) {
-            scanLogService.logScanFailed(logUUID);
+            scanLogService.logScanFailed(logUUID, context);
 
             /* rethrow when already an execution exception */
             if (e instanceof SecHubExecutionException) {
@@ -2,9 +2,10 @@
 package com.mercedesbenz.sechub.domain.scan;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,9 +35,10 @@ public class SecHubExecutionContext {
     private SecHubConfiguration configuration;
     private UUIDTraceLogID traceLogId;
     private String executedBy;
-    private Map<String, Object> dataMap = new HashMap<>();
+    private Map<String, Object> dataMap = new ConcurrentHashMap<>();
+    private Map<String, Long> phaseTimesInMilliseconds = new LinkedHashMap<>();
 
-    private boolean cancelRequested;
+    private volatile boolean cancelRequested;
 
     private UUID executionUUID;
 
@@ -108,6 +110,10 @@ public class SecHubExecutionContext {
         if (id == null) {
             return;
         }
+        if (value == null) {
+            dataMap.remove(id.getId());
+            return;
+        }
         dataMap.put(id.getId(), value);
     }
 
@@ -163,6 +169,32 @@ public class SecHubExecutionContext {
         return executionUUID;
     }
 
+    /**
+     * Remembers the time a scan phase has needed. Phases can be executed in
+     * parallel, so this method is thread safe.
+     *
+     * @param phase              phase name
+     * @param timeInMilliseconds time needed by the phase
+     */
+    public void rememberPhaseTime(String phase, long timeInMilliseconds) {
+        if (phase == null) {
+            return;
+        }
+        synchronized (phaseTimesInMilliseconds) {
+            phaseTimesInMilliseconds.put(phase, timeInMilliseconds);
+        }
+    }
+
+    /**
+     * @return a snapshot of all phase times (in milliseconds), in the order the
+     *         phases have ended
+     */
+    public Map<String, Long> getPhaseTimesInMilliseconds() {
+        synchronized (phaseTimesInMilliseconds) {
+            return new LinkedHashMap<>(phaseTimesInMilliseconds);
+        }
+    }
+
     public LocalDateTime getExecutionStarted() {
         return executionStarted;
     }
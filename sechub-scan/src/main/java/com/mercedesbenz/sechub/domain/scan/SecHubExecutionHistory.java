@@ -9,6 +9,10 @@ import com.mercedesbenz.sechub.domain.scan.product.CanceableProductExecutor;
 import com.mercedesbenz.sechub.domain.scan.product.ProductExecutor;
 import com.mercedesbenz.sechub.domain.scan.product.ProductExecutorData;
 
+/**
+ * History of product executors currently running for one SecHub job. Scan
+ * types can be executed in parallel, so this class is thread safe.
+ */
 public class SecHubExecutionHistory {
 
     private List<SecHubExecutionHistoryElement> elements;
@@ -18,11 +22,11 @@ public class SecHubExecutionHistory {
         elements = new ArrayList<>();
     }
 
-    public boolean isEmpty() {
+    public synchronized boolean isEmpty() {
         return elements.isEmpty();
     }
 
-    public List<SecHubExecutionHistoryElement> getAllElementsWithCanceableProductExecutors() {
+    public synchronized List<SecHubExecutionHistoryElement> getAllElementsWithCanceableProductExecutors() {
         if (cachedCanceableProductExecutorElements == null) {
 
             List<SecHubExecutionHistoryElement> list = new ArrayList<>();
@@ -37,7 +41,7 @@ public class SecHubExecutionHistory {
         return cachedCanceableProductExecutorElements;
     }
 
-    public SecHubExecutionHistoryElement remember(ProductExecutor productExecutor, ProductExecutorData data) {
+    public synchronized SecHubExecutionHistoryElement remember(ProductExecutor productExecutor, ProductExecutorData data) {
         resetCache();
         SecHubExecutionHistoryElement historyElement = new SecHubExecutionHistoryElement();
         historyElement.setProductExecutor(productExecutor);
@@ -49,13 +53,16 @@ public class SecHubExecutionHistory {
 
     }
 
-    public void forget(SecHubExecutionHistoryElement historyElement) {
+    public synchronized void forget(SecHubExecutionHistoryElement historyElement) {
         resetCache();
         elements.remove(historyElement);
     }
 
-    List<SecHubExecutionHistoryElement> getUnmodifiableElements() {
-        return Collections.unmodifiableList(elements);
+    /**
+     * @return an unmodifiable snapshot of all elements at this moment
+     */
+    synchronized List<SecHubExecutionHistoryElement> getUnmodifiableElements() {
+        return Collections.unmodifiableList(new ArrayList<>(elements));
     }
 
     private void resetCache() {
@@ -96,17 +96,25 @@ public class SecHubReportProductTransformerService {
             LOG.warn("Found {} report product results, should normally be only one!", reportProductResultAmount);
         }
         ReportTransformationResult transformResult = null;
-        for (ProductResult reportProductResult : reportProductResults) {
+        try {
+            for (ProductResult reportProductResult : reportProductResults) {
 
-            for (ReportProductResultTransformer transformer : transformers) {
+                for (ReportProductResultTransformer transformer : transformers) {
 
-                if (transformer.canTransform(reportProductResult.getProductIdentifier())) {
-                    LOG.debug("Transformer {} is used to transform result", transformer.getClass().getSimpleName());
-                    ReportTransformationResult transformedResult = transformer.transform(reportProductResult);
-                    transformResult = resultMerger.merge(transformResult, transformedResult);
+                    if (transformer.canTransform(reportProductResult.getProductIdentifier())) {
+                        LOG.debug("Transformer {} is used to transform result", transformer.getClass().getSimpleName());
+                        ReportTransformationResult transformedResult = transformer.transform(reportProductResult);
+                        transformResult = resultMerger.merge(transformResult, transformedResult);
+                    }
                 }
-            }
 
+            }
+        } catch (SecHubExecutionException | RuntimeException e) {
+            /* stored findings of former transformations are no longer necessary */
+            if (transformResult != null) {
+                transformResult.closeFindingStore();
+            }
+            throw e;
         }
 
         if (transformResult == null) {
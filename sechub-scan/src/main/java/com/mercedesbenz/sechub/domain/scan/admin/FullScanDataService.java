@@ -15,6 +15,7 @@ import com.mercedesbenz.sechub.domain.scan.log.ProjectScanLog;
 import com.mercedesbenz.sechub.domain.scan.log.ProjectScanLogService;
 import com.mercedesbenz.sechub.domain.scan.product.ProductResult;
 import com.mercedesbenz.sechub.domain.scan.product.ProductResultService;
+import com.mercedesbenz.sechub.domain.scan.product.ProductResultStorageService;
 import com.mercedesbenz.sechub.sharedkernel.RoleConstants;
 import com.mercedesbenz.sechub.sharedkernel.Step;
 import com.mercedesbenz.sechub.sharedkernel.usecases.admin.project.UseCaseAdminDownloadsFullScanDataForJob;
@@ -32,6 +33,9 @@ public class FullScanDataService {
     @Autowired
     ProductResultService productResultService;
 
+    @Autowired
+    ProductResultStorageService productResultStorageService;
+
     @Autowired
     UserInputAssertion assertion;
 
@@ -53,7 +57,7 @@ public class FullScanDataService {
             scanData.productId = result.getProductIdentifier().toString();
             scanData.executorConfigUUID = result.getProductExecutorConfigUUID();
 
-            scanData.result = result.getResult();
+            scanData.result = productResultStorageService.loadResult(result);
 
             scanData.metaData = result.getMetaData();
 
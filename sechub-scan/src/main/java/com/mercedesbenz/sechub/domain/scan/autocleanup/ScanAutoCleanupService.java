@@ -2,6 +2,7 @@
 package com.mercedesbenz.sechub.domain.scan.autocleanup;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,7 +11,10 @@ import org.springframework.stereotype.Service;
 
 import com.mercedesbenz.sechub.domain.scan.config.ScanConfigService;
 import com.mercedesbenz.sechub.domain.scan.log.ProjectScanLogRepository;
+import com.mercedesbenz.sechub.domain.scan.product.ProductResult;
 import com.mercedesbenz.sechub.domain.scan.product.ProductResultRepository;
+import com.mercedesbenz.sechub.domain.scan.product.ProductResultStorageService;
+import com.mercedesbenz.sechub.domain.scan.report.ScanReportRenderCache;
 import com.mercedesbenz.sechub.domain.scan.report.ScanReportRepository;
 import com.mercedesbenz.sechub.sharedkernel.Step;
 import com.mercedesbenz.sechub.sharedkernel.TimeCalculationService;
@@ -38,9 +42,15 @@ public class ScanAutoCleanupService {
     @Autowired
     ProductResultRepository productResultRepository;
 
+    @Autowired
+    ProductResultStorageService productResultStorageService;
+
     @Autowired
     AutoCleanupResultInspector inspector;
 
+    @Autowired
+    ScanReportRenderCache renderCache;
+
     private static boolean statistic_feature_1010_implemented = false;
 
     @UseCaseScanAutoCleanExecution(@Step(number = 2, name = "Delete old data", description = "deletes old job information"))
@@ -58,6 +68,8 @@ public class ScanAutoCleanupService {
         deleteScanResults(days, cleanTimeStamp);
         deleteScanLogs(days, cleanTimeStamp);
 
+        renderCache.invalidateStartedBefore(cleanTimeStamp);
+
     }
 
     private void deleteScanLogs(long days, LocalDateTime cleanTimeStamp) {
@@ -90,7 +102,14 @@ public class ScanAutoCleanupService {
     }
 
     private void deleteProductResults(long days, LocalDateTime cleanTimeStamp) {
+        /*
+         * offloaded results are deleted from storage after the database entries - so
+         * storage problems can only lead to orphaned storage data but never to
+         * entries without data
+         */
+        List<ProductResult> offloadedResults = productResultRepository.findOffloadedResultsOlderThan(cleanTimeStamp);
         int amount = productResultRepository.deleteResultsOlderThan(cleanTimeStamp);
+        productResultStorageService.deleteOffloadedResults(offloadedResults);
         /* @formatter:off */
         inspector.inspect(AutoCleanupResult.builder().
                 autoCleanup("product-results",getClass()).
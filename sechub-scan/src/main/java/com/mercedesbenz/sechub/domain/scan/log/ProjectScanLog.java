@@ -45,6 +45,7 @@ public class ProjectScanLog {
     public static final String COLUMN_SECHUB_JOB_UUID = "SECHUB_JOB_UUID";
     public static final String COLUMN_CONFIG = "CONFIG";
     public static final String COLUMN_STATUS = "STATUS";
+    public static final String COLUMN_PHASE_TIMES = "PHASE_TIMES";
 
     public static final String COLUMN_STARTED = "STARTED";
     public static final String COLUMN_ENDED = "ENDED";
@@ -89,6 +90,13 @@ public class ProjectScanLog {
     @Column(name = COLUMN_STATUS)
     String status;
 
+    /**
+     * Time needed by every scan phase - e.g. "analytics=120ms, codeScan=54210ms"
+     */
+    @Type(type = "text")
+    @Column(name = COLUMN_PHASE_TIMES)
+    String phaseTimes;
+
     @Version
     @Column(name = "VERSION")
     Integer version;
@@ -120,6 +128,14 @@ public class ProjectScanLog {
         this.status = status;
     }
 
+    public void setPhaseTimes(String phaseTimes) {
+        this.phaseTimes = phaseTimes;
+    }
+
+    public String getPhaseTimes() {
+        return phaseTimes;
+    }
+
     public String getConfig() {
         return config;
     }
@@ -150,7 +166,7 @@ public class ProjectScanLog {
 
     @Override
     public int hashCode() {
-        return Objects.hash(config, ended, executedBy, projectId, sechubJobUUID, started, uUID, version);
+        return Objects.hash(config, ended, executedBy, phaseTimes, projectId, sechubJobUUID, started, uUID, version);
     }
 
     @Override
@@ -163,14 +179,15 @@ public class ProjectScanLog {
             return false;
         ProjectScanLog other = (ProjectScanLog) obj;
         return Objects.equals(config, other.config) && Objects.equals(ended, other.ended) && Objects.equals(executedBy, other.executedBy)
-                && Objects.equals(projectId, other.projectId) && Objects.equals(sechubJobUUID, other.sechubJobUUID) && Objects.equals(started, other.started)
-                && Objects.equals(uUID, other.uUID) && Objects.equals(version, other.version);
+                && Objects.equals(phaseTimes, other.phaseTimes) && Objects.equals(projectId, other.projectId)
+                && Objects.equals(sechubJobUUID, other.sechubJobUUID) && Objects.equals(started, other.started) && Objects.equals(uUID, other.uUID)
+                && Objects.equals(version, other.version);
     }
 
     @Override
     public String toString() {
         return "ProjectScanLog [\nuUID=" + uUID + ", \nexecutedBy=" + executedBy + ", \nprojectId=" + projectId + ", \nsechubJobUUID=" + sechubJobUUID
-                + ", \nstatus=" + status + ", \nstarted=" + started + ", \nended=" + ended + ", \nconfig=" + config + "\n]";
+                + ", \nstatus=" + status + ", \nstarted=" + started + ", \nended=" + ended + ", \nphaseTimes=" + phaseTimes + ", \nconfig=" + config + "\n]";
     }
 
 }
@@ -3,6 +3,7 @@ package com.mercedesbenz.sechub.domain.scan.log;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -42,15 +43,30 @@ public class ProjectScanLogService {
 
     }
 
-    public void logScanEnded(UUID logScanUUID) {
-        logEndedWithStatus(logScanUUID, ProjectScanLog.STATUS_OK);
+    /**
+     * Marks scan log as ended and stores the time needed by every scan phase
+     *
+     * @param logScanUUID log uuid
+     * @param context     execution context containing phase times, can be
+     *                    <code>null</code>
+     */
+    public void logScanEnded(UUID logScanUUID, SecHubExecutionContext context) {
+        logEndedWithStatus(logScanUUID, ProjectScanLog.STATUS_OK, context);
     }
 
-    public void logScanFailed(UUID logUUID) {
-        logEndedWithStatus(logUUID, ProjectScanLog.STATUS_FAILED);
+    /**
+     * Marks scan log as failed and stores the time needed by every scan phase
+     * executed so far
+     *
+     * @param logUUID log uuid
+     * @param context execution context containing phase times, can be
+     *                <code>null</code>
+     */
+    public void logScanFailed(UUID logUUID, SecHubExecutionContext context) {
+        logEndedWithStatus(logUUID, ProjectScanLog.STATUS_FAILED, context);
     }
 
-    private void logEndedWithStatus(UUID logScanUUID, String status) {
+    private void logEndedWithStatus(UUID logScanUUID, String status, SecHubExecutionContext context) {
         Optional<ProjectScanLog> optLog = repository.findById(logScanUUID);
         if (!optLog.isPresent()) {
             LOG.error("Cannot update log entry {} because not existing!", logScanUUID);
@@ -59,9 +75,26 @@ public class ProjectScanLogService {
         ProjectScanLog log = optLog.get();
         log.setEnded(LocalDateTime.now());
         log.setStatus(status);
+        if (context != null) {
+            log.setPhaseTimes(createPhaseTimesString(context.getPhaseTimesInMilliseconds()));
+        }
         repository.save(log);
     }
 
+    static String createPhaseTimesString(Map<String, Long> phaseTimesInMilliseconds) {
+        if (phaseTimesInMilliseconds == null || phaseTimesInMilliseconds.isEmpty()) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Long> entry : phaseTimesInMilliseconds.entrySet()) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(entry.getKey()).append('=').append(entry.getValue()).append("ms");
+        }
+        return sb.toString();
+    }
+
     @RolesAllowed(RoleConstants.ROLE_SUPERADMIN)
     public List<ProjectScanLogSummary> fetchSummaryLogsFor(String projectId) {
         return repository.findSummaryLogsFor(projectId);
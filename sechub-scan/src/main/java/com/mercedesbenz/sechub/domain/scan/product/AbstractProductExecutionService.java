@@ -7,13 +7,21 @@ import static java.util.Objects.*;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.PostConstruct;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 import com.mercedesbenz.sechub.commons.model.ScanType;
 import com.mercedesbenz.sechub.domain.scan.SecHubExecutionContext;
@@ -21,6 +29,8 @@ import com.mercedesbenz.sechub.domain.scan.SecHubExecutionException;
 import com.mercedesbenz.sechub.domain.scan.product.config.ProductExecutorConfig;
 import com.mercedesbenz.sechub.domain.scan.product.config.ProductExecutorConfigRepository;
 import com.mercedesbenz.sechub.domain.scan.product.config.ProductExecutorConfigSetup;
+import com.mercedesbenz.sechub.domain.scan.product.config.ProductExecutorConfigSetupJobParameter;
+import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
 import com.mercedesbenz.sechub.sharedkernel.ProductIdentifier;
 import com.mercedesbenz.sechub.sharedkernel.UUIDTraceLogID;
 import com.mercedesbenz.sechub.sharedkernel.configuration.SecHubConfiguration;
@@ -38,9 +48,28 @@ public abstract class AbstractProductExecutionService implements ProductExecutio
 
     private static final ProductExecutorConfig SERECO_FALLBACK = createFallbackExecutorConfigForSereco();
 
+    private static final String SECHUB_SCAN_PRODUCT_EXECUTOR_THREAD_PREFIX = "sechub-scan-product:";
+
+    private static final int DEFAULT_MAXIMUM_PARALLEL_PRODUCT_EXECUTOR_RUNS = 1;
+
+    /**
+     * Job parameter inside an executor configuration to define the maximum amount
+     * of product executors running in parallel for one scan type
+     */
+    public static final String JOB_PARAMETER_PARALLEL_EXECUTION_MAX = "sechub.productexecutor.parallel.max";
+
+    @MustBeDocumented(value = "Maximum amount of product executors running in parallel for one scan type of a SecHub job - e.g. when an execution profile contains two code scan products. "
+            + "A value of 1 means the product executors are executed one after another. Can be overridden by the executor configuration job parameter `"
+            + JOB_PARAMETER_PARALLEL_EXECUTION_MAX + "`. SERECO is always executed after all other product executors.", scope = "scan")
+    @Value("${sechub.config.scan.productexecutors.parallel.max:" + DEFAULT_MAXIMUM_PARALLEL_PRODUCT_EXECUTOR_RUNS + "}")
+    int maximumParallelProductExecutorRuns = DEFAULT_MAXIMUM_PARALLEL_PRODUCT_EXECUTOR_RUNS;
+
     @Autowired
     ProductResultRepository productResultRepository;
 
+    @Autowired
+    ProductResultStorageService productResultStorageService;
+
     @Autowired
     ProductExecutorConfigRepository productExecutorConfigRepository;
 
@@ -150,6 +179,7 @@ public abstract class AbstractProductExecutionService implements ProductExecutio
         int countOfReportProductExecutor = 0;
         ProductExecutor serecoProductExecutor = null;
 
+        List<ProductExecutorRun> runs = new ArrayList<>();
         for (ProductExecutor productExecutor : executors) {
             if (context.isCancelRequested()) {
                 return;
@@ -171,7 +201,7 @@ public abstract class AbstractProductExecutionService implements ProductExecutio
                     continue;
                 }
                 for (ProductExecutorConfig executorConfiguration : executorConfigurations) {
-                    runOnExecutorWithOneConfiguration(executorConfiguration, productExecutor, context, projectId, traceLogID);
+                    runs.add(new ProductExecutorRun(productExecutor, executorConfiguration));
 
                     ScanType scanType = productExecutor.getScanType();
                     if (ScanType.REPORT.equals(scanType)) {
@@ -182,13 +212,159 @@ public abstract class AbstractProductExecutionService implements ProductExecutio
             }
         }
 
+        int maximumParallelRuns = resolveMaximumParallelRuns(runs);
+        if (maximumParallelRuns > 1 && runs.size() > 1) {
+            if (!runParallel(runs, maximumParallelRuns, context, projectId, traceLogID)) {
+                return;
+            }
+        } else {
+            for (ProductExecutorRun run : runs) {
+                if (context.isCancelRequested()) {
+                    return;
+                }
+                runOnExecutorWithOneConfiguration(run.executorConfiguration, run.productExecutor, context, projectId, traceLogID);
+            }
+        }
+
         if (serecoProductExecutor != null && countOfReportProductExecutor == 0) {
+            if (context.isCancelRequested()) {
+                return;
+            }
             LOG.debug("no dedicated configuration for report execution was executed before, so fallback to sereco default behaviour");
             runOnExecutorWithOneConfiguration(SERECO_FALLBACK, serecoProductExecutor, context, projectId, traceLogID);
         }
 
     }
 
+    /**
+     * Runs all given executor runs - except SERECO - in parallel. Every product
+     * executor stores its own results. SERECO runs are done afterwards, one after
+     * another, because they need the results of all other product executors.
+     *
+     * @return <code>true</code> when all runs were done, <code>false</code> when
+     *         execution was canceled or interrupted
+     */
+    private boolean runParallel(List<ProductExecutorRun> runs, int maximumParallelRuns, SecHubExecutionContext context, String projectId,
+            UUIDTraceLogID traceLogID) {
+        List<ProductExecutorRun> parallelRuns = new ArrayList<>();
+        List<ProductExecutorRun> serecoRuns = new ArrayList<>();
+        for (ProductExecutorRun run : runs) {
+            if (ProductIdentifier.SERECO.equals(run.productExecutor.getIdentifier())) {
+                serecoRuns.add(run);
+            } else {
+                parallelRuns.add(run);
+            }
+        }
+        int threadCount = Math.min(maximumParallelRuns, Math.max(1, parallelRuns.size()));
+        LOG.debug("{} will execute {} product executor runs with maximum {} in parallel {}", getClass().getSimpleName(), parallelRuns.size(), threadCount,
+                traceLogID);
+
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        AtomicInteger threadNumber = new AtomicInteger();
+        String threadNamePrefix = SECHUB_SCAN_PRODUCT_EXECUTOR_THREAD_PREFIX + context.getSechubJobUUID() + ":";
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount,
+                runnable -> new Thread(runnable, threadNamePrefix + threadNumber.incrementAndGet()));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (ProductExecutorRun run : parallelRuns) {
+                futures.add(executorService.submit(() -> {
+                    if (mdcContext != null) {
+                        MDC.setContextMap(mdcContext);
+                    }
+                    try {
+                        if (context.isCancelRequested()) {
+                            return;
+                        }
+                        runOnExecutorWithOneConfiguration(run.executorConfiguration, run.productExecutor, context, projectId, traceLogID);
+                    } finally {
+                        MDC.clear();
+                    }
+                }));
+            }
+            executorService.shutdown();
+
+            RuntimeException firstFailure = null;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    RuntimeException failure = asRuntimeException(e.getCause());
+                    if (firstFailure == null) {
+                        firstFailure = failure;
+                    } else {
+                        getMockableLog().error("Another product executor run failed {}", traceLogID, failure);
+                    }
+                }
+            }
+            if (firstFailure != null) {
+                throw firstFailure;
+            }
+        } catch (InterruptedException e) {
+            LOG.info("Parallel product executor runs were interrupted {}", traceLogID);
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        for (ProductExecutorRun run : serecoRuns) {
+            if (context.isCancelRequested()) {
+                return false;
+            }
+            runOnExecutorWithOneConfiguration(run.executorConfiguration, run.productExecutor, context, projectId, traceLogID);
+        }
+        return !context.isCancelRequested();
+    }
+
+    /**
+     * Resolves the maximum amount of product executor runs done in parallel. An
+     * executor configuration can define the job parameter
+     * {@value #JOB_PARAMETER_PARALLEL_EXECUTION_MAX} - when multiple executor
+     * configurations define different values, the lowest one is used. Otherwise
+     * <code>sechub.config.scan.productexecutors.parallel.max</code> is used.
+     */
+    int resolveMaximumParallelRuns(List<ProductExecutorRun> runs) {
+        int result = -1;
+        for (ProductExecutorRun run : runs) {
+            ProductExecutorConfigSetup setup = run.executorConfiguration.getSetup();
+            if (setup == null) {
+                continue;
+            }
+            for (ProductExecutorConfigSetupJobParameter parameter : setup.getJobParameters()) {
+                if (!JOB_PARAMETER_PARALLEL_EXECUTION_MAX.equals(parameter.getKey())) {
+                    continue;
+                }
+                try {
+                    int value = Integer.parseInt(parameter.getValue().trim());
+                    result = result < 0 ? value : Math.min(result, value);
+                } catch (RuntimeException e) {
+                    LOG.warn("Executor config {} has invalid value for {}: {}", run.executorConfiguration.getUUID(), JOB_PARAMETER_PARALLEL_EXECUTION_MAX,
+                            parameter.getValue());
+                }
+            }
+        }
+        if (result < 0) {
+            result = maximumParallelProductExecutorRuns;
+        }
+        return Math.max(1, result);
+    }
+
+    private RuntimeException asRuntimeException(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        return new IllegalStateException("Product executor run failed", cause);
+    }
+
+    static class ProductExecutorRun {
+        private ProductExecutor productExecutor;
+        private ProductExecutorConfig executorConfiguration;
+
+        ProductExecutorRun(ProductExecutor productExecutor, ProductExecutorConfig executorConfiguration) {
+            this.productExecutor = productExecutor;
+            this.executorConfiguration = executorConfiguration;
+        }
+    }
+
     private void runOnExecutorWithOneConfiguration(ProductExecutorConfig executorConfiguration, ProductExecutor productExecutor, SecHubExecutionContext context,
             String projectId, UUIDTraceLogID traceLogID) {
         /*
@@ -251,6 +427,7 @@ public abstract class AbstractProductExecutionService implements ProductExecutio
                 continue;
             }
             productResultRepository.delete(oldResult);
+            productResultStorageService.deleteOffloadedResult(oldResult);
         }
     }
 
@@ -52,7 +52,7 @@ public class AnalyticsProductExecutionServiceImpl extends AbstractProductExecuti
         AnalyticData analyticData = context.getAnalyticData();
 
         for (ProductResult productResult : productResults) {
-            String analyticDataAsString = productResult.getResult();
+            String analyticDataAsString = productResultStorageService.loadResult(productResult);
 
             analyticDataImportService.importAnalyticDataParts(analyticDataAsString, analyticData);
         }
@@ -51,6 +51,10 @@ public class ProductResult {
 
     public static final String COLUMN_MESSAGES = "MESSAGES";
 
+    public static final String COLUMN_RESULT_STORAGE_UUID = "RESULT_STORAGE_UUID";
+    public static final String COLUMN_RESULT_SIZE = "RESULT_SIZE";
+    public static final String COLUMN_RESULT_CHECKSUM = "RESULT_CHECKSUM";
+
     /* +-----------------------------------------------------------------------+ */
     /* +............................ JPQL .....................................+ */
     /* +-----------------------------------------------------------------------+ */
@@ -61,9 +65,17 @@ public class ProductResult {
     public static final String PROPERTY_PRODUCT_CONFIG_UUID = "productExecutorConfigUUID";
     public static final String PROPERTY_PRODUCT_STARTED = "started";
     public static final String PROPERTY_MESSAGES = "messages";
+    public static final String PROPERTY_PROJECT_ID = "projectId";
+    public static final String PROPERTY_RESULT_STORAGE_UUID = "resultStorageUUID";
 
     public static final String QUERY_DELETE_RESULT_OLDER_THAN = "DELETE FROM ProductResult r WHERE r." + PROPERTY_PRODUCT_STARTED + " < :cleanTimeStamp";;
 
+    public static final String QUERY_FIND_OFFLOADED_RESULTS_OLDER_THAN = "SELECT r FROM ProductResult r WHERE r." + PROPERTY_PRODUCT_STARTED
+            + " < :cleanTimeStamp AND r." + PROPERTY_RESULT_STORAGE_UUID + " IS NOT NULL";
+
+    public static final String QUERY_FIND_OFFLOADED_RESULTS_FOR_PROJECT = "SELECT r FROM ProductResult r WHERE r." + PROPERTY_PROJECT_ID
+            + " = :projectId AND r." + PROPERTY_RESULT_STORAGE_UUID + " IS NOT NULL";
+
     @Id
     @GeneratedValue(generator = "UUID")
     @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
@@ -113,6 +125,19 @@ public class ProductResult {
     @Column(name = COLUMN_MESSAGES, nullable = true)
     String messages;
 
+    /*
+     * Only set when the result was offloaded to storage - in this case the result
+     * column is null. See ProductResultStorageService
+     */
+    @Column(name = COLUMN_RESULT_STORAGE_UUID, nullable = true, columnDefinition = "UUID")
+    UUID resultStorageUUID;
+
+    @Column(name = COLUMN_RESULT_SIZE, nullable = true)
+    Long resultSize;
+
+    @Column(name = COLUMN_RESULT_CHECKSUM, nullable = true)
+    String resultChecksum;
+
     ProductResult() {
         // jpa only
     }
@@ -161,10 +186,57 @@ public class ProductResult {
         return secHubJobUUID;
     }
 
+    /**
+     * @return result or <code>null</code> when there is no result or the result
+     *         is offloaded to storage. Use
+     *         {@link ProductResultStorageService#loadResult(ProductResult)} to
+     *         always get the result.
+     */
     public String getResult() {
         return result;
     }
 
+    /**
+     * @return <code>true</code> when result is not inside database but stored
+     *         inside storage
+     */
+    public boolean isResultOffloaded() {
+        return result == null && resultStorageUUID != null;
+    }
+
+    public UUID getResultStorageUUID() {
+        return resultStorageUUID;
+    }
+
+    /**
+     * @return size of offloaded result in bytes (UTF-8) or <code>null</code> when
+     *         not offloaded
+     */
+    public Long getResultSize() {
+        return resultSize;
+    }
+
+    /**
+     * @return SHA-256 checksum of offloaded result or <code>null</code> when not
+     *         offloaded
+     */
+    public String getResultChecksum() {
+        return resultChecksum;
+    }
+
+    void markResultOffloaded(UUID resultStorageUUID, long resultSize, String resultChecksum) {
+        this.result = null;
+        this.resultStorageUUID = resultStorageUUID;
+        this.resultSize = resultSize;
+        this.resultChecksum = resultChecksum;
+    }
+
+    void clearResultStorage() {
+        this.resultStorageUUID = null;
+        this.resultSize = null;
+        this.resultChecksum = null;
+    }
+
     public void setStarted(LocalDateTime started) {
         this.started = started;
     }
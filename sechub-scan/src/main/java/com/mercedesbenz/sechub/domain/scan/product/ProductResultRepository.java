@@ -4,6 +4,7 @@ package com.mercedesbenz.sechub.domain.scan.product;
 import static com.mercedesbenz.sechub.domain.scan.product.ProductResult.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -23,4 +24,10 @@ public interface ProductResultRepository extends JpaRepository<ProductResult, UU
     @Query(ProductResult.QUERY_DELETE_RESULT_OLDER_THAN)
     int deleteResultsOlderThan(@Param("cleanTimeStamp") LocalDateTime cleanTimeStamp);
 
+    @Query(ProductResult.QUERY_FIND_OFFLOADED_RESULTS_OLDER_THAN)
+    List<ProductResult> findOffloadedResultsOlderThan(@Param("cleanTimeStamp") LocalDateTime cleanTimeStamp);
+
+    @Query(ProductResult.QUERY_FIND_OFFLOADED_RESULTS_FOR_PROJECT)
+    List<ProductResult> findOffloadedResultsForProject(@Param("projectId") String projectId);
+
 }
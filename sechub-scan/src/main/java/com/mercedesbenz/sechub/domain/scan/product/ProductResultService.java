@@ -26,6 +26,9 @@ public class ProductResultService {
     @Autowired
     ProductResultRepository repository;
 
+    @Autowired
+    ProductResultStorageService productResultStorageService;
+
     @Autowired
     @Lazy
     DomainMessageService eventBus;
@@ -50,6 +53,7 @@ public class ProductResultService {
         boolean purged = false;
         for (ProductResult result : existingResults) {
             repository.delete(result);
+            productResultStorageService.deleteOffloadedResult(result);
             purged = true;
         }
 
@@ -0,0 +1,264 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.product;
+
+import static java.nio.charset.StandardCharsets.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.mercedesbenz.sechub.commons.core.security.CheckSumSupport;
+import com.mercedesbenz.sechub.commons.core.security.DigestCalculatingInputStream;
+import com.mercedesbenz.sechub.commons.model.SecHubRuntimeException;
+import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
+import com.mercedesbenz.sechub.storage.core.JobStorage;
+import com.mercedesbenz.sechub.storage.core.StorageService;
+
+/**
+ * Offloads big product results from database into storage (S3 or shared
+ * volume). An offloaded result is stored gzip compressed, the product result
+ * entity contains only a storage reference, the size and a checksum of the
+ * result.<br>
+ * <br>
+ * Every offloaded result has its own storage UUID - the job storage of the
+ * SecHub job itself cannot be used, because it is deleted after the job has
+ * been done.
+ */
+@Service
+public class ProductResultStorageService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProductResultStorageService.class);
+
+    static final String STORAGE_OBJECT_NAME = "product-result.gz";
+
+    private static final boolean DEFAULT_OFFLOAD_ENABLED = false;
+    private static final int DEFAULT_OFFLOAD_MINIMUM_LENGTH = 1024 * 1024;
+
+    @MustBeDocumented(value = "When enabled, big product results are not stored inside the database but gzip compressed inside the storage (S3 or shared volume). The database contains only a reference, the size and a checksum.", scope = "scan")
+    @Value("${sechub.scan.productresult.offload.enabled:" + DEFAULT_OFFLOAD_ENABLED + "}")
+    boolean offloadEnabled = DEFAULT_OFFLOAD_ENABLED;
+
+    @MustBeDocumented(value = "Minimum length (in characters) of a product result to be offloaded to storage.", scope = "scan")
+    @Value("${sechub.scan.productresult.offload.minimum.length:" + DEFAULT_OFFLOAD_MINIMUM_LENGTH + "}")
+    int offloadMinimumLength = DEFAULT_OFFLOAD_MINIMUM_LENGTH;
+
+    @Autowired
+    StorageService storageService;
+
+    @Autowired
+    CheckSumSupport checkSumSupport;
+
+    /**
+     * Offloads the result of given product result into storage when offload is
+     * enabled and the result is big enough. Must be called before the product
+     * result is persisted. When the result cannot be stored, it is kept inside the
+     * product result.
+     *
+     * @param productResult product result to inspect
+     */
+    public void offloadIfNecessary(ProductResult productResult) {
+        if (productResult == null) {
+            return;
+        }
+        String result = productResult.getResult();
+        if (result == null) {
+            /* either no result or already offloaded */
+            return;
+        }
+        if (!offloadEnabled || result.length() < offloadMinimumLength) {
+            if (productResult.getResultStorageUUID() != null) {
+                /* result was offloaded before but has been changed to a small one */
+                deleteOffloadedResult(productResult);
+                productResult.clearResultStorage();
+            }
+            return;
+        }
+        byte[] data = result.getBytes(UTF_8);
+        String checksum = checkSumSupport.convertDigestToHex(checkSumSupport.createSha256MessageDigest().digest(data));
+
+        UUID storageUUID = productResult.getResultStorageUUID();
+        if (storageUUID == null) {
+            storageUUID = UUID.randomUUID();
+        }
+        try {
+            byte[] compressed = compress(data);
+
+            JobStorage storage = storageService.getJobStorage(productResult.getProjectId(), storageUUID);
+            storage.store(STORAGE_OBJECT_NAME, new ByteArrayInputStream(compressed), compressed.length);
+
+            LOG.debug("Offloaded result of product {} for job {} to storage {}: {} bytes, compressed {} bytes", productResult.getProductIdentifier(),
+                    productResult.getSecHubJobUUID(), storageUUID, data.length, compressed.length);
+        } catch (IOException e) {
+            LOG.error("Was not able to offload result of product {} for job {} - will keep result inside database", productResult.getProductIdentifier(),
+                    productResult.getSecHubJobUUID(), e);
+            return;
+        }
+        productResult.markResultOffloaded(storageUUID, data.length, checksum);
+    }
+
+    /**
+     * Loads result of given product result - either from product result itself
+     * or from storage when offloaded.
+     *
+     * @param productResult product result
+     * @return result or <code>null</code> when product result has no result
+     * @throws SecHubRuntimeException when offloaded result cannot be loaded or is
+     *                                corrupt
+     */
+    public String loadResult(ProductResult productResult) {
+        if (productResult == null) {
+            return null;
+        }
+        if (!productResult.isResultOffloaded()) {
+            return productResult.getResult();
+        }
+        try (InputStream inputStream = openResult(productResult)) {
+            return new String(inputStream.readAllBytes(), UTF_8);
+        } catch (IOException e) {
+            throw new SecHubRuntimeException("Was not able to load offloaded result of product result: " + productResult.getUUID(), e);
+        }
+    }
+
+    /**
+     * Opens a stream to read result of given product result (UTF-8). For
+     * offloaded results the data is streamed directly from storage. The checksum
+     * is verified when the end of the stream has been reached.
+     *
+     * @param productResult product result
+     * @return input stream or <code>null</code> when product result has no result
+     * @throws IOException when stream cannot be opened, or while reading when
+     *                     offloaded data is corrupt
+     */
+    public InputStream openResult(ProductResult productResult) throws IOException {
+        if (productResult == null) {
+            return null;
+        }
+        if (!productResult.isResultOffloaded()) {
+            String result = productResult.getResult();
+            if (result == null) {
+                return null;
+            }
+            return new ByteArrayInputStream(result.getBytes(UTF_8));
+        }
+        JobStorage storage = storageService.getJobStorage(productResult.getProjectId(), productResult.getResultStorageUUID());
+        InputStream storedStream = storage.fetch(STORAGE_OBJECT_NAME);
+        if (storedStream == null) {
+            throw new IOException("Offloaded result not found in storage: " + productResult.getResultStorageUUID());
+        }
+        MessageDigest digest = checkSumSupport.createSha256MessageDigest();
+        return new ChecksumVerifyingInputStream(new GZIPInputStream(storedStream), digest, productResult);
+    }
+
+    /**
+     * Deletes offloaded result of given product result from storage. Does nothing
+     * when result was not offloaded. Failures are only logged - deleting the
+     * product result itself shall not fail because of storage problems.<br>
+     * <br>
+     * Storage changes cannot be rolled back. So when called inside a transaction,
+     * the storage is deleted only after the transaction has been committed.
+     *
+     * @param productResult product result
+     */
+    public void deleteOffloadedResult(ProductResult productResult) {
+        if (productResult == null) {
+            return;
+        }
+        UUID storageUUID = productResult.getResultStorageUUID();
+        if (storageUUID == null) {
+            return;
+        }
+        /* values are fetched now - the product result can be changed before commit */
+        String projectId = productResult.getProjectId();
+        UUID productResultUUID = productResult.getUUID();
+
+        runAfterCommit(() -> deleteFromStorage(projectId, storageUUID, productResultUUID));
+    }
+
+    /**
+     * Deletes offloaded results of all given product results from storage - see
+     * {@link #deleteOffloadedResult(ProductResult)}
+     *
+     * @param productResults product results
+     */
+    public void deleteOffloadedResults(List<ProductResult> productResults) {
+        if (productResults == null) {
+            return;
+        }
+        for (ProductResult productResult : productResults) {
+            deleteOffloadedResult(productResult);
+        }
+    }
+
+    private void deleteFromStorage(String projectId, UUID storageUUID, UUID productResultUUID) {
+        try {
+            storageService.getJobStorage(projectId, storageUUID).deleteAll();
+        } catch (IOException e) {
+            LOG.error("Was not able to delete offloaded result {} of product result {}", storageUUID, productResultUUID, e);
+        }
+    }
+
+    private void runAfterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            /* no transaction - so nothing can be rolled back */
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+    private byte[] compress(byte[] data) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(Math.max(32, data.length / 8));
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(data);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private class ChecksumVerifyingInputStream extends DigestCalculatingInputStream {
+
+        private final ProductResult productResult;
+        private boolean verified;
+
+        private ChecksumVerifyingInputStream(InputStream inputStream, MessageDigest digest, ProductResult productResult) {
+            super(inputStream, digest);
+            this.productResult = productResult;
+        }
+
+        @Override
+        protected void afterEndOfStreamReached() throws IOException {
+            if (verified) {
+                return;
+            }
+            verified = true;
+            long size = getByteCount();
+            Long expectedSize = productResult.getResultSize();
+            if (expectedSize != null && expectedSize.longValue() != size) {
+                throw new IOException("Offloaded result " + productResult.getResultStorageUUID() + " has size " + size + " but expected was " + expectedSize);
+            }
+            String checksum = checkSumSupport.convertDigestToHex(getDigestResult());
+            String expectedChecksum = productResult.getResultChecksum();
+            if (expectedChecksum != null && !expectedChecksum.equals(checksum)) {
+                throw new IOException("Offloaded result " + productResult.getResultStorageUUID() + " has not the expected checksum");
+            }
+        }
+    }
+}
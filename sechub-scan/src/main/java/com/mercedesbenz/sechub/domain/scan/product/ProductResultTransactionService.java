@@ -18,6 +18,9 @@ public class ProductResultTransactionService {
     @Autowired
     ProductResultRepository productResultRepository;
 
+    @Autowired
+    ProductResultStorageService productResultStorageService;
+
     /**
      * Persists the result. This will ALWAYS start a new transaction. So former
      * results will NOT get lost if this persistence fails. Necessary for debugging
@@ -37,6 +40,9 @@ public class ProductResultTransactionService {
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public ProductResult persistResult(UUIDTraceLogID traceLogID, ProductResult productResult) {
+        /* big results are stored before the reference is persisted */
+        productResultStorageService.offloadIfNecessary(productResult);
+
         ProductResult result = productResultRepository.save(productResult);
         LOG.debug("Persisted result of product id: {}  , executor config uuid: {}, product result uuid: {}, traceLogId:{}, metaData:{}",
                 productResult.getProductIdentifier(), productResult.getProductExecutorConfigUUID(), productResult.getUUID(), traceLogID,
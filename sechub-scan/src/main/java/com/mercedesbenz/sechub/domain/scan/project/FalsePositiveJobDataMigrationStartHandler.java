@@ -0,0 +1,39 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.project;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.stereotype.Component;
+
+/**
+ * Migrates false positive configurations of former SecHub versions at startup.
+ * The database migration only creates the false positive table - the JSON data
+ * is converted here, so no database specific JSON functions are necessary.
+ */
+@Component
+public class FalsePositiveJobDataMigrationStartHandler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FalsePositiveJobDataMigrationStartHandler.class);
+
+    @Autowired
+    FalsePositiveJobDataService falsePositiveJobDataService;
+
+    @Bean
+    public CommandLineRunner migrateFormerFalsePositiveConfigurations() {
+        return args -> {
+            try {
+                int migrated = falsePositiveJobDataService.migrateFormerFalsePositiveConfigurations();
+                if (migrated > 0) {
+                    LOG.info("Migrated former false positive configurations of {} projects", migrated);
+                }
+            } catch (RuntimeException e) {
+                /* another cluster member may have migrated the same configurations at the same time */
+                LOG.warn("Migration of former false positive configurations failed - will be retried on next startup", e);
+            }
+        };
+    }
+
+}
@@ -3,19 +3,32 @@ package com.mercedesbenz.sechub.domain.scan.project;
 
 import static com.mercedesbenz.sechub.sharedkernel.validation.AssertValidation.*;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import javax.annotation.PostConstruct;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.mercedesbenz.sechub.domain.scan.ScanAssertService;
+import com.mercedesbenz.sechub.domain.scan.project.ScanFalsePositive.ScanFalsePositiveCompositeKey;
 import com.mercedesbenz.sechub.domain.scan.report.ScanReport;
 import com.mercedesbenz.sechub.domain.scan.report.ScanReportRepository;
 import com.mercedesbenz.sechub.domain.scan.report.ScanSecHubReport;
+import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
 import com.mercedesbenz.sechub.sharedkernel.UserContextService;
 import com.mercedesbenz.sechub.sharedkernel.error.NotFoundException;
 import com.mercedesbenz.sechub.sharedkernel.logging.AuditLogService;
@@ -24,10 +37,15 @@ import com.mercedesbenz.sechub.sharedkernel.validation.UserInputAssertion;
 @Service
 public class FalsePositiveJobDataService {
 
-    private static final ScanProjectConfigID CONFIG_ID = ScanProjectConfigID.FALSE_POSITIVE_CONFIGURATION;
+    private static final ScanProjectConfigID REVISION_CONFIG_ID = ScanProjectConfigID.FALSE_POSITIVE_REVISION;
+    private static final ScanProjectConfigID FORMER_CONFIG_ID = ScanProjectConfigID.FALSE_POSITIVE_CONFIGURATION;
+    private static final ScanProjectConfigID MIGRATED_FORMER_CONFIG_ID = ScanProjectConfigID.FALSE_POSITIVE_CONFIGURATION_MIGRATED;
 
     private static final Logger LOG = LoggerFactory.getLogger(FalsePositiveJobDataService.class);
 
+    private static final int DEFAULT_MAXIMUM_PAGE_SIZE = 1000;
+    private static final int MINIMUM_PAGE_SIZE = 1;
+
     @Autowired
     ScanReportRepository scanReportRepository;
 
@@ -35,7 +53,13 @@ public class FalsePositiveJobDataService {
     UserInputAssertion userInputAssertion;
 
     @Autowired
-    ScanProjectConfigService configService;
+    ScanFalsePositiveRepository falsePositiveRepository;
+
+    @Autowired
+    ScanProjectConfigRepository configRepository;
+
+    @Autowired
+    FalsePositiveProjectConfigurationCache configurationCache;
 
     @Autowired
     FalsePositiveJobDataListValidation falsePositiveJobDataListValidation;
@@ -52,6 +76,19 @@ public class FalsePositiveJobDataService {
     @Autowired
     AuditLogService auditLogService;
 
+    @MustBeDocumented(value = "Maximum amount of false positive entries per page when false positives are fetched page by page.", scope = "scan")
+    @Value("${sechub.project.falsepositives.page.size.max:" + DEFAULT_MAXIMUM_PAGE_SIZE + "}")
+    int maximumPageSize = DEFAULT_MAXIMUM_PAGE_SIZE;
+
+    @PostConstruct
+    void postConstruct() {
+        if (maximumPageSize < MINIMUM_PAGE_SIZE) {
+            LOG.warn("Illegal maximum page size defined: {} - will use: {} as fallback.", maximumPageSize, DEFAULT_MAXIMUM_PAGE_SIZE);
+            maximumPageSize = DEFAULT_MAXIMUM_PAGE_SIZE;
+        }
+    }
+
+    @Transactional
     public void addFalsePositives(String projectId, FalsePositiveJobDataList data) {
         validateUserInputAndProjectAccess(projectId, data);
 
@@ -62,40 +99,140 @@ public class FalsePositiveJobDataService {
             return;
         }
 
-        FalsePositiveProjectConfiguration config = fetchOrCreateConfiguration(projectId);
+        /* only new entries are merged - existing ones are kept as they are */
+        FalsePositiveProjectConfiguration newEntries = new FalsePositiveProjectConfiguration();
+        addJobDataListToConfiguration(projectId, newEntries, data);
 
-        addJobDataListToConfiguration(config, data);
-
-        /* update configuration */
-        configService.set(projectId, CONFIG_ID, config.toJSON());
+        if (newEntries.getFalsePositives().isEmpty()) {
+            LOG.debug("All false positive entries are already existing for project {}", projectId);
+            return;
+        }
+        List<ScanFalsePositive> toSave = new ArrayList<>(newEntries.getFalsePositives().size());
+        for (FalsePositiveEntry entry : newEntries.getFalsePositives()) {
+            toSave.add(ScanFalsePositive.from(projectId, entry));
+        }
+        falsePositiveRepository.saveAll(toSave);
 
+        increaseRevision(projectId);
     }
 
+    @Transactional
     public void removeFalsePositive(String projectId, UUID jobUUID, int findingId) {
-        validateProjectIdAndProjectAccess(projectId);
-
-        auditLogService.log("triggers remove of false positive entry from project {}: jobUUID={}, findingId={}", projectId, jobUUID, findingId);
-
-        FalsePositiveProjectConfiguration config = fetchOrCreateConfiguration(projectId);
         FalsePositiveJobData jobDataToRemove = new FalsePositiveJobData();
         jobDataToRemove.setJobUUID(jobUUID);
         jobDataToRemove.setFindingId(findingId);
 
-        merger.removeJobDataWithMetaDataFromConfig(config, jobDataToRemove);
+        removeFalsePositives(projectId, List.of(jobDataToRemove));
+    }
 
-        /* update configuration */
-        configService.set(projectId, CONFIG_ID, config.toJSON());
+    /**
+     * Removes all given false positive entries from project. Not existing entries
+     * are ignored.
+     *
+     * @param projectId
+     * @param jobDataToRemove identifies entries to remove
+     */
+    @Transactional
+    public void removeFalsePositives(String projectId, List<FalsePositiveJobData> jobDataToRemove) {
+        validateProjectIdAndProjectAccess(projectId);
 
+        for (FalsePositiveJobData jobData : jobDataToRemove) {
+            auditLogService.log("triggers remove of false positive entry from project {}: jobUUID={}, findingId={}", projectId, jobData.getJobUUID(),
+                    jobData.getFindingId());
+        }
+        List<ScanFalsePositive> existing = falsePositiveRepository.findAllById(createKeys(projectId, jobDataToRemove));
+        if (existing.isEmpty()) {
+            return;
+        }
+        falsePositiveRepository.deleteAll(existing);
+
+        increaseRevision(projectId);
     }
 
     public FalsePositiveProjectConfiguration fetchFalsePositivesProjectConfiguration(String projectId) {
         validateProjectIdAndProjectAccess(projectId);
 
-        FalsePositiveProjectConfiguration config = fetchOrCreateConfiguration(projectId);
+        FalsePositiveProjectConfiguration config = configurationCache.getConfiguration(projectId);
+        if (config == null) {
+            return new FalsePositiveProjectConfiguration();
+        }
+        return config;
+    }
 
+    /**
+     * Fetches one page of false positive entries for given project. The entries
+     * are ordered by creation (oldest first).
+     *
+     * @param projectId
+     * @param page      page number, starting with 0
+     * @param size      maximum amount of entries inside page
+     * @return configuration containing only entries of the page
+     */
+    public FalsePositiveProjectConfiguration fetchFalsePositivesProjectConfiguration(String projectId, int page, int size) {
+        validateProjectIdAndProjectAccess(projectId);
+
+        int pageToUse = Math.max(0, page);
+        int sizeToUse = Math.max(MINIMUM_PAGE_SIZE, Math.min(size, maximumPageSize));
+
+        Sort sort = Sort.by(ScanFalsePositive.PROPERTY_CREATED, ScanFalsePositive.PROPERTY_KEY_JOB_UUID, ScanFalsePositive.PROPERTY_KEY_FINDING_ID);
+        Pageable pageable = PageRequest.of(pageToUse, sizeToUse, sort);
+
+        Page<ScanFalsePositive> pageFound = falsePositiveRepository.findPageForProject(projectId, pageable);
+
+        FalsePositiveProjectConfiguration config = new FalsePositiveProjectConfiguration();
+        for (ScanFalsePositive falsePositive : pageFound) {
+            config.getFalsePositives().add(falsePositive.toEntry());
+        }
         return config;
     }
 
+    /**
+     * Migrates false positive configurations of former SecHub versions (one JSON
+     * document per project) into the false positive table. The former
+     * configuration is kept with another configuration id, so the migration is
+     * done only one time per project.
+     *
+     * @return amount of migrated project configurations
+     */
+    @Transactional
+    public int migrateFormerFalsePositiveConfigurations() {
+        List<ScanProjectConfig> formerConfigs = configRepository.findAllByConfigId(FORMER_CONFIG_ID.getId());
+        for (ScanProjectConfig formerConfig : formerConfigs) {
+            migrateFormerFalsePositiveConfiguration(formerConfig);
+        }
+        return formerConfigs.size();
+    }
+
+    private void migrateFormerFalsePositiveConfiguration(ScanProjectConfig formerConfig) {
+        String projectId = formerConfig.getKey().getProjectId();
+        String json = formerConfig.getData();
+
+        List<ScanFalsePositive> toSave = new ArrayList<>();
+        if (json != null && !json.isBlank()) {
+            Set<ScanFalsePositiveCompositeKey> keys = new HashSet<>();
+            for (FalsePositiveEntry entry : FalsePositiveProjectConfiguration.fromJSONString(json).getFalsePositives()) {
+                if (entry.getJobData() == null || entry.getMetaData() == null) {
+                    LOG.warn("Former false positive entry of project {} has no job data or meta data and is not migrated", projectId);
+                    continue;
+                }
+                ScanFalsePositive falsePositive = ScanFalsePositive.from(projectId, entry);
+                if (keys.add(falsePositive.getKey()) && !falsePositiveRepository.existsById(falsePositive.getKey())) {
+                    toSave.add(falsePositive);
+                }
+            }
+        }
+        falsePositiveRepository.saveAll(toSave);
+
+        ScanProjectConfig migratedConfig = new ScanProjectConfig(MIGRATED_FORMER_CONFIG_ID, projectId);
+        migratedConfig.setData(json);
+        configRepository.save(migratedConfig);
+        configRepository.delete(formerConfig);
+
+        increaseRevision(projectId);
+
+        LOG.info("Migrated {} former false positive entries of project {}", toSave.size(), projectId);
+    }
+
     private void validateUserInputAndProjectAccess(String projectId, FalsePositiveJobDataList data) {
         validateProjectIdAndProjectAccess(projectId);
         assertValid(data, falsePositiveJobDataListValidation);
@@ -106,9 +243,14 @@ public class FalsePositiveJobDataService {
         scanAssertService.assertUserHasAccessToProject(projectId);
     }
 
-    private void addJobDataListToConfiguration(FalsePositiveProjectConfiguration config, FalsePositiveJobDataList jobDataList) {
+    private void addJobDataListToConfiguration(String projectId, FalsePositiveProjectConfiguration config, FalsePositiveJobDataList jobDataList) {
         List<FalsePositiveJobData> list = jobDataList.getJobData();
 
+        Set<ScanFalsePositiveCompositeKey> existingKeys = new HashSet<>();
+        for (ScanFalsePositive existing : falsePositiveRepository.findAllById(createKeys(projectId, list))) {
+            existingKeys.add(existing.getKey());
+        }
+
         /* we want to load reports only one time, so sort by report job UUID... */
         list.sort(Comparator.comparing(FalsePositiveJobData::getJobUUID));
 
@@ -116,6 +258,10 @@ public class FalsePositiveJobDataService {
         for (FalsePositiveJobData data : list) {
             UUID jobUUID = data.getJobUUID();
 
+            if (existingKeys.contains(new ScanFalsePositiveCompositeKey(projectId, jobUUID, data.getFindingId()))) {
+                LOG.warn("False positive entry for job:{}, findingId:{} not added, because already existing", jobUUID, data.getFindingId());
+                continue;
+            }
             if (report == null || !jobUUID.equals(report.getJobUUID())) {
                 ScanReport scanReport = scanReportRepository.findBySecHubJobUUID(jobUUID);
                 if (scanReport == null) {
@@ -128,11 +274,26 @@ public class FalsePositiveJobDataService {
 
     }
 
-    private FalsePositiveProjectConfiguration fetchOrCreateConfiguration(String projectId) {
-        ScanProjectConfig projectConfig = configService.getOrCreate(projectId, CONFIG_ID, false, "{}"); // access check unnecessary, already done
+    private List<ScanFalsePositiveCompositeKey> createKeys(String projectId, List<FalsePositiveJobData> list) {
+        List<ScanFalsePositiveCompositeKey> keys = new ArrayList<>(list.size());
+        for (FalsePositiveJobData data : list) {
+            keys.add(new ScanFalsePositiveCompositeKey(projectId, data.getJobUUID(), data.getFindingId()));
+        }
+        return keys;
+    }
 
-        FalsePositiveProjectConfiguration falsePositiveConfiguration = FalsePositiveProjectConfiguration.fromJSONString(projectConfig.getData());
-        return falsePositiveConfiguration;
+    /*
+     * The revision is increased inside the same transaction as the change itself.
+     * So caches of all cluster members recognize the change.
+     */
+    private void increaseRevision(String projectId) {
+        int updated = configRepository.increaseVersion(projectId, REVISION_CONFIG_ID.getId());
+        if (updated == 0) {
+            ScanProjectConfig revision = new ScanProjectConfig(REVISION_CONFIG_ID, projectId);
+            revision.setData("revision");
+            configRepository.save(revision);
+        }
+        configurationCache.invalidate(projectId);
     }
 
 }
@@ -0,0 +1,164 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.project;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * Cache for false positive configurations per project. Additionally
+ * data compiled from a configuration (e.g. an index) can be cached together
+ * with the configuration.<br>
+ * <br>
+ * Every access reads only the false positive revision of the project from
+ * database. The false positives are only loaded again when the revision has
+ * changed - so changes done by other cluster members are recognized without
+ * any events.<br>
+ * <br>
+ * Configurations and compiled data returned by this cache are shared and must
+ * NOT be changed by callers.
+ */
+@Component
+public class FalsePositiveProjectConfigurationCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FalsePositiveProjectConfigurationCache.class);
+
+    private static final ScanProjectConfigID REVISION_CONFIG_ID = ScanProjectConfigID.FALSE_POSITIVE_REVISION;
+
+    private static final boolean DEFAULT_ENABLED = true;
+    private static final int DEFAULT_MAX_PROJECTS = 200;
+
+    @MustBeDocumented(value = "When enabled, false positive configurations are cached per project and only loaded again after a change.", scope = "scan")
+    @Value("${sechub.scan.falsepositive.cache.enabled:" + DEFAULT_ENABLED + "}")
+    boolean enabled = DEFAULT_ENABLED;
+
+    @MustBeDocumented(value = "Maximum amount of projects having their false positive configuration cached. Least recently used configurations are removed first.", scope = "scan")
+    @Value("${sechub.scan.falsepositive.cache.maxprojects:" + DEFAULT_MAX_PROJECTS + "}")
+    int maxProjects = DEFAULT_MAX_PROJECTS;
+
+    @Autowired
+    ScanProjectConfigRepository configRepository;
+
+    @Autowired
+    ScanFalsePositiveRepository falsePositiveRepository;
+
+    /* access ordered - so iteration starts with least recently used entry */
+    private final Map<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Resolves false positive configuration for given project
+     *
+     * @param projectId
+     * @return configuration (read only) or <code>null</code> when project has no
+     *         false positive configuration
+     */
+    public FalsePositiveProjectConfiguration getConfiguration(String projectId) {
+        return getCompiled(projectId, FalsePositiveProjectConfiguration.class, Function.identity());
+    }
+
+    /**
+     * Resolves data compiled from the false positive configuration of given
+     * project. The compiler is only called when the configuration has changed
+     * since last compilation.
+     *
+     * @param <T>       type of compiled data
+     * @param projectId
+     * @param type      type of compiled data - used as identifier, so only one
+     *                  compiler per type is supported
+     * @param compiler  creates compiled data from configuration
+     * @return compiled data (read only) or <code>null</code> when project has no
+     *         false positive configuration
+     */
+    public <T> T getCompiled(String projectId, Class<T> type, Function<FalsePositiveProjectConfiguration, T> compiler) {
+        CacheEntry entry = resolveEntry(projectId);
+        if (entry == null) {
+            return null;
+        }
+        Object compiled = entry.compiled.computeIfAbsent(type, key -> compiler.apply(entry.configuration));
+        return type.cast(compiled);
+    }
+
+    /**
+     * Removes cached configuration for given project
+     *
+     * @param projectId
+     */
+    public void invalidate(String projectId) {
+        synchronized (entries) {
+            entries.remove(projectId);
+        }
+    }
+
+    private CacheEntry resolveEntry(String projectId) {
+        Integer revision = configRepository.findVersion(projectId, REVISION_CONFIG_ID.getId());
+        if (revision == null) {
+            /* false positives were never defined for this project */
+            invalidate(projectId);
+            return null;
+        }
+        if (enabled) {
+            synchronized (entries) {
+                CacheEntry cached = entries.get(projectId);
+                if (cached != null && revision.equals(cached.revision)) {
+                    return cached;
+                }
+            }
+        }
+        /*
+         * false positives are loaded after revision was read - so the entry can contain
+         * newer data than the revision, but never older. Newer data will be reloaded on
+         * next access.
+         */
+        FalsePositiveProjectConfiguration configuration = new FalsePositiveProjectConfiguration();
+        for (ScanFalsePositive falsePositive : falsePositiveRepository.findAllForProject(projectId)) {
+            configuration.getFalsePositives().add(falsePositive.toEntry());
+        }
+        CacheEntry entry = new CacheEntry(revision, configuration);
+        if (enabled) {
+            put(projectId, entry);
+        }
+        return entry;
+    }
+
+    private void put(String projectId, CacheEntry entry) {
+        synchronized (entries) {
+            entries.put(projectId, entry);
+
+            Iterator<String> iterator = entries.keySet().iterator();
+            while (entries.size() > maxProjects && iterator.hasNext()) {
+                String removed = iterator.next();
+                iterator.remove();
+                LOG.debug("Removed false positive configuration of project {} from cache", removed);
+            }
+        }
+    }
+
+    /* just for testing */
+    int getCachedProjectCount() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static class CacheEntry {
+
+        private final Integer revision;
+        private final FalsePositiveProjectConfiguration configuration;
+        private final Map<Class<?>, Object> compiled = new ConcurrentHashMap<>();
+
+        private CacheEntry(Integer revision, FalsePositiveProjectConfiguration configuration) {
+            this.revision = revision;
+            this.configuration = configuration;
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.mercedesbenz.sechub.sharedkernel.APIConstants;
@@ -61,14 +62,28 @@ public class FalsePositiveRestController {
 
     }
 
+    /**
+     * Fetches false positive configuration of project. When page or size is
+     * defined, only the entries of the wanted page are returned.
+     *
+     * @param projectId
+     * @param page      page number (starting with 0), optional
+     * @param size      maximum amount of entries per page, optional
+     * @return false positive configuration
+     */
     /* @formatter:off */
     @UseCaseUserFetchesFalsePositiveConfigurationOfProject(@Step(number=1,name="REST API call to fetch existing false positive configuration of project",needsRestDoc=true))
     @RequestMapping(path = "/false-positives", method = RequestMethod.GET, produces= {MediaType.APPLICATION_JSON_VALUE})
     public FalsePositiveProjectConfiguration fetchFalsePositivesProjectConfiguration(
-            @PathVariable("projectId") String projectId
+            @PathVariable("projectId") String projectId,
+            @RequestParam(name = "page", required = false) Integer page,
+            @RequestParam(name = "size", required = false) Integer size
             ) {
         /* @formatter:on */
-        return falsePositiveJobDataService.fetchFalsePositivesProjectConfiguration(projectId);
+        if (page == null && size == null) {
+            return falsePositiveJobDataService.fetchFalsePositivesProjectConfiguration(projectId);
+        }
+        return falsePositiveJobDataService.fetchFalsePositivesProjectConfiguration(projectId, page == null ? 0 : page, size == null ? Integer.MAX_VALUE : size);
 
     }
 
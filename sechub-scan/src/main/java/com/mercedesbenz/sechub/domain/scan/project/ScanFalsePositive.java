@@ -0,0 +1,254 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.project;
+
+import static javax.persistence.EnumType.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Objects;
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Enumerated;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+import org.hibernate.annotations.Type;
+
+import com.mercedesbenz.sechub.commons.model.JSONConverter;
+import com.mercedesbenz.sechub.commons.model.ScanType;
+
+/**
+ * One false positive entry of a project inside database (domain scan).
+ * Scan type and CWE id are stored in dedicated columns, the complete meta data
+ * is stored as JSON.
+ */
+@Entity
+@Table(name = ScanFalsePositive.TABLE_NAME)
+public class ScanFalsePositive {
+
+    /* +-----------------------------------------------------------------------+ */
+    /* +............................ SQL ......................................+ */
+    /* +-----------------------------------------------------------------------+ */
+    public static final String TABLE_NAME = "SCAN_FALSE_POSITIVE";
+
+    public static final String COLUMN_PROJECT_ID = "PROJECT_ID";
+    public static final String COLUMN_JOB_UUID = "JOB_UUID";
+    public static final String COLUMN_FINDING_ID = "FINDING_ID";
+    public static final String COLUMN_SCAN_TYPE = "SCAN_TYPE";
+    public static final String COLUMN_CWE_ID = "CWE_ID";
+    public static final String COLUMN_AUTHOR = "AUTHOR";
+    public static final String COLUMN_CREATED = "CREATED";
+    public static final String COLUMN_COMMENT = "COMMENT";
+    public static final String COLUMN_META_DATA = "META_DATA";
+
+    /* +-----------------------------------------------------------------------+ */
+    /* +............................ JPQL .....................................+ */
+    /* +-----------------------------------------------------------------------+ */
+    public static final String CLASS_NAME = ScanFalsePositive.class.getSimpleName();
+
+    public static final String PROPERTY_CREATED = "created";
+    public static final String PROPERTY_KEY_JOB_UUID = "key.jobUUID";
+    public static final String PROPERTY_KEY_FINDING_ID = "key.findingId";
+
+    @EmbeddedId
+    ScanFalsePositiveCompositeKey key;
+
+    @Version
+    @Column(name = "VERSION")
+    Integer version;
+
+    @Enumerated(STRING)
+    @Column(name = COLUMN_SCAN_TYPE)
+    ScanType scanType;
+
+    @Column(name = COLUMN_CWE_ID)
+    Integer cweId;
+
+    @Column(name = COLUMN_AUTHOR)
+    String author;
+
+    @Column(name = COLUMN_CREATED) // remark: we setup hibernate to use UTC settings - see application.properties
+    LocalDateTime created;
+
+    @Type(type = "text")
+    @Column(name = COLUMN_COMMENT)
+    String comment;
+
+    @Type(type = "text")
+    @Column(name = COLUMN_META_DATA, nullable = false)
+    String metaData;
+
+    ScanFalsePositive() {
+        // jpa only
+    }
+
+    public ScanFalsePositive(ScanFalsePositiveCompositeKey key) {
+        if (key == null) {
+            throw new IllegalArgumentException("key may not be null");
+        }
+        if (key.projectId == null) {
+            throw new IllegalArgumentException("key.projectId may not be null");
+        }
+        if (key.jobUUID == null) {
+            throw new IllegalArgumentException("key.jobUUID may not be null");
+        }
+        this.key = key;
+    }
+
+    /**
+     * Creates a false positive entity for given project
+     *
+     * @param projectId
+     * @param entry     false positive entry, job data and meta data may not be
+     *                  <code>null</code>
+     * @return entity
+     */
+    public static ScanFalsePositive from(String projectId, FalsePositiveEntry entry) {
+        FalsePositiveJobData jobData = entry.getJobData();
+        FalsePositiveMetaData metaData = entry.getMetaData();
+
+        ScanFalsePositive falsePositive = new ScanFalsePositive(new ScanFalsePositiveCompositeKey(projectId, jobData.getJobUUID(), jobData.getFindingId()));
+        falsePositive.scanType = metaData.getScanType();
+        falsePositive.cweId = metaData.getCweId();
+        falsePositive.author = entry.getAuthor();
+        falsePositive.comment = jobData.getComment();
+        falsePositive.metaData = JSONConverter.get().toJSON(metaData);
+
+        Date created = entry.getCreated();
+        if (created != null) {
+            falsePositive.created = LocalDateTime.ofInstant(created.toInstant(), ZoneOffset.UTC);
+        }
+        return falsePositive;
+    }
+
+    /**
+     * @return false positive entry created from this entity
+     */
+    public FalsePositiveEntry toEntry() {
+        FalsePositiveJobData jobData = new FalsePositiveJobData();
+        jobData.setJobUUID(key.jobUUID);
+        jobData.setFindingId(key.findingId);
+        jobData.setComment(comment);
+
+        FalsePositiveEntry entry = new FalsePositiveEntry();
+        entry.setJobData(jobData);
+        entry.setAuthor(author);
+        entry.setMetaData(JSONConverter.get().fromJSON(FalsePositiveMetaData.class, metaData));
+        entry.setCreated(created == null ? null : Date.from(created.toInstant(ZoneOffset.UTC)));
+        return entry;
+    }
+
+    public ScanFalsePositiveCompositeKey getKey() {
+        return key;
+    }
+
+    public ScanType getScanType() {
+        return scanType;
+    }
+
+    public Integer getCweId() {
+        return cweId;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public LocalDateTime getCreated() {
+        return created;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    /**
+     * @return meta data as JSON
+     */
+    public String getMetaData() {
+        return metaData;
+    }
+
+    @Embeddable
+    public static class ScanFalsePositiveCompositeKey implements Serializable {
+
+        private static final long serialVersionUID = 4211570125394860547L;
+
+        @Column(name = COLUMN_PROJECT_ID, nullable = false)
+        private String projectId;
+
+        @Column(name = COLUMN_JOB_UUID, nullable = false, columnDefinition = "UUID")
+        private UUID jobUUID;
+
+        @Column(name = COLUMN_FINDING_ID, nullable = false)
+        private int findingId;
+
+        ScanFalsePositiveCompositeKey() {
+            // jpa only
+        }
+
+        public ScanFalsePositiveCompositeKey(String projectId, UUID jobUUID, int findingId) {
+            this.projectId = projectId;
+            this.jobUUID = jobUUID;
+            this.findingId = findingId;
+        }
+
+        public String getProjectId() {
+            return projectId;
+        }
+
+        public UUID getJobUUID() {
+            return jobUUID;
+        }
+
+        public int getFindingId() {
+            return findingId;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(findingId, jobUUID, projectId);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (obj == null)
+                return false;
+            if (getClass() != obj.getClass())
+                return false;
+            ScanFalsePositiveCompositeKey other = (ScanFalsePositiveCompositeKey) obj;
+            return findingId == other.findingId && Objects.equals(jobUUID, other.jobUUID) && Objects.equals(projectId, other.projectId);
+        }
+
+        @Override
+        public String toString() {
+            return "ScanFalsePositiveCompositeKey [projectId=" + projectId + ", jobUUID=" + jobUUID + ", findingId=" + findingId + "]";
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        ScanFalsePositive other = (ScanFalsePositive) obj;
+        return Objects.equals(key, other.key);
+    }
+
+}
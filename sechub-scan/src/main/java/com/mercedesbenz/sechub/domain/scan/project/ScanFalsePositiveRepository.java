@@ -0,0 +1,44 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.project;
+
+import static com.mercedesbenz.sechub.domain.scan.project.ScanFalsePositive.*;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.mercedesbenz.sechub.domain.scan.project.ScanFalsePositive.ScanFalsePositiveCompositeKey;
+
+public interface ScanFalsePositiveRepository extends JpaRepository<ScanFalsePositive, ScanFalsePositiveCompositeKey> {
+
+    /**
+     * Fetches all false positives of given project - ordered by creation (oldest
+     * first)
+     *
+     * @param projectId
+     * @return list of false positives, never <code>null</code>
+     */
+    @Query(value = "select f from " + CLASS_NAME + " f where f.key.projectId = ?1 order by f." + PROPERTY_CREATED + ", f." + PROPERTY_KEY_JOB_UUID + ", f."
+            + PROPERTY_KEY_FINDING_ID)
+    List<ScanFalsePositive> findAllForProject(String projectId);
+
+    /**
+     * Fetches one page of false positives for given project
+     *
+     * @param projectId
+     * @param pageable
+     * @return page
+     */
+    @Query(value = "select f from " + CLASS_NAME + " f where f.key.projectId = ?1", countQuery = "select count(f) from " + CLASS_NAME
+            + " f where f.key.projectId = ?1")
+    Page<ScanFalsePositive> findPageForProject(String projectId, Pageable pageable);
+
+    @Modifying
+    @Query(value = "DELETE FROM " + TABLE_NAME + " where " + COLUMN_PROJECT_ID + " = ?1", nativeQuery = true)
+    void deleteAllFalsePositivesForProject(String projectId);
+
+}
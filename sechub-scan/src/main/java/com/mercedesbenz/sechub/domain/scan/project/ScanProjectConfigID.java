@@ -15,11 +15,27 @@ public enum ScanProjectConfigID {
     MOCK_CONFIGURATION("mock_config"),
 
     /**
-     * Id to fetch false positive configuration data, which will contain JSON
-     * representing a FalsePositiveProjectConfiguration object
+     * Id of former false positive configuration data, which contained JSON
+     * representing a FalsePositiveProjectConfiguration object. False positives are
+     * now stored inside their own table (see {@link ScanFalsePositive}), existing
+     * data is migrated at startup.
      */
     FALSE_POSITIVE_CONFIGURATION("false_positives"),
 
+    /**
+     * Id of former false positive configuration data which has already been
+     * migrated. The data is kept unchanged, so a database undo is able to restore
+     * the former configuration.
+     */
+    FALSE_POSITIVE_CONFIGURATION_MIGRATED("false_positives_old"),
+
+    /**
+     * Id of false positive revision. The data is not used, but the version is
+     * increased on every change of false positives for the project - so changes
+     * can be detected without loading false positives.
+     */
+    FALSE_POSITIVE_REVISION("false_positive_rev"),
+
     /**
      * Id to fetch project access level data, which will contain just the id of the
      * access level.
@@ -3,6 +3,8 @@ package com.mercedesbenz.sechub.domain.scan.project;
 
 import static com.mercedesbenz.sechub.domain.scan.project.ScanProjectConfig.*;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -15,4 +17,38 @@ public interface ScanProjectConfigRepository extends JpaRepository<ScanProjectCo
     @Query(value = "DELETE FROM " + TABLE_NAME + " where " + COLUMN_PROJECT_ID + " = ?1", nativeQuery = true)
     void deleteAllConfigurationsForProject(String projectId);
 
+    /**
+     * Fetches all configurations with given configuration id - for all projects
+     *
+     * @param configId
+     * @return list of configurations, never <code>null</code>
+     */
+    @Query(value = "select c from " + CLASS_NAME + " c where c.key.configId = ?1")
+    List<ScanProjectConfig> findAllByConfigId(String configId);
+
+    /**
+     * Resolves only the version of a configuration - so it is possible to check
+     * if a configuration has changed without loading its data.
+     *
+     * @param projectId
+     * @param configId
+     * @return version or <code>null</code> when there is no configuration
+     */
+    @Query(value = "select c.version from " + CLASS_NAME + " c where c.key.projectId = ?1 and c.key.configId = ?2")
+    Integer findVersion(String projectId, String configId);
+
+    /**
+     * Increases the version of a configuration without loading or changing its
+     * data. Concurrent calls are serialized by the database, so no increase is
+     * lost.
+     *
+     * @param projectId
+     * @param configId
+     * @return amount of updated configurations - 0 when there is no configuration
+     */
+    @Modifying
+    @Query(value = "UPDATE " + TABLE_NAME + " set VERSION = VERSION + 1 where " + COLUMN_PROJECT_ID + " = ?1 and " + COLUMN_CONFIG_ID
+            + " = ?2", nativeQuery = true)
+    int increaseVersion(String projectId, String configId);
+
 }
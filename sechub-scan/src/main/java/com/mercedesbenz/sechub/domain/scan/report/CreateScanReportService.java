@@ -10,11 +10,11 @@ import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.mercedesbenz.sechub.commons.model.SecHubMessage;
 import com.mercedesbenz.sechub.commons.model.SecHubMessageType;
-import com.mercedesbenz.sechub.commons.model.SecHubResult;
 import com.mercedesbenz.sechub.commons.model.SecHubStatus;
 import com.mercedesbenz.sechub.commons.model.TrafficLight;
 import com.mercedesbenz.sechub.commons.model.TrafficLightCalculator;
@@ -23,12 +23,19 @@ import com.mercedesbenz.sechub.domain.scan.SecHubExecutionContext;
 import com.mercedesbenz.sechub.domain.scan.SecHubExecutionException;
 import com.mercedesbenz.sechub.domain.scan.SecHubReportProductTransformerService;
 import com.mercedesbenz.sechub.domain.scan.product.ReportProductExecutionService;
+import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
 
 @Service
 public class CreateScanReportService {
 
     private static final Logger LOG = LoggerFactory.getLogger(CreateScanReportService.class);
 
+    private static final boolean DEFAULT_COMPRESSED_REPORT_STORAGE_ENABLED = false;
+
+    @MustBeDocumented(value = "When enabled, scan reports are stored gzip compressed inside the database. Only a small report header without findings is stored as plain JSON. Reports stored before are still readable. Enable only when all cluster members are able to read compressed reports - older versions would show reports without findings.", scope = "scan")
+    @Value("${sechub.report.storage.compressed:" + DEFAULT_COMPRESSED_REPORT_STORAGE_ENABLED + "}")
+    boolean compressedReportStorageEnabled = DEFAULT_COMPRESSED_REPORT_STORAGE_ENABLED;
+
     @Autowired
     SecHubReportProductTransformerService reportTransformerService;
 
@@ -44,6 +51,12 @@ public class CreateScanReportService {
     @Autowired
     ScanReportTransactionService scanReportTransactionService;
 
+    @Autowired
+    ScanReportCompressionSupport compressionSupport;
+
+    @Autowired
+    ScanReportRenderCache renderCache;
+
     /**
      * Creates a report based on product results. There is no security check because
      * its only called internally from system.
@@ -63,6 +76,7 @@ public class CreateScanReportService {
 
         /* we allow only one report for one job */
         scanReportTransactionService.deleteAllReportsForSecHubJobUUIDinOwnTransaction(sechubJobUUID);
+        renderCache.invalidate(sechubJobUUID);
 
         /*
          * create report - project id in configuration was set on job creation time and
@@ -87,15 +101,20 @@ public class CreateScanReportService {
                 reportTransformerResult.getMessages()
                         .add(new SecHubMessage(SecHubMessageType.WARNING, "No results from a security product available for this job!"));
             }
-            scanReport.setResultType(ScanReportResultType.MODEL);
-            scanReport.setResult(reportTransformerResult.toJSON());
-
         } catch (Exception e) {
             throw new ScanReportException("Was not able to build sechub result", e);
         }
 
+        try {
+            return createTrafficLightAndStore(scanReport, reportTransformerResult);
+        } finally {
+            /* stored findings are inside scan report now - or not necessary any longer */
+            reportTransformerResult.closeFindingStore();
+        }
+    }
+
+    private ScanReport createTrafficLightAndStore(ScanReport scanReport, ReportTransformationResult reportTransformerResult) throws ScanReportException {
         /* create and set the traffic light */
-        SecHubResult sechubResult = reportTransformerResult.getResult();
         TrafficLight trafficLight = null;
 
         if (SecHubStatus.FAILED.equals(reportTransformerResult.getStatus())) {
@@ -114,11 +133,30 @@ public class CreateScanReportService {
 
             LOG.debug("No real product results found, setting trafficlight to: {}", trafficLight);
         } else {
-            trafficLight = trafficLightCalculator.calculateTrafficLight(sechubResult);
+            trafficLight = calculateTrafficLight(reportTransformerResult);
             LOG.debug("Product results found, no failures, so setting calculated trafficlight to: {}", trafficLight);
         }
         scanReport.setTrafficLight(trafficLight);
 
+        /*
+         * JSON is created only for the storage type in use - compressed storage writes
+         * the model directly into the compressed data without an intermediate string
+         */
+        try {
+            if (compressedReportStorageEnabled) {
+                /* traffic light is part of compressed JSON, so must be done after traffic light calculation */
+                compressionSupport.storeCompressed(scanReport, reportTransformerResult);
+            } else {
+                /* plain JSON needs all findings as objects */
+                reportTransformerResult.loadStoredFindings();
+
+                scanReport.setResultType(ScanReportResultType.MODEL);
+                scanReport.setResult(reportTransformerResult.toJSON());
+            }
+        } catch (Exception e) {
+            throw new ScanReportException("Was not able to store sechub result", e);
+        }
+
         /* update time stamp */
         scanReport.setEnded(LocalDateTime.now());
 
@@ -126,4 +164,13 @@ public class CreateScanReportService {
         return reportRepository.save(scanReport);
     }
 
+    private TrafficLight calculateTrafficLight(ReportTransformationResult reportTransformerResult) {
+        ReportFindingStore findingStore = reportTransformerResult.getFindingStore();
+        if (findingStore == null) {
+            return trafficLightCalculator.calculateTrafficLight(reportTransformerResult.getResult());
+        }
+        /* findings are not available as objects - but the store knows the contained severities */
+        return trafficLightCalculator.calculateTrafficLightForSeverities(findingStore.getContainedSeverities());
+    }
+
 }
@@ -1,11 +1,16 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.scan.report;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.mercedesbenz.sechub.domain.scan.HTMLScanResultReportRenderer;
 import com.mercedesbenz.sechub.domain.scan.ScanAssertService;
 import com.mercedesbenz.sechub.domain.scan.SecHubReportProductTransformerService;
 import com.mercedesbenz.sechub.sharedkernel.Step;
@@ -32,8 +37,53 @@ public class DownloadScanReportService {
     @Autowired
     UserInputAssertion assertion;
 
+    @Autowired
+    ScanReportCompressionSupport compressionSupport;
+
+    @Autowired
+    ScanReportRenderCache renderCache;
+
+    @Autowired
+    HTMLScanResultReportRenderer htmlRenderer;
+
+    /**
+     * Resolves the HTML representation of the scan report for given job. The
+     * rendered HTML is cached.
+     *
+     * @param projectId project id
+     * @param jobUUID   job uuid
+     * @return HTML report
+     */
+    public String getScanSecHubReportAsHTML(String projectId, UUID jobUUID) {
+        ScanReport report = resolveScanReport(projectId, jobUUID);
+
+        return renderCache.getOrRender(report, ScanReportRenderFormat.HTML, () -> htmlRenderer.render(new ScanSecHubReport(report)));
+    }
+
+    /**
+     * Writes the JSON of the scan report for given job to the output stream.
+     * Compressed reports are inflated directly into the stream, without creating
+     * the report model.
+     *
+     * @param projectId    project id
+     * @param jobUUID      job uuid
+     * @param outputStream target stream, will not be closed
+     * @throws IOException
+     */
+    public void writeScanSecHubReportJSON(String projectId, UUID jobUUID, OutputStream outputStream) throws IOException {
+        ScanReport report = resolveScanReport(projectId, jobUUID);
+
+        if (ScanReportResultType.COMPRESSED_MODEL.equals(report.getResultType())) {
+            try (InputStream inputStream = compressionSupport.openReportJSON(report)) {
+                inputStream.transferTo(outputStream);
+            }
+            return;
+        }
+        outputStream.write(new ScanSecHubReport(report).toJSON().getBytes(StandardCharsets.UTF_8));
+    }
+
     @UseCaseUserDownloadsJobReport(@Step(number = 3, name = "Resolve scan report result"))
-    public ScanSecHubReport getScanSecHubReport(String projectId, UUID jobUUID) {
+    private ScanReport resolveScanReport(String projectId, UUID jobUUID) {
         /* validate */
         assertion.assertIsValidProjectId(projectId);
         assertion.assertIsValidJobUUID(jobUUID);
@@ -51,7 +101,7 @@ public class DownloadScanReportService {
         }
         scanAssertService.assertUserHasAccessToReport(report);
 
-        return new ScanSecHubReport(report);
+        return report;
     }
 
 }
@@ -35,6 +35,9 @@ public class DownloadSpdxScanReportService {
     @Autowired
     ProductResultSpdxJsonResolver spdxJsonResolver;
 
+    @Autowired
+    ScanReportRenderCache renderCache;
+
     public String getScanSpdxJsonReport(String projectId, UUID jobUUID) {
         /* validate */
         assertion.assertIsValidProjectId(projectId);
@@ -54,7 +57,7 @@ public class DownloadSpdxScanReportService {
         }
 
         ProductResult productResult = productResults.iterator().next();
-        String spdxJson = spdxJsonResolver.resolveSpdxJson(productResult);
+        String spdxJson = renderCache.getOrRender(productResult, ScanReportRenderFormat.SPDX_JSON, () -> spdxJsonResolver.resolveSpdxJson(productResult));
 
         if (spdxJson == null) {
             throw new NotFoundException("There was no JSON SPDX report available for job: " + jobUUID);
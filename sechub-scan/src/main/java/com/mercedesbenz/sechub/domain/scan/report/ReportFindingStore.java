@@ -0,0 +1,317 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.report;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.mercedesbenz.sechub.commons.model.JsonMapperFactory;
+import com.mercedesbenz.sechub.commons.model.SecHubFinding;
+import com.mercedesbenz.sechub.commons.model.Severity;
+
+/**
+ * Stores report findings outside the heap. Every added finding is written as
+ * JSON into a temporary file, only its sort keys (severity level, CWE id and
+ * CVE rank) and its file position are kept as primitive values. Findings are
+ * given back in the same order as {@link SecHubFinding#compareTo(SecHubFinding)}
+ * and {@link Collections#sort(List)} would produce, but only one finding is
+ * inside memory at a time.
+ *
+ * The store is not thread safe. It must be closed after usage - this deletes
+ * the temporary file.
+ */
+public class ReportFindingStore implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReportFindingStore.class);
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final String CVE_FALLBACK = "_";
+
+    private static final JsonMapper MAPPER = JsonMapperFactory.createMapper();
+
+    private final Path file;
+    private OutputStream outputStream;
+    private final ByteArrayOutputStream findingBuffer = new ByteArrayOutputStream();
+
+    private long position;
+    private int count;
+    private int maxLength;
+
+    private long[] offsets = new long[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private int[] severityLevels = new int[INITIAL_CAPACITY];
+    private int[] cweIds = new int[INITIAL_CAPACITY];
+    private int[] cveIndexes = new int[INITIAL_CAPACITY];
+
+    private final Map<String, Integer> cveToIndex = new HashMap<>();
+    private final List<String> cves = new ArrayList<>();
+    private final Set<Severity> containedSeverities = EnumSet.noneOf(Severity.class);
+
+    private int[] sortedPositions;
+    private boolean closed;
+
+    /**
+     * Creates a new store with an empty temporary file
+     *
+     * @throws IOException when the temporary file cannot be created
+     */
+    public ReportFindingStore() throws IOException {
+        file = Files.createTempFile("sechub-report-findings", ".json");
+        outputStream = new BufferedOutputStream(Files.newOutputStream(file, StandardOpenOption.WRITE));
+    }
+
+    /**
+     * Adds given finding to the store. The finding object itself is not referenced
+     * afterwards.
+     *
+     * @param finding finding to add, <code>null</code> is ignored
+     * @throws IOException when finding cannot be written
+     */
+    public void add(SecHubFinding finding) throws IOException {
+        if (finding == null) {
+            return;
+        }
+        if (outputStream == null) {
+            throw new IllegalStateException("Findings were already read or store was closed, cannot add findings any longer!");
+        }
+        findingBuffer.reset();
+        MAPPER.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(findingBuffer, finding);
+        findingBuffer.writeTo(outputStream);
+
+        ensureCapacity(count + 1);
+
+        int length = findingBuffer.size();
+        offsets[count] = position;
+        lengths[count] = length;
+
+        /* same fallback values as inside SecHubFinding#compareTo */
+        Severity severity = finding.getSeverity();
+        severityLevels[count] = severity == null ? 0 : severity.getLevel();
+        cweIds[count] = finding.getCweId() == null ? Integer.MAX_VALUE : finding.getCweId();
+        cveIndexes[count] = resolveCveIndex(finding.getCveId());
+
+        if (severity != null) {
+            containedSeverities.add(severity);
+        }
+        position += length;
+        maxLength = Math.max(maxLength, length);
+        count++;
+    }
+
+    /**
+     * @return amount of stored findings
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return all severities contained inside stored findings, never
+     *         <code>null</code>
+     */
+    public Set<Severity> getContainedSeverities() {
+        return Collections.unmodifiableSet(containedSeverities);
+    }
+
+    /**
+     * Writes all stored findings sorted as JSON values to given generator. The
+     * caller is responsible to start and end the surrounding JSON array.
+     *
+     * @param generator generator to write into
+     * @throws IOException when findings cannot be read or written
+     */
+    public void writeSortedFindings(JsonGenerator generator) throws IOException {
+        readSorted((buffer, length) -> {
+            try (JsonParser parser = MAPPER.createParser(buffer, 0, length)) {
+                parser.nextToken();
+                generator.copyCurrentStructure(parser);
+            }
+        });
+    }
+
+    /**
+     * Reads all stored findings sorted as objects. This keeps all findings inside
+     * memory and shall only be used when the findings are necessary as objects.
+     *
+     * @return sorted list of findings, never <code>null</code>
+     * @throws IOException when findings cannot be read
+     */
+    public List<SecHubFinding> readSortedFindings() throws IOException {
+        List<SecHubFinding> findings = new ArrayList<>(count);
+        readSorted((buffer, length) -> findings.add(MAPPER.readValue(buffer, 0, length, SecHubFinding.class)));
+        return findings;
+    }
+
+    /**
+     * Deletes the temporary file. Afterwards the store cannot be used any longer.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            closeOutputStream();
+        } catch (IOException e) {
+            LOG.warn("Was not able to close finding store output stream for file: {}", file, e);
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.warn("Was not able to delete finding store file: {}", file, e);
+        }
+    }
+
+    private void readSorted(StoredFindingHandler handler) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Finding store was already closed!");
+        }
+        closeOutputStream();
+
+        int[] positions = resolveSortedPositions();
+        byte[] buffer = new byte[maxLength];
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            for (int sortedPosition : positions) {
+                int length = lengths[sortedPosition];
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, length);
+                long offset = offsets[sortedPosition];
+                while (byteBuffer.hasRemaining()) {
+                    int read = channel.read(byteBuffer, offset + byteBuffer.position());
+                    if (read < 0) {
+                        throw new IOException("Unexpected end of finding store file: " + file);
+                    }
+                }
+                handler.handle(buffer, length);
+            }
+        }
+    }
+
+    private void closeOutputStream() throws IOException {
+        if (outputStream == null) {
+            return;
+        }
+        OutputStream toClose = outputStream;
+        outputStream = null;
+        toClose.close();
+    }
+
+    private int[] resolveSortedPositions() {
+        if (sortedPositions != null) {
+            return sortedPositions;
+        }
+        /* CVE strings are compared once, afterwards only their ranks */
+        int[] cveRanks = createCveRanks();
+        int[] cveRankByPosition = new int[count];
+        for (int i = 0; i < count; i++) {
+            cveRankByPosition[i] = cveRanks[cveIndexes[i]];
+        }
+        int[] positions = new int[count];
+        for (int i = 0; i < count; i++) {
+            positions[i] = i;
+        }
+        /* merge sort is stable - same as Collections.sort */
+        mergeSort(positions, new int[count], 0, count, cveRankByPosition);
+        sortedPositions = positions;
+        return positions;
+    }
+
+    private int[] createCveRanks() {
+        String[] sortedCves = cves.toArray(new String[cves.size()]);
+        Arrays.sort(sortedCves);
+
+        int[] ranks = new int[sortedCves.length];
+        for (int rank = 0; rank < sortedCves.length; rank++) {
+            ranks[cveToIndex.get(sortedCves[rank])] = rank;
+        }
+        return ranks;
+    }
+
+    private void mergeSort(int[] positions, int[] buffer, int from, int to, int[] cveRankByPosition) {
+        if (to - from < 2) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        mergeSort(positions, buffer, from, middle, cveRankByPosition);
+        mergeSort(positions, buffer, middle, to, cveRankByPosition);
+
+        if (compare(positions[middle - 1], positions[middle], cveRankByPosition) <= 0) {
+            /* already in order */
+            return;
+        }
+        System.arraycopy(positions, from, buffer, from, to - from);
+
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && compare(buffer[left], buffer[right], cveRankByPosition) <= 0)) {
+                positions[i] = buffer[left++];
+            } else {
+                positions[i] = buffer[right++];
+            }
+        }
+    }
+
+    /* same as SecHubFinding#compareTo, but with primitive sort keys */
+    private int compare(int position1, int position2, int[] cveRankByPosition) {
+        int severityCompare = severityLevels[position2] - severityLevels[position1];
+        if (severityCompare != 0) {
+            return severityCompare;
+        }
+        int cweCompare = cweIds[position1] - cweIds[position2];
+        if (cweCompare != 0) {
+            return cweCompare;
+        }
+        return Integer.compare(cveRankByPosition[position1], cveRankByPosition[position2]);
+    }
+
+    private int resolveCveIndex(String cveId) {
+        String cve = cveId == null ? CVE_FALLBACK : cveId;
+        Integer index = cveToIndex.get(cve);
+        if (index == null) {
+            index = cves.size();
+            cves.add(cve);
+            cveToIndex.put(cve, index);
+        }
+        return index;
+    }
+
+    private void ensureCapacity(int wanted) {
+        if (wanted <= offsets.length) {
+            return;
+        }
+        int newCapacity = Math.max(wanted, offsets.length * 2);
+        offsets = Arrays.copyOf(offsets, newCapacity);
+        lengths = Arrays.copyOf(lengths, newCapacity);
+        severityLevels = Arrays.copyOf(severityLevels, newCapacity);
+        cweIds = Arrays.copyOf(cweIds, newCapacity);
+        cveIndexes = Arrays.copyOf(cveIndexes, newCapacity);
+    }
+
+    @FunctionalInterface
+    private interface StoredFindingHandler {
+        void handle(byte[] buffer, int length) throws IOException;
+    }
+}
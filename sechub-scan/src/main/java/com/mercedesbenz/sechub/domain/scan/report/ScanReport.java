@@ -32,6 +32,7 @@ public class ScanReport {
     public static final String COLUMN_SECHUB_JOB_UUID = "SECHUB_JOB_UUID";
 
     public static final String COLUMN_RESULT = "RESULT";
+    public static final String COLUMN_RESULT_DATA = "RESULT_DATA";
     public static final String COLUMN_RESULT_TYPE = "RESULT_TYPE";
     public static final String COLUMN_TRAFFIC_LIGHT = "TRAFFIC_LIGHT";
     public static final String COLUMN_PROJECT_ID = "PROJECT_ID";
@@ -62,6 +63,10 @@ public class ScanReport {
     @Column(name = COLUMN_RESULT)
     private String result;
 
+    /* only used for result type COMPRESSED_MODEL - see ScanReportResultType */
+    @Column(name = COLUMN_RESULT_DATA, columnDefinition = "bytea")
+    private byte[] resultData;
+
     @Enumerated(STRING)
     @Column(name = COLUMN_RESULT_TYPE)
     private ScanReportResultType resultType;
@@ -131,6 +136,14 @@ public class ScanReport {
         this.result = result;
     }
 
+    public byte[] getResultData() {
+        return resultData;
+    }
+
+    public void setResultData(byte[] resultData) {
+        this.resultData = resultData;
+    }
+
     public void setStarted(LocalDateTime started) {
         this.started = started;
     }
@@ -0,0 +1,195 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.report;
+
+import static com.mercedesbenz.sechub.sharedkernel.util.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.mercedesbenz.sechub.commons.model.JSONConverter;
+import com.mercedesbenz.sechub.commons.model.JsonMapperFactory;
+import com.mercedesbenz.sechub.commons.model.SecHubReportModel;
+import com.mercedesbenz.sechub.commons.model.SecHubResult;
+import com.mercedesbenz.sechub.commons.model.TrafficLight;
+import com.mercedesbenz.sechub.domain.scan.ReportTransformationResult;
+
+/**
+ * Stores and reads scan reports of type
+ * {@link ScanReportResultType#COMPRESSED_MODEL}. The complete report JSON is
+ * stored gzip compressed, the result column contains only a small header
+ * model without findings.
+ *
+ * When the model is a {@link ReportTransformationResult} with a
+ * {@link ReportFindingStore}, the findings are written sorted from the store
+ * directly into the compressed data - so they are never kept in memory all
+ * together.
+ */
+@Component
+public class ScanReportCompressionSupport {
+
+    private static final String PROPERTY_RESULT = "result";
+    private static final String PROPERTY_FINDINGS = "findings";
+
+    private static final JsonMapper MAPPER = JsonMapperFactory.createMapper();
+
+    /**
+     * Stores given model compressed inside the scan report. The traffic light
+     * must already be set at the report, because it is contained inside the
+     * compressed JSON.
+     *
+     * @param report the report to store the model into
+     * @param model  the complete report model
+     */
+    public void storeCompressed(ScanReport report, SecHubReportModel model) {
+        notNull(report, "Report may not be null!");
+        notNull(model, "Model may not be null!");
+
+        /* same calculated data as done by ScanSecHubReport */
+        if (model.getJobUUID() == null) {
+            model.setJobUUID(report.getSecHubJobUUID());
+        }
+        model.setTrafficLight(TrafficLight.fromString(report.getTrafficLightAsString()));
+        ReportFindingStore findingStore = resolveFindingStore(model);
+        if (findingStore == null) {
+            model.getResult().setCount(model.getResult().getFindings().size());
+        } else {
+            model.getResult().setCount(findingStore.getCount());
+        }
+
+        report.setResultType(ScanReportResultType.COMPRESSED_MODEL);
+        report.setResult(createHeader(model).toJSON());
+        report.setResultData(compress(model));
+    }
+
+    /**
+     * Opens an input stream for the complete JSON of a compressed scan report.
+     * The data is inflated while reading.
+     *
+     * @param report scan report with result type
+     *               {@link ScanReportResultType#COMPRESSED_MODEL}
+     * @return input stream containing UTF-8 JSON
+     * @throws IOException
+     */
+    public InputStream openReportJSON(ScanReport report) throws IOException {
+        notNull(report, "Report may not be null!");
+
+        byte[] resultData = report.getResultData();
+        if (resultData == null) {
+            throw new IOException("Compressed result data missing for report of job: " + report.getSecHubJobUUID());
+        }
+        return new GZIPInputStream(new ByteArrayInputStream(resultData));
+    }
+
+    /**
+     * Reads the complete report model of a compressed scan report.
+     *
+     * @param report scan report with result type
+     *               {@link ScanReportResultType#COMPRESSED_MODEL}
+     * @return report model, never <code>null</code>
+     * @throws UncheckedIOException when compressed data cannot be inflated
+     */
+    public SecHubReportModel readModel(ScanReport report) {
+        try (InputStream inputStream = openReportJSON(report)) {
+            /* parsed while inflating - the complete JSON is never kept in memory */
+            return JSONConverter.get().fromJSON(SecHubReportModel.class, inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Was not able to read compressed report of job: " + report.getSecHubJobUUID(), e);
+        }
+    }
+
+    SecHubReportModel createHeader(SecHubReportModel model) {
+        SecHubReportModel header = new SecHubReportModel();
+        header.setJobUUID(model.getJobUUID());
+        header.setStatus(model.getStatus());
+        header.setTrafficLight(model.getTrafficLight());
+        header.setMessages(model.getMessages());
+        header.setReportVersion(model.getReportVersion());
+        header.setMetaData(model.getMetaData().orElse(null));
+
+        SecHubResult result = new SecHubResult();
+        result.setCount(model.getResult().getCount());
+        header.setResult(result);
+
+        return header;
+    }
+
+    byte[] compress(SecHubReportModel model) {
+        ReportFindingStore findingStore = resolveFindingStore(model);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            /* JSON is written while compressing - so no JSON string is created */
+            if (findingStore == null) {
+                JSONConverter.get().toJSON(model, gzipOutputStream);
+            } else {
+                writeWithStoredFindings(model, findingStore, gzipOutputStream);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Was not able to compress report JSON", e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private ReportFindingStore resolveFindingStore(SecHubReportModel model) {
+        if (!(model instanceof ReportTransformationResult)) {
+            return null;
+        }
+        return ((ReportTransformationResult) model).getFindingStore();
+    }
+
+    /*
+     * The model itself contains no findings and is small. It is written as a tree,
+     * only the findings array of the result is filled from the finding store.
+     */
+    private void writeWithStoredFindings(SecHubReportModel model, ReportFindingStore findingStore, OutputStream outputStream) throws IOException {
+        JsonNode modelNode = MAPPER.valueToTree(model);
+
+        try (JsonGenerator generator = MAPPER.createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            generator.writeStartObject();
+            Iterator<Map.Entry<String, JsonNode>> fields = modelNode.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                generator.writeFieldName(field.getKey());
+                if (PROPERTY_RESULT.equals(field.getKey())) {
+                    writeResultWithStoredFindings(field.getValue(), findingStore, generator);
+                } else {
+                    generator.writeTree(field.getValue());
+                }
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeResultWithStoredFindings(JsonNode resultNode, ReportFindingStore findingStore, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        Iterator<Map.Entry<String, JsonNode>> fields = resultNode.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            generator.writeFieldName(field.getKey());
+            if (PROPERTY_FINDINGS.equals(field.getKey())) {
+                generator.writeStartArray();
+                findingStore.writeSortedFindings(generator);
+                generator.writeEndArray();
+            } else {
+                generator.writeTree(field.getValue());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,416 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.report;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.mercedesbenz.sechub.commons.core.cache.SizeBoundedLRUMap;
+import com.mercedesbenz.sechub.domain.scan.product.ProductResult;
+import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Size bounded cache for rendered reports (e.g. HTML or SPDX JSON) per job.
+ * Reports are immutable after creation, so rendering is only necessary once.
+ * <br>
+ * <br>
+ * The cache has two tiers: Rendered reports are held in memory, least recently
+ * used ones are removed when the maximum size has been reached. When a disk
+ * cache directory is defined, reports removed from memory are written into
+ * this directory and read again on next access.<br>
+ * <br>
+ * Every entry knows the UUID of the data it was rendered from (scan report or
+ * product result). An entry is only used when the data still has the same
+ * UUID. So a report re-created by another cluster member is never delivered
+ * from an outdated cache entry.
+ */
+@Component
+public class ScanReportRenderCache implements MeterBinder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScanReportRenderCache.class);
+
+    private static final boolean DEFAULT_ENABLED = true;
+    private static final long DEFAULT_HEAP_MAX_BYTES = 64L * 1024 * 1024;
+    private static final long DEFAULT_DISK_MAX_BYTES = 512L * 1024 * 1024;
+
+    private static final String DISK_FILE_ENDING = ".rendered-report";
+
+    @MustBeDocumented(value = "When enabled, rendered HTML and SPDX reports are cached per job, so repeated downloads of the same report need no rendering.", scope = "scan")
+    @Value("${sechub.report.cache.enabled:" + DEFAULT_ENABLED + "}")
+    boolean enabled = DEFAULT_ENABLED;
+
+    @MustBeDocumented(value = "Maximum size in bytes of rendered reports held in memory by report cache. Least recently used reports are removed first.", scope = "scan")
+    @Value("${sechub.report.cache.heap.maxbytes:" + DEFAULT_HEAP_MAX_BYTES + "}")
+    long heapMaxBytes = DEFAULT_HEAP_MAX_BYTES;
+
+    @MustBeDocumented(value = "Directory for the disk tier of the report cache. Rendered reports removed from memory are written into this directory. When not defined, the disk tier is disabled.", scope = "scan")
+    @Value("${sechub.report.cache.disk.directory:}")
+    String diskDirectory;
+
+    @MustBeDocumented(value = "Maximum size in bytes of rendered reports held inside the disk tier of the report cache.", scope = "scan")
+    @Value("${sechub.report.cache.disk.maxbytes:" + DEFAULT_DISK_MAX_BYTES + "}")
+    long diskMaxBytes = DEFAULT_DISK_MAX_BYTES;
+
+    private final SizeBoundedLRUMap<CacheKey, HeapEntry> heapEntries = new SizeBoundedLRUMap<>(entry -> entry.size);
+    private final SizeBoundedLRUMap<CacheKey, DiskEntry> diskEntries = new SizeBoundedLRUMap<>(entry -> entry.size);
+
+    private Path diskPath;
+
+    private final AtomicLong heapHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    @PostConstruct
+    void postConstruct() throws IOException {
+        if (diskDirectory == null || diskDirectory.isBlank()) {
+            return;
+        }
+        Path path = Paths.get(diskDirectory);
+        Files.createDirectories(path);
+
+        /* the index of the disk tier is only held in memory - so files of former runs are useless */
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(path, "*" + DISK_FILE_ENDING)) {
+            for (Path file : stream) {
+                Files.deleteIfExists(file);
+            }
+        }
+        diskPath = path;
+        LOG.info("Report cache uses disk tier at: {}", path.toAbsolutePath());
+    }
+
+    /**
+     * Resolves rendered report from cache or renders it.
+     *
+     * @param report   scan report the rendering is based on
+     * @param format   format of the rendering
+     * @param renderer renders the report when not cached
+     * @return rendered report
+     */
+    public String getOrRender(ScanReport report, ScanReportRenderFormat format, Supplier<String> renderer) {
+        return getOrRender(new CacheKey(report.getSecHubJobUUID(), format), new Origin(report.getUUID(), report.getProjectId(), report.getStarted()),
+                renderer);
+    }
+
+    /**
+     * Resolves rendered report from cache or renders it.
+     *
+     * @param productResult product result the rendering is based on
+     * @param format        format of the rendering
+     * @param renderer      renders the report when not cached
+     * @return rendered report
+     */
+    public String getOrRender(ProductResult productResult, ScanReportRenderFormat format, Supplier<String> renderer) {
+        return getOrRender(new CacheKey(productResult.getSecHubJobUUID(), format),
+                new Origin(productResult.getUUID(), productResult.getProjectId(), productResult.getStarted()), renderer);
+    }
+
+    /**
+     * Removes all cached renderings for given job
+     *
+     * @param jobUUID job uuid
+     */
+    public void invalidate(UUID jobUUID) {
+        removeIf((key, origin) -> Objects.equals(key.jobUUID, jobUUID));
+    }
+
+    /**
+     * Removes all cached renderings for given project
+     *
+     * @param projectId project id
+     */
+    public void invalidateProject(String projectId) {
+        removeIf((key, origin) -> Objects.equals(origin.projectId, projectId));
+    }
+
+    /**
+     * Removes all cached renderings based on data started before given time
+     * stamp - same as used by auto cleanup.
+     *
+     * @param timeStamp time stamp
+     */
+    public void invalidateStartedBefore(LocalDateTime timeStamp) {
+        removeIf((key, origin) -> origin.started != null && origin.started.isBefore(timeStamp));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        /* @formatter:off */
+        FunctionCounter.builder("sechub.report.cache.requests", heapHits, AtomicLong::get).
+            tag("result", "hit").tag("tier", "heap").
+            description("Report downloads served from report cache memory").
+            register(registry);
+        FunctionCounter.builder("sechub.report.cache.requests", diskHits, AtomicLong::get).
+            tag("result", "hit").tag("tier", "disk").
+            description("Report downloads served from report cache disk tier").
+            register(registry);
+        FunctionCounter.builder("sechub.report.cache.requests", misses, AtomicLong::get).
+            tag("result", "miss").tag("tier", "none").
+            description("Report downloads which needed rendering").
+            register(registry);
+        Gauge.builder("sechub.report.cache.hit.ratio", this, ScanReportRenderCache::getHitRatio).
+            description("Ratio of report downloads served from report cache").
+            register(registry);
+        Gauge.builder("sechub.report.cache.size", this, ScanReportRenderCache::getHeapBytes).
+            tag("tier", "heap").
+            baseUnit("bytes").
+            register(registry);
+        Gauge.builder("sechub.report.cache.size", this, ScanReportRenderCache::getDiskBytes).
+            tag("tier", "disk").
+            baseUnit("bytes").
+            register(registry);
+        /* @formatter:on */
+    }
+
+    double getHitRatio() {
+        long hits = heapHits.get() + diskHits.get();
+        long all = hits + misses.get();
+        if (all == 0) {
+            return 0;
+        }
+        return (double) hits / all;
+    }
+
+    long getHeapHits() {
+        return heapHits.get();
+    }
+
+    long getDiskHits() {
+        return diskHits.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+
+    synchronized long getHeapBytes() {
+        return heapEntries.getSize();
+    }
+
+    synchronized long getDiskBytes() {
+        return diskEntries.getSize();
+    }
+
+    private String getOrRender(CacheKey key, Origin origin, Supplier<String> renderer) {
+        if (!enabled) {
+            return renderer.get();
+        }
+        String cached = getCached(key, origin);
+        if (cached != null) {
+            return cached;
+        }
+        misses.incrementAndGet();
+
+        String rendered = renderer.get();
+        if (rendered != null) {
+            put(key, new HeapEntry(origin, rendered));
+        }
+        return rendered;
+    }
+
+    private String getCached(CacheKey key, Origin origin) {
+        DiskEntry diskEntry;
+        synchronized (this) {
+            HeapEntry heapEntry = heapEntries.get(key);
+            if (heapEntry != null) {
+                if (heapEntry.origin.isSameData(origin)) {
+                    heapHits.incrementAndGet();
+                    return heapEntry.content;
+                }
+                /* outdated - e.g. report was re-created by another cluster member */
+                heapEntries.remove(key);
+            }
+            diskEntry = diskEntries.remove(key);
+        }
+        if (diskEntry == null) {
+            return null;
+        }
+        String content = null;
+        if (diskEntry.origin.isSameData(origin)) {
+            content = readDiskEntry(diskEntry);
+        }
+        /* entry was removed from disk tier - when still valid it is put into memory again */
+        deleteFiles(List.of(diskEntry.file));
+
+        if (content == null) {
+            return null;
+        }
+        diskHits.incrementAndGet();
+
+        /* back into memory, because used again */
+        put(key, new HeapEntry(diskEntry.origin, content));
+        return content;
+    }
+
+    private void put(CacheKey key, HeapEntry entry) {
+        List<Map.Entry<CacheKey, HeapEntry>> evicted = new ArrayList<>();
+        List<Path> outdatedFiles = new ArrayList<>();
+        synchronized (this) {
+            DiskEntry formerDiskEntry = diskEntries.remove(key);
+            if (formerDiskEntry != null) {
+                outdatedFiles.add(formerDiskEntry.file);
+            }
+            /* an entry bigger than heap maximum is evicted directly */
+            evicted.addAll(heapEntries.put(key, entry, heapMaxBytes));
+        }
+        deleteFiles(outdatedFiles);
+
+        for (Map.Entry<CacheKey, HeapEntry> evictedEntry : evicted) {
+            writeToDisk(evictedEntry.getKey(), evictedEntry.getValue());
+        }
+    }
+
+    private void writeToDisk(CacheKey key, HeapEntry heapEntry) {
+        if (diskPath == null) {
+            return;
+        }
+        byte[] bytes = heapEntry.content.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > diskMaxBytes) {
+            return;
+        }
+        Path file = diskPath.resolve(UUID.randomUUID() + DISK_FILE_ENDING);
+        try {
+            Files.write(file, bytes);
+        } catch (IOException e) {
+            LOG.warn("Was not able to write rendered report for job {} to disk cache", key.jobUUID, e);
+            deleteFiles(List.of(file));
+            return;
+        }
+        List<Path> filesToDelete = new ArrayList<>();
+        synchronized (this) {
+            if (heapEntries.containsKey(key) || diskEntries.containsKey(key)) {
+                /* meanwhile newer entry available */
+                filesToDelete.add(file);
+            } else {
+                for (Map.Entry<CacheKey, DiskEntry> evicted : diskEntries.put(key, new DiskEntry(heapEntry.origin, file, bytes.length), diskMaxBytes)) {
+                    filesToDelete.add(evicted.getValue().file);
+                }
+            }
+        }
+        deleteFiles(filesToDelete);
+    }
+
+    private String readDiskEntry(DiskEntry diskEntry) {
+        try {
+            return Files.readString(diskEntry.file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOG.warn("Was not able to read rendered report from disk cache file: {}", diskEntry.file, e);
+            return null;
+        }
+    }
+
+    private void removeIf(CacheEntryFilter filter) {
+        List<Path> filesToDelete = new ArrayList<>();
+        synchronized (this) {
+            heapEntries.removeIf((key, entry) -> filter.matches(key, entry.origin));
+            for (DiskEntry removed : diskEntries.removeIf((key, entry) -> filter.matches(key, entry.origin))) {
+                filesToDelete.add(removed.file);
+            }
+        }
+        deleteFiles(filesToDelete);
+    }
+
+    private void deleteFiles(List<Path> files) {
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                LOG.warn("Was not able to delete report cache file: {}", file, e);
+            }
+        }
+    }
+
+    private interface CacheEntryFilter {
+        boolean matches(CacheKey key, Origin origin);
+    }
+
+    private static class CacheKey {
+        private final UUID jobUUID;
+        private final ScanReportRenderFormat format;
+
+        private CacheKey(UUID jobUUID, ScanReportRenderFormat format) {
+            this.jobUUID = jobUUID;
+            this.format = format;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(jobUUID, format);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) obj;
+            return Objects.equals(jobUUID, other.jobUUID) && format == other.format;
+        }
+    }
+
+    private static class Origin {
+        private final UUID dataUUID;
+        private final String projectId;
+        private final LocalDateTime started;
+
+        private Origin(UUID dataUUID, String projectId, LocalDateTime started) {
+            this.dataUUID = dataUUID;
+            this.projectId = projectId;
+            this.started = started;
+        }
+
+        private boolean isSameData(Origin other) {
+            return Objects.equals(dataUUID, other.dataUUID);
+        }
+    }
+
+    private static class HeapEntry {
+        private final Origin origin;
+        private final String content;
+        private final long size;
+
+        private HeapEntry(Origin origin, String content) {
+            this.origin = origin;
+            this.content = content;
+            /* upper bound - latin1 strings need only one byte per char */
+            this.size = content.length() * 2L;
+        }
+    }
+
+    private static class DiskEntry {
+        private final Origin origin;
+        private final Path file;
+        private final long size;
+
+        private DiskEntry(Origin origin, Path file, long size) {
+            this.origin = origin;
+            this.file = file;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.report;
+
+/**
+ * Formats of rendered scan reports held inside {@link ScanReportRenderCache}
+ */
+public enum ScanReportRenderFormat {
+
+    HTML,
+
+    SPDX_JSON,
+}
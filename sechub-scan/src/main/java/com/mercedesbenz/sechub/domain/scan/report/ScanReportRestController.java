@@ -1,10 +1,12 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.scan.report;
 
-import java.util.Map;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 import javax.annotation.security.RolesAllowed;
+import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -14,9 +16,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.servlet.ModelAndView;
 
-import com.mercedesbenz.sechub.domain.scan.HTMLScanResultReportModelBuilder;
 import com.mercedesbenz.sechub.sharedkernel.APIConstants;
 import com.mercedesbenz.sechub.sharedkernel.RoleConstants;
 import com.mercedesbenz.sechub.sharedkernel.Step;
@@ -37,9 +37,6 @@ import com.mercedesbenz.sechub.sharedkernel.usecases.user.execute.UseCaseUserSta
 @RolesAllowed({ RoleConstants.ROLE_USER, RoleConstants.ROLE_SUPERADMIN })
 public class ScanReportRestController {
 
-    @Autowired
-    private HTMLScanResultReportModelBuilder htmlModelBuilder;
-
     @Autowired
     private DownloadScanReportService downloadReportService;
 
@@ -50,28 +47,33 @@ public class ScanReportRestController {
 	@UseCaseUserDownloadsJobReport(@Step(number=1, next= {3}, name="REST API call to get JSON report", needsRestDoc=true))
 	@UseCaseUserStartsSynchronousScanByClient(@Step(number=4, name="download job report and traffic light"))
 	@RequestMapping(path = "/report/{jobUUID}", method = RequestMethod.GET, produces= {MediaType.APPLICATION_JSON_VALUE})
-	public ScanSecHubReport getScanSecHubReportAsJSON(
+	public void getScanSecHubReportAsJSON(
 			@PathVariable("projectId") String projectId,
-			@PathVariable("jobUUID") UUID jobUUID
-			) {
+			@PathVariable("jobUUID") UUID jobUUID,
+			HttpServletResponse response
+			) throws IOException {
 		/* @formatter:on */
-        return fetchScanSecHubReport(projectId, jobUUID);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
 
+        /* stream JSON directly - compressed reports are not parsed at all */
+        downloadReportService.writeScanSecHubReportJSON(projectId, jobUUID, response.getOutputStream());
     }
 
     /* @formatter:off */
 	@UseCaseUserDownloadsJobReport(@Step(number=2, next= {3}, name="REST API call to get HTML report", needsRestDoc=true))
 	@RequestMapping(path = "/report/{jobUUID}", method = RequestMethod.GET, produces= {"application/xhtml+xml", "text/html","text/html;charset=UTF-8"})
-	@ResponseBody
-	public ModelAndView getScanSecHubReportAsHTML(
+	public void getScanSecHubReportAsHTML(
 			@PathVariable("projectId") String projectId,
-			@PathVariable("jobUUID") UUID jobUUID
-			) {
+			@PathVariable("jobUUID") UUID jobUUID,
+			HttpServletResponse response
+			) throws IOException {
 		/* @formatter:on */
-        ScanSecHubReport scanSecHubReport = fetchScanSecHubReport(projectId, jobUUID);
+        String html = downloadReportService.getScanSecHubReportAsHTML(projectId, jobUUID);
 
-        Map<String, Object> model = htmlModelBuilder.build(scanSecHubReport);
-        return new ModelAndView("report/html/scanresult", model);
+        response.setContentType(MediaType.TEXT_HTML_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(html);
     }
 
     /* @formatter:off */
@@ -88,8 +90,4 @@ public class ScanReportRestController {
         return spdxDocument;
     }
 
-    private ScanSecHubReport fetchScanSecHubReport(String projectId, UUID jobUUID) {
-        return downloadReportService.getScanSecHubReport(projectId, jobUUID);
-    }
-
 }
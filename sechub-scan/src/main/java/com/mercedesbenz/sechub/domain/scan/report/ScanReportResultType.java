@@ -27,4 +27,13 @@ public enum ScanReportResultType {
      * The result contains complete {@link SecHubReportModel}
      */
     MODEL,
+
+    /**
+     * The result contains only a small {@link SecHubReportModel} header without
+     * findings (status, traffic light, counts, messages). The complete report JSON
+     * is stored gzip compressed inside {@link ScanReport#getResultData()} - so
+     * meta data can be read without inflating the findings and the JSON report
+     * can be streamed directly to clients.
+     */
+    COMPRESSED_MODEL,
 }
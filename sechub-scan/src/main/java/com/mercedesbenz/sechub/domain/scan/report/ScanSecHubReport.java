@@ -3,6 +3,7 @@ package com.mercedesbenz.sechub.domain.scan.report;
 
 import static com.mercedesbenz.sechub.sharedkernel.util.Assert.*;
 
+import java.io.UncheckedIOException;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -37,6 +38,8 @@ public class ScanSecHubReport implements SecHubReportData, JSONable<ScanSecHubRe
 
     private static final ScanSecHubReport IMPORTER = new ScanSecHubReport();
 
+    private static final ScanReportCompressionSupport COMPRESSION_SUPPORT = new ScanReportCompressionSupport();
+
     private SecHubReportModel model;
 
     private ScanSecHubReport() {
@@ -58,9 +61,13 @@ public class ScanSecHubReport implements SecHubReportData, JSONable<ScanSecHubRe
             LOG.warn("In scan report for job:{} was no result type set, fallback set to:{}", report.getSecHubJobUUID(), resultType);
         }
 
-        if (ScanReportResultType.MODEL.equals(resultType)) {
+        if (ScanReportResultType.MODEL.equals(resultType) || ScanReportResultType.COMPRESSED_MODEL.equals(resultType)) {
             try {
-                model = SecHubReportModel.fromJSONString(report.getResult());
+                if (ScanReportResultType.COMPRESSED_MODEL.equals(resultType)) {
+                    model = COMPRESSION_SUPPORT.readModel(report);
+                } else {
+                    model = SecHubReportModel.fromJSONString(report.getResult());
+                }
                 if (model.getJobUUID() == null) {
                     // Fallback for problems when model did not contain job uuid - see
                     // https://github.com/mercedes-benz/sechub/issues/864
@@ -68,9 +75,10 @@ public class ScanSecHubReport implements SecHubReportData, JSONable<ScanSecHubRe
                     model.setJobUUID(report.getSecHubJobUUID());
                 }
 
-            } catch (JSONConverterException e) {
+            } catch (JSONConverterException | UncheckedIOException e) {
                 LOG.error("FATAL PROBLEM! Failed to create sechub result by model for job:{}", report.getSecHubJobUUID(), e);
 
+                model = new SecHubReportModel();
                 model.getMessages().add(new SecHubMessage(SecHubMessageType.ERROR, "Internal SecHub failure happend."));
                 model.setJobUUID(report.getSecHubJobUUID());
                 model.setStatus(SecHubStatus.FAILED);
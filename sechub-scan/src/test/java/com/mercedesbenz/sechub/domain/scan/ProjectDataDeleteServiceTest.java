@@ -3,13 +3,20 @@ package com.mercedesbenz.sechub.domain.scan;
 
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 
 import com.mercedesbenz.sechub.domain.scan.log.ProjectScanLogRepository;
+import com.mercedesbenz.sechub.domain.scan.product.ProductResult;
 import com.mercedesbenz.sechub.domain.scan.product.ProductResultRepository;
+import com.mercedesbenz.sechub.domain.scan.product.ProductResultStorageService;
 import com.mercedesbenz.sechub.domain.scan.product.config.ProductExecutionProfileRepository;
+import com.mercedesbenz.sechub.domain.scan.project.ScanFalsePositiveRepository;
 import com.mercedesbenz.sechub.domain.scan.project.ScanProjectConfigRepository;
+import com.mercedesbenz.sechub.domain.scan.report.ScanReportRenderCache;
 import com.mercedesbenz.sechub.domain.scan.report.ScanReportRepository;
 import com.mercedesbenz.sechub.sharedkernel.logging.LogSanitizer;
 import com.mercedesbenz.sechub.sharedkernel.validation.UserInputAssertion;
@@ -22,6 +29,8 @@ public class ProjectDataDeleteServiceTest {
     private ScanReportRepository scanReportRepository;
     private ScanProjectConfigRepository scanProjectConfigRepository;
     private ProductExecutionProfileRepository profileRepository;
+    private ScanFalsePositiveRepository falsePositiveRepository;
+    private ProductResultStorageService productResultStorageService;
 
     @Before
     public void before() {
@@ -30,6 +39,8 @@ public class ProjectDataDeleteServiceTest {
         scanReportRepository = mock(ScanReportRepository.class);
         scanProjectConfigRepository = mock(ScanProjectConfigRepository.class);
         profileRepository = mock(ProductExecutionProfileRepository.class);
+        falsePositiveRepository = mock(ScanFalsePositiveRepository.class);
+        productResultStorageService = mock(ProductResultStorageService.class);
 
         serviceToTest = new ProjectDataDeleteService();
         serviceToTest.logSanitizer = mock(LogSanitizer.class);
@@ -40,6 +51,24 @@ public class ProjectDataDeleteServiceTest {
         serviceToTest.scanReportRepository = scanReportRepository;
         serviceToTest.scanProjectConfigRepository = scanProjectConfigRepository;
         serviceToTest.profileRepository = profileRepository;
+        serviceToTest.falsePositiveRepository = falsePositiveRepository;
+        serviceToTest.renderCache = mock(ScanReportRenderCache.class);
+        serviceToTest.productResultStorageService = productResultStorageService;
+    }
+
+    @Test
+    public void deleteAllDataForProject_deletes_offloaded_results_of_project_after_results() {
+        /* prepare */
+        List<ProductResult> offloadedResults = List.of(mock(ProductResult.class));
+        when(productResultRepository.findOffloadedResultsForProject("project-1")).thenReturn(offloadedResults);
+
+        /* execute */
+        serviceToTest.deleteAllDataForProject("project-1");
+
+        /* test */
+        InOrder inOrder = inOrder(productResultRepository, productResultStorageService);
+        inOrder.verify(productResultRepository).deleteAllResultsForProject("project-1");
+        inOrder.verify(productResultStorageService).deleteOffloadedResults(offloadedResults);
     }
 
     @Test
@@ -82,4 +111,14 @@ public class ProjectDataDeleteServiceTest {
 
     }
 
+    @Test
+    public void deleteAllDataForProject_triggers_deleteAllFalsePositivesForProject() {
+        /* execute */
+        serviceToTest.deleteAllDataForProject("project-1");
+
+        /* test */
+        verify(falsePositiveRepository).deleteAllFalsePositivesForProject("project-1");
+
+    }
+
 }
@@ -3,6 +3,7 @@ package com.mercedesbenz.sechub.domain.scan;
 
 import static org.junit.Assert.*;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Set;
 
@@ -13,6 +14,8 @@ import com.mercedesbenz.sechub.commons.model.SecHubFinding;
 import com.mercedesbenz.sechub.commons.model.SecHubMessage;
 import com.mercedesbenz.sechub.commons.model.SecHubMessageType;
 import com.mercedesbenz.sechub.commons.model.SecHubStatus;
+import com.mercedesbenz.sechub.commons.model.Severity;
+import com.mercedesbenz.sechub.domain.scan.report.ReportFindingStore;
 
 public class ReportTransformationResultMergerTest {
 
@@ -35,6 +38,29 @@ public class ReportTransformationResultMergerTest {
         assertEquals(r, mergerToTest.merge(null, r));
     }
 
+    @Test
+    public void result1_result2_with_finding_stores_merged_contains_all_stored_findings_and_stores_are_closed() throws Exception {
+        /* prepare */
+        ReportTransformationResult result1 = new ReportTransformationResult();
+        result1.setFindingStore(createFindingStore(1, Severity.LOW));
+
+        ReportTransformationResult result2 = new ReportTransformationResult();
+        result2.setFindingStore(createFindingStore(2, Severity.HIGH));
+
+        /* execute */
+        ReportTransformationResult merged = mergerToTest.merge(result1, result2);
+
+        /* test */
+        assertNull(merged.getFindingStore());
+        assertNull(result1.getFindingStore());
+        assertNull(result2.getFindingStore());
+
+        List<SecHubFinding> findings = merged.getResult().getFindings();
+        assertEquals(2, findings.size());
+        assertEquals(1, findings.get(0).getId());
+        assertEquals(2, findings.get(1).getId());
+    }
+
     @Test
     public void result1_result2_merged_contains_all_findings() {
         /* prepare */
@@ -158,4 +184,13 @@ public class ReportTransformationResultMergerTest {
 
     }
 
+    private ReportFindingStore createFindingStore(int findingId, Severity severity) throws IOException {
+        SecHubFinding finding = new SecHubFinding();
+        finding.setId(findingId);
+        finding.setSeverity(severity);
+
+        ReportFindingStore findingStore = new ReportFindingStore();
+        findingStore.add(finding);
+        return findingStore;
+    }
 }
@@ -0,0 +1,129 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mercedesbenz.sechub.commons.model.ScanType;
+import com.mercedesbenz.sechub.domain.scan.product.ProductExecutionStoreService;
+import com.mercedesbenz.sechub.sharedkernel.configuration.SecHubConfiguration;
+
+class ScanJobPhaseExecutorTest {
+
+    private ScanJobPhaseExecutor executorToTest;
+    private SecHubExecutionContext context;
+
+    @BeforeEach
+    void beforeEach() {
+        context = new SecHubExecutionContext(UUID.randomUUID(), mock(SecHubConfiguration.class), "executed-by-test", UUID.randomUUID());
+        executorToTest = new ScanJobPhaseExecutor(context);
+    }
+
+    @Test
+    void parallel_phases_are_running_at_same_time() throws Exception {
+        /* prepare */
+        CountDownLatch allPhasesStarted = new CountDownLatch(2);
+        ProductExecutionStoreService phase1 = createPhaseWaitingForOthers(ScanType.CODE_SCAN, allPhasesStarted);
+        ProductExecutionStoreService phase2 = createPhaseWaitingForOthers(ScanType.SECRET_SCAN, allPhasesStarted);
+
+        /* execute */
+        executorToTest.executePhasesInParallel(Arrays.asList(phase1, phase2));
+
+        /* test - when phases were executed one after another, the latch would never be zero */
+        verify(phase1).executeProductsAndStoreResults(context);
+        verify(phase2).executeProductsAndStoreResults(context);
+        assertEquals(0, allPhasesStarted.getCount());
+    }
+
+    @Test
+    void parallel_phases_times_are_remembered_in_context() throws Exception {
+        /* prepare */
+        ProductExecutionStoreService phase1 = createPhase(ScanType.CODE_SCAN);
+        ProductExecutionStoreService phase2 = createPhase(ScanType.LICENSE_SCAN);
+
+        /* execute */
+        executorToTest.executePhasesInParallel(Arrays.asList(phase1, phase2));
+
+        /* test */
+        Map<String, Long> phaseTimes = context.getPhaseTimesInMilliseconds();
+        assertEquals(2, phaseTimes.size());
+        assertTrue(phaseTimes.containsKey("codeScan"));
+        assertTrue(phaseTimes.containsKey("licenseScan"));
+    }
+
+    @Test
+    void parallel_phases_one_fails_other_is_still_executed_and_failure_is_thrown() throws Exception {
+        /* prepare */
+        SecHubExecutionException failure = new SecHubExecutionException("failed-by-test");
+        ProductExecutionStoreService phase1 = createPhase(ScanType.CODE_SCAN);
+        doThrow(failure).when(phase1).executeProductsAndStoreResults(any());
+        ProductExecutionStoreService phase2 = createPhase(ScanType.SECRET_SCAN);
+
+        /* execute */
+        SecHubExecutionException thrown = assertThrows(SecHubExecutionException.class,
+                () -> executorToTest.executePhasesInParallel(Arrays.asList(phase1, phase2)));
+
+        /* test */
+        assertSame(failure, thrown);
+        verify(phase2).executeProductsAndStoreResults(context);
+    }
+
+    @Test
+    void parallel_phases_runtime_exception_is_wrapped_into_sechub_execution_exception() throws Exception {
+        /* prepare */
+        IllegalStateException failure = new IllegalStateException("failed-by-test");
+        ProductExecutionStoreService phase1 = createPhase(ScanType.CODE_SCAN);
+        doThrow(failure).when(phase1).executeProductsAndStoreResults(any());
+        ProductExecutionStoreService phase2 = createPhase(ScanType.SECRET_SCAN);
+
+        /* execute */
+        SecHubExecutionException thrown = assertThrows(SecHubExecutionException.class,
+                () -> executorToTest.executePhasesInParallel(Arrays.asList(phase1, phase2)));
+
+        /* test */
+        assertSame(failure, thrown.getCause());
+    }
+
+    @Test
+    void sequential_phases_failure_stops_execution_of_next_phases() throws Exception {
+        /* prepare */
+        ProductExecutionStoreService phase1 = createPhase(ScanType.CODE_SCAN);
+        doThrow(new SecHubExecutionException("failed-by-test")).when(phase1).executeProductsAndStoreResults(any());
+        ProductExecutionStoreService phase2 = createPhase(ScanType.SECRET_SCAN);
+
+        /* execute */
+        assertThrows(SecHubExecutionException.class, () -> executorToTest.executePhasesSequential(Arrays.asList(phase1, phase2)));
+
+        /* test */
+        verify(phase2, never()).executeProductsAndStoreResults(any());
+        assertTrue(context.getPhaseTimesInMilliseconds().containsKey("codeScan"));
+    }
+
+    private ProductExecutionStoreService createPhase(ScanType scanType) {
+        ProductExecutionStoreService phase = mock(ProductExecutionStoreService.class);
+        when(phase.getScanType()).thenReturn(scanType);
+        return phase;
+    }
+
+    private ProductExecutionStoreService createPhaseWaitingForOthers(ScanType scanType, CountDownLatch allPhasesStarted) throws Exception {
+        ProductExecutionStoreService phase = createPhase(scanType);
+        doAnswer(invocation -> {
+            allPhasesStarted.countDown();
+            if (!allPhasesStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Other phases were not started in parallel");
+            }
+            return null;
+        }).when(phase).executeProductsAndStoreResults(any());
+        return phase;
+    }
+}
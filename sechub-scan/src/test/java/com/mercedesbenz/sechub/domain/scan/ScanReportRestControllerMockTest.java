@@ -9,6 +9,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -45,7 +47,8 @@ import com.mercedesbenz.sechub.test.TestPortProvider;
 
 @ExtendWith(SpringExtension.class)
 @WebMvcTest(ScanReportRestController.class)
-@ContextConfiguration(classes = { ScanReportRestController.class, ScanReportRestControllerMockTest.SimpleTestConfiguration.class })
+@ContextConfiguration(classes = { ScanReportRestController.class, HTMLScanResultReportRenderer.class,
+        ScanReportRestControllerMockTest.SimpleTestConfiguration.class })
 class ScanReportRestControllerMockTest {
 
     private static final String PROJECT1_ID = "project1";
@@ -79,6 +82,9 @@ class ScanReportRestControllerMockTest {
     @MockBean
     private HTMLScanResultReportModelBuilder modelBuilder;
 
+    @Autowired
+    private HTMLScanResultReportRenderer htmlRenderer;
+
     private UUID randomUUID;
 
     private Map<String, Object> reportModelBuilderResult;
@@ -93,13 +99,6 @@ class ScanReportRestControllerMockTest {
     @WithMockUser
     void get_report_from_existing_job_returns_406_NOT_ACCEPTABLE__when_type_is_APPLICATION_PDF() throws Exception {
         /* prepare */
-        ScanReport scanReport = new ScanReport(randomUUID, PROJECT1_ID);
-        scanReport.setResult("{'count':'1'}");
-        scanReport.setTrafficLight(TrafficLight.YELLOW);
-
-        ScanSecHubReport scanSecHubReport = new ScanSecHubReport(scanReport);
-        when(downloadReportService.getScanSecHubReport(PROJECT1_ID, randomUUID)).thenReturn(scanSecHubReport);
-
         /* execute + test @formatter:off */
         this.mockMvc.perform(
         		get(https(PORT_USED).buildGetJobReportUrl(PROJECT1_ID,randomUUID)).accept(MediaType.APPLICATION_PDF).
@@ -204,7 +203,11 @@ class ScanReportRestControllerMockTest {
         report.setTrafficLight(TrafficLight.YELLOW);
 
         ScanSecHubReport scanSecHubReport = new ScanSecHubReport(report);
-        when(downloadReportService.getScanSecHubReport(PROJECT1_ID, randomUUID)).thenReturn(scanSecHubReport);
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(2);
+            outputStream.write(scanSecHubReport.toJSON().getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(downloadReportService).writeScanSecHubReportJSON(eq(PROJECT1_ID), eq(randomUUID), any(OutputStream.class));
 
         /* execute + test @formatter:off */
 	    this.mockMvc.perform(
@@ -225,7 +228,7 @@ class ScanReportRestControllerMockTest {
         report.setTrafficLight(TrafficLight.YELLOW);
 
         ScanSecHubReport scanSecHubReport = new ScanSecHubReport(report);
-        when(downloadReportService.getScanSecHubReport(PROJECT1_ID, randomUUID)).thenReturn(scanSecHubReport);
+        when(downloadReportService.getScanSecHubReportAsHTML(PROJECT1_ID, randomUUID)).thenAnswer(invocation -> htmlRenderer.render(scanSecHubReport));
 
         /* execute + test @formatter:off */
         this.mockMvc.perform(
@@ -268,6 +271,7 @@ class ScanReportRestControllerMockTest {
         reportModelBuilderResult.put("codeScanSupport", new HtmlCodeScanDescriptionSupport());
 
         when(modelBuilder.build(any())).thenReturn(reportModelBuilderResult);
+        when(downloadReportService.getScanSecHubReportAsHTML(PROJECT1_ID, randomUUID)).thenAnswer(invocation -> htmlRenderer.render(null));
     }
 
 }
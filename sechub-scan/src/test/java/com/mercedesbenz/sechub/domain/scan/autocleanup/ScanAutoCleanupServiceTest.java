@@ -14,7 +14,10 @@ import org.mockito.ArgumentCaptor;
 
 import com.mercedesbenz.sechub.domain.scan.config.ScanConfigService;
 import com.mercedesbenz.sechub.domain.scan.log.ProjectScanLogRepository;
+import com.mercedesbenz.sechub.domain.scan.product.ProductResult;
 import com.mercedesbenz.sechub.domain.scan.product.ProductResultRepository;
+import com.mercedesbenz.sechub.domain.scan.product.ProductResultStorageService;
+import com.mercedesbenz.sechub.domain.scan.report.ScanReportRenderCache;
 import com.mercedesbenz.sechub.domain.scan.report.ScanReportRepository;
 import com.mercedesbenz.sechub.sharedkernel.TimeCalculationService;
 import com.mercedesbenz.sechub.sharedkernel.autocleanup.AutoCleanupResult;
@@ -29,6 +32,7 @@ class ScanAutoCleanupServiceTest {
     private ProjectScanLogRepository projectScanLogRepository;
     private ScanReportRepository scanReportRepository;
     private AutoCleanupResultInspector inspector;
+    private ProductResultStorageService productResultStorageService;
 
     @BeforeEach
     void beforeEach() {
@@ -40,6 +44,7 @@ class ScanAutoCleanupServiceTest {
         projectScanLogRepository = mock(ProjectScanLogRepository.class);
         scanReportRepository = mock(ScanReportRepository.class);
         inspector = mock(AutoCleanupResultInspector.class);
+        productResultStorageService = mock(ProductResultStorageService.class);
 
         serviceToTest.configService = configService;
         serviceToTest.productResultRepository = productResultRepository;
@@ -47,6 +52,8 @@ class ScanAutoCleanupServiceTest {
         serviceToTest.scanReportRepository = scanReportRepository;
         serviceToTest.timeCalculationService = timeCalculationService;
         serviceToTest.inspector = inspector;
+        serviceToTest.renderCache = mock(ScanReportRenderCache.class);
+        serviceToTest.productResultStorageService = productResultStorageService;
     }
 
     @Test
@@ -64,6 +71,7 @@ class ScanAutoCleanupServiceTest {
         verify(configService).getAutoCleanupInDays();
         verify(timeCalculationService, never()).calculateNowMinusDays(any());
         verify(productResultRepository, never()).deleteResultsOlderThan(cleanTime);
+        verify(productResultStorageService, never()).deleteOffloadedResults(any());
         verify(projectScanLogRepository, never()).deleteLogsOlderThan(cleanTime);
         verify(scanReportRepository, never()).deleteReportsOlderThan(cleanTime);
         // check inspection as expected: never because not executed
@@ -81,6 +89,8 @@ class ScanAutoCleanupServiceTest {
         when(projectScanLogRepository.deleteLogsOlderThan(cleanTime)).thenReturn(10);
         when(productResultRepository.deleteResultsOlderThan(cleanTime)).thenReturn(20);
         when(scanReportRepository.deleteReportsOlderThan(cleanTime)).thenReturn(30);
+        List<ProductResult> offloadedResults = List.of(mock(ProductResult.class));
+        when(productResultRepository.findOffloadedResultsOlderThan(cleanTime)).thenReturn(offloadedResults);
 
         /* execute */
         serviceToTest.cleanup();
@@ -89,6 +99,7 @@ class ScanAutoCleanupServiceTest {
         verify(configService).getAutoCleanupInDays();
         verify(timeCalculationService).calculateNowMinusDays(eq(days));
         verify(productResultRepository, times(1)).deleteResultsOlderThan(cleanTime);
+        verify(productResultStorageService).deleteOffloadedResults(offloadedResults);
         verify(projectScanLogRepository, times(1)).deleteLogsOlderThan(cleanTime);
         // as long as issue https://github.com/mercedes-benz/sechub/issues/1010 is not
         // implemented we keep the old data for statistics, so never called:
@@ -10,20 +10,25 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.slf4j.Logger;
 
 import com.mercedesbenz.sechub.commons.model.ScanType;
 import com.mercedesbenz.sechub.domain.scan.SecHubExecutionContext;
 import com.mercedesbenz.sechub.domain.scan.SecHubExecutionException;
+import com.mercedesbenz.sechub.domain.scan.product.AbstractProductExecutionService.ProductExecutorRun;
 import com.mercedesbenz.sechub.domain.scan.product.config.ProductExecutorConfig;
 import com.mercedesbenz.sechub.domain.scan.product.config.ProductExecutorConfigRepository;
 import com.mercedesbenz.sechub.domain.scan.product.config.ProductExecutorConfigSetup;
+import com.mercedesbenz.sechub.domain.scan.product.config.ProductExecutorConfigSetupJobParameter;
 import com.mercedesbenz.sechub.sharedkernel.ProductIdentifier;
 import com.mercedesbenz.sechub.sharedkernel.UUIDTraceLogID;
 import com.mercedesbenz.sechub.sharedkernel.configuration.SecHubConfiguration;
@@ -49,6 +54,7 @@ public class AbstractProductExecutionServiceTest {
     private ProductExecutorContextFactory productExecutorContextFactory;
     private ProductExecutorContext productExecutorContext;
     private ProductExecutorConfig config1;
+    private ProductExecutorConfigRepository productExecutorConfigRepository;
 
     @Before
     public void before() throws Exception {
@@ -72,7 +78,7 @@ public class AbstractProductExecutionServiceTest {
         when(context.getSechubJobUUID()).thenReturn(sechubJobUUID);
         when(context.getConfiguration()).thenReturn(configuration);
 
-        ProductExecutorConfigRepository productExecutorConfigRepository = mock(ProductExecutorConfigRepository.class);
+        productExecutorConfigRepository = mock(ProductExecutorConfigRepository.class);
         serviceToTest.productExecutorConfigRepository = productExecutorConfigRepository;
 
         config1 = new ProductExecutorConfig(USED_PRODUCT_IDENTIFIER, 0, new ProductExecutorConfigSetup());
@@ -81,6 +87,7 @@ public class AbstractProductExecutionServiceTest {
 
         productResultRepository = mock(ProductResultRepository.class);
         serviceToTest.productResultRepository = productResultRepository;
+        serviceToTest.productResultStorageService = mock(ProductResultStorageService.class);
 
         productExecutorContextFactory = mock(ProductExecutorContextFactory.class);
         serviceToTest.productExecutorContextFactory = productExecutorContextFactory;
@@ -209,6 +216,102 @@ public class AbstractProductExecutionServiceTest {
 
     }
 
+    @Test
+    public void parallel_max_2_two_executor_configurations_are_executed_in_parallel() throws Exception {
+        /* prepare */
+        serviceToTest.maximumParallelProductExecutorRuns = 2;
+        ProductExecutorConfig config2 = new ProductExecutorConfig(USED_PRODUCT_IDENTIFIER, 0, new ProductExecutorConfigSetup());
+        when(productExecutorConfigRepository.findExecutableConfigurationsForProject(any(), eq(USED_PRODUCT_IDENTIFIER), eq(USED_PRODUCT_EXECUTOR_VERSION)))
+                .thenReturn(Arrays.asList(config1, config2));
+
+        CountDownLatch allExecutionsStarted = new CountDownLatch(2);
+        when(executor.execute(eq(context), any())).thenAnswer(invocation -> {
+            allExecutionsStarted.countDown();
+            if (!allExecutionsStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Not executed in parallel");
+            }
+            return Collections.singletonList(mock(ProductResult.class));
+        });
+
+        /* execute */
+        serviceToTest.runOnAllAvailableExecutors(executors, context, traceLogID);
+
+        /* test */
+        verify(executor, times(2)).execute(eq(context), any());
+        verify(productExecutorContext, times(2)).persist(any());
+        verify(logger, never()).error(any(), eq(USED_PRODUCT_IDENTIFIER), eq(traceLogID), any());
+    }
+
+    @Test
+    public void parallel_max_2_sereco_is_executed_after_other_executors() throws Exception {
+        /* prepare */
+        serviceToTest.maximumParallelProductExecutorRuns = 2;
+        ProductExecutor serecoExecutor = mock(ProductExecutor.class);
+        when(serecoExecutor.getIdentifier()).thenReturn(ProductIdentifier.SERECO);
+        when(serecoExecutor.getVersion()).thenReturn(1);
+        when(serecoExecutor.getScanType()).thenReturn(ScanType.REPORT);
+        ProductExecutorConfig serecoConfig = new ProductExecutorConfig(ProductIdentifier.SERECO, 1, new ProductExecutorConfigSetup());
+        when(productExecutorConfigRepository.findExecutableConfigurationsForProject(any(), eq(ProductIdentifier.SERECO), eq(1)))
+                .thenReturn(Arrays.asList(serecoConfig));
+
+        ProductExecutorConfig config2 = new ProductExecutorConfig(USED_PRODUCT_IDENTIFIER, 0, new ProductExecutorConfigSetup());
+        when(productExecutorConfigRepository.findExecutableConfigurationsForProject(any(), eq(USED_PRODUCT_IDENTIFIER), eq(USED_PRODUCT_EXECUTOR_VERSION)))
+                .thenReturn(Arrays.asList(config1, config2));
+
+        /* sereco is first inside list, but must be executed last */
+        List<ProductExecutor> executorsWithSereco = Arrays.asList(serecoExecutor, executor);
+
+        /* execute */
+        serviceToTest.runOnAllAvailableExecutors(executorsWithSereco, context, traceLogID);
+
+        /* test */
+        InOrder inOrder = inOrder(executor, serecoExecutor);
+        inOrder.verify(executor, times(2)).execute(eq(context), any());
+        inOrder.verify(serecoExecutor).execute(eq(context), any());
+    }
+
+    @Test
+    public void parallel_max_2_cancel_requested_no_executor_is_executed() throws Exception {
+        /* prepare */
+        serviceToTest.maximumParallelProductExecutorRuns = 2;
+        when(context.isCancelRequested()).thenReturn(true);
+
+        /* execute */
+        serviceToTest.runOnAllAvailableExecutors(executors, context, traceLogID);
+
+        /* test */
+        verify(executor, never()).execute(any(), any());
+    }
+
+    @Test
+    public void resolve_maximum_parallel_runs_uses_lowest_job_parameter_of_executor_configurations() throws Exception {
+        /* prepare */
+        serviceToTest.maximumParallelProductExecutorRuns = 10;
+        ProductExecutorRun run1 = new ProductExecutorRun(executor, createConfigWithParallelMax("4"));
+        ProductExecutorRun run2 = new ProductExecutorRun(executor, createConfigWithParallelMax("3"));
+        ProductExecutorRun run3 = new ProductExecutorRun(executor, config1);
+
+        /* execute + test */
+        assertEquals(3, serviceToTest.resolveMaximumParallelRuns(Arrays.asList(run1, run2, run3)));
+    }
+
+    @Test
+    public void resolve_maximum_parallel_runs_without_job_parameter_uses_default_and_ignores_invalid_values() throws Exception {
+        /* prepare */
+        serviceToTest.maximumParallelProductExecutorRuns = 5;
+        ProductExecutorRun run1 = new ProductExecutorRun(executor, createConfigWithParallelMax("not-a-number"));
+        ProductExecutorRun run2 = new ProductExecutorRun(executor, config1);
+
+        /* execute + test */
+        assertEquals(5, serviceToTest.resolveMaximumParallelRuns(Arrays.asList(run1, run2)));
+    }
+
+    private ProductExecutorConfig createConfigWithParallelMax(String value) {
+        ProductExecutorConfigSetup setup = new ProductExecutorConfigSetup();
+        setup.getJobParameters().add(new ProductExecutorConfigSetupJobParameter(AbstractProductExecutionService.JOB_PARAMETER_PARALLEL_EXECUTION_MAX, value));
+        return new ProductExecutorConfig(USED_PRODUCT_IDENTIFIER, 0, setup);
+    }
+
     private class TestImplAbstractProductExecutionService extends AbstractProductExecutionService {
 
         private ScanType scanType;
@@ -182,6 +182,32 @@ public class ProductResultRepositoryDBTest {
         assertNotNull(repositoryToTest.findById(job2_project2));
     }
 
+    @Test
+    public void find_offloaded_results_for_project_returns_only_offloaded_results_of_project() throws Exception {
+        /* prepare */
+        ProductResult result1 = new ProductResult(UUID.randomUUID(), "project1", new WithoutProductExecutorConfigInfo(ProductIdentifier.SERECO), "result1");
+        ProductResult result2 = new ProductResult(UUID.randomUUID(), "project1", new WithoutProductExecutorConfigInfo(ProductIdentifier.SERECO), "result2");
+        ProductResult result3 = new ProductResult(UUID.randomUUID(), "project2", new WithoutProductExecutorConfigInfo(ProductIdentifier.SERECO), "result3");
+        result2.markResultOffloaded(UUID.randomUUID(), 7, "checksum");
+        result3.markResultOffloaded(UUID.randomUUID(), 7, "checksum");
+
+        repositoryToTest.save(result1);
+        repositoryToTest.save(result2);
+        repositoryToTest.save(result3);
+
+        /* execute */
+        List<ProductResult> offloaded = repositoryToTest.findOffloadedResultsForProject("project1");
+
+        /* test */
+        assertEquals(1, offloaded.size());
+        ProductResult found = offloaded.get(0);
+        assertEquals(result2.getSecHubJobUUID(), found.getSecHubJobUUID());
+        assertTrue(found.isResultOffloaded());
+        assertNull(found.getResult());
+        assertEquals(Long.valueOf(7), found.getResultSize());
+        assertEquals("checksum", found.getResultChecksum());
+    }
+
     @Test
     public void given_2_stored_results_find_for_given_executor_confing_with_uuid_returns_both_results() throws Exception {
         /* prepare */
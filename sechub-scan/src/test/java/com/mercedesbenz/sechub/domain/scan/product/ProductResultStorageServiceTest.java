@@ -0,0 +1,298 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.product;
+
+import static java.nio.charset.StandardCharsets.*;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.mercedesbenz.sechub.commons.core.security.CheckSumSupport;
+import com.mercedesbenz.sechub.commons.model.SecHubRuntimeException;
+import com.mercedesbenz.sechub.domain.scan.product.config.WithoutProductExecutorConfigInfo;
+import com.mercedesbenz.sechub.sharedkernel.ProductIdentifier;
+import com.mercedesbenz.sechub.storage.core.JobStorage;
+import com.mercedesbenz.sechub.storage.core.StorageService;
+
+public class ProductResultStorageServiceTest {
+
+    private static final String PROJECT_ID = "project1";
+
+    private ProductResultStorageService serviceToTest;
+    private StorageService storageService;
+    private Map<UUID, TestJobStorage> storages;
+
+    @Before
+    public void before() throws Exception {
+        storages = new TreeMap<>();
+        storageService = mock(StorageService.class);
+        when(storageService.getJobStorage(eq(PROJECT_ID), any(UUID.class))).thenAnswer(invocation -> {
+            UUID uuid = invocation.getArgument(1);
+            return storages.computeIfAbsent(uuid, key -> new TestJobStorage());
+        });
+
+        serviceToTest = new ProductResultStorageService();
+        serviceToTest.storageService = storageService;
+        serviceToTest.checkSumSupport = new CheckSumSupport();
+        serviceToTest.offloadEnabled = true;
+        serviceToTest.offloadMinimumLength = 10;
+    }
+
+    @Test
+    public void result_below_minimum_length_is_not_offloaded() {
+        /* prepare */
+        ProductResult productResult = createProductResult("123456789");
+
+        /* execute */
+        serviceToTest.offloadIfNecessary(productResult);
+
+        /* test */
+        assertFalse(productResult.isResultOffloaded());
+        assertEquals("123456789", productResult.getResult());
+        assertNull(productResult.getResultStorageUUID());
+        verify(storageService, never()).getJobStorage(any(), any());
+    }
+
+    @Test
+    public void result_is_not_offloaded_when_disabled() {
+        /* prepare */
+        serviceToTest.offloadEnabled = false;
+        ProductResult productResult = createProductResult("a result which is big enough");
+
+        /* execute */
+        serviceToTest.offloadIfNecessary(productResult);
+
+        /* test */
+        assertFalse(productResult.isResultOffloaded());
+        assertEquals("a result which is big enough", productResult.getResult());
+        verify(storageService, never()).getJobStorage(any(), any());
+    }
+
+    @Test
+    public void result_with_minimum_length_is_offloaded_compressed_and_can_be_loaded_again() {
+        /* prepare */
+        String result = "{\"vulnerabilities\":[\"\u00e4\u00f6\u00fc-" + "x".repeat(1000) + "\"]}";
+        ProductResult productResult = createProductResult(result);
+
+        /* execute */
+        serviceToTest.offloadIfNecessary(productResult);
+
+        /* test */
+        assertTrue(productResult.isResultOffloaded());
+        assertNull(productResult.getResult());
+        assertNotNull(productResult.getResultStorageUUID());
+        assertEquals(Long.valueOf(result.getBytes(UTF_8).length), productResult.getResultSize());
+        assertEquals(64, productResult.getResultChecksum().length());
+
+        TestJobStorage storage = storages.get(productResult.getResultStorageUUID());
+        byte[] stored = storage.data.get(ProductResultStorageService.STORAGE_OBJECT_NAME);
+        assertNotNull(stored);
+        assertTrue(stored.length < result.length());
+
+        assertEquals(result, serviceToTest.loadResult(productResult));
+    }
+
+    @Test
+    public void not_offloaded_result_is_loaded_from_product_result_without_storage_access() throws Exception {
+        /* prepare */
+        ProductResult productResult = createProductResult("small");
+
+        /* execute */
+        String result = serviceToTest.loadResult(productResult);
+
+        /* test */
+        assertEquals("small", result);
+        try (InputStream inputStream = serviceToTest.openResult(productResult)) {
+            assertEquals("small", new String(inputStream.readAllBytes(), UTF_8));
+        }
+        verify(storageService, never()).getJobStorage(any(), any());
+    }
+
+    @Test
+    public void product_result_without_result_is_loaded_as_null() throws Exception {
+        /* prepare */
+        ProductResult productResult = createProductResult(null);
+
+        /* execute + test */
+        assertNull(serviceToTest.loadResult(productResult));
+        assertNull(serviceToTest.openResult(productResult));
+    }
+
+    @Test(expected = SecHubRuntimeException.class)
+    public void offloaded_result_with_wrong_checksum_cannot_be_loaded() {
+        /* prepare */
+        ProductResult productResult = createProductResult("a result which is big enough");
+        serviceToTest.offloadIfNecessary(productResult);
+        productResult.markResultOffloaded(productResult.getResultStorageUUID(), productResult.getResultSize(), "0".repeat(64));
+
+        /* execute */
+        serviceToTest.loadResult(productResult);
+    }
+
+    @Test(expected = SecHubRuntimeException.class)
+    public void offloaded_result_missing_in_storage_cannot_be_loaded() {
+        /* prepare */
+        ProductResult productResult = createProductResult("a result which is big enough");
+        serviceToTest.offloadIfNecessary(productResult);
+        storages.clear();
+
+        /* execute */
+        serviceToTest.loadResult(productResult);
+    }
+
+    @Test
+    public void result_is_kept_inside_product_result_when_storage_fails() throws Exception {
+        /* prepare */
+        JobStorage failingStorage = mock(JobStorage.class);
+        doThrow(new IOException("storage not available")).when(failingStorage).store(any(), any(), anyLong());
+        when(storageService.getJobStorage(eq(PROJECT_ID), any(UUID.class))).thenReturn(failingStorage);
+        ProductResult productResult = createProductResult("a result which is big enough");
+
+        /* execute */
+        serviceToTest.offloadIfNecessary(productResult);
+
+        /* test */
+        assertFalse(productResult.isResultOffloaded());
+        assertEquals("a result which is big enough", productResult.getResult());
+        assertNull(productResult.getResultStorageUUID());
+    }
+
+    @Test
+    public void offloaded_result_changed_to_small_one_deletes_storage_and_reference() {
+        /* prepare */
+        ProductResult productResult = createProductResult("a result which is big enough");
+        serviceToTest.offloadIfNecessary(productResult);
+        UUID storageUUID = productResult.getResultStorageUUID();
+        productResult.setResult("small");
+
+        /* execute */
+        serviceToTest.offloadIfNecessary(productResult);
+
+        /* test */
+        assertFalse(productResult.isResultOffloaded());
+        assertNull(productResult.getResultStorageUUID());
+        assertNull(productResult.getResultSize());
+        assertNull(productResult.getResultChecksum());
+        assertTrue(storages.get(storageUUID).deleted);
+    }
+
+    @Test
+    public void delete_offloaded_results_deletes_storage_of_offloaded_results_only() {
+        /* prepare */
+        ProductResult offloaded = createProductResult("a result which is big enough");
+        serviceToTest.offloadIfNecessary(offloaded);
+        ProductResult notOffloaded = createProductResult("small");
+
+        /* execute */
+        serviceToTest.deleteOffloadedResults(List.of(offloaded, notOffloaded));
+
+        /* test */
+        assertTrue(storages.get(offloaded.getResultStorageUUID()).deleted);
+        assertEquals(1, storages.size());
+    }
+
+    @Test
+    public void delete_offloaded_result_inside_transaction_deletes_storage_only_after_commit() {
+        /* prepare */
+        ProductResult offloaded = createProductResult("a result which is big enough");
+        serviceToTest.offloadIfNecessary(offloaded);
+        UUID storageUUID = offloaded.getResultStorageUUID();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            /* execute */
+            serviceToTest.deleteOffloadedResults(List.of(offloaded));
+            offloaded.clearResultStorage();
+
+            /* test */
+            assertFalse(storages.get(storageUUID).deleted);
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+            assertTrue(storages.get(storageUUID).deleted);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void delete_offloaded_result_inside_transaction_keeps_storage_on_rollback() {
+        /* prepare */
+        ProductResult offloaded = createProductResult("a result which is big enough");
+        serviceToTest.offloadIfNecessary(offloaded);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            /* execute */
+            serviceToTest.deleteOffloadedResult(offloaded);
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+
+            /* test */
+            assertFalse(storages.get(offloaded.getResultStorageUUID()).deleted);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private ProductResult createProductResult(String result) {
+        return new ProductResult(UUID.randomUUID(), PROJECT_ID, new WithoutProductExecutorConfigInfo(ProductIdentifier.PDS_CODESCAN), result);
+    }
+
+    private class TestJobStorage implements JobStorage {
+
+        private Map<String, byte[]> data = new TreeMap<>();
+        private boolean deleted;
+
+        @Override
+        public void store(String name, InputStream stream) throws IOException {
+            data.put(name, stream.readAllBytes());
+        }
+
+        @Override
+        public void store(String name, InputStream stream, long contentLengthInBytes) throws IOException {
+            store(name, stream);
+        }
+
+        @Override
+        public InputStream fetch(String name) throws IOException {
+            byte[] bytes = data.get(name);
+            if (bytes == null) {
+                throw new IOException("not existing: " + name);
+            }
+            return new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public void deleteAll() throws IOException {
+            data.clear();
+            deleted = true;
+        }
+
+        @Override
+        public boolean isExisting(String name) throws IOException {
+            return data.containsKey(name);
+        }
+
+        @Override
+        public Set<String> listNames() throws IOException {
+            return data.keySet();
+        }
+    }
+}
@@ -1,13 +1,24 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.scan.project;
 
+import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+import java.util.UUID;
+
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
 import com.mercedesbenz.sechub.domain.scan.ScanAssertService;
+import com.mercedesbenz.sechub.domain.scan.report.ScanReport;
+import com.mercedesbenz.sechub.domain.scan.report.ScanReportRepository;
+import com.mercedesbenz.sechub.domain.scan.report.ScanReportResultType;
+import com.mercedesbenz.sechub.sharedkernel.UserContextService;
 import com.mercedesbenz.sechub.sharedkernel.logging.AuditLogService;
 import com.mercedesbenz.sechub.sharedkernel.validation.UserInputAssertion;
 import com.mercedesbenz.sechub.sharedkernel.validation.ValidationResult;
@@ -15,38 +26,46 @@ import com.mercedesbenz.sechub.sharedkernel.validation.ValidationResult;
 public class FalsePositiveJobDataServiceTest {
 
     private static final String PROJECT_ID = "testprojectId";
+    private static final String REVISION_CONFIG_ID = ScanProjectConfigID.FALSE_POSITIVE_REVISION.getId();
+
     private FalsePositiveJobDataService serviceToTest;
     private FalsePositiveJobDataListValidation falsePositiveListValidation;
-    private ScanProjectConfigService configService;
+    private ScanFalsePositiveRepository falsePositiveRepository;
+    private ScanProjectConfigRepository configRepository;
+    private ScanReportRepository scanReportRepository;
+    private FalsePositiveJobDataConfigMerger merger;
     private ScanAssertService scanAssertService;
     private UserInputAssertion userInputAssertion;
-    private ScanProjectConfig config;
     private AuditLogService auditLogService;
+    private FalsePositiveProjectConfigurationCache configurationCache;
 
     @Before
     public void before() {
         serviceToTest = new FalsePositiveJobDataService();
 
         falsePositiveListValidation = mock(FalsePositiveJobDataListValidation.class);
-        configService = mock(ScanProjectConfigService.class);
+        falsePositiveRepository = mock(ScanFalsePositiveRepository.class);
+        configRepository = mock(ScanProjectConfigRepository.class);
+        scanReportRepository = mock(ScanReportRepository.class);
+        merger = mock(FalsePositiveJobDataConfigMerger.class);
         userInputAssertion = mock(UserInputAssertion.class);
         scanAssertService = mock(ScanAssertService.class);
         auditLogService = mock(AuditLogService.class);
+        configurationCache = mock(FalsePositiveProjectConfigurationCache.class);
 
         serviceToTest.falsePositiveJobDataListValidation = falsePositiveListValidation;
-        serviceToTest.configService = configService;
+        serviceToTest.falsePositiveRepository = falsePositiveRepository;
+        serviceToTest.configRepository = configRepository;
+        serviceToTest.scanReportRepository = scanReportRepository;
+        serviceToTest.merger = merger;
+        serviceToTest.userContextService = mock(UserContextService.class);
         serviceToTest.scanAssertService = scanAssertService;
         serviceToTest.userInputAssertion = userInputAssertion;
         serviceToTest.auditLogService = auditLogService;
+        serviceToTest.configurationCache = configurationCache;
 
         when(falsePositiveListValidation.validate(any(FalsePositiveJobDataList.class))).thenReturn(new ValidationResult());
-
-        /* we mock config service */
-        config = new ScanProjectConfig();
-        config.setData("{}");
-
-        when(configService.getOrCreate(eq(PROJECT_ID), eq(ScanProjectConfigID.FALSE_POSITIVE_CONFIGURATION), eq(Boolean.FALSE), any())).thenReturn(config);
-
+        when(configRepository.increaseVersion(PROJECT_ID, REVISION_CONFIG_ID)).thenReturn(1);
     }
 
     @Test
@@ -63,4 +82,229 @@ public class FalsePositiveJobDataServiceTest {
         verify(falsePositiveListValidation).validate(any(FalsePositiveJobDataList.class));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void add_stores_new_entry_and_increases_revision() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        ScanReport scanReport = new ScanReport(jobUUID, PROJECT_ID);
+        scanReport.setResultType(ScanReportResultType.MODEL);
+        scanReport.setResult("{}");
+        when(scanReportRepository.findBySecHubJobUUID(jobUUID)).thenReturn(scanReport);
+        doAnswer(invocation -> {
+            FalsePositiveProjectConfiguration config = invocation.getArgument(1);
+            config.getFalsePositives().add(createEntry(invocation.getArgument(2)));
+            return null;
+        }).when(merger).addJobDataWithMetaDataToConfig(any(), any(), any(), any());
+
+        /* execute */
+        serviceToTest.addFalsePositives(PROJECT_ID, createJobDataList(jobUUID, 1));
+
+        /* test */
+        ArgumentCaptor<List<ScanFalsePositive>> captor = ArgumentCaptor.forClass(List.class);
+        verify(falsePositiveRepository).saveAll(captor.capture());
+        List<ScanFalsePositive> saved = captor.getValue();
+        assertEquals(1, saved.size());
+        assertEquals(PROJECT_ID, saved.get(0).getKey().getProjectId());
+        assertEquals(jobUUID, saved.get(0).getKey().getJobUUID());
+        assertEquals(1, saved.get(0).getKey().getFindingId());
+
+        verify(configRepository).increaseVersion(PROJECT_ID, REVISION_CONFIG_ID);
+        verify(configurationCache).invalidate(PROJECT_ID);
+    }
+
+    @Test
+    public void add_existing_entry_does_not_store_and_keeps_revision() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        ScanFalsePositive existing = ScanFalsePositive.from(PROJECT_ID, createEntry(createJobData(jobUUID, 1)));
+        when(falsePositiveRepository.findAllById(any())).thenReturn(List.of(existing));
+
+        /* execute */
+        serviceToTest.addFalsePositives(PROJECT_ID, createJobDataList(jobUUID, 1));
+
+        /* test */
+        verify(scanReportRepository, never()).findBySecHubJobUUID(any());
+        verify(falsePositiveRepository, never()).saveAll(any());
+        verify(configRepository, never()).increaseVersion(any(), any());
+    }
+
+    @Test
+    public void remove_existing_entry_deletes_and_increases_revision() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        List<ScanFalsePositive> existing = List.of(ScanFalsePositive.from(PROJECT_ID, createEntry(createJobData(jobUUID, 1))));
+        when(falsePositiveRepository.findAllById(any())).thenReturn(existing);
+
+        /* execute */
+        serviceToTest.removeFalsePositive(PROJECT_ID, jobUUID, 1);
+
+        /* test */
+        verify(falsePositiveRepository).deleteAll(existing);
+        verify(configRepository).increaseVersion(PROJECT_ID, REVISION_CONFIG_ID);
+        verify(configurationCache).invalidate(PROJECT_ID);
+    }
+
+    @Test
+    public void remove_not_existing_entry_keeps_revision() {
+        /* execute */
+        serviceToTest.removeFalsePositive(PROJECT_ID, UUID.randomUUID(), 1);
+
+        /* test */
+        verify(falsePositiveRepository, never()).deleteAll(any());
+        verify(configRepository, never()).increaseVersion(any(), any());
+    }
+
+    @Test
+    public void revision_config_is_created_when_not_existing() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        when(falsePositiveRepository.findAllById(any())).thenReturn(List.of(ScanFalsePositive.from(PROJECT_ID, createEntry(createJobData(jobUUID, 1)))));
+        when(configRepository.increaseVersion(PROJECT_ID, REVISION_CONFIG_ID)).thenReturn(0);
+
+        /* execute */
+        serviceToTest.removeFalsePositive(PROJECT_ID, jobUUID, 1);
+
+        /* test */
+        ArgumentCaptor<ScanProjectConfig> captor = ArgumentCaptor.forClass(ScanProjectConfig.class);
+        verify(configRepository).save(captor.capture());
+        assertEquals(PROJECT_ID, captor.getValue().getKey().getProjectId());
+        assertEquals(REVISION_CONFIG_ID, captor.getValue().getKey().getConfigId());
+    }
+
+    @Test
+    public void fetch_returns_cached_configuration() {
+        /* prepare */
+        FalsePositiveProjectConfiguration cachedConfiguration = new FalsePositiveProjectConfiguration();
+        when(configurationCache.getConfiguration(PROJECT_ID)).thenReturn(cachedConfiguration);
+
+        /* execute */
+        FalsePositiveProjectConfiguration result = serviceToTest.fetchFalsePositivesProjectConfiguration(PROJECT_ID);
+
+        /* test */
+        assertSame(cachedConfiguration, result);
+        verify(scanAssertService).assertUserHasAccessToProject(PROJECT_ID);
+        verify(falsePositiveRepository, never()).findAllForProject(any());
+    }
+
+    @Test
+    public void fetch_returns_empty_configuration_when_nothing_configured() {
+        /* execute */
+        FalsePositiveProjectConfiguration result = serviceToTest.fetchFalsePositivesProjectConfiguration(PROJECT_ID);
+
+        /* test */
+        assertNotNull(result);
+        assertTrue(result.getFalsePositives().isEmpty());
+    }
+
+    @Test
+    public void fetch_page_limits_page_size_to_maximum() {
+        /* prepare */
+        serviceToTest.maximumPageSize = 10;
+        ScanFalsePositive falsePositive = ScanFalsePositive.from(PROJECT_ID, createEntry(createJobData(UUID.randomUUID(), 1)));
+        when(falsePositiveRepository.findPageForProject(eq(PROJECT_ID), any())).thenReturn(new PageImpl<>(List.of(falsePositive)));
+
+        /* execute */
+        FalsePositiveProjectConfiguration result = serviceToTest.fetchFalsePositivesProjectConfiguration(PROJECT_ID, 2, 100);
+
+        /* test */
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(falsePositiveRepository).findPageForProject(eq(PROJECT_ID), captor.capture());
+        assertEquals(2, captor.getValue().getPageNumber());
+        assertEquals(10, captor.getValue().getPageSize());
+        assertEquals(1, result.getFalsePositives().size());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void migrate_former_configuration_stores_entries_and_keeps_former_data_with_migrated_id() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        FalsePositiveProjectConfiguration formerConfiguration = new FalsePositiveProjectConfiguration();
+        formerConfiguration.getFalsePositives().add(createEntry(createJobData(jobUUID, 1)));
+        formerConfiguration.getFalsePositives().add(createEntry(createJobData(jobUUID, 2)));
+        String json = formerConfiguration.toJSON();
+
+        ScanProjectConfig formerConfig = new ScanProjectConfig(ScanProjectConfigID.FALSE_POSITIVE_CONFIGURATION, PROJECT_ID);
+        formerConfig.setData(json);
+        when(configRepository.findAllByConfigId(ScanProjectConfigID.FALSE_POSITIVE_CONFIGURATION.getId())).thenReturn(List.of(formerConfig));
+
+        /* execute */
+        int migrated = serviceToTest.migrateFormerFalsePositiveConfigurations();
+
+        /* test */
+        assertEquals(1, migrated);
+
+        ArgumentCaptor<List<ScanFalsePositive>> captor = ArgumentCaptor.forClass(List.class);
+        verify(falsePositiveRepository).saveAll(captor.capture());
+        List<ScanFalsePositive> saved = captor.getValue();
+        assertEquals(2, saved.size());
+        assertEquals(jobUUID, saved.get(0).getKey().getJobUUID());
+        assertEquals(1, saved.get(0).getKey().getFindingId());
+        assertEquals(2, saved.get(1).getKey().getFindingId());
+
+        ArgumentCaptor<ScanProjectConfig> configCaptor = ArgumentCaptor.forClass(ScanProjectConfig.class);
+        verify(configRepository).save(configCaptor.capture());
+        assertEquals(ScanProjectConfigID.FALSE_POSITIVE_CONFIGURATION_MIGRATED.getId(), configCaptor.getValue().getKey().getConfigId());
+        assertEquals(json, configCaptor.getValue().getData());
+        verify(configRepository).delete(formerConfig);
+
+        verify(configRepository).increaseVersion(PROJECT_ID, REVISION_CONFIG_ID);
+        verify(configurationCache).invalidate(PROJECT_ID);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void migrate_former_configuration_does_not_store_already_existing_entries() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        FalsePositiveProjectConfiguration formerConfiguration = new FalsePositiveProjectConfiguration();
+        formerConfiguration.getFalsePositives().add(createEntry(createJobData(jobUUID, 1)));
+
+        ScanProjectConfig formerConfig = new ScanProjectConfig(ScanProjectConfigID.FALSE_POSITIVE_CONFIGURATION, PROJECT_ID);
+        formerConfig.setData(formerConfiguration.toJSON());
+        when(configRepository.findAllByConfigId(ScanProjectConfigID.FALSE_POSITIVE_CONFIGURATION.getId())).thenReturn(List.of(formerConfig));
+        when(falsePositiveRepository.existsById(any())).thenReturn(true);
+
+        /* execute */
+        serviceToTest.migrateFormerFalsePositiveConfigurations();
+
+        /* test */
+        ArgumentCaptor<List<ScanFalsePositive>> captor = ArgumentCaptor.forClass(List.class);
+        verify(falsePositiveRepository).saveAll(captor.capture());
+        assertTrue(captor.getValue().isEmpty());
+        verify(configRepository).delete(formerConfig);
+    }
+
+    @Test
+    public void migrate_without_former_configurations_changes_nothing() {
+        /* execute */
+        int migrated = serviceToTest.migrateFormerFalsePositiveConfigurations();
+
+        /* test */
+        assertEquals(0, migrated);
+        verify(falsePositiveRepository, never()).saveAll(any());
+        verify(configRepository, never()).increaseVersion(any(), any());
+    }
+
+    private FalsePositiveJobDataList createJobDataList(UUID jobUUID, int findingId) {
+        FalsePositiveJobDataList list = new FalsePositiveJobDataList();
+        list.getJobData().add(createJobData(jobUUID, findingId));
+        return list;
+    }
+
+    private FalsePositiveJobData createJobData(UUID jobUUID, int findingId) {
+        FalsePositiveJobData jobData = new FalsePositiveJobData();
+        jobData.setJobUUID(jobUUID);
+        jobData.setFindingId(findingId);
+        return jobData;
+    }
+
+    private FalsePositiveEntry createEntry(FalsePositiveJobData jobData) {
+        FalsePositiveEntry entry = new FalsePositiveEntry();
+        entry.setJobData(jobData);
+        entry.setMetaData(new FalsePositiveMetaData());
+        return entry;
+    }
+
 }
@@ -0,0 +1,191 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.project;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class FalsePositiveProjectConfigurationCacheTest {
+
+    private static final String CONFIG_ID = ScanProjectConfigID.FALSE_POSITIVE_REVISION.getId();
+
+    private FalsePositiveProjectConfigurationCache cacheToTest;
+    private ScanProjectConfigRepository configRepository;
+    private ScanFalsePositiveRepository falsePositiveRepository;
+    private AtomicInteger compileCount;
+
+    @Before
+    public void before() throws Exception {
+        configRepository = mock(ScanProjectConfigRepository.class);
+        falsePositiveRepository = mock(ScanFalsePositiveRepository.class);
+        compileCount = new AtomicInteger();
+
+        cacheToTest = new FalsePositiveProjectConfigurationCache();
+        cacheToTest.configRepository = configRepository;
+        cacheToTest.falsePositiveRepository = falsePositiveRepository;
+    }
+
+    @Test
+    public void configuration_is_loaded_only_once_when_revision_unchanged() {
+        /* prepare */
+        storeConfiguration("project1", 1, 2);
+
+        /* execute */
+        FalsePositiveProjectConfiguration result1 = cacheToTest.getConfiguration("project1");
+        FalsePositiveProjectConfiguration result2 = cacheToTest.getConfiguration("project1");
+
+        /* test */
+        assertEquals(2, result1.getFalsePositives().size());
+        assertSame(result1, result2);
+        verify(falsePositiveRepository, times(1)).findAllForProject("project1");
+        verify(configRepository, times(2)).findVersion("project1", CONFIG_ID);
+    }
+
+    @Test
+    public void configuration_is_loaded_again_when_revision_changed() {
+        /* prepare */
+        storeConfiguration("project1", 1, 2);
+        cacheToTest.getConfiguration("project1");
+
+        storeConfiguration("project1", 2, 3); // changed by another cluster member
+
+        /* execute */
+        FalsePositiveProjectConfiguration result = cacheToTest.getConfiguration("project1");
+
+        /* test */
+        assertEquals(3, result.getFalsePositives().size());
+        verify(falsePositiveRepository, times(2)).findAllForProject("project1");
+    }
+
+    @Test
+    public void no_configuration_returns_null() {
+        /* execute */
+        FalsePositiveProjectConfiguration result = cacheToTest.getConfiguration("project1");
+
+        /* test */
+        assertNull(result);
+        assertEquals(0, cacheToTest.getCachedProjectCount());
+    }
+
+    @Test
+    public void entries_are_created_from_stored_false_positives() {
+        /* prepare */
+        storeConfiguration("project1", 1, 1);
+
+        /* execute */
+        FalsePositiveProjectConfiguration result = cacheToTest.getConfiguration("project1");
+
+        /* test */
+        FalsePositiveEntry entry = result.getFalsePositives().iterator().next();
+        assertEquals(0, entry.getJobData().getFindingId());
+        assertEquals("author0", entry.getAuthor());
+        assertEquals(Integer.valueOf(79), entry.getMetaData().getCweId());
+    }
+
+    @Test
+    public void compiled_data_is_created_only_once_per_revision() {
+        /* prepare */
+        storeConfiguration("project1", 1, 2);
+
+        /* execute */
+        Integer result1 = cacheToTest.getCompiled("project1", Integer.class, this::compile);
+        Integer result2 = cacheToTest.getCompiled("project1", Integer.class, this::compile);
+
+        storeConfiguration("project1", 2, 5);
+        Integer result3 = cacheToTest.getCompiled("project1", Integer.class, this::compile);
+
+        /* test */
+        assertEquals(Integer.valueOf(2), result1);
+        assertEquals(Integer.valueOf(2), result2);
+        assertEquals(Integer.valueOf(5), result3);
+        assertEquals(2, compileCount.get());
+    }
+
+    @Test
+    public void invalidate_removes_cached_configuration() {
+        /* prepare */
+        storeConfiguration("project1", 1, 2);
+        cacheToTest.getConfiguration("project1");
+
+        /* execute */
+        cacheToTest.invalidate("project1");
+
+        /* test */
+        assertEquals(0, cacheToTest.getCachedProjectCount());
+        cacheToTest.getConfiguration("project1");
+        verify(falsePositiveRepository, times(2)).findAllForProject("project1");
+    }
+
+    @Test
+    public void least_recently_used_project_is_removed_when_max_projects_exceeded() {
+        /* prepare */
+        cacheToTest.maxProjects = 2;
+        storeConfiguration("project1", 1, 1);
+        storeConfiguration("project2", 1, 1);
+        storeConfiguration("project3", 1, 1);
+
+        cacheToTest.getConfiguration("project1");
+        cacheToTest.getConfiguration("project2");
+        cacheToTest.getConfiguration("project1"); // project 1 used again
+
+        /* execute */
+        cacheToTest.getConfiguration("project3");
+
+        /* test */
+        assertEquals(2, cacheToTest.getCachedProjectCount());
+        cacheToTest.getConfiguration("project1");
+        verify(falsePositiveRepository, times(1)).findAllForProject("project1");
+        cacheToTest.getConfiguration("project2");
+        verify(falsePositiveRepository, times(2)).findAllForProject("project2");
+    }
+
+    @Test
+    public void disabled_cache_loads_configuration_always() {
+        /* prepare */
+        cacheToTest.enabled = false;
+        storeConfiguration("project1", 1, 2);
+
+        /* execute */
+        cacheToTest.getConfiguration("project1");
+        cacheToTest.getConfiguration("project1");
+
+        /* test */
+        verify(falsePositiveRepository, times(2)).findAllForProject("project1");
+        assertEquals(0, cacheToTest.getCachedProjectCount());
+    }
+
+    private Integer compile(FalsePositiveProjectConfiguration configuration) {
+        compileCount.incrementAndGet();
+        return configuration.getFalsePositives().size();
+    }
+
+    private void storeConfiguration(String projectId, int revision, int amountOfEntries) {
+        List<ScanFalsePositive> falsePositives = new ArrayList<>();
+        for (int i = 0; i < amountOfEntries; i++) {
+            FalsePositiveJobData jobData = new FalsePositiveJobData();
+            jobData.setJobUUID(UUID.randomUUID());
+            jobData.setFindingId(i);
+
+            FalsePositiveMetaData metaData = new FalsePositiveMetaData();
+            metaData.setCweId(79);
+
+            FalsePositiveEntry entry = new FalsePositiveEntry();
+            entry.setJobData(jobData);
+            entry.setMetaData(metaData);
+            entry.setAuthor("author" + i);
+            falsePositives.add(ScanFalsePositive.from(projectId, entry));
+        }
+
+        when(configRepository.findVersion(projectId, CONFIG_ID)).thenReturn(revision);
+        when(falsePositiveRepository.findAllForProject(projectId)).thenReturn(falsePositives);
+    }
+
+}
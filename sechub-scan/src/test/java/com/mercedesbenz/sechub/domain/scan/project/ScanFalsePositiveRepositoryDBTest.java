@@ -0,0 +1,133 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.project;
+
+import static org.junit.Assert.*;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.mercedesbenz.sechub.commons.model.ScanType;
+
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@ContextConfiguration(classes = { ScanFalsePositive.class, ScanFalsePositiveRepositoryDBTest.SimpleTestConfiguration.class })
+public class ScanFalsePositiveRepositoryDBTest {
+
+    @Autowired
+    private ScanFalsePositiveRepository repository;
+
+    @Test
+    public void stored_false_positive_can_be_loaded_as_entry() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        repository.save(createFalsePositive("project1", jobUUID, 1, 1000));
+
+        /* execute */
+        List<ScanFalsePositive> result = repository.findAllForProject("project1");
+
+        /* test */
+        assertEquals(1, result.size());
+        ScanFalsePositive falsePositive = result.get(0);
+        assertEquals(ScanType.CODE_SCAN, falsePositive.getScanType());
+        assertEquals(Integer.valueOf(79), falsePositive.getCweId());
+
+        FalsePositiveEntry entry = falsePositive.toEntry();
+        assertEquals(jobUUID, entry.getJobData().getJobUUID());
+        assertEquals(1, entry.getJobData().getFindingId());
+        assertEquals("comment1", entry.getJobData().getComment());
+        assertEquals("author1", entry.getAuthor());
+        assertEquals(new Date(1000), entry.getCreated());
+        assertEquals(Integer.valueOf(79), entry.getMetaData().getCweId());
+    }
+
+    @Test
+    public void find_all_for_project_returns_only_project_entries_ordered_by_creation() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        repository.save(createFalsePositive("project1", jobUUID, 1, 3000));
+        repository.save(createFalsePositive("project1", jobUUID, 2, 1000));
+        repository.save(createFalsePositive("project2", jobUUID, 3, 2000));
+
+        /* execute */
+        List<ScanFalsePositive> result = repository.findAllForProject("project1");
+
+        /* test */
+        assertEquals(2, result.size());
+        assertEquals(2, result.get(0).getKey().getFindingId());
+        assertEquals(1, result.get(1).getKey().getFindingId());
+    }
+
+    @Test
+    public void find_page_for_project_returns_wanted_page() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            repository.save(createFalsePositive("project1", jobUUID, i, 1000 * i));
+        }
+        repository.save(createFalsePositive("project2", jobUUID, 1, 1000));
+
+        /* execute */
+        Page<ScanFalsePositive> result = repository.findPageForProject("project1", PageRequest.of(1, 2, Sort.by(ScanFalsePositive.PROPERTY_CREATED)));
+
+        /* test */
+        assertEquals(5, result.getTotalElements());
+        assertEquals(2, result.getNumberOfElements());
+        assertEquals(2, result.getContent().get(0).getKey().getFindingId());
+        assertEquals(3, result.getContent().get(1).getKey().getFindingId());
+    }
+
+    @Test
+    public void delete_all_for_project1_does_only_delete_project1_parts() {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        repository.save(createFalsePositive("project1", jobUUID, 1, 1000));
+        repository.save(createFalsePositive("project1", jobUUID, 2, 1000));
+        ScanFalsePositive project2FalsePositive = repository.save(createFalsePositive("project2", jobUUID, 1, 1000));
+
+        /* execute */
+        repository.deleteAllFalsePositivesForProject("project1");
+
+        /* test */
+        assertEquals(1, repository.count());
+        assertTrue(repository.findById(project2FalsePositive.getKey()).isPresent());
+    }
+
+    private ScanFalsePositive createFalsePositive(String projectId, UUID jobUUID, int findingId, long created) {
+        FalsePositiveJobData jobData = new FalsePositiveJobData();
+        jobData.setJobUUID(jobUUID);
+        jobData.setFindingId(findingId);
+        jobData.setComment("comment" + findingId);
+
+        FalsePositiveMetaData metaData = new FalsePositiveMetaData();
+        metaData.setScanType(ScanType.CODE_SCAN);
+        metaData.setCweId(79);
+
+        FalsePositiveEntry entry = new FalsePositiveEntry();
+        entry.setJobData(jobData);
+        entry.setMetaData(metaData);
+        entry.setAuthor("author" + findingId);
+        entry.setCreated(new Date(created));
+
+        return ScanFalsePositive.from(projectId, entry);
+    }
+
+    @TestConfiguration
+    @EnableAutoConfiguration
+    public static class SimpleTestConfiguration {
+
+    }
+
+}
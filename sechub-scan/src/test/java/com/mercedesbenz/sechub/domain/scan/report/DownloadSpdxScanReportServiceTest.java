@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -50,6 +51,7 @@ class DownloadSpdxScanReportServiceTest {
         serviceToTest.productResultRepository = productResultRepository;
         serviceToTest.scanAssertService = scanAssertService;
         serviceToTest.spdxJsonResolver = spdxJsonResolver;
+        serviceToTest.renderCache = new ScanReportRenderCache();
     }
 
     @Test
@@ -115,4 +117,27 @@ class DownloadSpdxScanReportServiceTest {
         /* execute + test */
         assertThrows(NotFoundException.class, () -> serviceToTest.getScanSpdxJsonReport("project_1", sechubJobUUID));
     }
+
+    @Test
+    void service_resolves_spdx_json_only_once_for_same_sereco_productresult() {
+        /* prepare */
+        UUID sechubJobUUID = UUID.randomUUID();
+
+        ProductResult result = mock(ProductResult.class);
+        when(result.getSecHubJobUUID()).thenReturn(sechubJobUUID);
+        when(result.getUUID()).thenReturn(UUID.randomUUID());
+        List<ProductResult> results = new ArrayList<>();
+        results.add(result);
+
+        when(productResultRepository.findAllProductResults(eq(sechubJobUUID), eq(ProductIdentifier.SERECO))).thenReturn(results);
+        when(spdxJsonResolver.resolveSpdxJson(eq(result))).thenReturn("my result");
+
+        /* execute */
+        serviceToTest.getScanSpdxJsonReport("project_1", sechubJobUUID);
+        String spdxJson = serviceToTest.getScanSpdxJsonReport("project_1", sechubJobUUID);
+
+        /* test */
+        assertEquals("my result", spdxJson);
+        verify(spdxJsonResolver, times(1)).resolveSpdxJson(result);
+    }
 }
@@ -0,0 +1,191 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.mercedesbenz.sechub.commons.model.JSONConverter;
+import com.mercedesbenz.sechub.commons.model.JsonMapperFactory;
+import com.mercedesbenz.sechub.commons.model.SecHubFinding;
+import com.mercedesbenz.sechub.commons.model.Severity;
+
+class ReportFindingStoreTest {
+
+    private ReportFindingStore storeToTest;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        storeToTest = new ReportFindingStore();
+    }
+
+    @AfterEach
+    void afterEach() {
+        storeToTest.close();
+    }
+
+    @Test
+    void empty_store_has_no_findings() throws Exception {
+        /* execute */
+        List<SecHubFinding> result = storeToTest.readSortedFindings();
+
+        /* test */
+        assertEquals(0, storeToTest.getCount());
+        assertTrue(storeToTest.getContainedSeverities().isEmpty());
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void null_finding_is_ignored() throws Exception {
+        /* execute */
+        storeToTest.add(null);
+
+        /* test */
+        assertEquals(0, storeToTest.getCount());
+    }
+
+    @Test
+    void stored_findings_are_read_in_same_order_as_collections_sort_does() throws Exception {
+        /* prepare */
+        List<SecHubFinding> expected = createRandomFindings(2000);
+        for (SecHubFinding finding : expected) {
+            storeToTest.add(finding);
+        }
+        Collections.sort(expected);
+
+        /* execute */
+        List<SecHubFinding> result = storeToTest.readSortedFindings();
+
+        /* test */
+        assertEquals(2000, storeToTest.getCount());
+        assertEquals(toIds(expected), toIds(result));
+    }
+
+    @Test
+    void stored_findings_keep_their_content() throws Exception {
+        /* prepare */
+        SecHubFinding finding = createFinding(1, Severity.HIGH, 79, "CVE-2021-44228");
+        finding.setName("name1");
+        finding.setDescription("description with \"quotes\" and umlauts \u00e4\u00f6\u00fc");
+        storeToTest.add(finding);
+
+        /* execute */
+        List<SecHubFinding> result = storeToTest.readSortedFindings();
+
+        /* test */
+        assertEquals(1, result.size());
+        assertEquals(JSONConverter.get().toJSON(finding), JSONConverter.get().toJSON(result.get(0)));
+    }
+
+    @Test
+    void contained_severities_are_collected() throws Exception {
+        /* prepare */
+        storeToTest.add(createFinding(1, Severity.LOW, null, null));
+        storeToTest.add(createFinding(2, Severity.MEDIUM, null, null));
+        storeToTest.add(createFinding(3, Severity.LOW, null, null));
+        storeToTest.add(createFinding(4, null, null, null));
+
+        /* test */
+        assertEquals(EnumSet.of(Severity.LOW, Severity.MEDIUM), storeToTest.getContainedSeverities());
+    }
+
+    @Test
+    void write_sorted_findings_writes_json_array_elements_sorted() throws Exception {
+        /* prepare */
+        List<SecHubFinding> expected = createRandomFindings(100);
+        for (SecHubFinding finding : expected) {
+            storeToTest.add(finding);
+        }
+        Collections.sort(expected);
+
+        JsonMapper mapper = JsonMapperFactory.createMapper();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        /* execute */
+        try (JsonGenerator generator = mapper.createGenerator(outputStream)) {
+            generator.writeStartArray();
+            storeToTest.writeSortedFindings(generator);
+            generator.writeEndArray();
+        }
+
+        /* test */
+        List<SecHubFinding> result = JSONConverter.get().fromJSONtoListOf(SecHubFinding.class, outputStream.toString("UTF-8"));
+        assertEquals(toIds(expected), toIds(result));
+    }
+
+    @Test
+    void findings_can_be_read_multiple_times() throws Exception {
+        /* prepare */
+        storeToTest.add(createFinding(1, Severity.LOW, null, null));
+        storeToTest.add(createFinding(2, Severity.HIGH, null, null));
+
+        /* execute */
+        List<SecHubFinding> result1 = storeToTest.readSortedFindings();
+        List<SecHubFinding> result2 = storeToTest.readSortedFindings();
+
+        /* test */
+        assertEquals(List.of(2, 1), toIds(result1));
+        assertEquals(List.of(2, 1), toIds(result2));
+    }
+
+    @Test
+    void add_after_read_throws_illegal_state() throws Exception {
+        /* prepare */
+        storeToTest.readSortedFindings();
+
+        /* execute + test */
+        assertThrows(IllegalStateException.class, () -> storeToTest.add(createFinding(1, Severity.LOW, null, null)));
+    }
+
+    @Test
+    void read_after_close_throws_illegal_state() throws Exception {
+        /* prepare */
+        storeToTest.add(createFinding(1, Severity.LOW, null, null));
+        storeToTest.close();
+
+        /* execute + test */
+        assertThrows(IllegalStateException.class, () -> storeToTest.readSortedFindings());
+    }
+
+    private List<SecHubFinding> createRandomFindings(int amount) {
+        Random random = new Random(4711);
+        Severity[] severities = Severity.values();
+        List<SecHubFinding> findings = new ArrayList<>();
+        for (int i = 1; i <= amount; i++) {
+            /* few different values, so many findings are equal by sort keys and stable order is tested */
+            Severity severity = random.nextInt(10) == 0 ? null : severities[random.nextInt(severities.length)];
+            Integer cweId = random.nextInt(5) == 0 ? null : Integer.valueOf(random.nextInt(5));
+            String cveId = random.nextInt(3) == 0 ? null : "CVE-" + random.nextInt(4);
+            findings.add(createFinding(i, severity, cweId, cveId));
+        }
+        return findings;
+    }
+
+    private SecHubFinding createFinding(int id, Severity severity, Integer cweId, String cveId) {
+        SecHubFinding finding = new SecHubFinding();
+        finding.setId(id);
+        finding.setSeverity(severity);
+        finding.setCweId(cweId);
+        finding.setCveId(cveId);
+        return finding;
+    }
+
+    private List<Integer> toIds(List<SecHubFinding> findings) {
+        List<Integer> ids = new ArrayList<>();
+        for (SecHubFinding finding : findings) {
+            ids.add(finding.getId());
+        }
+        return ids;
+    }
+}
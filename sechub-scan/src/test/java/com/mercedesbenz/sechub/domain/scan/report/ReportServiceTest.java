@@ -5,16 +5,20 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.InOrder;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
 import com.mercedesbenz.sechub.commons.model.SecHubResult;
+import com.mercedesbenz.sechub.commons.model.Severity;
 import com.mercedesbenz.sechub.commons.model.TrafficLight;
 import com.mercedesbenz.sechub.commons.model.TrafficLightCalculator;
 import com.mercedesbenz.sechub.domain.scan.ReportTransformationResult;
@@ -36,6 +40,7 @@ public class ReportServiceTest {
     private SecHubConfiguration configuration;
     private ScanReportTransactionService scanReportTransactionService;
     private SecHubResult sechubResult;
+    private ScanReportCompressionSupport compressionSupport;
 
     @BeforeEach
     void before() throws Exception {
@@ -67,12 +72,15 @@ public class ReportServiceTest {
         when(secHubResultService.createResult(context)).thenReturn(reportTransformationResult);
 
         trafficLightCalculator = mock(TrafficLightCalculator.class);
+        compressionSupport = mock(ScanReportCompressionSupport.class);
 
         serviceToTest.reportProductExecutionService = reportProductExecutionService;
         serviceToTest.reportTransformerService = secHubResultService;
         serviceToTest.trafficLightCalculator = trafficLightCalculator;
         serviceToTest.reportRepository = reportRepository;
         serviceToTest.scanReportTransactionService = scanReportTransactionService;
+        serviceToTest.compressionSupport = compressionSupport;
+        serviceToTest.renderCache = mock(ScanReportRenderCache.class);
 
     }
 
@@ -179,4 +187,106 @@ public class ReportServiceTest {
         verify(trafficLightCalculator).calculateTrafficLight(sechubResult);
     }
 
+    @Test
+    void createReport_stores_report_compressed_after_traffic_light_was_set_when_compression_enabled() throws Exception {
+        /* prepare */
+        serviceToTest.compressedReportStorageEnabled = true;
+        when(trafficLightCalculator.calculateTrafficLight(sechubResult)).thenReturn(TrafficLight.RED);
+        when(reportTransformationResult.isAtLeastOneRealProductResultContained()).thenReturn(true);
+        doAnswer(invocation -> {
+            ScanReport report = invocation.getArgument(0);
+            assertEquals(TrafficLight.RED.name(), report.getTrafficLightAsString());
+            return null;
+        }).when(compressionSupport).storeCompressed(any(ScanReport.class), eq(reportTransformationResult));
+
+        /* execute */
+        ScanReport report = serviceToTest.createReport(context);
+
+        /* test */
+        verify(compressionSupport).storeCompressed(report, reportTransformationResult);
+    }
+
+    @Test
+    void createReport_stores_report_as_model_by_default() throws Exception {
+        /* execute */
+        ScanReport report = serviceToTest.createReport(context);
+
+        /* test */
+        verify(compressionSupport, never()).storeCompressed(any(), any());
+        assertEquals(ScanReportResultType.MODEL, report.getResultType());
+    }
+
+    @Test
+    void createReport_stores_report_as_model_when_compression_disabled() throws Exception {
+        /* prepare */
+        serviceToTest.compressedReportStorageEnabled = false;
+
+        /* execute */
+        ScanReport report = serviceToTest.createReport(context);
+
+        /* test */
+        verify(compressionSupport, never()).storeCompressed(any(), any());
+        assertEquals(ScanReportResultType.MODEL, report.getResultType());
+    }
+
+    @Test
+    void createReport_calculates_trafficlight_by_severities_of_finding_store_when_result_has_finding_store() throws Exception {
+        /* prepare */
+        ReportFindingStore findingStore = mock(ReportFindingStore.class);
+        Set<Severity> severities = EnumSet.of(Severity.MEDIUM);
+        when(findingStore.getContainedSeverities()).thenReturn(severities);
+        when(reportTransformationResult.getFindingStore()).thenReturn(findingStore);
+        when(reportTransformationResult.isAtLeastOneRealProductResultContained()).thenReturn(true);
+        when(trafficLightCalculator.calculateTrafficLightForSeverities(severities)).thenReturn(TrafficLight.YELLOW);
+
+        /* execute */
+        ScanReport report = serviceToTest.createReport(context);
+
+        /* test */
+        assertEquals(TrafficLight.YELLOW.name(), report.getTrafficLightAsString());
+        verify(trafficLightCalculator, never()).calculateTrafficLight(any());
+    }
+
+    @Test
+    void createReport_closes_finding_store_after_compressed_storage() throws Exception {
+        /* prepare */
+        serviceToTest.compressedReportStorageEnabled = true;
+
+        /* execute */
+        serviceToTest.createReport(context);
+
+        /* test */
+        InOrder inOrder = inOrder(compressionSupport, reportTransformationResult);
+        inOrder.verify(compressionSupport).storeCompressed(any(ScanReport.class), eq(reportTransformationResult));
+        inOrder.verify(reportTransformationResult).closeFindingStore();
+    }
+
+    @Test
+    void createReport_closes_finding_store_when_storage_fails() throws Exception {
+        /* prepare */
+        serviceToTest.compressedReportStorageEnabled = true;
+        doThrow(new IllegalStateException("test")).when(compressionSupport).storeCompressed(any(ScanReport.class), eq(reportTransformationResult));
+
+        /* execute */
+        assertThrows(ScanReportException.class, () -> serviceToTest.createReport(context));
+
+        /* test */
+        verify(reportTransformationResult).closeFindingStore();
+    }
+
+    @Test
+    void createReport_loads_stored_findings_before_json_is_created_when_compression_disabled() throws Exception {
+        /* prepare */
+        serviceToTest.compressedReportStorageEnabled = false;
+
+        /* execute */
+        serviceToTest.createReport(context);
+
+        /* test */
+        InOrder inOrder = inOrder(reportTransformationResult);
+        inOrder.verify(reportTransformationResult).loadStoredFindings();
+        inOrder.verify(reportTransformationResult).toJSON();
+        inOrder.verify(reportTransformationResult).closeFindingStore();
+    }
+
 }
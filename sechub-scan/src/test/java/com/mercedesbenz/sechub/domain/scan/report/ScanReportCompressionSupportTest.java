@@ -0,0 +1,166 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mercedesbenz.sechub.commons.model.SecHubFinding;
+import com.mercedesbenz.sechub.commons.model.SecHubMessage;
+import com.mercedesbenz.sechub.commons.model.SecHubMessageType;
+import com.mercedesbenz.sechub.commons.model.SecHubReportModel;
+import com.mercedesbenz.sechub.commons.model.SecHubStatus;
+import com.mercedesbenz.sechub.commons.model.Severity;
+import com.mercedesbenz.sechub.commons.model.TrafficLight;
+import com.mercedesbenz.sechub.domain.scan.ReportTransformationResult;
+
+class ScanReportCompressionSupportTest {
+
+    private ScanReportCompressionSupport supportToTest;
+    private ScanReport report;
+    private SecHubReportModel model;
+
+    @BeforeEach
+    void beforeEach() {
+        supportToTest = new ScanReportCompressionSupport();
+
+        report = new ScanReport(UUID.randomUUID(), "project1");
+        report.setTrafficLight(TrafficLight.RED);
+
+        model = new SecHubReportModel();
+        model.setStatus(SecHubStatus.SUCCESS);
+        model.getMessages().add(new SecHubMessage(SecHubMessageType.INFO, "info1"));
+        for (int i = 0; i < 100; i++) {
+            SecHubFinding finding = new SecHubFinding();
+            finding.setId(i);
+            finding.setName("finding-" + i);
+            finding.setDescription("A description which is repeated for every finding and can be compressed very well");
+            model.getResult().getFindings().add(finding);
+        }
+    }
+
+    @Test
+    void store_compressed_sets_result_type_and_data() {
+        /* execute */
+        supportToTest.storeCompressed(report, model);
+
+        /* test */
+        assertEquals(ScanReportResultType.COMPRESSED_MODEL, report.getResultType());
+        assertNotNull(report.getResultData());
+        assertTrue(report.getResultData().length < model.toJSON().length());
+    }
+
+    @Test
+    void store_compressed_result_contains_header_without_findings() {
+        /* execute */
+        supportToTest.storeCompressed(report, model);
+
+        /* test */
+        SecHubReportModel header = SecHubReportModel.fromJSONString(report.getResult());
+        assertEquals(report.getSecHubJobUUID(), header.getJobUUID());
+        assertEquals(SecHubStatus.SUCCESS, header.getStatus());
+        assertEquals(TrafficLight.RED, header.getTrafficLight());
+        assertEquals(100, header.getResult().getCount());
+        assertTrue(header.getResult().getFindings().isEmpty());
+        assertEquals(1, header.getMessages().size());
+        assertFalse(report.getResult().contains("finding-"));
+    }
+
+    @Test
+    void open_report_json_returns_complete_report_json() throws Exception {
+        /* prepare */
+        supportToTest.storeCompressed(report, model);
+
+        /* execute */
+        String json;
+        try (InputStream inputStream = supportToTest.openReportJSON(report)) {
+            json = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        /* test */
+        String expectedJson = new ScanSecHubReport(report).toJSON();
+        assertEquals(SecHubReportModel.fromJSONString(expectedJson).toJSON(), SecHubReportModel.fromJSONString(json).toJSON());
+        assertTrue(json.contains("finding-99"));
+    }
+
+    @Test
+    void read_model_returns_complete_model() {
+        /* prepare */
+        supportToTest.storeCompressed(report, model);
+
+        /* execute */
+        SecHubReportModel result = supportToTest.readModel(report);
+
+        /* test */
+        assertEquals(report.getSecHubJobUUID(), result.getJobUUID());
+        assertEquals(TrafficLight.RED, result.getTrafficLight());
+        assertEquals(100, result.getResult().getCount());
+        assertEquals(100, result.getResult().getFindings().size());
+    }
+
+    @Test
+    void store_compressed_with_finding_store_writes_sorted_stored_findings_same_as_list() throws Exception {
+        /* prepare */
+        ReportTransformationResult transformationResult = new ReportTransformationResult();
+        transformationResult.setStatus(SecHubStatus.SUCCESS);
+        transformationResult.getMessages().addAll(model.getMessages());
+
+        List<SecHubFinding> findings = model.getResult().getFindings();
+        Severity[] severities = Severity.values();
+        for (SecHubFinding finding : findings) {
+            finding.setSeverity(severities[finding.getId() % severities.length]);
+        }
+        try (ReportFindingStore findingStore = new ReportFindingStore()) {
+            for (SecHubFinding finding : findings) {
+                findingStore.add(finding);
+            }
+            transformationResult.setFindingStore(findingStore);
+            /* expected is the model with sorted findings inside the list, stored the same way */
+            Collections.sort(findings);
+            ScanReport expectedReport = new ScanReport(report.getSecHubJobUUID(), "project1");
+            expectedReport.setTrafficLight(TrafficLight.RED);
+            supportToTest.storeCompressed(expectedReport, model);
+
+            /* execute */
+            supportToTest.storeCompressed(report, transformationResult);
+        }
+
+        /* test */
+        SecHubReportModel header = SecHubReportModel.fromJSONString(report.getResult());
+        assertEquals(100, header.getResult().getCount());
+        assertTrue(header.getResult().getFindings().isEmpty());
+
+        SecHubReportModel result = supportToTest.readModel(report);
+        assertEquals(100, result.getResult().getCount());
+        assertEquals(model.toJSON(), result.toJSON());
+    }
+
+    @Test
+    void open_report_json_without_result_data_throws_io_exception() {
+        /* prepare */
+        report.setResultType(ScanReportResultType.COMPRESSED_MODEL);
+
+        /* execute + test */
+        assertThrows(IOException.class, () -> supportToTest.openReportJSON(report));
+    }
+
+    @Test
+    void read_model_with_corrupt_data_throws_unchecked_io_exception() {
+        /* prepare */
+        report.setResultType(ScanReportResultType.COMPRESSED_MODEL);
+        report.setResultData(new byte[] { 1, 2, 3 });
+
+        /* execute + test */
+        assertThrows(UncheckedIOException.class, () -> supportToTest.readModel(report));
+    }
+
+}
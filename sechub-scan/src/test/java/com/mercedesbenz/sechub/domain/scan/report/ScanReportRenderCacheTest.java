@@ -0,0 +1,246 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.scan.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ScanReportRenderCacheTest {
+
+    private ScanReportRenderCache cacheToTest;
+    private AtomicInteger renderCount;
+
+    @TempDir
+    File tempDir;
+
+    @BeforeEach
+    void beforeEach() {
+        cacheToTest = new ScanReportRenderCache();
+        renderCount = new AtomicInteger();
+    }
+
+    @Test
+    void report_is_rendered_only_once() {
+        /* prepare */
+        ScanReport report = createReport("project1", LocalDateTime.now());
+
+        /* execute */
+        String result1 = cacheToTest.getOrRender(report, ScanReportRenderFormat.HTML, renderer("html"));
+        String result2 = cacheToTest.getOrRender(report, ScanReportRenderFormat.HTML, renderer("html"));
+
+        /* test */
+        assertEquals("html", result1);
+        assertEquals("html", result2);
+        assertEquals(1, renderCount.get());
+        assertEquals(1, cacheToTest.getHeapHits());
+        assertEquals(1, cacheToTest.getMisses());
+        assertEquals(0.5, cacheToTest.getHitRatio());
+    }
+
+    @Test
+    void formats_are_cached_separately() {
+        /* prepare */
+        ScanReport report = createReport("project1", LocalDateTime.now());
+
+        /* execute */
+        cacheToTest.getOrRender(report, ScanReportRenderFormat.HTML, renderer("html"));
+        String result = cacheToTest.getOrRender(report, ScanReportRenderFormat.SPDX_JSON, renderer("spdx"));
+
+        /* test */
+        assertEquals("spdx", result);
+        assertEquals(2, renderCount.get());
+    }
+
+    @Test
+    void recreated_report_for_same_job_is_rendered_again() {
+        /* prepare */
+        ScanReport report = createReport("project1", LocalDateTime.now());
+        cacheToTest.getOrRender(report, ScanReportRenderFormat.HTML, renderer("html1"));
+
+        ScanReport recreatedReport = new ScanReport(report.getSecHubJobUUID(), "project1");
+        recreatedReport.uUID = UUID.randomUUID();
+
+        /* execute */
+        String result = cacheToTest.getOrRender(recreatedReport, ScanReportRenderFormat.HTML, renderer("html2"));
+
+        /* test */
+        assertEquals("html2", result);
+        assertEquals(2, renderCount.get());
+    }
+
+    @Test
+    void invalidate_job_removes_cached_rendering() {
+        /* prepare */
+        ScanReport report = createReport("project1", LocalDateTime.now());
+        cacheToTest.getOrRender(report, ScanReportRenderFormat.HTML, renderer("html"));
+
+        /* execute */
+        cacheToTest.invalidate(report.getSecHubJobUUID());
+
+        /* test */
+        assertEquals(0, cacheToTest.getHeapBytes());
+        cacheToTest.getOrRender(report, ScanReportRenderFormat.HTML, renderer("html"));
+        assertEquals(2, renderCount.get());
+    }
+
+    @Test
+    void invalidate_project_removes_only_renderings_of_project() {
+        /* prepare */
+        ScanReport report1 = createReport("project1", LocalDateTime.now());
+        ScanReport report2 = createReport("project2", LocalDateTime.now());
+        cacheToTest.getOrRender(report1, ScanReportRenderFormat.HTML, renderer("html1"));
+        cacheToTest.getOrRender(report2, ScanReportRenderFormat.HTML, renderer("html2"));
+
+        /* execute */
+        cacheToTest.invalidateProject("project1");
+
+        /* test */
+        cacheToTest.getOrRender(report1, ScanReportRenderFormat.HTML, renderer("html1"));
+        cacheToTest.getOrRender(report2, ScanReportRenderFormat.HTML, renderer("html2"));
+        assertEquals(3, renderCount.get());
+    }
+
+    @Test
+    void invalidate_started_before_removes_only_older_renderings() {
+        /* prepare */
+        LocalDateTime now = LocalDateTime.now();
+        ScanReport oldReport = createReport("project1", now.minusDays(10));
+        ScanReport newReport = createReport("project1", now);
+        cacheToTest.getOrRender(oldReport, ScanReportRenderFormat.HTML, renderer("old"));
+        cacheToTest.getOrRender(newReport, ScanReportRenderFormat.HTML, renderer("new"));
+
+        /* execute */
+        cacheToTest.invalidateStartedBefore(now.minusDays(5));
+
+        /* test */
+        cacheToTest.getOrRender(oldReport, ScanReportRenderFormat.HTML, renderer("old"));
+        cacheToTest.getOrRender(newReport, ScanReportRenderFormat.HTML, renderer("new"));
+        assertEquals(3, renderCount.get());
+    }
+
+    @Test
+    void least_recently_used_rendering_is_removed_when_heap_size_exceeded() {
+        /* prepare - every rendering needs 20 bytes, so only two fit */
+        cacheToTest.heapMaxBytes = 50;
+
+        ScanReport report1 = createReport("project1", LocalDateTime.now());
+        ScanReport report2 = createReport("project1", LocalDateTime.now());
+        ScanReport report3 = createReport("project1", LocalDateTime.now());
+        cacheToTest.getOrRender(report1, ScanReportRenderFormat.HTML, renderer("0123456789"));
+        cacheToTest.getOrRender(report2, ScanReportRenderFormat.HTML, renderer("0123456789"));
+        cacheToTest.getOrRender(report1, ScanReportRenderFormat.HTML, renderer("0123456789")); // report 1 used again
+
+        /* execute */
+        cacheToTest.getOrRender(report3, ScanReportRenderFormat.HTML, renderer("0123456789"));
+
+        /* test */
+        assertEquals(40, cacheToTest.getHeapBytes());
+        cacheToTest.getOrRender(report1, ScanReportRenderFormat.HTML, renderer("0123456789"));
+        assertEquals(3, renderCount.get());
+        cacheToTest.getOrRender(report2, ScanReportRenderFormat.HTML, renderer("0123456789"));
+        assertEquals(4, renderCount.get());
+    }
+
+    @Test
+    void rendering_removed_from_heap_is_read_from_disk_tier() throws Exception {
+        /* prepare */
+        cacheToTest.heapMaxBytes = 30;
+        cacheToTest.diskDirectory = tempDir.getAbsolutePath();
+        cacheToTest.postConstruct();
+
+        ScanReport report1 = createReport("project1", LocalDateTime.now());
+        ScanReport report2 = createReport("project1", LocalDateTime.now());
+        cacheToTest.getOrRender(report1, ScanReportRenderFormat.HTML, renderer("report-1"));
+        cacheToTest.getOrRender(report2, ScanReportRenderFormat.HTML, renderer("report-2"));
+
+        /* check preconditions */
+        assertEquals(8, cacheToTest.getDiskBytes());
+        assertEquals(1, countCacheFiles());
+
+        /* execute */
+        String result = cacheToTest.getOrRender(report1, ScanReportRenderFormat.HTML, renderer("report-1"));
+
+        /* test */
+        assertEquals("report-1", result);
+        assertEquals(2, renderCount.get());
+        assertEquals(1, cacheToTest.getDiskHits());
+        assertEquals(1, countCacheFiles()); // report 2 now on disk
+    }
+
+    @Test
+    void invalidate_job_deletes_disk_tier_file() throws Exception {
+        /* prepare */
+        cacheToTest.heapMaxBytes = 10;
+        cacheToTest.diskDirectory = tempDir.getAbsolutePath();
+        cacheToTest.postConstruct();
+
+        ScanReport report = createReport("project1", LocalDateTime.now());
+        cacheToTest.getOrRender(report, ScanReportRenderFormat.HTML, renderer("bigger-than-heap"));
+        assertEquals(1, countCacheFiles());
+
+        /* execute */
+        cacheToTest.invalidate(report.getSecHubJobUUID());
+
+        /* test */
+        assertEquals(0, countCacheFiles());
+        assertEquals(0, cacheToTest.getDiskBytes());
+    }
+
+    @Test
+    void disabled_cache_renders_always() {
+        /* prepare */
+        cacheToTest.enabled = false;
+        ScanReport report = createReport("project1", LocalDateTime.now());
+
+        /* execute */
+        cacheToTest.getOrRender(report, ScanReportRenderFormat.HTML, renderer("html"));
+        cacheToTest.getOrRender(report, ScanReportRenderFormat.HTML, renderer("html"));
+
+        /* test */
+        assertEquals(2, renderCount.get());
+        assertEquals(0, cacheToTest.getHeapBytes());
+    }
+
+    @Test
+    void null_rendering_is_not_cached() {
+        /* prepare */
+        ScanReport report = createReport("project1", LocalDateTime.now());
+
+        /* execute */
+        cacheToTest.getOrRender(report, ScanReportRenderFormat.SPDX_JSON, renderer(null));
+        String result = cacheToTest.getOrRender(report, ScanReportRenderFormat.SPDX_JSON, renderer(null));
+
+        /* test */
+        assertNull(result);
+        assertEquals(2, renderCount.get());
+    }
+
+    private Supplier<String> renderer(String result) {
+        return () -> {
+            renderCount.incrementAndGet();
+            return result;
+        };
+    }
+
+    private ScanReport createReport(String projectId, LocalDateTime started) {
+        ScanReport report = new ScanReport(UUID.randomUUID(), projectId);
+        report.uUID = UUID.randomUUID();
+        report.setStarted(started);
+        return report;
+    }
+
+    private long countCacheFiles() throws Exception {
+        try (var stream = Files.list(tempDir.toPath())) {
+            return stream.count();
+        }
+    }
+}
@@ -19,6 +19,10 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import com.mercedesbenz.sechub.commons.model.SecHubFinding;
+import com.mercedesbenz.sechub.commons.model.SecHubReportModel;
+import com.mercedesbenz.sechub.commons.model.TrafficLight;
+
 @RunWith(SpringRunner.class)
 @DataJpaTest
 @ContextConfiguration(classes = { ScanReportRepository.class, ScanReportRepositoryDBTest.SimpleTestConfiguration.class })
@@ -177,6 +181,37 @@ public class ScanReportRepositoryDBTest {
         assertNotNull(repositoryToTest.findById(job2_project2));
     }
 
+    @Test
+    public void compressed_scan_report_can_be_stored_and_read_again() throws Exception {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        ScanReport report = new ScanReport(jobUUID, "project1");
+        report.setTrafficLight(TrafficLight.GREEN);
+
+        SecHubReportModel model = new SecHubReportModel();
+        for (int i = 0; i < 500; i++) {
+            SecHubFinding finding = new SecHubFinding();
+            finding.setId(i);
+            finding.setName("finding-" + i);
+            model.getResult().getFindings().add(finding);
+        }
+        new ScanReportCompressionSupport().storeCompressed(report, model);
+
+        /* execute */
+        repositoryToTest.save(report);
+        entityManager.flush();
+        entityManager.clear();
+
+        /* test */
+        ScanReport found = repositoryToTest.findBySecHubJobUUID(jobUUID);
+        assertEquals(ScanReportResultType.COMPRESSED_MODEL, found.getResultType());
+        assertArrayEquals(report.getResultData(), found.getResultData());
+
+        ScanSecHubReport scanSecHubReport = new ScanSecHubReport(found);
+        assertEquals(500, scanSecHubReport.getResult().getFindings().size());
+        assertEquals(TrafficLight.GREEN, scanSecHubReport.getTrafficLight());
+    }
+
     private void assertDeleted(int expected, int deleted, DeleteScanReportTestData testData, LocalDateTime olderThan) {
         if (deleted == expected) {
             return;
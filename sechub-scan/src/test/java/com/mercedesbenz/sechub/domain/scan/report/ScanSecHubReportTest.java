@@ -182,6 +182,47 @@ class ScanSecHubReportTest {
         assertEquals("42.0", createdReport.getReportVersion());
     }
 
+    @Test
+    void report_by_compressed_model_contains_findings_and_report_traffic_light() {
+
+        /* prepare */
+        SecHubReportModel model = new SecHubReportModel();
+        model.setReportVersion("1.0");
+        SecHubFinding finding = new SecHubFinding();
+        finding.setName("finding1");
+        model.getResult().getFindings().add(finding);
+
+        ScanReport report = new ScanReport(UUID.randomUUID(), "project1");
+        report.setTrafficLight(TrafficLight.YELLOW);
+        new ScanReportCompressionSupport().storeCompressed(report, model);
+
+        /* execute */
+        ScanSecHubReport createdReport = new ScanSecHubReport(report);
+
+        /* test */
+        assertEquals(report.getSecHubJobUUID(), createdReport.getJobUUID());
+        assertEquals(TrafficLight.YELLOW, createdReport.getTrafficLight());
+        assertEquals("1.0", createdReport.getReportVersion());
+        assertEquals(1, createdReport.getResult().getCount());
+        assertEquals("finding1", createdReport.getResult().getFindings().iterator().next().getName());
+    }
+
+    @Test
+    void report_by_compressed_model_with_corrupt_data_is_marked_as_failed() {
+
+        /* prepare */
+        ScanReport report = new ScanReport(UUID.randomUUID(), "project1");
+        report.setResultType(ScanReportResultType.COMPRESSED_MODEL);
+        report.setResultData(new byte[] { 1, 2, 3 });
+
+        /* execute */
+        ScanSecHubReport createdReport = new ScanSecHubReport(report);
+
+        /* test */
+        assertEquals(SecHubStatus.FAILED, createdReport.getStatus());
+        assertEquals(report.getSecHubJobUUID(), createdReport.getJobUUID());
+    }
+
     @Test
     void scanreport_result_by_reesult_does_NOT_set_version() {
 
@@ -2,7 +2,9 @@
 package com.mercedesbenz.sechub.domain.schedule;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -76,6 +78,40 @@ public class ScheduleJobMarkerService {
         return jobRepository.save(secHubJob);
     }
 
+    /**
+     * Claims and marks next jobs to execute. Jobs being claimed at the same time by
+     * other cluster members are skipped, so there are no optimistic locking
+     * collisions.
+     *
+     * @param maximum maximum amount of jobs to mark
+     * @return list of marked jobs, never <code>null</code>
+     */
+    @Transactional
+    public List<ScheduleSecHubJob> markNextJobsToExecuteByThisInstance(int maximum) {
+
+        schedulerStrategy = schedulerStrategyFactory.build();
+
+        if (LOG.isTraceEnabled()) {
+            /* NOSONAR */LOG.trace("Trigger execution of next {} jobs started", maximum);
+        }
+
+        List<UUID> jobIds = schedulerStrategy.claimNextJobIds(maximum);
+        List<ScheduleSecHubJob> result = new ArrayList<>(jobIds.size());
+
+        LocalDateTime started = LocalDateTime.now();
+        for (UUID jobId : jobIds) {
+            Optional<ScheduleSecHubJob> secHubJobOptional = jobRepository.findById(jobId);
+            if (!secHubJobOptional.isPresent()) {
+                continue;
+            }
+            ScheduleSecHubJob secHubJob = secHubJobOptional.get();
+            secHubJob.setExecutionState(ExecutionState.STARTED);
+            secHubJob.setStarted(started);
+            result.add(jobRepository.save(secHubJob));
+        }
+        return result;
+    }
+
     @Transactional
     public void markJobExecutionFailed(ScheduleSecHubJob secHubJob) {
         if (secHubJob == null) {
@@ -30,6 +30,9 @@ public class SchedulerApproveJobService {
     @Autowired
     UserInputAssertion assertion;
 
+    @Autowired
+    SchedulerJobDispatchSignal dispatchSignal;
+
     @UseCaseUserApprovesJob(@Step(number = 2, name = "Try to find job annd update execution state", description = "When job is found and user has access job will be marked as ready for execution"))
     public void approveJob(String projectId, UUID jobUUID) {
         assertion.assertIsValidProjectId(projectId);
@@ -47,6 +50,8 @@ public class SchedulerApproveJobService {
         jobRepository.save(secHubJob);
 
         LOG.info("job {} now approved", jobUUID);
+
+        dispatchSignal.signal();
     }
 
 }
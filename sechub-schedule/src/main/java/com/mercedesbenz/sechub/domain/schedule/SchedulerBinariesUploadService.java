@@ -6,7 +6,6 @@ import static com.mercedesbenz.sechub.commons.core.CommonConstants.*;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
-import java.security.MessageDigest;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.UUID;
@@ -21,8 +20,6 @@ import org.apache.commons.fileupload.FileUploadBase.SizeLimitExceededException;
 import org.apache.commons.fileupload.FileUploadException;
 import org.apache.commons.fileupload.servlet.ServletFileUpload;
 import org.apache.commons.fileupload.util.Streams;
-import org.apache.commons.io.input.CountingInputStream;
-import org.apache.commons.io.input.MessageDigestCalculatingInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -199,15 +196,24 @@ public class SchedulerBinariesUploadService {
             case PARAMETER_FILE:
                 try (InputStream fileInputstream = item.openStream()) {
 
-                    MessageDigest digest = checkSumSupport.createSha256MessageDigest();
-
-                    MessageDigestCalculatingInputStream messageDigestInputStream = new MessageDigestCalculatingInputStream(fileInputstream, digest);
-                    CountingInputStream byteCountingInputStream = new CountingInputStream(messageDigestInputStream);
-
-                    jobStorage.store(FILENAME_BINARIES_TAR, byteCountingInputStream, binaryFileSizeFromUser);
+                    /*
+                     * checksum and size are validated while the storage reads the data - when
+                     * the checksum was already sent by the user (normally the case) a wrong
+                     * checksum will abort the storage write
+                     */
+                    ValidatingUploadInputStream validatingInputStream = new ValidatingUploadInputStream(fileInputstream, checkSumSupport,
+                            binaryFileSizeFromUser, checksumFromUser);
+                    try {
+                        jobStorage.store(FILENAME_BINARIES_TAR, validatingInputStream, binaryFileSizeFromUser);
+                        validatingInputStream.validateRemaining();
+                    } catch (IOException e) {
+                        if (!validatingInputStream.isChecksumInvalid() && !validatingInputStream.isSizeInvalid()) {
+                            throw e;
+                        }
+                    }
                     LOG.info("uploaded binaries for {}", jobUUID);
 
-                    realContentLengthInBytes = byteCountingInputStream.getByteCount();
+                    realContentLengthInBytes = validatingInputStream.getByteCount();
 
                     // We send here the event that the upload has been done, even
                     // when the following checksum validation would fail. Reason: we want to measure
@@ -215,12 +221,19 @@ public class SchedulerBinariesUploadService {
                     // even when somebody does always define the wrong checksum again and again...
                     sendBinaryUploadDoneEvent(projectId, jobUUID, realContentLengthInBytes);
 
+                    if (validatingInputStream.isSizeInvalid()) {
+                        throw new BadRequestException("The real file size was not equal to the user provided file size length.");
+                    }
+                    if (validatingInputStream.isChecksumInvalid()) {
+                        assertCheckSumCorrect(checksumFromUser, validatingInputStream.getCalculatedChecksum());
+                    }
+
                     /* upload file size information to storage */
                     String fileSizeAsString = "" + realContentLengthInBytes;
                     long fileSizeAsStringSizeInBytes = fileSizeAsString.getBytes().length;
                     jobStorage.store(FILENAME_BINARIES_TAR_FILESIZE, new StringInputStream(fileSizeAsString), fileSizeAsStringSizeInBytes);
 
-                    checksumCalculated = checkSumSupport.convertMessageDigestToHex(digest);
+                    checksumCalculated = validatingInputStream.getCalculatedChecksum();
                 }
                 fileDefinedByUser = true;
                 break;
@@ -4,7 +4,9 @@ package com.mercedesbenz.sechub.domain.schedule;
 import static com.mercedesbenz.sechub.sharedkernel.logging.AlertLogReason.*;
 import static com.mercedesbenz.sechub.sharedkernel.logging.AlertLogType.*;
 
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.annotation.PostConstruct;
 
@@ -16,6 +18,7 @@ import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.mercedesbenz.sechub.domain.schedule.batch.SecHubJobExecutionPool;
 import com.mercedesbenz.sechub.domain.schedule.config.SchedulerConfigService;
 import com.mercedesbenz.sechub.domain.schedule.job.ScheduleSecHubJob;
 import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
@@ -36,7 +39,10 @@ public class SchedulerJobBatchTriggerService {
     private static final int DEFAULT_INITIAL_DELAY_MILLIS = 5000;
     private static final int DEFAULT_FIXED_DELAY_MILLIS = 10000;
 
+    private static final int DEFAULT_MAX_JOBS_PER_DISPATCH = 1;
+
     private static final boolean DEFAULT_HEALTHCHECK_ENABLED = true;
+    private static final boolean DEFAULT_SKIP_LOCKED_CLAIM_ENABLED = false;
 
     @MustBeDocumented("Inside a cluster the next job fetching can lead to concurrent access. " + "When this happens a retry can be done for the 'looser'. "
             + "This value defines the amount of *tries*"
@@ -65,6 +71,15 @@ public class SchedulerJobBatchTriggerService {
     @Value("${sechub.config.trigger.healthcheck.enabled:" + DEFAULT_HEALTHCHECK_ENABLED + "}")
     private boolean healthCheckEnabled = DEFAULT_HEALTHCHECK_ENABLED;
 
+    @MustBeDocumented("Defines the maximum amount of jobs marked and started by one trigger execution. When more jobs are ready to start, they will be started one after another inside the same trigger execution - as long as health checks are passed and the limit is not reached. A value lower than 1 will be treated as 1.")
+    @Value("${sechub.config.trigger.nextjob.maxperdispatch:" + DEFAULT_MAX_JOBS_PER_DISPATCH + "}")
+    int maxJobsPerDispatch = DEFAULT_MAX_JOBS_PER_DISPATCH;
+
+    @MustBeDocumented("When enabled, next jobs are claimed by one single database statement with row locks. Jobs already claimed by other cluster members are skipped (PostgreSQL: `FOR UPDATE SKIP LOCKED`), so there are no collisions and no retries necessary inside a cluster. "
+            + "All jobs possible by `sechub.config.trigger.nextjob.maxperdispatch` and free execution slots are claimed at once. When disabled, jobs are fetched one by one with optimistic locking and retries.")
+    @Value("${sechub.config.trigger.nextjob.skiplocked.enabled:" + DEFAULT_SKIP_LOCKED_CLAIM_ENABLED + "}")
+    boolean skipLockedClaimEnabled = DEFAULT_SKIP_LOCKED_CLAIM_ENABLED;
+
     @Autowired
     ScheduleJobMarkerService markerService;
 
@@ -83,10 +98,19 @@ public class SchedulerJobBatchTriggerService {
     @Autowired
     AlertLogService alertLogService;
 
+    @Autowired
+    SchedulerJobDispatchStatistic dispatchStatistic;
+
+    @Autowired
+    SecHubJobExecutionPool executionPool;
+
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+
     @PostConstruct
     protected void postConstruct() {
         // show info about delay values in log (once)
-        LOG.info("Scheduler service created with {} millisecondss initial delay and {} millisecondss as fixed delay", infoInitialDelay, infoFixedDelay);
+        LOG.info("Scheduler service created with {} millisecondss initial delay and {} millisecondss as fixed delay, maximum {} jobs per dispatch",
+                infoInitialDelay, infoFixedDelay, maxJobsPerDispatch);
     }
 
     // default 10 seconds delay and 5 seconds initial
@@ -97,6 +121,21 @@ public class SchedulerJobBatchTriggerService {
             + "}", fixedDelayString = "${sechub.config.trigger.nextjob.delay:" + DEFAULT_FIXED_DELAY_MILLIS + "}")
     @UseCaseSchedulerStartsJob(@Step(number = 1, name = "Scheduling", description = "Fetches next schedule job from queue and trigger execution."))
     public void triggerExecutionOfNextJob() {
+        dispatchNextJobs(false);
+    }
+
+    /**
+     * Marks and starts next jobs - as long as jobs are available, the system is
+     * healthy, the execution pool has free slots and the maximum of jobs per
+     * dispatch is not reached.
+     *
+     * @param waitForRunningDispatch when <code>true</code> and another dispatch is
+     *                               currently running inside this instance, the
+     *                               call waits until the other dispatch has been
+     *                               finished. Otherwise the call returns
+     *                               immediately.
+     */
+    void dispatchNextJobs(boolean waitForRunningDispatch) {
         if (LOG.isTraceEnabled()) {
             /* NOSONAR */LOG.trace("Trigger execution of next job started. Environment: {}", environmentService.getEnvironment());
         }
@@ -104,33 +143,133 @@ public class SchedulerJobBatchTriggerService {
             LOG.warn("Job processing is disabled, so cancel scheduling. Environment: {}", environmentService.getEnvironment());
             return;
         }
-
-        if (healthCheckEnabled) {
-            if (monitorService.isCPULoadAverageMaxReached()) {
-                alertLogService.log(SCHEDULER_PROBLEM, CPU_OVERLOAD, "Job processing is skipped. {}, {}", monitorService.createCPUDescription(),
-                        environmentService.getEnvironment());
-                return;
+        if (waitForRunningDispatch) {
+            dispatchLock.lock();
+        } else if (!dispatchLock.tryLock()) {
+            LOG.trace("Another dispatch is already running, so skip. Environment: {}", environmentService.getEnvironment());
+            return;
+        }
+        try {
+            int maximum = Math.max(1, maxJobsPerDispatch);
+            int dispatched;
+            if (skipLockedClaimEnabled) {
+                dispatched = claimAndLaunchNextJobs(maximum);
+            } else {
+                dispatched = markAndLaunchNextJobsOneByOne(maximum);
             }
-            if (monitorService.isMemoryUsageMaxReached()) {
-                alertLogService.log(SCHEDULER_PROBLEM, MEMORY_OVERLOAD, "Job processing is skipped. {}, {}", monitorService.createMemoryDescription(),
+            if (dispatched > 0) {
+                LOG.debug("Dispatched {} jobs. Average queue wait time: {} ms, maximum queue wait time: {} ms. Environment: {}", dispatched,
+                        dispatchStatistic.getQueueWaitTimeAverageInMilliseconds(), dispatchStatistic.getQueueWaitTimeMaxInMilliseconds(),
                         environmentService.getEnvironment());
-                return;
+            }
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    private boolean isSystemOverloaded() {
+        if (!healthCheckEnabled) {
+            return false;
+        }
+        if (monitorService.isCPULoadAverageMaxReached()) {
+            alertLogService.log(SCHEDULER_PROBLEM, CPU_OVERLOAD, "Job processing is skipped. {}, {}", monitorService.createCPUDescription(),
+                    environmentService.getEnvironment());
+            return true;
+        }
+        if (monitorService.isMemoryUsageMaxReached()) {
+            alertLogService.log(SCHEDULER_PROBLEM, MEMORY_OVERLOAD, "Job processing is skipped. {}, {}", monitorService.createMemoryDescription(),
+                    environmentService.getEnvironment());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Marks and launches jobs one by one, until no further job is available or
+     * the given maximum is reached.
+     *
+     * @return amount of launched jobs
+     */
+    private int markAndLaunchNextJobsOneByOne(int maximum) {
+        int dispatched = 0;
+        while (dispatched < maximum) {
+            if (!executionPool.hasFreeSlot()) {
+                LOG.debug("Execution pool has no free slots ({} jobs in pool), so no further jobs will be marked. Environment: {}",
+                        executionPool.getAmountOfJobsInPool(), environmentService.getEnvironment());
+                break;
+            }
+            if (isSystemOverloaded()) {
+                break;
+            }
+            if (!markAndLaunchNextJob()) {
+                break;
+            }
+            dispatched++;
+        }
+        return dispatched;
+    }
+
+    /**
+     * Claims all wanted jobs at once and launches them.
+     *
+     * @return amount of launched jobs
+     */
+    private int claimAndLaunchNextJobs(int maximum) {
+        int amount = Math.min(maximum, executionPool.getAmountOfFreeSlots());
+        if (amount < 1) {
+            LOG.debug("Execution pool has no free slots ({} jobs in pool), so no jobs will be claimed. Environment: {}", executionPool.getAmountOfJobsInPool(),
+                    environmentService.getEnvironment());
+            return 0;
+        }
+        if (isSystemOverloaded()) {
+            return 0;
+        }
+        List<ScheduleSecHubJob> jobs = null;
+        try {
+            jobs = markerService.markNextJobsToExecuteByThisInstance(amount);
+        } catch (Exception e) {
+            LOG.warn("Was not able to claim next {} jobs. Environment:{}", amount, environmentService.getEnvironment(), e);
+            return 0;
+        }
+        int launched = 0;
+        for (ScheduleSecHubJob job : jobs) {
+            if (launchJob(job)) {
+                launched++;
             }
         }
+        return launched;
+    }
+
+    private boolean launchJob(ScheduleSecHubJob job) {
+        try {
+            launcherService.executeJob(job);
+            dispatchStatistic.addDispatchedJob(job);
+            return true;
+        } catch (Exception e) {
+            /* fatal failure happened, job launch was not executable */
+            LOG.trace("was not able to execute next job, because fatal error occurred. Environment: {}", environmentService.getEnvironment());
+            markerService.markJobExecutionFailed(job);
+            return false;
+        }
+    }
+
+    /**
+     * @return <code>true</code> when a job was marked and launched,
+     *         <code>false</code> when no job was available or marking/launching
+     *         failed
+     */
+    private boolean markAndLaunchNextJob() {
+        boolean launched = false;
         RetryContext retryContext = new RetryContext(markNextJobRetries);
         do {
             try {
                 ScheduleSecHubJob next = markerService.markNextJobToExecuteByThisInstance();
                 retryContext.executionDone();
                 if (next == null) {
-                    return;
+                    return false;
                 }
-                try {
-                    launcherService.executeJob(next);
-                } catch (Exception e) {
-                    /* fatal failure happened, job launch was not executable */
-                    LOG.trace("was not able to execute next job, because fatal error occurred. Environment: {}", environmentService.getEnvironment());
-                    markerService.markJobExecutionFailed(next);
+                launched = launchJob(next);
+                if (!launched) {
                     retryContext.markAsFatalFailure();
                 }
 
@@ -149,6 +288,7 @@ public class SchedulerJobBatchTriggerService {
             LOG.warn("Was not able to handle trigger execution of next job, failed {} times. Environment:{}", retryContext.getExecutionFailedCount(),
                     environmentService.getEnvironment());
         }
+        return launched;
     }
 
     private int createRandomTimeMillisToWait() {
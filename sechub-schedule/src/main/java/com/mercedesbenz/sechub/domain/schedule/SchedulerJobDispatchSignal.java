@@ -0,0 +1,16 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.schedule;
+
+import org.springframework.stereotype.Component;
+
+import com.mercedesbenz.sechub.commons.core.concurrent.CollapsingSignal;
+
+/**
+ * Signal used to wake up job dispatching inside this instance. Raised when a
+ * job becomes ready to start or a running job has ended and so local capacity
+ * is available again.
+ */
+@Component
+public class SchedulerJobDispatchSignal extends CollapsingSignal {
+
+}
@@ -0,0 +1,74 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.schedule;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.mercedesbenz.sechub.domain.schedule.job.ScheduleSecHubJob;
+
+/**
+ * Collects queue wait time information for all jobs dispatched by this
+ * instance. The queue wait time is the time between job creation and the start
+ * of the job - so it contains the end-to-end latency a user has until the job
+ * is really executed.
+ */
+@Component
+public class SchedulerJobDispatchStatistic {
+
+    private final LongAdder amountOfDispatchedJobs = new LongAdder();
+    private final LongAdder queueWaitTimeSumInMilliseconds = new LongAdder();
+    private final AtomicLong queueWaitTimeMaxInMilliseconds = new AtomicLong();
+    private final AtomicLong queueWaitTimeLastInMilliseconds = new AtomicLong();
+
+    /**
+     * Adds queue wait time for given job. If the job has no created or started
+     * time stamp, nothing happens.
+     *
+     * @param job the dispatched job
+     */
+    public void addDispatchedJob(ScheduleSecHubJob job) {
+        if (job == null) {
+            return;
+        }
+        LocalDateTime created = job.getCreated();
+        LocalDateTime started = job.getStarted();
+        if (created == null || started == null) {
+            return;
+        }
+        long waitTimeInMilliseconds = Math.max(0, Duration.between(created, started).toMillis());
+
+        amountOfDispatchedJobs.increment();
+        queueWaitTimeSumInMilliseconds.add(waitTimeInMilliseconds);
+        queueWaitTimeLastInMilliseconds.set(waitTimeInMilliseconds);
+        queueWaitTimeMaxInMilliseconds.accumulateAndGet(waitTimeInMilliseconds, Math::max);
+    }
+
+    public long getAmountOfDispatchedJobs() {
+        return amountOfDispatchedJobs.sum();
+    }
+
+    public long getQueueWaitTimeMaxInMilliseconds() {
+        return queueWaitTimeMaxInMilliseconds.get();
+    }
+
+    public long getQueueWaitTimeLastInMilliseconds() {
+        return queueWaitTimeLastInMilliseconds.get();
+    }
+
+    /**
+     * @return average queue wait time in milliseconds or 0 when no job was
+     *         dispatched
+     */
+    public long getQueueWaitTimeAverageInMilliseconds() {
+        long amount = amountOfDispatchedJobs.sum();
+        if (amount == 0) {
+            return 0;
+        }
+        return queueWaitTimeSumInMilliseconds.sum() / amount;
+    }
+
+}
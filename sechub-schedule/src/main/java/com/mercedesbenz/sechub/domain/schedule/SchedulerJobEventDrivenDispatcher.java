@@ -0,0 +1,92 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.schedule;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * When enabled, this dispatcher waits for {@link SchedulerJobDispatchSignal}
+ * and triggers job dispatching immediately - e.g. directly after a job has been
+ * approved. The periodic trigger inside {@link SchedulerJobBatchTriggerService}
+ * remains as a safety net (e.g. for jobs approved on other cluster members).
+ * <br>
+ * <br>
+ * The dispatcher is only available when scheduling is enabled - see
+ * {@link SchedulingEnabledByConditionConfiguration}.
+ */
+@Component
+@ConditionalOnProperty(value = "sechub.config.scheduling.enable", havingValue = "true", matchIfMissing = true)
+public class SchedulerJobEventDrivenDispatcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SchedulerJobEventDrivenDispatcher.class);
+
+    private static final String SECHUB_SCHEDULE_DISPATCHER_THREAD_NAME = "sechub-schedule-dispatcher";
+
+    private static final boolean DEFAULT_EVENT_DRIVEN_DISPATCH_ENABLED = false;
+    private static final long DEFAULT_SIGNAL_WAIT_TIMEOUT_MILLIS = 1000;
+
+    @MustBeDocumented(value = "When enabled, job dispatching is triggered immediately when a job becomes ready to start or a running job has ended inside this instance. "
+            + "The periodic trigger (see `sechub.config.trigger.nextjob.delay`) is still done as a fallback. "
+            + "Should be combined with `sechub.config.trigger.nextjob.maxperdispatch` to start multiple jobs at once.", scope = "schedule")
+    @Value("${sechub.config.trigger.nextjob.eventdriven.enabled:" + DEFAULT_EVENT_DRIVEN_DISPATCH_ENABLED + "}")
+    boolean eventDrivenDispatchEnabled = DEFAULT_EVENT_DRIVEN_DISPATCH_ENABLED;
+
+    @Autowired
+    SchedulerJobDispatchSignal dispatchSignal;
+
+    @Autowired
+    SchedulerJobBatchTriggerService triggerService;
+
+    private volatile boolean stopped;
+
+    private Thread dispatcherThread;
+
+    @PostConstruct
+    protected void postConstruct() {
+        if (!eventDrivenDispatchEnabled) {
+            LOG.info("Event driven job dispatching is disabled, only periodic trigger will be used");
+            return;
+        }
+        dispatcherThread = new Thread(this::dispatchUntilStopped, SECHUB_SCHEDULE_DISPATCHER_THREAD_NAME);
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+
+        LOG.info("Event driven job dispatching is enabled");
+    }
+
+    @PreDestroy
+    protected void preDestroy() {
+        stopped = true;
+        if (dispatcherThread != null) {
+            dispatcherThread.interrupt();
+        }
+    }
+
+    private void dispatchUntilStopped() {
+        while (!stopped) {
+            try {
+                if (!dispatchSignal.awaitSignal(DEFAULT_SIGNAL_WAIT_TIMEOUT_MILLIS)) {
+                    continue;
+                }
+                triggerService.dispatchNextJobs(true);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                LOG.error("Event driven job dispatch failed", e);
+            }
+        }
+        LOG.info("Event driven job dispatching stopped");
+    }
+
+}
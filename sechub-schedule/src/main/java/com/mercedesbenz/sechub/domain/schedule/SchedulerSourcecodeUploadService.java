@@ -4,6 +4,7 @@ package com.mercedesbenz.sechub.domain.schedule;
 import static com.mercedesbenz.sechub.commons.core.CommonConstants.*;
 import static com.mercedesbenz.sechub.sharedkernel.util.Assert.*;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.LocalDateTime;
@@ -11,6 +12,7 @@ import java.util.UUID;
 
 import javax.annotation.security.RolesAllowed;
 
+import org.apache.commons.io.input.CloseShieldInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -53,6 +55,14 @@ public class SchedulerSourcecodeUploadService {
      */
     private static final long EMPTY_ZIP_FILE_SIZE = 22;
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Maximum bytes read for zip validation. A local file header has 30 bytes and
+     * variable file name and extra field parts, each with a maximum of 64 KiB.
+     */
+    private static final int MAXIMUM_BYTES_FOR_ZIP_VALIDATION = 256 * 1024;
+
     @Autowired
     SchedulerSourcecodeUploadConfiguration configuration;
 
@@ -98,10 +108,7 @@ public class SchedulerSourcecodeUploadService {
 
         assertJobFoundAndStillInitializing(projectId, jobUUID);
 
-        handleZipValidation(file, traceLogID);
-        handleChecksumValidation(file, checkSum, traceLogID);
-
-        /* now store */
+        /* validate and store - the uploaded file is read only one time */
         storeUploadFileAndSha256Checksum(projectId, jobUUID, file, checkSum, traceLogID);
         LOG.info("uploaded sourcecode for {}", traceLogID);
 
@@ -110,7 +117,9 @@ public class SchedulerSourcecodeUploadService {
     private void storeUploadFileAndSha256Checksum(String projectId, UUID jobUUID, MultipartFile file, String checkSum, String traceLogID) {
         JobStorage jobStorage = storageService.getJobStorage(projectId, jobUUID);
 
-        try (InputStream inputStream = file.getInputStream()) {
+        try (BufferedInputStream inputStream = new BufferedInputStream(file.getInputStream(), BUFFER_SIZE)) {
+            handleZipValidation(inputStream, traceLogID);
+
             long fileSize = file.getSize();
 
             if (fileSize <= EMPTY_ZIP_FILE_SIZE) {
@@ -122,7 +131,7 @@ public class SchedulerSourcecodeUploadService {
             String fileSizeAsString = "" + fileSize;
             long fileSizeAsStringSizeInBytes = fileSizeAsString.getBytes().length;
 
-            jobStorage.store(FILENAME_SOURCECODE_ZIP, inputStream, fileSize);
+            storeAndValidateChecksum(jobStorage, inputStream, fileSize, checkSum);
             sendSourceSourceUploadDoneEvent(projectId, jobUUID, fileSize);
 
             // we store the file size information inside storage - so we can use this for
@@ -137,6 +146,28 @@ public class SchedulerSourcecodeUploadService {
         }
     }
 
+    private void storeAndValidateChecksum(JobStorage jobStorage, InputStream inputStream, long fileSize, String checkSum) throws IOException {
+        String expectedChecksum = configuration.isChecksumValidationEnabled() ? checkSum : null;
+
+        /*
+         * the checksum is calculated while the storage reads the data. On a wrong
+         * checksum the stream fails before the last bytes are returned, so the storage
+         * write is aborted
+         */
+        ValidatingUploadInputStream validatingInputStream = new ValidatingUploadInputStream(inputStream, checkSumSupport, fileSize, expectedChecksum);
+        try {
+            jobStorage.store(FILENAME_SOURCECODE_ZIP, validatingInputStream, fileSize);
+            validatingInputStream.validateRemaining();
+
+        } catch (IOException | RuntimeException e) {
+            if (validatingInputStream.isChecksumInvalid()) {
+                LOG.error("Uploaded file has incorrect sha256 checksum! Something must have happened during the upload.");
+                throw new NotAcceptableException("Sourcecode checksum check failed");
+            }
+            throw e;
+        }
+    }
+
     @IsSendingAsyncMessage(MessageID.SOURCE_UPLOAD_DONE)
     private void sendSourceSourceUploadDoneEvent(String projectId, UUID jobUUID, long fileSizeInBytes) {
         DomainMessage message = new DomainMessage(MessageID.SOURCE_UPLOAD_DONE);
@@ -153,27 +184,20 @@ public class SchedulerSourcecodeUploadService {
         domainMessageService.sendAsynchron(message);
     }
 
-    private void handleChecksumValidation(MultipartFile file, String checkSum, String traceLogID) {
-        if (!configuration.isChecksumValidationEnabled()) {
-            return;
-        }
-        try (InputStream inputStream = file.getInputStream()) {
-            /* validate */
-            assertCheckSumCorrect(checkSum, inputStream);
-
-        } catch (IOException e) {
-            LOG.error("Was not able to validate uploaded file checksum", traceLogID, e);
-            throw new SecHubRuntimeException("Was not able to validate uploaded sources checksum");
-        }
-    }
-
-    private void handleZipValidation(MultipartFile file, String traceLogID) {
+    private void handleZipValidation(BufferedInputStream inputStream, String traceLogID) {
         if (!configuration.isZipValidationEnabled()) {
             return;
         }
-        try (InputStream inputStream = file.getInputStream()) {
+        /*
+         * the zip validation reads only the first entry header - we mark the stream
+         * and reset afterwards, so the same stream can be stored
+         */
+        inputStream.mark(MAXIMUM_BYTES_FOR_ZIP_VALIDATION);
+        try {
             /* validate */
-            assertValidZipFile(inputStream);
+            assertValidZipFile(CloseShieldInputStream.wrap(inputStream));
+
+            inputStream.reset();
 
         } catch (IOException e) {
             LOG.error("Was not able to validate uploaded zip file", traceLogID, e);
@@ -181,13 +205,6 @@ public class SchedulerSourcecodeUploadService {
         }
     }
 
-    private void assertCheckSumCorrect(String checkSum, InputStream inputStream) {
-        if (!checkSumSupport.hasCorrectSha256Checksum(checkSum, inputStream)) {
-            LOG.error("Uploaded file has incorrect sha256 checksum! Something must have happened during the upload.");
-            throw new NotAcceptableException("Sourcecode checksum check failed");
-        }
-    }
-
     @SuppressWarnings("deprecation")
     private void assertValidZipFile(InputStream inputStream) {
         if (!archiveSupportProvider.getArchiveSupport().isZipFileStream(inputStream)) {
@@ -0,0 +1,116 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.schedule;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.mercedesbenz.sechub.commons.core.security.CheckSumSupport;
+import com.mercedesbenz.sechub.commons.core.security.DigestCalculatingInputStream;
+
+/**
+ * Input stream for uploads. While the upload data is read (normally by the job
+ * storage) the SHA256 checksum is calculated and the bytes are counted - so the
+ * upload must be read only one time.<br>
+ * <br>
+ * When the expected size is reached (or the end of the stream) the data is
+ * validated. On a validation failure an {@link IOException} is thrown
+ * <b>before</b> the last bytes are returned - this way the storage write is
+ * aborted and no invalid upload is stored.
+ */
+class ValidatingUploadInputStream extends DigestCalculatingInputStream {
+
+    private final CheckSumSupport checkSumSupport;
+    private final long expectedSizeInBytes;
+    private final String expectedChecksum;
+
+    private String calculatedChecksum;
+    private boolean checksumInvalid;
+    private boolean sizeInvalid;
+
+    /**
+     * Creates a validating upload input stream
+     *
+     * @param in                  origin input stream
+     * @param checkSumSupport     check sum support
+     * @param expectedSizeInBytes expected size or -1 when unknown
+     * @param expectedChecksum    expected SHA256 checksum or <code>null</code>
+     *                            when no checksum validation shall be done (e.g.
+     *                            not known at this time)
+     */
+    ValidatingUploadInputStream(InputStream in, CheckSumSupport checkSumSupport, long expectedSizeInBytes, String expectedChecksum) {
+        super(in, checkSumSupport.createSha256MessageDigest());
+        this.checkSumSupport = checkSumSupport;
+        this.expectedSizeInBytes = expectedSizeInBytes;
+        this.expectedChecksum = expectedChecksum;
+    }
+
+    /**
+     * Reads the remaining data (when not already done by the consumer) and
+     * validates the upload.
+     *
+     * @throws IOException when validation fails or data cannot be read
+     */
+    void validateRemaining() throws IOException {
+        if (calculatedChecksum != null) {
+            assertValid();
+            return;
+        }
+        readRemaining();
+    }
+
+    /**
+     * @return calculated SHA256 checksum or <code>null</code> when the data has
+     *         not been read completely
+     */
+    String getCalculatedChecksum() {
+        return calculatedChecksum;
+    }
+
+    boolean isChecksumInvalid() {
+        return checksumInvalid;
+    }
+
+    boolean isSizeInvalid() {
+        return sizeInvalid;
+    }
+
+    @Override
+    protected void afterBytesRead(int amount) throws IOException {
+        if (expectedSizeInBytes < 0) {
+            return;
+        }
+        long byteCount = getByteCount();
+        if (byteCount > expectedSizeInBytes) {
+            sizeInvalid = true;
+            throw new IOException("Upload contains more than the expected " + expectedSizeInBytes + " bytes");
+        }
+        if (byteCount == expectedSizeInBytes) {
+            finishAndValidate();
+        }
+    }
+
+    @Override
+    protected void afterEndOfStreamReached() throws IOException {
+        finishAndValidate();
+    }
+
+    private void finishAndValidate() throws IOException {
+        if (calculatedChecksum == null) {
+            calculatedChecksum = checkSumSupport.convertDigestToHex(getDigestResult());
+
+            sizeInvalid = expectedSizeInBytes >= 0 && getByteCount() != expectedSizeInBytes;
+            checksumInvalid = expectedChecksum != null && !expectedChecksum.equals(calculatedChecksum);
+        }
+        assertValid();
+    }
+
+    private void assertValid() throws IOException {
+        if (sizeInvalid) {
+            throw new IOException("Upload size " + getByteCount() + " is not the expected size " + expectedSizeInBytes);
+        }
+        if (checksumInvalid) {
+            throw new IOException("Upload checksum is not correct");
+        }
+    }
+
+}
@@ -0,0 +1,144 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.schedule.batch;
+
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.mercedesbenz.sechub.domain.schedule.SchedulerJobDispatchSignal;
+import com.mercedesbenz.sechub.sharedkernel.MustBeDocumented;
+
+/**
+ * A bounded execution pool for SecHub jobs running inside this instance. The
+ * amount of jobs running at the same time is limited by
+ * <code>sechub.config.execute.jobs.max</code>. Callers must check
+ * {@link #hasFreeSlot()} before they mark a job for execution - otherwise the
+ * job will be queued inside this instance until a slot becomes free.<br>
+ * <br>
+ * Every time a job execution has ended, the slot is released and
+ * {@link SchedulerJobDispatchSignal} is raised, so next jobs can be dispatched
+ * immediately.
+ */
+@Component
+public class SecHubJobExecutionPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SecHubJobExecutionPool.class);
+
+    private static final int DEFAULT_MAX_CONCURRENT_JOBS = 50;
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    @MustBeDocumented(value = "Maximum amount of SecHub jobs executed in parallel by one SecHub server instance. When the maximum is reached, the instance will not fetch new jobs until one of the running jobs has ended. A value lower than 1 will be treated as 1.", scope = "schedule")
+    @Value("${sechub.config.execute.jobs.max:" + DEFAULT_MAX_CONCURRENT_JOBS + "}")
+    int maxConcurrentJobs = DEFAULT_MAX_CONCURRENT_JOBS;
+
+    @Autowired
+    SchedulerJobDispatchSignal dispatchSignal;
+
+    private final AtomicInteger amountOfJobsInPool = new AtomicInteger();
+    private final LongAdder amountOfJobsExecuted = new LongAdder();
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    protected void postConstruct() {
+        int maximum = getMaxConcurrentJobs();
+
+        executor = new ThreadPoolExecutor(maximum, maximum, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        executor.allowCoreThreadTimeOut(true);
+
+        LOG.info("SecHub job execution pool created, maximum {} jobs in parallel", maximum);
+    }
+
+    @PreDestroy
+    protected void preDestroy() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown(); // running jobs will not be interrupted, but no new ones accepted
+        LOG.info("SecHub job execution pool shutdown done, {} jobs were still running", amountOfJobsInPool.get());
+    }
+
+    /**
+     * Executes given runnable inside a pooled worker thread. While the job is
+     * running the thread is named by given prefix and the job UUID.
+     *
+     * @param threadNamePrefix prefix for thread name
+     * @param jobUUID          SecHub job UUID
+     * @param runnable         the runnable to execute
+     */
+    public void execute(String threadNamePrefix, UUID jobUUID, Runnable runnable) {
+        int inPool = amountOfJobsInPool.incrementAndGet();
+        if (inPool > getMaxConcurrentJobs()) {
+            LOG.warn("Execution pool overload: {}/{} - job {} must wait for a free slot", inPool, getMaxConcurrentJobs(), jobUUID);
+        }
+        try {
+            executor.execute(() -> runWithSlot(threadNamePrefix + jobUUID, runnable));
+        } catch (RuntimeException e) {
+            amountOfJobsInPool.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * @return <code>true</code> when at least one further job can be executed
+     *         without waiting
+     */
+    public boolean hasFreeSlot() {
+        return getAmountOfFreeSlots() > 0;
+    }
+
+    /**
+     * @return amount of jobs which can be executed without waiting
+     */
+    public int getAmountOfFreeSlots() {
+        return Math.max(0, getMaxConcurrentJobs() - amountOfJobsInPool.get());
+    }
+
+    /**
+     * @return amount of jobs inside this pool - running or waiting for a free slot
+     */
+    public int getAmountOfJobsInPool() {
+        return amountOfJobsInPool.get();
+    }
+
+    /**
+     * @return amount of jobs which have been executed by this pool since start
+     */
+    public long getAmountOfJobsExecuted() {
+        return amountOfJobsExecuted.sum();
+    }
+
+    public int getMaxConcurrentJobs() {
+        return Math.max(1, maxConcurrentJobs);
+    }
+
+    private void runWithSlot(String threadName, Runnable runnable) {
+        Thread currentThread = Thread.currentThread();
+        String formerThreadName = currentThread.getName();
+        currentThread.setName(threadName);
+        try {
+            runnable.run();
+        } finally {
+            currentThread.setName(formerThreadName);
+
+            amountOfJobsExecuted.increment();
+            amountOfJobsInPool.decrementAndGet();
+
+            /* slot is free again - maybe other jobs can be dispatched now */
+            dispatchSignal.signal();
+        }
+    }
+
+}
@@ -35,7 +35,8 @@ import com.mercedesbenz.sechub.sharedkernel.messaging.MessageID;
  * This component executes SecHub jobs in own worker threads (means
  * parallel/asynchronous) but the event handling inside the worker thread is
  * done synchronous to wait inside scheduler domain for scan results from other
- * domain (scan) - this is the reason for the naming.
+ * domain (scan) - this is the reason for the naming. The worker threads are
+ * provided by {@link SecHubJobExecutionPool}.
  *
  * @author Albert Tregnaghi
  *
@@ -54,10 +55,12 @@ public class SynchronSecHubJobExecutor {
     @Autowired
     SecHubJobSafeUpdater secHubJobSafeUpdater;
 
+    @Autowired
+    SecHubJobExecutionPool executionPool;
+
     @IsSendingSyncMessage(MessageID.START_SCAN)
     public void execute(final ScheduleSecHubJob secHubJob) {
-        Thread scheduleWorkerThread = new Thread(() -> executeInsideThread(secHubJob), SECHUB_SCHEDULE_THREAD_PREFIX + secHubJob.getUUID());
-        scheduleWorkerThread.start();
+        executionPool.execute(SECHUB_SCHEDULE_THREAD_PREFIX, secHubJob.getUUID(), () -> executeInsideThread(secHubJob));
     }
 
     private void executeInsideThread(final ScheduleSecHubJob secHubJob) {
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.schedule.job;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,4 +14,32 @@ public interface SecHubJobRepositoryCustom {
     Optional<UUID> nextJobIdToExecuteForProjectNotYetExecuted();
 
     Optional<UUID> nextJobIdToExecuteForProjectAndModuleGroupNotYetExecuted();
+
+    /**
+     * Claims next jobs to execute in first in first out order. The jobs are locked
+     * until the surrounding transaction ends, jobs locked by other transactions are
+     * skipped. Must be called inside a transaction.
+     *
+     * @param maximum maximum amount of jobs to claim
+     * @return list of claimed job UUIDs, never <code>null</code>
+     */
+    List<UUID> claimNextJobIdsToExecuteFirstInFirstOut(int maximum);
+
+    /**
+     * Same as {@link #claimNextJobIdsToExecuteFirstInFirstOut(int)}, but only one
+     * job per project at same time.
+     *
+     * @param maximum maximum amount of jobs to claim
+     * @return list of claimed job UUIDs, never <code>null</code>
+     */
+    List<UUID> claimNextJobIdsToExecuteForProjectNotYetExecuted(int maximum);
+
+    /**
+     * Same as {@link #claimNextJobIdsToExecuteFirstInFirstOut(int)}, but only one
+     * job per project and module group at same time.
+     *
+     * @param maximum maximum amount of jobs to claim
+     * @return list of claimed job UUIDs, never <code>null</code>
+     */
+    List<UUID> claimNextJobIdsToExecuteForProjectAndModuleGroupNotYetExecuted(int maximum);
 }
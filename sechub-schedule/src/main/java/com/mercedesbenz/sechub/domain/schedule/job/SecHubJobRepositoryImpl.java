@@ -3,14 +3,26 @@ package com.mercedesbenz.sechub.domain.schedule.job;
 
 import static com.mercedesbenz.sechub.domain.schedule.job.ScheduleSecHubJob.*;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 import javax.persistence.EntityManager;
 import javax.persistence.LockModeType;
 import javax.persistence.PersistenceContext;
 import javax.persistence.Query;
+import javax.persistence.TypedQuery;
 
+import org.hibernate.Session;
+
+import com.mercedesbenz.sechub.commons.model.ModuleGroup;
 import com.mercedesbenz.sechub.commons.model.job.ExecutionState;
 import com.mercedesbenz.sechub.sharedkernel.jpa.TypedQuerySupport;
 
@@ -19,6 +31,21 @@ public class SecHubJobRepositoryImpl implements SecHubJobRepositoryCustom {
     private static final String PARAM_UUID = "p_uuid";
     private static final String PARAM_EXECUTION_STATE = "p_exec_state";
     private static final String PARAM_EXECUTION_STATE_SUB = "p_sub_exec_state";
+    private static final String PARAM_LIMIT = "p_limit";
+    private static final String PARAM_PROJECT_IDS = "p_project_ids";
+    private static final String PARAM_EXECUTION_STATES = "p_exec_states";
+
+    /*
+     * When only one job per project (and module group) is allowed, we claim more
+     * candidates than wanted, because candidates for same project (and module
+     * group) are filtered afterwards.
+     */
+    private static final int CLAIM_CANDIDATES_FACTOR = 4;
+
+    private static final String SQL_FOR_UPDATE_SKIP_LOCKED = " FOR UPDATE SKIP LOCKED";
+    private static final String SQL_FOR_UPDATE = " FOR UPDATE";
+
+    private static final String DATABASE_PRODUCT_POSTGRESQL = "PostgreSQL";
 
     /* @formatter:off */
 	static final String JPQL_STRING_SELECT_BY_EXECUTION_STATE =
@@ -56,6 +83,38 @@ public class SecHubJobRepositoryImpl implements SecHubJobRepositoryCustom {
 	                " order by " + PROPERTY_CREATED;
 
 
+    static final String SQL_STRING_SELECT_JOBS_BY_EXECUTION_STATE_FOR_CLAIM =
+            "SELECT j.* FROM " + TABLE_NAME + " j" +
+            " WHERE j." + COLUMN_STATE + " = :" + PARAM_EXECUTION_STATE +
+            " ORDER BY j." + COLUMN_CREATED +
+            " LIMIT :" + PARAM_LIMIT;
+
+    static final String SQL_STRING_SELECT_JOBS_WHERE_NOT_YET_RUNNING_SAME_PROJECT_FOR_CLAIM =
+            "SELECT j.* FROM " + TABLE_NAME + " j" +
+            " WHERE j." + COLUMN_STATE + " = :" + PARAM_EXECUTION_STATE +
+            " AND j." + COLUMN_PROJECT_ID + " NOT IN (" +
+                " SELECT p." + COLUMN_PROJECT_ID + " FROM " + TABLE_NAME + " p" +
+                " WHERE p." + COLUMN_STATE + " = :" + PARAM_EXECUTION_STATE_SUB +
+            " )" +
+            " ORDER BY j." + COLUMN_CREATED +
+            " LIMIT :" + PARAM_LIMIT;
+
+    static final String SQL_STRING_SELECT_JOBS_WHERE_NOT_YET_RUNNING_SAME_PROJECT_IN_SAME_GROUP_FOR_CLAIM =
+            "SELECT j.* FROM " + TABLE_NAME + " j" +
+            " WHERE j." + COLUMN_STATE + " = :" + PARAM_EXECUTION_STATE +
+            " AND j." + COLUMN_PROJECT_ID + " NOT IN (" +
+                " SELECT p." + COLUMN_PROJECT_ID + " FROM " + TABLE_NAME + " p" +
+                " WHERE p." + COLUMN_STATE + " = :" + PARAM_EXECUTION_STATE_SUB +
+                " AND p." + COLUMN_MODULE_GROUP + " = j." + COLUMN_MODULE_GROUP +
+            " )" +
+            " ORDER BY j." + COLUMN_CREATED +
+            " LIMIT :" + PARAM_LIMIT;
+
+    static final String JPQL_STRING_SELECT_JOBS_OF_PROJECTS_IN_EXECUTION_STATES =
+            "select j from " + CLASS_NAME + " j" +
+            " where j." + PROPERTY_PROJECT_ID + " in :" + PARAM_PROJECT_IDS +
+            " and j." + PROPERTY_EXECUTION_STATE + " in :" + PARAM_EXECUTION_STATES;
+
     /* @formatter:on */
 
     private final TypedQuerySupport<ScheduleSecHubJob> typedQuerySupport = new TypedQuerySupport<>(ScheduleSecHubJob.class);
@@ -63,6 +122,8 @@ public class SecHubJobRepositoryImpl implements SecHubJobRepositoryCustom {
     @PersistenceContext
     private EntityManager em;
 
+    private Boolean skipLockedSupported;
+
     @Override
     public Optional<ScheduleSecHubJob> getJob(UUID id) {
         Query query = em.createQuery(JPQL_STRING_SELECT_BY_JOB_ID);
@@ -117,4 +178,160 @@ public class SecHubJobRepositoryImpl implements SecHubJobRepositoryCustom {
         return getUUIDFromJob(typedQuerySupport.getSingleResultAsOptional(query));
     }
 
+    @Override
+    public List<UUID> claimNextJobIdsToExecuteFirstInFirstOut(int maximum) {
+        if (maximum < 1) {
+            return new ArrayList<>(0);
+        }
+        List<ScheduleSecHubJob> candidates = fetchAndLockClaimCandidates(SQL_STRING_SELECT_JOBS_BY_EXECUTION_STATE_FOR_CLAIM, maximum, false);
+
+        List<UUID> result = new ArrayList<>(candidates.size());
+        for (ScheduleSecHubJob candidate : candidates) {
+            result.add(candidate.getUUID());
+        }
+        return result;
+    }
+
+    @Override
+    public List<UUID> claimNextJobIdsToExecuteForProjectNotYetExecuted(int maximum) {
+        return claimWithOnlyOneJobPerKey(SQL_STRING_SELECT_JOBS_WHERE_NOT_YET_RUNNING_SAME_PROJECT_FOR_CLAIM, maximum, job -> job.getProjectId());
+    }
+
+    @Override
+    public List<UUID> claimNextJobIdsToExecuteForProjectAndModuleGroupNotYetExecuted(int maximum) {
+        return claimWithOnlyOneJobPerKey(SQL_STRING_SELECT_JOBS_WHERE_NOT_YET_RUNNING_SAME_PROJECT_IN_SAME_GROUP_FOR_CLAIM, maximum,
+                SecHubJobRepositoryImpl::createProjectAndModuleGroupKey);
+    }
+
+    /**
+     * Jobs without module group are never restricted - same as inside
+     * {@link #JPQL_STRING_SELECT_JOB_WHERE_NOT_YET_RUNNING_SAME_PROJECT_IN_SAME_GROUP}
+     */
+    private static String createProjectAndModuleGroupKey(ScheduleSecHubJob job) {
+        ModuleGroup moduleGroup = job.getModuleGroup();
+        if (moduleGroup == null) {
+            return null;
+        }
+        return job.getProjectId() + ":" + moduleGroup.name();
+    }
+
+    /**
+     * Claims jobs, but allows only one job per key at same time. A key of
+     * <code>null</code> means no restriction for the job.<br>
+     * <br>
+     * Claim candidates locked by other cluster members are skipped. Because of
+     * this, a candidate can be a younger job for a key where an older job is
+     * currently claimed by another cluster member. To avoid starting two jobs for
+     * same key, a candidate is only accepted when there is no running job for the
+     * key and no older job for the key still waiting.
+     */
+    private List<UUID> claimWithOnlyOneJobPerKey(String sql, int maximum, Function<ScheduleSecHubJob, String> keyFunction) {
+        if (maximum < 1) {
+            return new ArrayList<>(0);
+        }
+        List<ScheduleSecHubJob> candidates = fetchAndLockClaimCandidates(sql, maximum * CLAIM_CANDIDATES_FACTOR, true);
+        if (candidates.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+
+        /* only first (oldest) candidate per key */
+        Map<String, ScheduleSecHubJob> firstCandidateForKey = new LinkedHashMap<>();
+        List<ScheduleSecHubJob> uniqueCandidates = new ArrayList<>();
+        Set<String> projectIds = new LinkedHashSet<>();
+        for (ScheduleSecHubJob candidate : candidates) {
+            String key = keyFunction.apply(candidate);
+            if (key != null) {
+                if (firstCandidateForKey.containsKey(key)) {
+                    continue;
+                }
+                firstCandidateForKey.put(key, candidate);
+            }
+            uniqueCandidates.add(candidate);
+            projectIds.add(candidate.getProjectId());
+        }
+
+        /* inspect other jobs for same keys - at this time with latest committed data */
+        Map<String, LocalDateTime> oldestWaitingForKey = new LinkedHashMap<>();
+        Set<String> runningKeys = new LinkedHashSet<>();
+
+        TypedQuery<ScheduleSecHubJob> query = em.createQuery(JPQL_STRING_SELECT_JOBS_OF_PROJECTS_IN_EXECUTION_STATES, ScheduleSecHubJob.class);
+        query.setParameter(PARAM_PROJECT_IDS, projectIds);
+        query.setParameter(PARAM_EXECUTION_STATES, List.of(ExecutionState.READY_TO_START, ExecutionState.STARTED));
+
+        for (ScheduleSecHubJob other : query.getResultList()) {
+            String key = keyFunction.apply(other);
+            if (key == null) {
+                continue;
+            }
+            if (ExecutionState.STARTED.equals(other.getExecutionState())) {
+                runningKeys.add(key);
+            } else {
+                LocalDateTime oldest = oldestWaitingForKey.get(key);
+                if (oldest == null || other.getCreated().isBefore(oldest)) {
+                    oldestWaitingForKey.put(key, other.getCreated());
+                }
+            }
+        }
+
+        List<UUID> result = new ArrayList<>(maximum);
+        for (ScheduleSecHubJob candidate : uniqueCandidates) {
+            if (result.size() >= maximum) {
+                break;
+            }
+            String key = keyFunction.apply(candidate);
+            if (key != null) {
+                if (runningKeys.contains(key)) {
+                    continue;
+                }
+                LocalDateTime oldest = oldestWaitingForKey.get(key);
+                if (oldest != null && oldest.isBefore(candidate.getCreated())) {
+                    /* older job for same key is claimed by another cluster member */
+                    continue;
+                }
+            }
+            result.add(candidate.getUUID());
+        }
+        return result;
+    }
+
+    /**
+     * Fetches jobs by given native SQL and locks them. With PostgreSQL rows
+     * already locked by other transactions are skipped (<code>SKIP LOCKED</code>).
+     * Other databases (e.g. H2 used for tests) use a simple
+     * <code>FOR UPDATE</code> as fallback.
+     */
+    @SuppressWarnings("unchecked")
+    private List<ScheduleSecHubJob> fetchAndLockClaimCandidates(String sql, int limit, boolean withSubState) {
+        String lockingSql = sql + (isSkipLockedSupported() ? SQL_FOR_UPDATE_SKIP_LOCKED : SQL_FOR_UPDATE);
+
+        Query query = em.createNativeQuery(lockingSql, ScheduleSecHubJob.class);
+        query.setParameter(PARAM_EXECUTION_STATE, ExecutionState.READY_TO_START.name());
+        if (withSubState) {
+            query.setParameter(PARAM_EXECUTION_STATE_SUB, ExecutionState.STARTED.name());
+        }
+        query.setParameter(PARAM_LIMIT, limit);
+
+        List<ScheduleSecHubJob> candidates = query.getResultList();
+
+        /*
+         * when database does not support skip locked, we could have waited for a lock
+         * of another transaction - so we check state again
+         */
+        List<ScheduleSecHubJob> result = new ArrayList<>(candidates.size());
+        for (ScheduleSecHubJob candidate : candidates) {
+            if (ExecutionState.READY_TO_START.equals(candidate.getExecutionState())) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    private boolean isSkipLockedSupported() {
+        if (skipLockedSupported == null) {
+            String databaseProductName = em.unwrap(Session.class).doReturningWork(connection -> connection.getMetaData().getDatabaseProductName());
+            skipLockedSupported = DATABASE_PRODUCT_POSTGRESQL.equalsIgnoreCase(databaseProductName);
+        }
+        return skipLockedSupported.booleanValue();
+    }
+
 }
@@ -6,6 +6,8 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import com.mercedesbenz.sechub.commons.model.job.ExecutionState;
+import com.mercedesbenz.sechub.domain.schedule.SchedulerJobDispatchStatistic;
+import com.mercedesbenz.sechub.domain.schedule.batch.SecHubJobExecutionPool;
 import com.mercedesbenz.sechub.domain.schedule.config.SchedulerConfigService;
 import com.mercedesbenz.sechub.domain.schedule.job.SecHubJobRepository;
 import com.mercedesbenz.sechub.sharedkernel.messaging.DomainMessage;
@@ -29,6 +31,12 @@ public class SchedulerStatusService {
     @Autowired
     SchedulerConfigService configService;
 
+    @Autowired
+    SchedulerJobDispatchStatistic dispatchStatistic;
+
+    @Autowired
+    SecHubJobExecutionPool executionPool;
+
     @IsSendingAsyncMessage(MessageID.SCHEDULER_STATUS_UPDATE)
     public void buildStatus() {
         DomainMessage message = DomainMessageFactory.createEmptyRequest(MessageID.SCHEDULER_STATUS_UPDATE);
@@ -56,6 +64,13 @@ public class SchedulerStatusService {
         sm.setAmountOfJobsCanceled(amountOfJobsCanceled);
         sm.setAmountOfJobsEnded(amountOfJobsEnded);
 
+        sm.setAmountOfJobsDispatched(dispatchStatistic.getAmountOfDispatchedJobs());
+        sm.setJobQueueWaitTimeAverageInMilliseconds(dispatchStatistic.getQueueWaitTimeAverageInMilliseconds());
+        sm.setJobQueueWaitTimeMaxInMilliseconds(dispatchStatistic.getQueueWaitTimeMaxInMilliseconds());
+
+        sm.setAmountOfJobsInExecutionPool(executionPool.getAmountOfJobsInPool());
+        sm.setExecutionPoolMaxConcurrentJobs(executionPool.getMaxConcurrentJobs());
+
         message.set(MessageDataKeys.SCHEDULER_STATUS_DATA, sm);
 
         eventBus.sendAsynchron(message);
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.schedule.strategy;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -31,4 +32,9 @@ public class FirstComeFirstServeSchedulerStrategy implements SchedulerStrategy {
         return nextJob.get();
     }
 
+    @Override
+    public List<UUID> claimNextJobIds(int maximum) {
+        return jobRepository.claimNextJobIdsToExecuteFirstInFirstOut(maximum);
+    }
+
 }
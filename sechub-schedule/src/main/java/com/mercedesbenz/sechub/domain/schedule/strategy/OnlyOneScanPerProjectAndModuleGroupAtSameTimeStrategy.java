@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.schedule.strategy;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -67,4 +68,9 @@ public class OnlyOneScanPerProjectAndModuleGroupAtSameTimeStrategy implements Sc
         return nextJob.get();
     }
 
+    @Override
+    public List<UUID> claimNextJobIds(int maximum) {
+        return jobRepository.claimNextJobIdsToExecuteForProjectAndModuleGroupNotYetExecuted(maximum);
+    }
+
 }
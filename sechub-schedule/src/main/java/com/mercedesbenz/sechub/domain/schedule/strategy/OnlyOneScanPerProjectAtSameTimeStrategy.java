@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.schedule.strategy;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -30,4 +31,9 @@ public class OnlyOneScanPerProjectAtSameTimeStrategy implements SchedulerStrateg
         return nextJob.get();
     }
 
+    @Override
+    public List<UUID> claimNextJobIds(int maximum) {
+        return jobRepository.claimNextJobIdsToExecuteForProjectNotYetExecuted(maximum);
+    }
+
 }
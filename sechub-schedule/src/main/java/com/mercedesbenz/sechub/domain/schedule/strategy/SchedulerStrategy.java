@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.schedule.strategy;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface SchedulerStrategy {
@@ -8,4 +9,13 @@ public interface SchedulerStrategy {
     public SchedulerStrategyId getSchedulerId();
 
     public UUID nextJobId();
+
+    /**
+     * Claims next jobs to execute. The jobs are locked inside the current
+     * transaction, jobs already claimed by other cluster members are skipped.
+     *
+     * @param maximum maximum amount of jobs to claim
+     * @return list of job UUIDs, never <code>null</code>
+     */
+    public List<UUID> claimNextJobIds(int maximum);
 }
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.*;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.MessageDigest;
 import java.util.UUID;
 
 import javax.servlet.ServletInputStream;
@@ -196,7 +197,7 @@ public class SchedulerBinariesUploadServiceTest {
         when(httpRequest.getMethod()).thenReturn("POST");
         when(httpRequest.getContentType()).thenReturn("multipart/form-data; boundary=------a-boundary---");
 
-        when(httpRequest.getHeader(FILE_SIZE_HEADER_FIELD_NAME)).thenReturn("0"); // Add 600 bytes for headers.
+        when(httpRequest.getHeader(FILE_SIZE_HEADER_FIELD_NAME)).thenReturn("3");
 
         when(configuration.getMaxUploadSizeInBytes()).thenReturn((long) 612);
 
@@ -217,6 +218,7 @@ public class SchedulerBinariesUploadServiceTest {
         when(checksumItemStream.openStream()).thenReturn(new ByteArrayInputStream("12345".getBytes()));
 
         when(upload.getItemIterator(httpRequest)).thenReturn(itemIterator);
+        when(checkSumSupport.createSha256MessageDigest()).thenReturn(MessageDigest.getInstance("SHA-256"));
         when(checkSumSupport.convertMessageDigestToHex(any())).thenReturn("1234");
 
         /* execute + test (checksum failure) */
@@ -229,6 +231,51 @@ public class SchedulerBinariesUploadServiceTest {
 
     }
 
+    @Test
+    void checksum_defined_before_file_and_wrong_aborts_storage_write_but_sends_upload_event() throws Exception {
+        /* prepare */
+        InputStream input = new ByteArrayInputStream("AAA".getBytes());
+
+        when(httpRequest.getMethod()).thenReturn("POST");
+        when(httpRequest.getContentType()).thenReturn("multipart/form-data; boundary=------a-boundary---");
+        when(httpRequest.getHeader(FILE_SIZE_HEADER_FIELD_NAME)).thenReturn("3");
+        when(configuration.getMaxUploadSizeInBytes()).thenReturn((long) 612);
+
+        ServletFileUpload upload = mock(ServletFileUpload.class);
+        when(servletFileUploadFactory.create()).thenReturn(upload);
+
+        FileItemIterator itemIterator = mock(FileItemIterator.class);
+        FileItemStream checksumItemStream = mock(FileItemStream.class);
+        FileItemStream fileItemStream = mock(FileItemStream.class);
+
+        when(itemIterator.hasNext()).thenReturn(true).thenReturn(true).thenReturn(false);
+        when(itemIterator.next()).thenReturn(checksumItemStream).thenReturn(fileItemStream);
+
+        when(checksumItemStream.getFieldName()).thenReturn("checkSum");
+        when(checksumItemStream.openStream()).thenReturn(new ByteArrayInputStream("12345".getBytes()));
+
+        when(fileItemStream.openStream()).thenReturn(input);
+        when(fileItemStream.getFieldName()).thenReturn("file");
+
+        when(upload.getItemIterator(httpRequest)).thenReturn(itemIterator);
+        when(checkSumSupport.createSha256MessageDigest()).thenReturn(MessageDigest.getInstance("SHA-256"));
+        when(checkSumSupport.convertMessageDigestToHex(any())).thenReturn("1234");
+
+        doAnswer(invocation -> {
+            InputStream inputStream = invocation.getArgument(1);
+            inputStream.readAllBytes(); // like a real storage - will fail on validation
+            return null;
+        }).when(storage).store(eq("binaries.tar"), any(InputStream.class), anyLong());
+
+        /* execute + test (checksum failure) */
+        assertThrowsExceptionContainingMessage(BadRequestException.class, "Binaries checksum check failed",
+                () -> serviceToTest.uploadBinaries(PROJECT1, randomUuid, httpRequest));
+
+        /* test */
+        verify(storage, never()).store(eq(FILENAME_BINARIES_TAR_FILESIZE), any(InputStream.class), anyLong());
+        assertUploadEvent();
+    }
+
     private void assertNoUploadEvent() {
         verifyNoInteractions(domainMessageService);
     }
@@ -0,0 +1,69 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.schedule;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mercedesbenz.sechub.domain.schedule.job.ScheduleSecHubJob;
+
+class SchedulerJobDispatchStatisticTest {
+
+    private SchedulerJobDispatchStatistic statisticToTest;
+
+    @BeforeEach
+    void beforeEach() {
+        statisticToTest = new SchedulerJobDispatchStatistic();
+    }
+
+    @Test
+    void initial_values_are_zero() {
+        /* test */
+        assertEquals(0, statisticToTest.getAmountOfDispatchedJobs());
+        assertEquals(0, statisticToTest.getQueueWaitTimeAverageInMilliseconds());
+        assertEquals(0, statisticToTest.getQueueWaitTimeMaxInMilliseconds());
+        assertEquals(0, statisticToTest.getQueueWaitTimeLastInMilliseconds());
+    }
+
+    @Test
+    void two_jobs_added_average_max_and_last_are_calculated() {
+        /* prepare */
+        LocalDateTime created = LocalDateTime.now();
+        ScheduleSecHubJob job1 = createJob(created, created.plusSeconds(1));
+        ScheduleSecHubJob job2 = createJob(created, created.plusSeconds(3));
+
+        /* execute */
+        statisticToTest.addDispatchedJob(job2);
+        statisticToTest.addDispatchedJob(job1);
+
+        /* test */
+        assertEquals(2, statisticToTest.getAmountOfDispatchedJobs());
+        assertEquals(2000, statisticToTest.getQueueWaitTimeAverageInMilliseconds());
+        assertEquals(3000, statisticToTest.getQueueWaitTimeMaxInMilliseconds());
+        assertEquals(1000, statisticToTest.getQueueWaitTimeLastInMilliseconds());
+    }
+
+    @Test
+    void job_without_started_timestamp_is_ignored() {
+        /* prepare */
+        ScheduleSecHubJob job = createJob(LocalDateTime.now(), null);
+
+        /* execute */
+        statisticToTest.addDispatchedJob(job);
+        statisticToTest.addDispatchedJob(null);
+
+        /* test */
+        assertEquals(0, statisticToTest.getAmountOfDispatchedJobs());
+    }
+
+    private ScheduleSecHubJob createJob(LocalDateTime created, LocalDateTime started) {
+        ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
+        when(job.getCreated()).thenReturn(created);
+        when(job.getStarted()).thenReturn(started);
+        return job;
+    }
+}
@@ -1,10 +1,17 @@
 // SPDX-License-Identifier: MIT
 package com.mercedesbenz.sechub.domain.schedule;
 
+import static com.mercedesbenz.sechub.commons.core.CommonConstants.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -44,13 +51,16 @@ public class SchedulerSourcecodeUploadServiceTest {
     private ArchiveSupport mockedArchiveSupport;
     private ArchiveSupportProvider archiveSupportProvider;
     private SchedulerSourcecodeUploadConfiguration configuration;
+    private byte[] content;
+    private String correctChecksum;
+    private String checksum;
     private DomainMessageService domainMessageService;
 
     @BeforeEach
     void beforeEach() {
         randomUuid = UUID.randomUUID();
 
-        checkSumSupport = mock(CheckSumSupport.class);
+        checkSumSupport = new CheckSumSupport();
         mockedStorageService = mock(StorageService.class);
         mockedAssertService = mock(ScheduleAssertService.class);
 
@@ -59,8 +69,13 @@ public class SchedulerSourcecodeUploadServiceTest {
         storage = mock(JobStorage.class);
         when(mockedStorageService.getJobStorage(PROJECT1, randomUuid)).thenReturn(storage);
 
+        content = new byte[1024]; // just not empty
+        Arrays.fill(content, (byte) 'x');
+        correctChecksum = checkSumSupport.createSha256Checksum(new ByteArrayInputStream(content));
+
         file = mock(MultipartFile.class);
-        when(file.getSize()).thenReturn(1024L); // just not empty
+        when(file.getSize()).thenReturn((long) content.length);
+        when(file.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream(content));
 
         archiveSupportProvider = mock(ArchiveSupportProvider.class);
         mockedArchiveSupport = mock(ArchiveSupport.class);
@@ -88,7 +103,7 @@ public class SchedulerSourcecodeUploadServiceTest {
     @ValueSource(longs = { 0, 10, 22 })
     void when_zipfile_is_empty_a_bad_request_400_is_thrown_even_when_zipfile_validation_is_disabled(long fileSize) {
         /* prepare */
-        when(checkSumSupport.hasCorrectSha256Checksum(eq("mychecksum"), any())).thenReturn(true);
+        simulateChecksumCorrect(true);
         when(mockedArchiveSupport.isZipFileStream(any())).thenReturn(true);
 
         when(configuration.isChecksumValidationEnabled()).thenReturn(false);
@@ -97,7 +112,7 @@ public class SchedulerSourcecodeUploadServiceTest {
         when(file.getSize()).thenReturn(fileSize);
 
         /* execute + test */
-        assertThrows(BadRequestException.class, () -> serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum"));
+        assertThrows(BadRequestException.class, () -> serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksum));
 
         /* test */
         assertNoUploadEvent();
@@ -106,27 +121,27 @@ public class SchedulerSourcecodeUploadServiceTest {
     @Test
     void when_checksum_correct_and_is_zip__correct_no_failure() {
         /* prepare */
-        when(checkSumSupport.hasCorrectSha256Checksum(eq("mychecksum"), any())).thenReturn(true);
+        simulateChecksumCorrect(true);
         when(mockedArchiveSupport.isZipFileStream(any())).thenReturn(true);
 
         when(configuration.isChecksumValidationEnabled()).thenReturn(true);
         when(configuration.isZipValidationEnabled()).thenReturn(true);
 
         /* execute */
-        serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum");
+        serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksum);
     }
 
     @Test
     void when_checksum_is_NOT_correct_but_valid_zipfile_throws_404() {
         /* prepare */
-        when(checkSumSupport.hasCorrectSha256Checksum(eq("mychecksum"), any())).thenReturn(false);
+        simulateChecksumCorrect(false);
         when(mockedArchiveSupport.isZipFileStream(any())).thenReturn(true);
 
         when(configuration.isChecksumValidationEnabled()).thenReturn(true);
         when(configuration.isZipValidationEnabled()).thenReturn(false);
 
         /* execute + test */
-        assertThrows(NotAcceptableException.class, () -> serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum"));
+        assertThrows(NotAcceptableException.class, () -> serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksum));
 
         /* test */
         assertNoUploadEvent();
@@ -135,14 +150,14 @@ public class SchedulerSourcecodeUploadServiceTest {
     @Test
     void when_checksum_is_NOT_correct_but_valid_zipfile_but_checksum_validation_is_disabled_no_failure() {
         /* prepare */
-        when(checkSumSupport.hasCorrectSha256Checksum(eq("mychecksum"), any())).thenReturn(false);
+        simulateChecksumCorrect(false);
         when(mockedArchiveSupport.isZipFileStream(any())).thenReturn(true);
 
         when(configuration.isChecksumValidationEnabled()).thenReturn(false);
         when(configuration.isZipValidationEnabled()).thenReturn(true);
 
         /* execute + test (no exception) */
-        serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum");
+        serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksum);
 
         /* test */
         assertUploadEvent();
@@ -151,14 +166,14 @@ public class SchedulerSourcecodeUploadServiceTest {
     @Test
     void when_checksum_is_correct_but_NOT_valid_zipfile_but_zip_validation_is_disabled_no_failure() {
         /* prepare */
-        when(checkSumSupport.hasCorrectSha256Checksum(eq("mychecksum"), any())).thenReturn(true);
+        simulateChecksumCorrect(true);
         when(mockedArchiveSupport.isZipFileStream(any())).thenReturn(false);
 
         when(configuration.isChecksumValidationEnabled()).thenReturn(true);
         when(configuration.isZipValidationEnabled()).thenReturn(false);
 
         /* execute + test (no exception) */
-        serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum");
+        serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksum);
 
         /* test */
         assertUploadEvent();
@@ -167,14 +182,66 @@ public class SchedulerSourcecodeUploadServiceTest {
     @Test
     void when_checksum_is_correct_but_not_valid_zipfile_throws_404() {
         /* prepare */
-        when(checkSumSupport.hasCorrectSha256Checksum(eq("mychecksum"), any())).thenReturn(true);
+        simulateChecksumCorrect(true);
         when(mockedArchiveSupport.isZipFileStream(any())).thenReturn(false);
 
         when(configuration.isChecksumValidationEnabled()).thenReturn(true);
         when(configuration.isZipValidationEnabled()).thenReturn(true);
 
         /* execute + test */
-        assertThrows(NotAcceptableException.class, () -> serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, "mychecksum"));
+        assertThrows(NotAcceptableException.class, () -> serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksum));
+    }
+
+    @Test
+    void when_checksum_is_NOT_correct_storage_write_is_aborted() throws Exception {
+        /* prepare */
+        simulateChecksumCorrect(false);
+        when(mockedArchiveSupport.isZipFileStream(any())).thenReturn(true);
+
+        when(configuration.isChecksumValidationEnabled()).thenReturn(true);
+        when(configuration.isZipValidationEnabled()).thenReturn(true);
+
+        List<IOException> storageFailures = new ArrayList<>();
+        doAnswer(invocation -> {
+            InputStream inputStream = invocation.getArgument(1);
+            try {
+                inputStream.readAllBytes();
+            } catch (IOException e) {
+                storageFailures.add(e);
+                throw e;
+            }
+            return null;
+        }).when(storage).store(eq(FILENAME_SOURCECODE_ZIP), any(), anyLong());
+
+        /* execute + test */
+        assertThrows(NotAcceptableException.class, () -> serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksum));
+
+        /* test */
+        assertEquals(1, storageFailures.size());
+        verify(storage, never()).store(eq(FILENAME_SOURCECODE_ZIP_CHECKSUM), any(), anyLong());
+        assertNoUploadEvent();
+    }
+
+    @Test
+    void uploaded_file_is_read_only_one_time() throws Exception {
+        /* prepare */
+        simulateChecksumCorrect(true);
+        when(mockedArchiveSupport.isZipFileStream(any())).thenReturn(true);
+
+        when(configuration.isChecksumValidationEnabled()).thenReturn(true);
+        when(configuration.isZipValidationEnabled()).thenReturn(true);
+
+        /* execute */
+        serviceToTest.uploadSourceCode(PROJECT1, randomUuid, file, checksum);
+
+        /* test */
+        verify(file, times(1)).getInputStream();
+        verify(storage).store(eq(FILENAME_SOURCECODE_ZIP), any(), eq((long) content.length));
+        assertUploadEvent();
+    }
+
+    private void simulateChecksumCorrect(boolean correct) {
+        checksum = correct ? correctChecksum : "0000000000000000000000000000000000000000000000000000000000000000";
     }
 
     private void assertNoUploadEvent() {
@@ -0,0 +1,115 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.schedule;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mercedesbenz.sechub.commons.core.security.CheckSumSupport;
+
+class ValidatingUploadInputStreamTest {
+
+    private static final byte[] CONTENT = "some content to upload".getBytes(StandardCharsets.UTF_8);
+
+    private CheckSumSupport checkSumSupport;
+    private String correctChecksum;
+
+    @BeforeEach
+    void beforeEach() {
+        checkSumSupport = new CheckSumSupport();
+        correctChecksum = checkSumSupport.createSha256Checksum(new ByteArrayInputStream(CONTENT));
+    }
+
+    @Test
+    void correct_checksum_and_size_all_bytes_returned_and_checksum_calculated() throws Exception {
+        /* prepare */
+        ValidatingUploadInputStream streamToTest = createStream(CONTENT.length, correctChecksum);
+
+        /* execute */
+        byte[] result = streamToTest.readAllBytes();
+
+        /* test */
+        assertArrayEquals(CONTENT, result);
+        assertEquals(CONTENT.length, streamToTest.getByteCount());
+        assertEquals(correctChecksum, streamToTest.getCalculatedChecksum());
+        assertFalse(streamToTest.isChecksumInvalid());
+        assertFalse(streamToTest.isSizeInvalid());
+    }
+
+    @Test
+    void unknown_checksum_and_size_checksum_calculated_at_end() throws Exception {
+        /* prepare */
+        ValidatingUploadInputStream streamToTest = createStream(-1, null);
+
+        /* execute */
+        streamToTest.validateRemaining();
+
+        /* test */
+        assertEquals(correctChecksum, streamToTest.getCalculatedChecksum());
+        assertEquals(CONTENT.length, streamToTest.getByteCount());
+    }
+
+    @Test
+    void wrong_checksum_fails_before_last_bytes_are_returned() throws Exception {
+        /* prepare */
+        ValidatingUploadInputStream streamToTest = createStream(CONTENT.length, "wrong");
+        byte[] buffer = new byte[CONTENT.length - 1];
+        assertEquals(buffer.length, streamToTest.read(buffer));
+
+        /* execute + test */
+        assertThrows(IOException.class, () -> streamToTest.read());
+        assertTrue(streamToTest.isChecksumInvalid());
+    }
+
+    @Test
+    void more_bytes_than_expected_fails() throws Exception {
+        /* prepare */
+        ValidatingUploadInputStream streamToTest = createStream(CONTENT.length - 5, null);
+
+        /* execute + test */
+        assertThrows(IOException.class, () -> streamToTest.readAllBytes());
+        assertTrue(streamToTest.isSizeInvalid());
+    }
+
+    @Test
+    void less_bytes_than_expected_fails_at_end_of_stream() throws Exception {
+        /* prepare */
+        ValidatingUploadInputStream streamToTest = createStream(CONTENT.length + 5, correctChecksum);
+
+        /* execute + test */
+        assertThrows(IOException.class, () -> streamToTest.readAllBytes());
+        assertTrue(streamToTest.isSizeInvalid());
+    }
+
+    @Test
+    void skipped_bytes_are_part_of_checksum() throws Exception {
+        /* prepare */
+        ValidatingUploadInputStream streamToTest = createStream(CONTENT.length, correctChecksum);
+
+        /* execute */
+        streamToTest.skip(10);
+        streamToTest.validateRemaining();
+
+        /* test */
+        assertEquals(correctChecksum, streamToTest.getCalculatedChecksum());
+    }
+
+    @Test
+    void validate_remaining_with_wrong_checksum_fails() {
+        /* prepare */
+        ValidatingUploadInputStream streamToTest = createStream(CONTENT.length, "wrong");
+
+        /* execute + test */
+        assertThrows(IOException.class, () -> streamToTest.validateRemaining());
+        assertTrue(streamToTest.isChecksumInvalid());
+    }
+
+    private ValidatingUploadInputStream createStream(long expectedSize, String expectedChecksum) {
+        return new ValidatingUploadInputStream(new ByteArrayInputStream(CONTENT), checkSumSupport, expectedSize, expectedChecksum);
+    }
+}
@@ -0,0 +1,111 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.schedule.batch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mercedesbenz.sechub.domain.schedule.SchedulerJobDispatchSignal;
+
+class SecHubJobExecutionPoolTest {
+
+    private SecHubJobExecutionPool poolToTest;
+    private SchedulerJobDispatchSignal dispatchSignal;
+
+    @BeforeEach
+    void beforeEach() {
+        dispatchSignal = mock(SchedulerJobDispatchSignal.class);
+
+        poolToTest = new SecHubJobExecutionPool();
+        poolToTest.dispatchSignal = dispatchSignal;
+        poolToTest.maxConcurrentJobs = 2;
+        poolToTest.postConstruct();
+    }
+
+    @AfterEach
+    void afterEach() {
+        poolToTest.preDestroy();
+    }
+
+    @Test
+    void initial_pool_has_max_free_slots() {
+        /* test */
+        assertEquals(2, poolToTest.getAmountOfFreeSlots());
+        assertTrue(poolToTest.hasFreeSlot());
+        assertEquals(0, poolToTest.getAmountOfJobsInPool());
+    }
+
+    @Test
+    void max_lower_than_one_is_treated_as_one() {
+        /* prepare */
+        poolToTest.maxConcurrentJobs = 0;
+
+        /* test */
+        assertEquals(1, poolToTest.getMaxConcurrentJobs());
+    }
+
+    @Test
+    void running_jobs_use_slots_and_slots_are_released_after_end_and_signal_is_raised() throws Exception {
+        /* prepare */
+        CountDownLatch startedLatch = new CountDownLatch(2);
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+        Runnable blockingRunnable = () -> {
+            startedLatch.countDown();
+            try {
+                releaseLatch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        /* execute */
+        poolToTest.execute("test:", UUID.randomUUID(), blockingRunnable);
+        poolToTest.execute("test:", UUID.randomUUID(), blockingRunnable);
+
+        /* test */
+        assertTrue(startedLatch.await(5, TimeUnit.SECONDS));
+        assertFalse(poolToTest.hasFreeSlot());
+        assertEquals(2, poolToTest.getAmountOfJobsInPool());
+
+        /* execute */
+        releaseLatch.countDown();
+
+        /* test */
+        waitUntilPoolIsEmpty();
+        assertEquals(2, poolToTest.getAmountOfFreeSlots());
+        assertEquals(2, poolToTest.getAmountOfJobsExecuted());
+        verify(dispatchSignal, timeout(5000).times(2)).signal();
+    }
+
+    @Test
+    void thread_is_named_by_prefix_and_job_uuid_while_running() throws Exception {
+        /* prepare */
+        UUID jobUUID = UUID.randomUUID();
+        String[] threadName = new String[1];
+        CountDownLatch doneLatch = new CountDownLatch(1);
+
+        /* execute */
+        poolToTest.execute("test:", jobUUID, () -> {
+            threadName[0] = Thread.currentThread().getName();
+            doneLatch.countDown();
+        });
+
+        /* test */
+        assertTrue(doneLatch.await(5, TimeUnit.SECONDS));
+        assertEquals("test:" + jobUUID, threadName[0]);
+    }
+
+    private void waitUntilPoolIsEmpty() throws InterruptedException {
+        for (int i = 0; i < 100 && poolToTest.getAmountOfJobsInPool() > 0; i++) {
+            Thread.sleep(50);
+        }
+    }
+
+}
@@ -0,0 +1,287 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.domain.schedule.job;
+
+import static com.mercedesbenz.sechub.domain.schedule.job.ScheduleSecHubJob.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mercedesbenz.sechub.test.ManualTest;
+
+/**
+ * A simple contention benchmark for job claiming inside a cluster. Every
+ * simulated cluster member is a thread with its own database connection. The
+ * benchmark compares
+ * <ul>
+ * <li>the optimistic approach (fetch first job, update with version check,
+ * random wait on collision and retry)</li>
+ * <li>the skip locked approach (claim multiple jobs inside one statement, rows
+ * locked by others are skipped)</li>
+ * </ul>
+ * Needs a running PostgreSQL database. The benchmark creates its own schema
+ * and drops it at the end. Usage example:
+ *
+ * <pre>
+ * -Dsechub.manual.test.by.developer=true
+ * -Dsechub.manualtest.claim.jdbc.url=jdbc:postgresql://localhost:49152/sechub
+ * -Dsechub.manualtest.claim.jdbc.user=sechub
+ * -Dsechub.manualtest.claim.jdbc.password=sechub
+ * </pre>
+ *
+ * Optional: <code>sechub.manualtest.claim.jobs</code> (default 2000),
+ * <code>sechub.manualtest.claim.members</code> (default 6),
+ * <code>sechub.manualtest.claim.batch</code> (default 10)
+ */
+class SecHubJobClaimContentionManualTest implements ManualTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SecHubJobClaimContentionManualTest.class);
+
+    private static final String SCHEMA = "sechub_claim_benchmark";
+
+    private static final int OPTIMISTIC_TRIES = 5;
+    private static final int OPTIMISTIC_MAX_WAIT_RETRY_MILLIS = 300;
+    private static final int OPTIMISTIC_MIN_WAIT_RETRY_MILLIS = 10;
+
+    /* @formatter:off */
+    private static final String SQL_SELECT_FIRST_READY =
+            "SELECT " + COLUMN_UUID + ", VERSION FROM " + TABLE_NAME +
+            " WHERE " + COLUMN_STATE + " = 'READY_TO_START'" +
+            " ORDER BY " + COLUMN_CREATED + " LIMIT 1";
+
+    private static final String SQL_UPDATE_WITH_VERSION_CHECK =
+            "UPDATE " + TABLE_NAME + " SET " + COLUMN_STATE + " = 'STARTED', VERSION = VERSION + 1" +
+            " WHERE " + COLUMN_UUID + " = ? AND VERSION = ?";
+
+    private static final String SQL_CLAIM_SKIP_LOCKED =
+            "SELECT j." + COLUMN_UUID + " FROM " + TABLE_NAME + " j" +
+            " WHERE j." + COLUMN_STATE + " = 'READY_TO_START'" +
+            " ORDER BY j." + COLUMN_CREATED +
+            " LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String SQL_UPDATE_CLAIMED =
+            "UPDATE " + TABLE_NAME + " SET " + COLUMN_STATE + " = 'STARTED', VERSION = VERSION + 1" +
+            " WHERE " + COLUMN_UUID + " = ?";
+    /* @formatter:on */
+
+    private String url;
+    private String user;
+    private String password;
+
+    @Test
+    void manualTestByDeveloper() throws Exception {
+        url = System.getProperty("sechub.manualtest.claim.jdbc.url");
+        user = System.getProperty("sechub.manualtest.claim.jdbc.user");
+        password = System.getProperty("sechub.manualtest.claim.jdbc.password");
+        if (url == null) {
+            throw new IllegalArgumentException("usage: -Dsechub.manualtest.claim.jdbc.url=... (and user, password)");
+        }
+        int jobs = Integer.getInteger("sechub.manualtest.claim.jobs", 2000);
+        int members = Integer.getInteger("sechub.manualtest.claim.members", 6);
+        int batch = Integer.getInteger("sechub.manualtest.claim.batch", 10);
+
+        try {
+            BenchmarkResult optimistic = measure("optimistic", jobs, members, () -> claimOptimistic());
+            BenchmarkResult skipLocked = measure("skip-locked", jobs, members, () -> claimSkipLocked(batch));
+
+            LOG.info("Claim benchmark - jobs: {}, cluster members: {}, batch size: {}", jobs, members, batch);
+            LOG.info(optimistic.toString());
+            LOG.info(skipLocked.toString());
+        } finally {
+            execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        }
+    }
+
+    private interface ClaimOperation {
+        /**
+         * @return claim info, never <code>null</code>
+         */
+        ClaimInfo claim(Connection connection) throws SQLException;
+    }
+
+    private interface ClaimOperationFactory {
+        ClaimOperation create();
+    }
+
+    private static class ClaimInfo {
+        private int claimed;
+        private int collisions;
+    }
+
+    private BenchmarkResult measure(String name, int jobs, int members, ClaimOperationFactory factory) throws Exception {
+        prepareJobs(jobs);
+
+        AtomicInteger claimed = new AtomicInteger();
+        AtomicInteger collisions = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(members);
+        long start = System.nanoTime();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < members; i++) {
+            ClaimOperation operation = factory.create();
+            futures.add(executor.submit(() -> {
+                try (Connection connection = createConnection()) {
+                    connection.setAutoCommit(false);
+                    while (true) {
+                        ClaimInfo info = operation.claim(connection);
+                        collisions.addAndGet(info.collisions);
+                        if (info.claimed == 0 && info.collisions == 0) {
+                            break;
+                        }
+                        claimed.addAndGet(info.claimed);
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        executor.shutdown();
+
+        BenchmarkResult result = new BenchmarkResult();
+        result.name = name;
+        result.claimed = claimed.get();
+        result.collisions = collisions.get();
+        result.elapsedMillis = elapsedMillis;
+        return result;
+    }
+
+    private ClaimOperation claimOptimistic() {
+        return connection -> {
+            ClaimInfo info = new ClaimInfo();
+            for (int tries = 0; tries < OPTIMISTIC_TRIES; tries++) {
+                UUID uuid = null;
+                int version = 0;
+                try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(SQL_SELECT_FIRST_READY)) {
+                    if (resultSet.next()) {
+                        uuid = (UUID) resultSet.getObject(1);
+                        version = resultSet.getInt(2);
+                    }
+                }
+                if (uuid == null) {
+                    connection.commit();
+                    return info;
+                }
+                try (PreparedStatement update = connection.prepareStatement(SQL_UPDATE_WITH_VERSION_CHECK)) {
+                    update.setObject(1, uuid);
+                    update.setInt(2, version);
+                    if (update.executeUpdate() == 1) {
+                        connection.commit();
+                        info.claimed = 1;
+                        return info;
+                    }
+                }
+                connection.rollback();
+                info.collisions++;
+                sleep(ThreadLocalRandom.current().nextInt(OPTIMISTIC_MIN_WAIT_RETRY_MILLIS, OPTIMISTIC_MAX_WAIT_RETRY_MILLIS));
+            }
+            return info;
+        };
+    }
+
+    private ClaimOperation claimSkipLocked(int batch) {
+        return connection -> {
+            ClaimInfo info = new ClaimInfo();
+            List<UUID> uuids = new ArrayList<>();
+            try (PreparedStatement select = connection.prepareStatement(SQL_CLAIM_SKIP_LOCKED)) {
+                select.setInt(1, batch);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        uuids.add((UUID) resultSet.getObject(1));
+                    }
+                }
+            }
+            try (PreparedStatement update = connection.prepareStatement(SQL_UPDATE_CLAIMED)) {
+                for (UUID uuid : uuids) {
+                    update.setObject(1, uuid);
+                    update.addBatch();
+                }
+                if (!uuids.isEmpty()) {
+                    update.executeBatch();
+                }
+            }
+            connection.commit();
+            info.claimed = uuids.size();
+            return info;
+        };
+    }
+
+    private void prepareJobs(int jobs) throws SQLException {
+        execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        execute("CREATE SCHEMA " + SCHEMA);
+        execute("CREATE TABLE " + SCHEMA + "." + TABLE_NAME + " (" + COLUMN_UUID + " uuid not null, " + COLUMN_CREATED + " timestamp not null, " + COLUMN_STATE
+                + " varchar(30) not null, " + COLUMN_PROJECT_ID + " varchar(60) not null, VERSION integer, PRIMARY KEY (" + COLUMN_UUID + "))");
+
+        try (Connection connection = createConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO " + TABLE_NAME + " (" + COLUMN_UUID + "," + COLUMN_CREATED + "," + COLUMN_STATE + "," + COLUMN_PROJECT_ID
+                            + ",VERSION) VALUES (?,?,?,?,0)")) {
+                LocalDateTime created = LocalDateTime.now().minusDays(1);
+                for (int i = 0; i < jobs; i++) {
+                    insert.setObject(1, UUID.randomUUID());
+                    insert.setTimestamp(2, Timestamp.valueOf(created.plusNanos(i * 1000L)));
+                    insert.setString(3, "READY_TO_START");
+                    insert.setString(4, "project" + (i % 100));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, user, password); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private Connection createConnection() throws SQLException {
+        Connection connection = DriverManager.getConnection(url, user, password);
+        connection.setSchema(SCHEMA);
+        return connection;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private class BenchmarkResult {
+        private String name;
+        private int claimed;
+        private int collisions;
+        private long elapsedMillis;
+
+        @Override
+        public String toString() {
+            double jobsPerSecond = elapsedMillis == 0 ? claimed : (claimed * 1000.0) / elapsedMillis;
+            return String.format("%-12s claimed: %6d, collisions: %6d, time: %6d ms, throughput: %10.1f jobs/s", name, claimed, collisions, elapsedMillis,
+                    jobsPerSecond);
+        }
+    }
+}
@@ -759,6 +759,91 @@ public class SecHubJobRepositoryDBTest {
         assertEquals(expectedNextJob.getUUID(), jobUUID);
     }
 
+    @Test
+    void claimNextJobIdsToExecuteFirstInFirstOut_no_jobs_returns_empty_list() {
+        /* execute */
+        List<UUID> result = jobRepository.claimNextJobIdsToExecuteFirstInFirstOut(5);
+
+        /* test */
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void claimNextJobIdsToExecuteFirstInFirstOut_returns_ready_jobs_in_created_order_limited_by_maximum() {
+        /* prepare */
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        ScheduleSecHubJob job1 = jobCreator.being(READY_TO_START).created(base.plusSeconds(1)).create();
+        jobCreator.being(STARTED).created(base.plusSeconds(2)).create();
+        ScheduleSecHubJob job3 = jobCreator.being(READY_TO_START).created(base.plusSeconds(3)).create();
+        jobCreator.being(READY_TO_START).created(base.plusSeconds(4)).create();
+
+        /* execute */
+        List<UUID> result = jobRepository.claimNextJobIdsToExecuteFirstInFirstOut(2);
+
+        /* test */
+        assertEquals(List.of(job1.getUUID(), job3.getUUID()), result);
+    }
+
+    @Test
+    void claimNextJobIdsToExecuteFirstInFirstOut_maximum_0_returns_empty_list() {
+        /* prepare */
+        jobCreator.being(READY_TO_START).create();
+
+        /* execute */
+        List<UUID> result = jobRepository.claimNextJobIdsToExecuteFirstInFirstOut(0);
+
+        /* test */
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void claimNextJobIdsToExecuteForProjectNotYetExecuted_only_one_job_per_project_and_no_job_for_running_project() {
+        /* prepare */
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        jobCreator.project("p1").being(STARTED).created(base.plusSeconds(1)).create();
+        jobCreator.project("p1").being(READY_TO_START).created(base.plusSeconds(2)).create();
+        ScheduleSecHubJob job3 = jobCreator.project("p2").being(READY_TO_START).created(base.plusSeconds(3)).create();
+        jobCreator.project("p2").being(READY_TO_START).created(base.plusSeconds(4)).create();
+        ScheduleSecHubJob job5 = jobCreator.project("p3").being(READY_TO_START).created(base.plusSeconds(5)).create();
+
+        /* execute */
+        List<UUID> result = jobRepository.claimNextJobIdsToExecuteForProjectNotYetExecuted(10);
+
+        /* test */
+        assertEquals(List.of(job3.getUUID(), job5.getUUID()), result);
+    }
+
+    @Test
+    void claimNextJobIdsToExecuteForProjectNotYetExecuted_limited_by_maximum() {
+        /* prepare */
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        ScheduleSecHubJob job1 = jobCreator.project("p1").being(READY_TO_START).created(base.plusSeconds(1)).create();
+        jobCreator.project("p2").being(READY_TO_START).created(base.plusSeconds(2)).create();
+
+        /* execute */
+        List<UUID> result = jobRepository.claimNextJobIdsToExecuteForProjectNotYetExecuted(1);
+
+        /* test */
+        assertEquals(List.of(job1.getUUID()), result);
+    }
+
+    @Test
+    void claimNextJobIdsToExecuteForProjectAndModuleGroupNotYetExecuted_one_job_per_project_and_module_group() {
+        /* prepare */
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        jobCreator.project("p1").module(ModuleGroup.STATIC).being(STARTED).created(base.plusSeconds(1)).create();
+        jobCreator.project("p1").module(ModuleGroup.STATIC).being(READY_TO_START).created(base.plusSeconds(2)).create();
+        ScheduleSecHubJob job3 = jobCreator.project("p1").module(ModuleGroup.DYNAMIC).being(READY_TO_START).created(base.plusSeconds(3)).create();
+        jobCreator.project("p1").module(ModuleGroup.DYNAMIC).being(READY_TO_START).created(base.plusSeconds(4)).create();
+        ScheduleSecHubJob job5 = jobCreator.project("p2").module(ModuleGroup.STATIC).being(READY_TO_START).created(base.plusSeconds(5)).create();
+
+        /* execute */
+        List<UUID> result = jobRepository.claimNextJobIdsToExecuteForProjectAndModuleGroupNotYetExecuted(10);
+
+        /* test */
+        assertEquals(List.of(job3.getUUID(), job5.getUUID()), result);
+    }
+
     private void assertDeleted(int expected, int deleted, DeleteJobTestData testData, LocalDateTime olderThan) {
         if (deleted == expected) {
             return;
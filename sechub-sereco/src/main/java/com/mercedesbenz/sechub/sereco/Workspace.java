@@ -63,16 +63,32 @@ public class Workspace {
     }
 
     public void doImport(SecHubConfiguration sechubConfig, ImportParameter param) throws IOException {
+        merge(importToMetaData(sechubConfig, param));
+    }
+
+    /**
+     * Imports given product data into new meta data - the workspace itself is
+     * not changed. Sensitive data is already masked. This method can be called
+     * in parallel, afterwards the results must be merged into the workspace by
+     * {@link #merge(SerecoMetaData)}.
+     *
+     * @param sechubConfig sechub configuration
+     * @param param        import parameter
+     * @return imported meta data, never <code>null</code>
+     * @throws IOException when no importer was able to import
+     */
+    public SerecoMetaData importToMetaData(SecHubConfiguration sechubConfig, ImportParameter param) throws IOException {
         if (param == null) {
             throw new IllegalArgumentException("param may not be null!");
         }
+        SerecoMetaData result = new SerecoMetaData();
         if (param.getImportData() == null) {
             LOG.error("Import data was null for import id:{}, so unable to import.", param.getImportId());
-            return;
+            return result;
         }
         if (param.getImportId() == null) {
             LOG.error("Import data was not null, but import id was not set, so unable to import.");
-            return;
+            return result;
         }
         boolean atLeastOneImporterWasAbleToImport = false;
         for (ProductResultImporter importer : registry.getImporters()) {
@@ -87,9 +103,9 @@ public class Workspace {
                  */
                 ProductFailureMetaDataBuilder builder = new ProductFailureMetaDataBuilder();
                 SerecoMetaData failureMetaData = builder.forParam(param).build();
-                mergeWithWorkspaceData(sechubConfig, failureMetaData);
+                mergeMasked(result, sechubConfig, failureMetaData);
 
-                mergeWithWorkspaceData(param.getProductMessages());
+                mergeMessages(result, param.getProductMessages());
 
                 atLeastOneImporterWasAbleToImport = true;
                 break;
@@ -100,16 +116,16 @@ public class Workspace {
                 if (importedMetaData == null) {
                     LOG.error("Meta data was null for product={}, importer={}, importId={}, scanType={}", param.getProductId(),
                             importer.getClass().getSimpleName(), param.getImportId(), param.getScanType());
-                    return;
+                    return result;
                 }
-                mergeWithWorkspaceData(sechubConfig, importedMetaData);
+                mergeMasked(result, sechubConfig, importedMetaData);
 
                 /* add now success meta data */
                 ProductSuccessMetaDataBuilder builder = new ProductSuccessMetaDataBuilder();
                 SerecoMetaData successMetaData = builder.forParam(param).build();
-                mergeWithWorkspaceData(sechubConfig, successMetaData);
+                mergeMasked(result, sechubConfig, successMetaData);
 
-                mergeWithWorkspaceData(param.getProductMessages());
+                mergeMessages(result, param.getProductMessages());
 
                 atLeastOneImporterWasAbleToImport = true;
 
@@ -130,14 +146,33 @@ public class Workspace {
                     param.getImportId(), importerNames);
             throw new IOException("Import failed, no importer was able to import product result: " + param.getProductId());
         }
+        return result;
+    }
 
+    /**
+     * Merges given (already masked) meta data into workspace. Not thread safe -
+     * merges must be done one after another and in a defined order to have always
+     * the same report.
+     *
+     * @param metaData meta data to merge
+     */
+    public void merge(SerecoMetaData metaData) {
+        if (metaData == null) {
+            return;
+        }
+        /* currently a very simple approach for vulnerabilities: */
+        workspaceMetaData.getVulnerabilities().addAll(metaData.getVulnerabilities());
+
+        workspaceMetaData.getAnnotations().addAll(metaData.getAnnotations());
+
+        workspaceMetaData.getLicenseDocuments().addAll(metaData.getLicenseDocuments());
     }
 
-    private void mergeWithWorkspaceData(List<SecHubMessage> productMessages) {
+    private void mergeMessages(SerecoMetaData target, List<SecHubMessage> productMessages) {
         if (productMessages == null || productMessages.isEmpty()) {
             return;
         }
-        Set<SerecoAnnotation> annotations = workspaceMetaData.getAnnotations();
+        Set<SerecoAnnotation> annotations = target.getAnnotations();
 
         for (SecHubMessage message : productMessages) {
             SerecoAnnotation annotation = SerecoAnnotation.fromSecHubMessage(message);
@@ -145,15 +180,14 @@ public class Workspace {
         }
     }
 
-    private void mergeWithWorkspaceData(SecHubConfiguration sechubConfig, SerecoMetaData metaData) {
+    private void mergeMasked(SerecoMetaData target, SecHubConfiguration sechubConfig, SerecoMetaData metaData) {
         List<SerecoVulnerability> maskedSerecoVulnerabilities = maskingService.maskSensitiveData(sechubConfig, metaData.getVulnerabilities());
 
-        /* currently a very simple approach for vulnerabilities: */
-        workspaceMetaData.getVulnerabilities().addAll(maskedSerecoVulnerabilities);
+        target.getVulnerabilities().addAll(maskedSerecoVulnerabilities);
 
-        workspaceMetaData.getAnnotations().addAll(metaData.getAnnotations());
+        target.getAnnotations().addAll(metaData.getAnnotations());
 
-        workspaceMetaData.getLicenseDocuments().addAll(metaData.getLicenseDocuments());
+        target.getLicenseDocuments().addAll(metaData.getLicenseDocuments());
     }
 
     public String createReport() {
@@ -2,13 +2,14 @@
 package com.mercedesbenz.sechub.sereco.importer;
 
 import java.io.IOException;
-import java.util.List;
+import java.io.StringReader;
 import java.util.regex.Pattern;
 
-import org.dom4j.Document;
-import org.dom4j.DocumentException;
-import org.dom4j.DocumentHelper;
-import org.dom4j.Element;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import org.springframework.stereotype.Component;
 
 import com.mercedesbenz.sechub.commons.model.ScanType;
@@ -17,6 +18,10 @@ import com.mercedesbenz.sechub.sereco.metadata.SerecoMetaData;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoSeverity;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoVulnerability;
 
+/**
+ * Imports Checkmarx CxXML results. The XML is read by a StAX stream reader, so
+ * no document tree is created - only the vulnerabilities are kept in memory.
+ */
 @Component
 public class CheckmarxV1XMLImporter extends AbstractProductResultImporter {
 
@@ -26,138 +31,175 @@ public class CheckmarxV1XMLImporter extends AbstractProductResultImporter {
         if (xml == null) {
             xml = "";
         }
-        Document document;
-        try {
-            document = DocumentHelper.parseText(xml);
-        } catch (DocumentException e) {
-            throw new IOException("Import cannot parse xml", e);
-        }
-
+        SerecoMetaData metaData = new SerecoMetaData();
         CheckmarxCategoriesToClassificationConverter categoryConverter = new CheckmarxCategoriesToClassificationConverter();
 
-        SerecoMetaData metaData = new SerecoMetaData();
-        Element checkmarxCxXMLResults = document.getRootElement();
-        List<Element> queryElements = checkmarxCxXMLResults.elements("Query");
+        XMLStreamReader reader = null;
+        try {
+            reader = createXMLInputFactory().createXMLStreamReader(new StringReader(xml));
 
-        for (Element queryElement : queryElements) {
+            moveToRootElement(reader);
+            while (nextChildElement(reader)) {
+                if ("Query".equals(reader.getLocalName())) {
+                    readQuery(reader, metaData, categoryConverter);
+                } else {
+                    skipElement(reader);
+                }
+            }
+            /* ensure complete document is well formed */
+            while (reader.hasNext()) {
+                reader.next();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Import cannot parse xml", e);
+        } finally {
+            close(reader);
+        }
+        return metaData;
+    }
 
-            String name = queryElement.attributeValue("name");
-            String type = NAME_PATTERN.matcher(name).replaceAll(" ");
-            String categories = queryElement.attributeValue("categories");
-            String cweId = queryElement.attributeValue("cweId");
+    private void readQuery(XMLStreamReader reader, SerecoMetaData metaData, CheckmarxCategoriesToClassificationConverter categoryConverter)
+            throws XMLStreamException {
+        String name = reader.getAttributeValue(null, "name");
+        String type = NAME_PATTERN.matcher(name).replaceAll(" ");
+        String categories = reader.getAttributeValue(null, "categories");
+        String cweId = reader.getAttributeValue(null, "cweId");
 
-            List<Element> resultElements = queryElement.elements("Result");
-            for (Element resultElement : resultElements) {
+        while (nextChildElement(reader)) {
+            if (!"Result".equals(reader.getLocalName())) {
+                skipElement(reader);
+                continue;
+            }
+            String falsePositive = reader.getAttributeValue(null, "FalsePositive");
+            String deeplink = reader.getAttributeValue(null, "DeepLink");
+            String severity = reader.getAttributeValue(null, "Severity");
 
-                String falsePositive = resultElement.attributeValue("FalsePositive");
-                String deeplink = resultElement.attributeValue("DeepLink");
-                String severity = resultElement.attributeValue("Severity");
+            SerecoVulnerability vulnerability = new SerecoVulnerability();
+            vulnerability.setFalsePositive(Boolean.parseBoolean(falsePositive));
+            if (vulnerability.isFalsePositive()) {
+                vulnerability.setFalsePositiveReason("marked directly in security product");
+            }
+            vulnerability.setType(type);
+            if ("Information".equalsIgnoreCase(severity)) {
+                severity = "info";
+            }
+            vulnerability.setSeverity(SerecoSeverity.fromString(severity));
 
-                SerecoVulnerability vulnerability = new SerecoVulnerability();
-                vulnerability.setFalsePositive(Boolean.parseBoolean(falsePositive));
-                if (vulnerability.isFalsePositive()) {
-                    vulnerability.setFalsePositiveReason("marked directly in security product");
-                }
-                vulnerability.setType(type);
-                if ("Information".equalsIgnoreCase(severity)) {
-                    severity = "info";
-                }
-                vulnerability.setSeverity(SerecoSeverity.fromString(severity));
+            SerecoCodeCallStackElement codeInfo = readCodeInfoFromResult(reader);
 
-                SerecoCodeCallStackElement codeInfo = resolveCodeInfoFromElement(resultElement);
+            vulnerability.setCode(codeInfo);
+            vulnerability.setProductResultLink(deeplink);
+            vulnerability.setDescription(""); // at least at the moment we set no description any more
+            vulnerability.getClassification().setCwe(cweId);
+            vulnerability.setScanType(ScanType.CODE_SCAN);
 
-                vulnerability.setCode(codeInfo);
-                vulnerability.setProductResultLink(deeplink);
-                vulnerability.setDescription(""); // at least at the moment we set no description any more
-                vulnerability.getClassification().setCwe(cweId);
-                vulnerability.setScanType(ScanType.CODE_SCAN);
+            categoryConverter.convert(categories, vulnerability.getClassification());
 
-                categoryConverter.convert(categories, vulnerability.getClassification());
+            metaData.getVulnerabilities().add(vulnerability);
+        }
+    }
 
-                metaData.getVulnerabilities().add(vulnerability);
+    private SerecoCodeCallStackElement readCodeInfoFromResult(XMLStreamReader reader) throws XMLStreamException {
+        SerecoCodeCallStackElement initialCodeInfo = null;
+        boolean pathFound = false;
+        while (nextChildElement(reader)) {
+            if (pathFound || !"Path".equals(reader.getLocalName())) {
+                /* only first path is used */
+                skipElement(reader);
+                continue;
             }
+            pathFound = true;
+            initialCodeInfo = readPath(reader);
         }
-        return metaData;
+        return initialCodeInfo;
     }
 
-    private SerecoCodeCallStackElement resolveCodeInfoFromElement(Element resultElement) {
-        Element path = resultElement.element("Path");
-        if (path == null) {
-            return null;
-        }
-        List<Element> pathNodes = path.elements("PathNode");
+    private SerecoCodeCallStackElement readPath(XMLStreamReader reader) throws XMLStreamException {
         SerecoCodeCallStackElement initialCodeInfo = null;
         SerecoCodeCallStackElement infoBefore = null;
-        for (Element pathNode : pathNodes) {
+        while (nextChildElement(reader)) {
+            if (!"PathNode".equals(reader.getLocalName())) {
+                skipElement(reader);
+                continue;
+            }
             SerecoCodeCallStackElement info = new SerecoCodeCallStackElement();
             if (initialCodeInfo == null) {
                 initialCodeInfo = info;
             }
-            fillPathNodeInfo(info, pathNode);
+            readPathNode(reader, info);
             if (infoBefore != null) {
                 infoBefore.setCalls(info);
             }
             infoBefore = info;
         }
         return initialCodeInfo;
-
     }
 
-    private void fillPathNodeInfo(SerecoCodeCallStackElement info, Element pathNode) {
+    private void readPathNode(XMLStreamReader reader, SerecoCodeCallStackElement info) throws XMLStreamException {
+        /* like for a document tree, always the first child element with a name is used */
+        boolean fileNameFound = false;
+        boolean lineFound = false;
+        boolean columnFound = false;
+        boolean nameFound = false;
+        boolean snippetFound = false;
 
-        Element filename = pathNode.element("FileName");
-        if (filename != null) {
-            info.setLocation(filename.getStringValue());
-        }
-        Element line = pathNode.element("Line");
-        if (line != null) {
-            info.setLine(safeGetInteger(line));
-        }
-        Element column = pathNode.element("Column");
-        if (column != null) {
-            info.setColumn(safeGetInteger(column));
-        }
+        while (nextChildElement(reader)) {
+            String localName = reader.getLocalName();
+            if (!fileNameFound && "FileName".equals(localName)) {
+                fileNameFound = true;
+                info.setLocation(readStringValue(reader));
 
-        Element name = pathNode.element("Name");
-        if (name != null) {
-            info.setRelevantPart(name.getStringValue());
-        }
+            } else if (!lineFound && "Line".equals(localName)) {
+                lineFound = true;
+                info.setLine(safeGetInteger(readStringValue(reader)));
 
-        addSource(info, pathNode);
+            } else if (!columnFound && "Column".equals(localName)) {
+                columnFound = true;
+                info.setColumn(safeGetInteger(readStringValue(reader)));
 
-    }
+            } else if (!nameFound && "Name".equals(localName)) {
+                nameFound = true;
+                info.setRelevantPart(readStringValue(reader));
 
-    private void addSource(SerecoCodeCallStackElement info, Element pathNode) {
-        if (pathNode == null) {
-            return;
-        }
-        /* add source snippet */
-        Element snippet = pathNode.element("Snippet");
-        if (snippet == null) {
-            return;
-        }
-        Element snippetLine = snippet.element("Line");
-        if (snippetLine == null) {
-            return;
+            } else if (!snippetFound && "Snippet".equals(localName)) {
+                snippetFound = true;
+                addSource(reader, info);
+
+            } else {
+                skipElement(reader);
+            }
         }
-        Element snippetCode = snippetLine.element("Code");
-        if (snippetCode == null) {
-            return;
+    }
+
+    private void addSource(XMLStreamReader reader, SerecoCodeCallStackElement info) throws XMLStreamException {
+        /* add source snippet - from first code of first line inside snippet */
+        boolean lineFound = false;
+        while (nextChildElement(reader)) {
+            if (lineFound || !"Line".equals(reader.getLocalName())) {
+                skipElement(reader);
+                continue;
+            }
+            lineFound = true;
+
+            boolean codeFound = false;
+            while (nextChildElement(reader)) {
+                if (codeFound || !"Code".equals(reader.getLocalName())) {
+                    skipElement(reader);
+                    continue;
+                }
+                codeFound = true;
+                info.setSource(readStringValue(reader));
+            }
         }
-        info.setSource(snippetCode.getStringValue());
     }
 
     /**
-     * Parses element string value and tries to resolve as integer
+     * Tries to resolve given string as integer
      *
-     * @param element
+     * @param string
      * @return integer value or <code>null</code>
      */
-    Integer safeGetInteger(Element element) {
-        if (element == null) {
-            return null;
-        }
-        String string = element.getStringValue();
+    Integer safeGetInteger(String string) {
         if (string == null) {
             return null;
         }
@@ -168,6 +210,98 @@ public class CheckmarxV1XMLImporter extends AbstractProductResultImporter {
         }
     }
 
+    private XMLInputFactory createXMLInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        /* CxXML has no DTD - so we do not support it, also avoids XXE attacks */
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        return factory;
+    }
+
+    private void moveToRootElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                return;
+            }
+        }
+        throw new XMLStreamException("No root element found");
+    }
+
+    /**
+     * Moves reader to next child element of current element.
+     *
+     * @return <code>true</code> when reader is at start of a child element,
+     *         <code>false</code> when reader is at end of current element
+     */
+    private boolean nextChildElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        throw new XMLStreamException("Unexpected end of document");
+    }
+
+    /**
+     * Skips current element including all children - afterwards the reader is at
+     * end of the element.
+     */
+    private void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Reads text of current element and all its children - afterwards the reader
+     * is at end of the element.
+     */
+    private String readStringValue(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder sb = new StringBuilder();
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            switch (event) {
+            case XMLStreamConstants.START_ELEMENT:
+                depth++;
+                break;
+            case XMLStreamConstants.END_ELEMENT:
+                depth--;
+                break;
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.CDATA:
+            case XMLStreamConstants.SPACE:
+                sb.append(reader.getText());
+                break;
+            default:
+                break;
+            }
+        }
+        return sb.toString();
+    }
+
+    private void close(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            /* ignore - string reader */
+        }
+    }
+
     @Override
     protected ImportSupport createImportSupport() {
         /* @formatter:off */
@@ -0,0 +1,181 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.sereco.importer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import de.jcup.sarif_2_1_0.model.Result;
+import de.jcup.sarif_2_1_0.model.Run;
+import de.jcup.sarif_2_1_0.model.SarifSchema210;
+
+/**
+ * Reads SARIF JSON in a streaming way. In contrast to a full import of the
+ * SARIF object model, only one result is held in memory at a time.<br>
+ * <br>
+ * The data is read in two passes, because SARIF does not define an order for
+ * the fields of a run - many tools write the results before the tool section
+ * containing the rules:
+ * <ol>
+ * <li>all runs are read without their results (tool, rules, taxonomies
+ * etc.)</li>
+ * <li>the results of every run are read one by one and given to the result
+ * handler together with the run from first pass</li>
+ * </ol>
+ * The data is validated as strict as a full import by
+ * <code>SarifSchema210ImportExportSupport</code>: a mapper with Jackson default
+ * settings is used, so unknown properties, comments, single quotes or single
+ * values instead of arrays are not accepted. Top level fields other than the
+ * runs are bound to the SARIF model as well.
+ */
+class SarifJSONStreamingReader {
+
+    private static final String FIELD_RUNS = "runs";
+    private static final String FIELD_RESULTS = "results";
+
+    private final JsonMapper mapper;
+
+    interface SarifResultHandler {
+
+        /**
+         * Handles one SARIF result
+         *
+         * @param run    the run containing the result - the results list of the run
+         *               is not filled
+         * @param result the result, never <code>null</code>
+         */
+        void handle(Run run, Result result);
+    }
+
+    SarifJSONStreamingReader() {
+        /* no lenient mapper from JsonMapperFactory - validation must stay strict */
+        mapper = JsonMapper.builder().build();
+    }
+
+    /**
+     * Reads given SARIF json and calls the handler for every result of every run
+     *
+     * @param json    SARIF json
+     * @param handler result handler
+     * @throws IOException when the data is not valid SARIF json
+     */
+    void read(String json, SarifResultHandler handler) throws IOException {
+        List<Run> runs = readRunsWithoutResults(json);
+
+        try (JsonParser parser = createParserAndMoveToRuns(json)) {
+            int runIndex = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                Run run = runs.get(runIndex++);
+                readResultsOfRun(parser, run, handler);
+            }
+        }
+    }
+
+    private List<Run> readRunsWithoutResults(String json) throws IOException {
+        List<Run> runs = null;
+        ObjectNode otherFields = mapper.createObjectNode();
+        try (JsonParser parser = mapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("SARIF json must start with an object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (FIELD_RUNS.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                    runs = readRuns(parser);
+                } else {
+                    otherFields.set(fieldName, mapper.readTree(parser));
+                }
+            }
+            /* read until end, so we recognize invalid json after the object as well */
+            while (parser.nextToken() != null) {
+                parser.skipChildren();
+            }
+        }
+        if (runs == null) {
+            throw new IOException("SARIF json does not contain runs");
+        }
+        /* validate the other fields - runs were already validated */
+        mapper.treeToValue(otherFields, SarifSchema210.class);
+
+        return runs;
+    }
+
+    private List<Run> readRuns(JsonParser parser) throws IOException {
+        List<Run> runs = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+            ObjectNode runNode = mapper.createObjectNode();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (FIELD_RESULTS.equals(fieldName)) {
+                    assertResultsArrayOrNull(valueToken);
+                    parser.skipChildren();
+                } else {
+                    JsonNode value = mapper.readTree(parser);
+                    runNode.set(fieldName, value);
+                }
+            }
+            runs.add(mapper.treeToValue(runNode, Run.class));
+        }
+        if (token != JsonToken.END_ARRAY) {
+            throw new IOException("SARIF run must be an object, but found: " + token);
+        }
+        return runs;
+    }
+
+    private void assertResultsArrayOrNull(JsonToken valueToken) throws IOException {
+        if (valueToken == JsonToken.START_ARRAY || valueToken == JsonToken.VALUE_NULL) {
+            return;
+        }
+        throw new IOException("SARIF results must be an array, but found: " + valueToken);
+    }
+
+    private void readResultsOfRun(JsonParser parser, Run run, SarifResultHandler handler) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!FIELD_RESULTS.equals(fieldName) || valueToken != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    throw new IOException("SARIF result must be an object, but found: " + token);
+                }
+                Result result = mapper.readValue(parser, Result.class);
+                handler.handle(run, result);
+            }
+        }
+    }
+
+    private JsonParser createParserAndMoveToRuns(String json) throws IOException {
+        JsonParser parser = mapper.getFactory().createParser(json);
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            parser.close();
+            throw new IOException("SARIF json must start with an object");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (FIELD_RUNS.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                return parser;
+            }
+            parser.skipChildren();
+        }
+        parser.close();
+        throw new IOException("SARIF json does not contain runs");
+    }
+
+}
@@ -28,7 +28,6 @@ import com.mercedesbenz.sechub.sereco.metadata.SerecoWebEvidence;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoWebRequest;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoWebResponse;
 
-import de.jcup.sarif_2_1_0.SarifSchema210ImportExportSupport;
 import de.jcup.sarif_2_1_0.SarifSchema210LogicSupport;
 import de.jcup.sarif_2_1_0.model.ArtifactContent;
 import de.jcup.sarif_2_1_0.model.ArtifactLocation;
@@ -45,7 +44,6 @@ import de.jcup.sarif_2_1_0.model.ReportingDescriptorRelationship;
 import de.jcup.sarif_2_1_0.model.Result;
 import de.jcup.sarif_2_1_0.model.Result.Level;
 import de.jcup.sarif_2_1_0.model.Run;
-import de.jcup.sarif_2_1_0.model.SarifSchema210;
 import de.jcup.sarif_2_1_0.model.ThreadFlow;
 import de.jcup.sarif_2_1_0.model.ToolComponentReference;
 import de.jcup.sarif_2_1_0.model.WebRequest;
@@ -64,11 +62,11 @@ public class SarifV1JSONImporter extends AbstractProductResultImporter {
 
     private static final Logger LOG = LoggerFactory.getLogger(SarifV1JSONImporter.class);
 
-    SarifSchema210ImportExportSupport sarifSchema210ImportExportSupport;
+    SarifJSONStreamingReader sarifStreamingReader;
     SarifSchema210LogicSupport sarifSchema210LogicSupport;
 
     public SarifV1JSONImporter() {
-        sarifSchema210ImportExportSupport = new SarifSchema210ImportExportSupport();
+        sarifStreamingReader = new SarifJSONStreamingReader();
         sarifSchema210LogicSupport = new SarifSchema210LogicSupport();
     }
 
@@ -78,10 +76,20 @@ public class SarifV1JSONImporter extends AbstractProductResultImporter {
             data = "";
         }
 
-        SarifSchema210 report = null;
+        SerecoMetaData metaData = new SerecoMetaData();
+        List<SerecoVulnerability> vulnerabilities = metaData.getVulnerabilities();
 
         try {
-            report = sarifSchema210ImportExportSupport.fromJSON(data);
+            /*
+             * results are read and converted one by one - so the complete SARIF object
+             * model is never inside memory
+             */
+            sarifStreamingReader.read(data, (run, result) -> {
+                SerecoVulnerability vulnerability = createSerecoVulnerability(run, result, scanType);
+                if (vulnerability != null) {
+                    vulnerabilities.add(vulnerability);
+                }
+            });
         } catch (Exception e) {
             /*
              * here we can throw the exception - should never happen, because with
@@ -90,27 +98,10 @@ public class SarifV1JSONImporter extends AbstractProductResultImporter {
              */
             throw new IOException("Import cannot parse sarif json", e);
         }
-        SerecoMetaData metaData = new SerecoMetaData();
-
-        for (Run run : report.getRuns()) {
-            handleEachRun(run, metaData, scanType);
-        }
         return metaData;
     }
 
-    private void handleEachRun(Run run, SerecoMetaData metaData, ScanType scanType) {
-        List<Result> results = run.getResults();
-
-        for (Result result : results) {
-
-            SerecoVulnerability vulnerability = createSerecoVulnerability(run, result, scanType);
-            if (vulnerability != null) {
-                metaData.getVulnerabilities().add(vulnerability);
-            }
-        }
-    }
-
-    private SerecoVulnerability createSerecoVulnerability(Run run, Result result, ScanType scanType) {
+    SerecoVulnerability createSerecoVulnerability(Run run, Result result, ScanType scanType) {
         if (result == null) {
             return null;
         }
@@ -502,7 +493,9 @@ public class SarifV1JSONImporter extends AbstractProductResultImporter {
 
     private boolean isValidSarif(String json) {
         try {
-            sarifSchema210ImportExportSupport.fromJSON(json);
+            sarifStreamingReader.read(json, (run, result) -> {
+                /* we only check the data can be read */
+            });
             return true;
         } catch (Exception e) {
             /* ignore error - except for tracing */
@@ -123,4 +123,82 @@ public class WorkspaceTest {
         /* test */
         verify(maskingService, atLeast(1)).maskSensitiveData(any(), any());
     }
+
+    @Test
+    void import_to_meta_data_does_not_change_workspace() throws IOException {
+        /* prepare */
+        ImportParameter importParameter = createWebScanImportParameter("id1", "{}");
+
+        SerecoVulnerability vulnerability = createVulnerability("type1");
+        mockImporterReturning("{}", vulnerability);
+
+        /* execute */
+        SerecoMetaData result = workspace.importToMetaData(new SecHubConfiguration(), importParameter);
+
+        /* test */
+        assertEquals(List.of(vulnerability), result.getVulnerabilities());
+        assertEquals("{}", workspace.createReport());
+    }
+
+    @Test
+    void merge_adds_meta_data_in_order_of_merge_calls() throws IOException {
+        /* prepare */
+        SerecoVulnerability vulnerability1 = createVulnerability("type1");
+        SerecoVulnerability vulnerability2 = createVulnerability("type2");
+        mockImporterReturning("data1", vulnerability1);
+        mockImporterReturning("data2", vulnerability2);
+
+        SerecoMetaData metaData1 = workspace.importToMetaData(new SecHubConfiguration(), createWebScanImportParameter("id1", "data1"));
+        SerecoMetaData metaData2 = workspace.importToMetaData(new SecHubConfiguration(), createWebScanImportParameter("id2", "data2"));
+
+        /* execute */
+        workspace.merge(metaData1);
+        workspace.merge(null);
+        workspace.merge(metaData2);
+
+        /* test */
+        Workspace sequentialWorkspace = new Workspace(projectId);
+        sequentialWorkspace.registry = registry;
+        sequentialWorkspace.maskingService = maskingService;
+        sequentialWorkspace.doImport(new SecHubConfiguration(), createWebScanImportParameter("id1", "data1"));
+        sequentialWorkspace.doImport(new SecHubConfiguration(), createWebScanImportParameter("id2", "data2"));
+
+        assertEquals(sequentialWorkspace.createReport(), workspace.createReport());
+        assertTrue(workspace.createReport().indexOf("type1") < workspace.createReport().indexOf("type2"));
+    }
+
+    private ImportParameter createWebScanImportParameter(String importId, String importData) {
+        /* @formatter:off */
+        return ImportParameter.builder().
+                importData(importData).
+                importId(importId).
+                productId("PDS_WEBSCAN").
+        build();
+        /* @formatter:on */
+    }
+
+    private SerecoVulnerability createVulnerability(String type) {
+        SerecoVulnerability vulnerability = new SerecoVulnerability();
+        vulnerability.setType(type);
+        return vulnerability;
+    }
+
+    private void mockImporterReturning(String importData, SerecoVulnerability vulnerability) throws IOException {
+        ProductResultImporter mockedImporter = mock(ProductResultImporter.class);
+        when(mockedImporter.isAbleToImportForProduct(argThat(param -> param != null && importData.equals(param.getImportData()))))
+                .thenReturn(ProductImportAbility.ABLE_TO_IMPORT);
+        when(mockedImporter.isAbleToImportForProduct(argThat(param -> param == null || !importData.equals(param.getImportData()))))
+                .thenReturn(ProductImportAbility.NOT_ABLE_TO_IMPORT);
+        when(mockedImporter.importResult(importData, ScanType.WEB_SCAN)).thenAnswer(invocation -> {
+            SerecoMetaData metaData = new SerecoMetaData();
+            metaData.getVulnerabilities().add(vulnerability);
+            return metaData;
+        });
+
+        List<ProductResultImporter> importers = new ArrayList<>(registry.getImporters());
+        importers.add(mockedImporter);
+        when(registry.getImporters()).thenReturn(importers);
+
+        when(maskingService.maskSensitiveData(any(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+    }
 }
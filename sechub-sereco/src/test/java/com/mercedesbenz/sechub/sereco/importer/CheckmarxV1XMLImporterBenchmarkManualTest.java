@@ -0,0 +1,166 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.sereco.importer;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mercedesbenz.sechub.commons.model.ScanType;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoMetaData;
+import com.mercedesbenz.sechub.test.ManualTest;
+
+/**
+ * A simple benchmark comparing the former dom4j based Checkmarx import
+ * ({@link CheckmarxV1XMLDom4jReferenceImporter}) with the streaming
+ * {@link CheckmarxV1XMLImporter} - for throughput and for the used heap while
+ * importing. The heap is sampled by a background thread, so the values are only
+ * an approximation. Usage example:
+ *
+ * <pre>
+ * -Dsechub.manual.test.by.developer=true
+ * </pre>
+ *
+ * Optional: <code>sechub.manualtest.checkmarx.results</code> (default 50000),
+ * <code>sechub.manualtest.checkmarx.iterations</code> (default 3)
+ */
+class CheckmarxV1XMLImporterBenchmarkManualTest implements ManualTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CheckmarxV1XMLImporterBenchmarkManualTest.class);
+
+    private static final int RESULTS_PER_QUERY = 100;
+    private static final int PATH_NODES_PER_RESULT = 5;
+
+    @Test
+    void manualTestByDeveloper() throws Exception {
+        int resultCount = Integer.getInteger("sechub.manualtest.checkmarx.results", 50000);
+        int iterations = Integer.getInteger("sechub.manualtest.checkmarx.iterations", 3);
+
+        String xml = createXML(resultCount);
+        long megabytes = xml.length() / (1024 * 1024);
+
+        CheckmarxV1XMLDom4jReferenceImporter dom4jImporter = new CheckmarxV1XMLDom4jReferenceImporter();
+        CheckmarxV1XMLImporter streamImporter = new CheckmarxV1XMLImporter();
+
+        /* warm up */
+        String smallXML = createXML(1000);
+        dom4jImporter.importResult(smallXML, ScanType.CODE_SCAN);
+        streamImporter.importResult(smallXML, ScanType.CODE_SCAN);
+
+        BenchmarkResult dom4j = measure("dom4j", iterations, () -> dom4jImporter.importResult(xml, ScanType.CODE_SCAN));
+        BenchmarkResult stream = measure("stream", iterations, () -> streamImporter.importResult(xml, ScanType.CODE_SCAN));
+
+        LOG.info("Checkmarx import benchmark - results: {}, xml: {} MB, iterations: {}", resultCount, megabytes, iterations);
+        LOG.info(dom4j.toString(megabytes));
+        LOG.info(stream.toString(megabytes));
+        if (dom4j.vulnerabilities != stream.vulnerabilities) {
+            throw new IllegalStateException("Imports differ: " + dom4j.vulnerabilities + " <> " + stream.vulnerabilities);
+        }
+    }
+
+    private interface ImportOperation {
+        SerecoMetaData importResult() throws IOException;
+    }
+
+    private BenchmarkResult measure(String name, int iterations, ImportOperation operation) throws Exception {
+        BenchmarkResult result = new BenchmarkResult();
+        result.name = name;
+
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+
+        HeapSampler sampler = new HeapSampler();
+        Thread samplerThread = new Thread(sampler, "checkmarx-benchmark-heap-sampler");
+        samplerThread.start();
+
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < iterations; i++) {
+                result.vulnerabilities = operation.importResult().getVulnerabilities().size();
+            }
+        } finally {
+            sampler.running = false;
+            samplerThread.join();
+        }
+        result.elapsedMillis = (System.nanoTime() - start) / 1_000_000 / iterations;
+        result.peakHeapMegabytes = Math.max(0, sampler.peakUsed - usedBefore) / (1024 * 1024);
+        return result;
+    }
+
+    private String createXML(int resultCount) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("<?xml version=\"1.0\" encoding=\"utf-8\"?>\n");
+        sb.append("<CxXMLResults ScanId=\"1\" ProjectName=\"benchmark\">\n");
+        int queryNumber = 0;
+        for (int i = 0; i < resultCount; i++) {
+            if (i % RESULTS_PER_QUERY == 0) {
+                if (i > 0) {
+                    sb.append("  </Query>\n");
+                }
+                queryNumber++;
+                sb.append("  <Query id=\"").append(queryNumber).append("\" cweId=\"79\" name=\"Reflected_XSS_All_Clients_").append(queryNumber);
+                sb.append("\" categories=\"OWASP Top 10 2013;A3-Cross-Site Scripting (XSS),NIST SP 800-53;SI-15 Information Output Filtering (P0)\">\n");
+            }
+            sb.append("    <Result Severity=\"High\" FalsePositive=\"False\" DeepLink=\"https://cx.example.org/ViewerMain.aspx?scanid=1&amp;pathid=").append(i)
+                    .append("\">\n");
+            sb.append("      <Path ResultId=\"1\" PathId=\"").append(i).append("\">\n");
+            for (int n = 0; n < PATH_NODES_PER_RESULT; n++) {
+                sb.append("        <PathNode>\n");
+                sb.append("          <FileName>src/main/java/com/example/benchmark/Class").append(i).append(".java</FileName>\n");
+                sb.append("          <Line>").append(n + 10).append("</Line>\n");
+                sb.append("          <Column>").append(n + 1).append("</Column>\n");
+                sb.append("          <NodeId>").append(n).append("</NodeId>\n");
+                sb.append("          <Name>parameter").append(n).append("</Name>\n");
+                sb.append("          <Snippet>\n");
+                sb.append("            <Line>\n");
+                sb.append("              <Number>").append(n + 10).append("</Number>\n");
+                sb.append("              <Code>    String value").append(n).append(" = request.getParameter(\"parameter").append(n).append("\");</Code>\n");
+                sb.append("            </Line>\n");
+                sb.append("          </Snippet>\n");
+                sb.append("        </PathNode>\n");
+            }
+            sb.append("      </Path>\n");
+            sb.append("    </Result>\n");
+        }
+        if (resultCount > 0) {
+            sb.append("  </Query>\n");
+        }
+        sb.append("</CxXMLResults>\n");
+        return sb.toString();
+    }
+
+    private class HeapSampler implements Runnable {
+
+        private volatile boolean running = true;
+        private volatile long peakUsed;
+
+        @Override
+        public void run() {
+            Runtime runtime = Runtime.getRuntime();
+            while (running) {
+                peakUsed = Math.max(peakUsed, runtime.totalMemory() - runtime.freeMemory());
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private class BenchmarkResult {
+        private String name;
+        private long elapsedMillis;
+        private long peakHeapMegabytes;
+        private int vulnerabilities;
+
+        private String toString(long megabytes) {
+            double megabytesPerSecond = elapsedMillis == 0 ? megabytes : (megabytes * 1000.0) / elapsedMillis;
+            return String.format("%-8s time: %6d ms, throughput: %6.1f MB/s, peak heap: %5d MB, vulnerabilities: %d", name, elapsedMillis, megabytesPerSecond,
+                    peakHeapMegabytes, vulnerabilities);
+        }
+    }
+}
@@ -12,7 +12,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mercedesbenz.sechub.commons.model.ScanType;
 import com.mercedesbenz.sechub.sereco.ImportParameter;
 import com.mercedesbenz.sechub.sereco.metadata.SerecoClassification;
@@ -189,6 +191,80 @@ public class CheckmarxV1XMLImporterTest {
         assertEquals("Insufficient Logging of Exceptions", v109.getType());
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = { "sechub-sereco/src/test/resources/checkmarx/sechub-continous-integration-with-false-positive.xml",
+            "sechub-sereco/src/test/resources/checkmarx/checkmarx-import-edge-cases.xml", "sechub-other/testoutput/checkmarx-example1.xml" })
+    void import_result_is_same_as_from_former_dom4j_import(String pathFromRoot) throws IOException {
+        /* prepare */
+        String xml = SerecoTestFileSupport.INSTANCE.loadTestFileFromRoot(pathFromRoot);
+        ObjectMapper mapper = new ObjectMapper();
+        String expected = mapper.writeValueAsString(new CheckmarxV1XMLDom4jReferenceImporter().importResult(xml, ScanType.CODE_SCAN));
+
+        /* execute */
+        SerecoMetaData data = importerToTest.importResult(xml, ScanType.CODE_SCAN);
+
+        /* test */
+        assertEquals(expected, mapper.writeValueAsString(data));
+    }
+
+    @Test
+    void edge_cases_xml_uses_only_first_path_and_first_elements_inside_path_nodes() throws IOException {
+        /* prepare */
+        String xml = SerecoTestFileSupport.INSTANCE.loadTestFile("checkmarx/checkmarx-import-edge-cases.xml");
+
+        /* execute */
+        SerecoMetaData data = importerToTest.importResult(xml, ScanType.CODE_SCAN);
+
+        /* test */
+        List<SerecoVulnerability> vulnerabilities = data.getVulnerabilities();
+        assertEquals(3, vulnerabilities.size());
+
+        SerecoVulnerability v1 = vulnerabilities.get(0);
+        assertEquals("SQL Injection", v1.getType());
+        assertEquals("89", v1.getClassification().getCwe());
+        assertEquals("https://cx.example.org/ViewerMain.aspx?scanid=1&pathid=1", v1.getProductResultLink());
+
+        SerecoCodeCallStackElement code1 = v1.getCode();
+        assertEquals("src/main/Example.java", code1.getLocation());
+        assertEquals(Integer.valueOf(12), code1.getLine());
+        assertEquals(Integer.valueOf(0), code1.getColumn()); // not a number
+        assertEquals("query < 1 && other", code1.getRelevantPart());
+        assertNull(code1.getSource());
+
+        SerecoCodeCallStackElement code2 = code1.getCalls();
+        assertEquals("src/main/Other.java", code2.getLocation());
+        assertEquals(Integer.valueOf(0), code2.getLine()); // not trimmed, so not a number
+        assertEquals(Integer.valueOf(7), code2.getColumn());
+        assertEquals("\tString sql = \"select * from x where a='\" + a + \"'\";", code2.getSource());
+        assertNull(code2.getCalls());
+
+        SerecoVulnerability v2 = vulnerabilities.get(1);
+        assertEquals(SerecoSeverity.INFO, v2.getSeverity());
+        assertTrue(v2.isFalsePositive());
+        assertNull(v2.getCode());
+
+        assertNull(vulnerabilities.get(2).getCode());
+    }
+
+    @Test
+    void not_well_formed_xml_cannot_be_imported() {
+        /* prepare */
+        String xml = "<?xml version='1.0'?><CxXMLResults><Query name='a'><Result Severity='High'></Query></CxXMLResults>";
+
+        /* execute + test */
+        assertThrows(IOException.class, () -> importerToTest.importResult(xml, ScanType.CODE_SCAN));
+    }
+
+    @Test
+    void xml_with_external_entity_cannot_be_imported() {
+        /* prepare */
+        String xml = "<?xml version='1.0'?><!DOCTYPE CxXMLResults [<!ENTITY xxe SYSTEM 'file:///etc/passwd'>]>"
+                + "<CxXMLResults><Query name='a'><Result Severity='High' DeepLink='&xxe;'/></Query></CxXMLResults>";
+
+        /* execute + test */
+        assertThrows(IOException.class, () -> importerToTest.importResult(xml, ScanType.CODE_SCAN));
+    }
+
     private SerecoVulnerability fetchFirstNonFalsePositive(List<SerecoVulnerability> vulnerabilities) {
         Iterator<SerecoVulnerability> vit = vulnerabilities.iterator();
         SerecoVulnerability v1 = vit.next();
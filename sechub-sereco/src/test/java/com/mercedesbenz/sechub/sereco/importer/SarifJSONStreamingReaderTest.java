@@ -0,0 +1,161 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.sereco.importer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.mercedesbenz.sechub.sereco.test.SerecoTestFileSupport;
+
+import de.jcup.sarif_2_1_0.SarifSchema210ImportExportSupport;
+import de.jcup.sarif_2_1_0.model.Result;
+import de.jcup.sarif_2_1_0.model.Run;
+import de.jcup.sarif_2_1_0.model.SarifSchema210;
+
+class SarifJSONStreamingReaderTest {
+
+    private SarifJSONStreamingReader readerToTest;
+    private List<Run> handledRuns;
+    private List<Result> handledResults;
+
+    @BeforeEach
+    void beforeEach() {
+        readerToTest = new SarifJSONStreamingReader();
+        handledRuns = new ArrayList<>();
+        handledResults = new ArrayList<>();
+    }
+
+    @Test
+    void results_before_tool_are_handled_with_tool_information() throws Exception {
+        /* prepare */
+        String json = "{\"runs\":[{\"results\":[{\"ruleId\":\"r1\"},{\"ruleId\":\"r2\"}],\"tool\":{\"driver\":{\"name\":\"tool-after-results\"}}}]}";
+
+        /* execute */
+        readerToTest.read(json, this::remember);
+
+        /* test */
+        assertEquals(2, handledResults.size());
+        assertEquals("r1", handledResults.get(0).getRuleId());
+        assertEquals("r2", handledResults.get(1).getRuleId());
+        assertEquals("tool-after-results", handledRuns.get(0).getTool().getDriver().getName());
+    }
+
+    @Test
+    void results_of_multiple_runs_are_handled_with_their_run() throws Exception {
+        /* prepare */
+        String json = "{\"version\":\"2.1.0\",\"runs\":[{\"tool\":{\"driver\":{\"name\":\"tool1\"}},\"results\":[{\"ruleId\":\"r1\"}]},"
+                + "{\"results\":[{\"ruleId\":\"r2\"}],\"tool\":{\"driver\":{\"name\":\"tool2\"}}}]}";
+
+        /* execute */
+        readerToTest.read(json, this::remember);
+
+        /* test */
+        assertEquals(2, handledResults.size());
+        assertEquals("tool1", handledRuns.get(0).getTool().getDriver().getName());
+        assertEquals("r1", handledResults.get(0).getRuleId());
+        assertEquals("tool2", handledRuns.get(1).getTool().getDriver().getName());
+        assertEquals("r2", handledResults.get(1).getRuleId());
+    }
+
+    @Test
+    void null_results_are_ignored() throws Exception {
+        /* prepare */
+        String json = "{\"runs\":[{\"tool\":{\"driver\":{\"name\":\"tool1\"}},\"results\":[null,{\"ruleId\":\"r1\"}]}]}";
+
+        /* execute */
+        readerToTest.read(json, this::remember);
+
+        /* test */
+        assertEquals(1, handledResults.size());
+    }
+
+    @Test
+    void run_without_results_handles_nothing() throws Exception {
+        /* execute */
+        readerToTest.read("{\"runs\":[{\"tool\":{\"driver\":{\"name\":\"tool1\"}}}]}", this::remember);
+
+        /* test */
+        assertTrue(handledResults.isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "{}", "[]", "{\"runs\":[\"no-object\"]}", "{\"runs\":[{\"results\":[\"no-object\"]}]}", "{\"runs\":[]", "{\"runs\":[]}x" })
+    void invalid_data_throws_io_exception(String json) {
+        assertThrows(IOException.class, () -> readerToTest.read(json, this::remember));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "{\"runs\":[{\"results\":{\"ruleId\":\"r1\"}}]}", "{\"runs\":[{\"results\":[]}] /* comment */}", "{'runs':[]}",
+            "{\"runs\":[{\"results\":[{\"ruleId\":\"r1\",\"level\":\"ERROR\"}]}]}" })
+    void lenient_json_is_not_accepted(String json) {
+        assertThrows(IOException.class, () -> readerToTest.read(json, this::remember));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "{\"runs\":[{\"results\":[{\"ruleId\":\"r1\",\"unknown\":1}]}]}", "{\"runs\":[{\"unknown\":1,\"results\":[]}]}",
+            "{\"runs\":[{\"tool\":{\"driver\":{\"name\":\"tool1\",\"unknown\":1}}}]}", "{\"unknown\":1,\"runs\":[]}",
+            "{\"version\":\"2.1.0\",\"runs\":[{\"results\":[{\"ruleId\":\"r1\"}]}]}", "{\"version\":\"unknown\",\"runs\":[]}" })
+    void data_is_accepted_only_when_full_sarif_model_accepts_it(String json) {
+        /* prepare */
+        boolean acceptedByFullModel = isAcceptedByFullSarifModel(json);
+
+        /* execute */
+        boolean accepted = isAcceptedByReader(json);
+
+        /* test */
+        assertEquals(acceptedByFullModel, accepted);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "sarif_2.1.0_brakeman.json", "sarif_2.1.0_coverity_20.21.03_example_with_taxonomy.json", "sarif_2.1.0_empty_results.json",
+            "sarif_2.1.0_gitleaks_8.0.json", "sarif_2.1.0_gosec_2.8.0_example_with_taxonomy.json", "sarif_2.1.0_gosec_2.9.5_example5_codescan.sarif.json",
+            "sarif_2.1.0_owasp_zap.json", "sarif_2.1.0_simple_example.json", "sarif_2.1.0_threadflows_example.json" })
+    void streaming_handles_same_results_as_full_sarif_model(String fileName) throws Exception {
+        /* prepare */
+        String json = SerecoTestFileSupport.INSTANCE.loadTestFile("sarif/" + fileName);
+        SarifSchema210 model = new SarifSchema210ImportExportSupport().fromJSON(json);
+
+        List<Result> expectedResults = new ArrayList<>();
+        for (Run run : model.getRuns()) {
+            expectedResults.addAll(run.getResults());
+        }
+
+        /* execute */
+        readerToTest.read(json, this::remember);
+
+        /* test */
+        assertEquals(expectedResults, handledResults);
+    }
+
+    private boolean isAcceptedByFullSarifModel(String json) {
+        try {
+            new SarifSchema210ImportExportSupport().fromJSON(json);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean isAcceptedByReader(String json) {
+        try {
+            readerToTest.read(json, this::remember);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void remember(Run run, Result result) {
+        if (handledRuns.isEmpty() || handledRuns.get(handledRuns.size() - 1) != run) {
+            handledRuns.add(run);
+        }
+        handledResults.add(result);
+    }
+}
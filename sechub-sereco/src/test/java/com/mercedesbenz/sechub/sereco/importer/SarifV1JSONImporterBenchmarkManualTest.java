@@ -0,0 +1,166 @@
+// SPDX-License-Identifier: MIT
+package com.mercedesbenz.sechub.sereco.importer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mercedesbenz.sechub.commons.model.ScanType;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoMetaData;
+import com.mercedesbenz.sechub.sereco.metadata.SerecoVulnerability;
+import com.mercedesbenz.sechub.test.ManualTest;
+
+import de.jcup.sarif_2_1_0.SarifSchema210ImportExportSupport;
+import de.jcup.sarif_2_1_0.model.Result;
+import de.jcup.sarif_2_1_0.model.Run;
+import de.jcup.sarif_2_1_0.model.SarifSchema210;
+
+/**
+ * A simple benchmark comparing the import of the complete SARIF object model
+ * (former import) with the streaming import done by
+ * {@link SarifV1JSONImporter}. The SARIF data is generated - the results are
+ * written before the tool section (like many tools do). Time and maximum used
+ * heap (sampled) are logged. Usage example:
+ *
+ * <pre>
+ * -Dsechub.manual.test.by.developer=true
+ * </pre>
+ *
+ * Optional: <code>sechub.manualtest.sarif.results</code> (default 200000),
+ * <code>sechub.manualtest.sarif.rules</code> (default 500)
+ */
+class SarifV1JSONImporterBenchmarkManualTest implements ManualTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SarifV1JSONImporterBenchmarkManualTest.class);
+
+    private static final int HEAP_SAMPLE_INTERVAL_MILLIS = 5;
+
+    @Test
+    void manualTestByDeveloper() throws Exception {
+        int results = Integer.getInteger("sechub.manualtest.sarif.results", 200000);
+        int rules = Integer.getInteger("sechub.manualtest.sarif.rules", 500);
+
+        String json = createSarif(results, rules);
+        SarifV1JSONImporter importer = new SarifV1JSONImporter();
+
+        /* warm up */
+        importWithFullModel(importer, createSarif(100, 10));
+        importer.importResult(createSarif(100, 10), ScanType.CODE_SCAN);
+
+        BenchmarkResult fullModel = measure("full-model", () -> importWithFullModel(importer, json));
+        BenchmarkResult streaming = measure("streaming", () -> importer.importResult(json, ScanType.CODE_SCAN));
+
+        LOG.info("SARIF import benchmark - results: {}, rules: {}, json size: {} MB", results, rules, json.length() / (1024 * 1024));
+        LOG.info(fullModel.toString());
+        LOG.info(streaming.toString());
+    }
+
+    private interface ImportOperation {
+        SerecoMetaData importSarif() throws Exception;
+    }
+
+    private SerecoMetaData importWithFullModel(SarifV1JSONImporter importer, String json) throws Exception {
+        SarifSchema210 report = new SarifSchema210ImportExportSupport().fromJSON(json);
+
+        SerecoMetaData metaData = new SerecoMetaData();
+        for (Run run : report.getRuns()) {
+            for (Result result : run.getResults()) {
+                SerecoVulnerability vulnerability = importer.createSerecoVulnerability(run, result, ScanType.CODE_SCAN);
+                if (vulnerability != null) {
+                    metaData.getVulnerabilities().add(vulnerability);
+                }
+            }
+        }
+        return metaData;
+    }
+
+    private BenchmarkResult measure(String name, ImportOperation operation) throws Exception {
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapBefore = memoryBean.getHeapMemoryUsage().getUsed();
+
+        AtomicLong maxHeap = new AtomicLong(heapBefore);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread sampler = new Thread(() -> {
+            while (running.get()) {
+                maxHeap.accumulateAndGet(memoryBean.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(HEAP_SAMPLE_INTERVAL_MILLIS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "heap-sampler");
+        sampler.start();
+
+        long start = System.nanoTime();
+        SerecoMetaData metaData = operation.importSarif();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        running.set(false);
+        sampler.join();
+
+        BenchmarkResult result = new BenchmarkResult();
+        result.name = name;
+        result.vulnerabilities = metaData.getVulnerabilities().size();
+        result.elapsedMillis = elapsedMillis;
+        result.maxAdditionalHeapMB = (maxHeap.get() - heapBefore) / (1024 * 1024);
+        return result;
+    }
+
+    private String createSarif(int results, int rules) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"version\":\"2.1.0\",\"runs\":[{\"results\":[");
+        for (int i = 0; i < results; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            int rule = i % rules;
+            sb.append("{\"ruleId\":\"rule").append(rule).append("\",\"ruleIndex\":").append(rule);
+            sb.append(",\"level\":\"error\",\"message\":{\"text\":\"Finding number ").append(i).append("\"}");
+            sb.append(",\"locations\":[").append(createLocation(i, 0)).append(']');
+            sb.append(",\"codeFlows\":[{\"threadFlows\":[{\"locations\":[");
+            for (int step = 0; step < 5; step++) {
+                if (step > 0) {
+                    sb.append(',');
+                }
+                sb.append("{\"location\":").append(createLocation(i, step)).append('}');
+            }
+            sb.append("]}]}]}");
+        }
+        sb.append("],\"tool\":{\"driver\":{\"name\":\"benchmark\",\"rules\":[");
+        for (int rule = 0; rule < rules; rule++) {
+            if (rule > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":\"rule").append(rule).append("\",\"shortDescription\":{\"text\":\"Rule ").append(rule).append("\"}");
+            sb.append(",\"fullDescription\":{\"text\":\"Full description of rule ").append(rule).append("\"}");
+            sb.append(",\"relationships\":[{\"target\":{\"id\":\"").append(rule % 1000).append("\",\"toolComponent\":{\"name\":\"CWE\"}}}]}");
+        }
+        sb.append("]}}}]}");
+        return sb.toString();
+    }
+
+    private String createLocation(int result, int step) {
+        return "{\"physicalLocation\":{\"artifactLocation\":{\"uri\":\"src/main/java/com/example/File" + result + ".java\"},\"region\":{\"startLine\":"
+                + (step + 10) + ",\"startColumn\":5,\"snippet\":{\"text\":\"String value = request.getParameter(\\\"p" + step + "\\\");\"}}}}";
+    }
+
+    private class BenchmarkResult {
+        private String name;
+        private int vulnerabilities;
+        private long elapsedMillis;
+        private long maxAdditionalHeapMB;
+
+        @Override
+        public String toString() {
+            return String.format("%-12s vulnerabilities: %8d, time: %8d ms, max additional heap (sampled): %6d MB", name, vulnerabilities, elapsedMillis,
+                    maxAdditionalHeapMB);
+        }
+    }
+}
@@ -322,6 +322,19 @@ class SarifV1JSONImporterTest {
         assertEquals(ProductImportAbility.NOT_ABLE_TO_IMPORT, importAbility, "Not the expected ability!");
     }
 
+    @Test
+    void results_given_as_single_object_instead_of_array__can_NOT_be_imported() {
+        /* prepare */
+        String json = "{\"runs\":[{\"tool\":{\"driver\":{\"name\":\"tool1\"}},\"results\":{\"ruleId\":\"r1\"}}]}";
+        ImportParameter param = ImportParameter.builder().importData(json).importId("id1").productId("PDS_CODESCAN").build();
+
+        /* execute */
+        ProductImportAbility importAbility = importerToTest.isAbleToImportForProduct(param);
+
+        /* test */
+        assertEquals(ProductImportAbility.NOT_ABLE_TO_IMPORT, importAbility, "Not the expected ability!");
+    }
+
     @Test
     void empty_string_is_recognized_as_product_failure() {
         /* prepare */
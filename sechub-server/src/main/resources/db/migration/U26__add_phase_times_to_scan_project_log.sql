@@ -0,0 +1,4 @@
+-- SPDX-License-Identifier: MIT
+-- remove former added column "phase_times"
+ALTER TABLE scan_project_log
+   DROP COLUMN phase_times;
@@ -0,0 +1,3 @@
+-- SPDX-License-Identifier: MIT
+ALTER TABLE scan_report
+   DROP COLUMN result_data;
@@ -0,0 +1,8 @@
+-- SPDX-License-Identifier: MIT
+-- restore former false positive configurations kept by the startup migration.
+-- Changes done after the migration are not contained.
+UPDATE scan_project_config SET config_id = 'false_positives' WHERE config_id = 'false_positives_old';
+
+DELETE FROM scan_project_config WHERE config_id = 'false_positive_rev';
+
+DROP TABLE IF EXISTS scan_false_positive;
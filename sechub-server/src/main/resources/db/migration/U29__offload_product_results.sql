@@ -0,0 +1,5 @@
+-- SPDX-License-Identifier: MIT
+-- remark: offloaded product results remain only inside storage and are no longer available
+ALTER TABLE scan_product_result DROP COLUMN IF EXISTS result_checksum;
+ALTER TABLE scan_product_result DROP COLUMN IF EXISTS result_size;
+ALTER TABLE scan_product_result DROP COLUMN IF EXISTS result_storage_uuid;
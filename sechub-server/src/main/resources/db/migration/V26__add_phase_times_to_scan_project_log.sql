@@ -0,0 +1,4 @@
+-- SPDX-License-Identifier: MIT
+-- add column "phase_times" to scan project log table
+ALTER TABLE scan_project_log
+   ADD COLUMN phase_times text;
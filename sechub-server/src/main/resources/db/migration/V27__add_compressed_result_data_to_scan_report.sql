@@ -0,0 +1,5 @@
+-- SPDX-License-Identifier: MIT
+-- scan reports can be stored gzip compressed - see ScanReportResultType#COMPRESSED_MODEL
+-- In this case the result column contains only a small report header without findings.
+ALTER TABLE scan_report
+   ADD COLUMN result_data bytea;
@@ -0,0 +1,20 @@
+-- SPDX-License-Identifier: MIT
+-- false positives are stored row per entry instead of one JSON document per project
+-- Existing false positive configurations are migrated by the scan domain at startup
+-- (see FalsePositiveJobDataService#migrateFormerFalsePositiveConfigurations)
+CREATE TABLE scan_false_positive
+(
+   project_id varchar(120) not null, -- we accept 120 (3x40), see ProjectIdValidation
+   job_uuid uuid not null,
+   finding_id integer not null,
+   scan_type varchar(30),
+   cwe_id integer,
+   author varchar(120), -- we accept 120 (3x40), see UserIdValidation
+   created timestamp,
+   comment text,
+   meta_data text not null, -- JSON representing a FalsePositiveMetaData object
+   version integer,
+   PRIMARY KEY (project_id, job_uuid, finding_id)
+);
+
+CREATE INDEX scan_false_positive_type_cwe_idx ON scan_false_positive (project_id, scan_type, cwe_id);
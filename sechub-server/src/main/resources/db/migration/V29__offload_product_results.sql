@@ -0,0 +1,5 @@
+-- SPDX-License-Identifier: MIT
+-- big product results can be offloaded to storage, the result column is then null
+ALTER TABLE scan_product_result ADD COLUMN result_storage_uuid uuid;
+ALTER TABLE scan_product_result ADD COLUMN result_size bigint;
+ALTER TABLE scan_product_result ADD COLUMN result_checksum varchar(64); -- sha256 as hex
@@ -4,12 +4,16 @@ package com.mercedesbenz.sechub.domain.schedule;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
+
 import org.junit.Before;
 import org.junit.Test;
 
+import com.mercedesbenz.sechub.domain.schedule.batch.SecHubJobExecutionPool;
 import com.mercedesbenz.sechub.domain.schedule.config.SchedulerConfigService;
 import com.mercedesbenz.sechub.domain.schedule.job.ScheduleSecHubJob;
 import com.mercedesbenz.sechub.sharedkernel.cluster.ClusterEnvironmentService;
+import com.mercedesbenz.sechub.sharedkernel.logging.AlertLogService;
 import com.mercedesbenz.sechub.sharedkernel.monitoring.SystemMonitorService;
 
 public class SecHubJobBatchTriggerServiceTest {
@@ -24,6 +28,10 @@ public class SecHubJobBatchTriggerServiceTest {
 
     private SystemMonitorService monitoringService;
 
+    private SchedulerJobDispatchStatistic dispatchStatistic;
+
+    private SecHubJobExecutionPool executionPool;
+
     @Before
     public void before() throws Exception {
         serviceToTest = new SchedulerJobBatchTriggerService();
@@ -33,12 +41,17 @@ public class SecHubJobBatchTriggerServiceTest {
         environmentService = mock(ClusterEnvironmentService.class);
         configService = mock(SchedulerConfigService.class);
         monitoringService = mock(SystemMonitorService.class);
+        dispatchStatistic = mock(SchedulerJobDispatchStatistic.class);
+        executionPool = mock(SecHubJobExecutionPool.class);
+        when(executionPool.hasFreeSlot()).thenReturn(true);
 
         serviceToTest.launcherService = launcherService;
         serviceToTest.markerService = markerService;
         serviceToTest.environmentService = environmentService;
         serviceToTest.configService = configService;
         serviceToTest.monitorService = monitoringService;
+        serviceToTest.dispatchStatistic = dispatchStatistic;
+        serviceToTest.executionPool = executionPool;
 
     }
 
@@ -95,4 +108,153 @@ public class SecHubJobBatchTriggerServiceTest {
         verify(launcherService, never()).executeJob(any());
     }
 
+    @Test
+    public void when_marker_service_returns_job_dispatch_statistic_is_updated() throws Exception {
+        /* prepare */
+        ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
+        when(markerService.markNextJobToExecuteByThisInstance()).thenReturn(job);
+        when(configService.isJobProcessingEnabled()).thenReturn(true);
+
+        /* execute */
+        serviceToTest.triggerExecutionOfNextJob();
+
+        /* test */
+        verify(dispatchStatistic).addDispatchedJob(job);
+    }
+
+    @Test
+    public void when_max_jobs_per_dispatch_is_3_and_marker_service_returns_always_a_job_launcher_service_is_called_3_times() throws Exception {
+        /* prepare */
+        serviceToTest.maxJobsPerDispatch = 3;
+        ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
+        when(markerService.markNextJobToExecuteByThisInstance()).thenReturn(job);
+        when(configService.isJobProcessingEnabled()).thenReturn(true);
+
+        /* execute */
+        serviceToTest.triggerExecutionOfNextJob();
+
+        /* test */
+        verify(launcherService, times(3)).executeJob(job);
+    }
+
+    @Test
+    public void when_max_jobs_per_dispatch_is_3_and_marker_service_returns_only_2_jobs_launcher_service_is_called_2_times() throws Exception {
+        /* prepare */
+        serviceToTest.maxJobsPerDispatch = 3;
+        ScheduleSecHubJob job1 = mock(ScheduleSecHubJob.class);
+        ScheduleSecHubJob job2 = mock(ScheduleSecHubJob.class);
+        when(markerService.markNextJobToExecuteByThisInstance()).thenReturn(job1, job2, null);
+        when(configService.isJobProcessingEnabled()).thenReturn(true);
+
+        /* execute */
+        serviceToTest.triggerExecutionOfNextJob();
+
+        /* test */
+        verify(launcherService).executeJob(job1);
+        verify(launcherService).executeJob(job2);
+        verify(markerService, times(3)).markNextJobToExecuteByThisInstance();
+    }
+
+    @Test
+    public void when_max_jobs_per_dispatch_is_3_but_memory_is_overloaded_launcher_service_is_NOT_called() throws Exception {
+        /* prepare */
+        serviceToTest.maxJobsPerDispatch = 3;
+        serviceToTest.alertLogService = mock(AlertLogService.class);
+        ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
+        when(markerService.markNextJobToExecuteByThisInstance()).thenReturn(job);
+        when(configService.isJobProcessingEnabled()).thenReturn(true);
+        when(monitoringService.isMemoryUsageMaxReached()).thenReturn(true);
+
+        /* execute */
+        serviceToTest.triggerExecutionOfNextJob();
+
+        /* test */
+        verify(launcherService, never()).executeJob(any());
+    }
+
+    @Test
+    public void when_execution_pool_has_no_free_slot_marker_service_is_NOT_called() throws Exception {
+        /* prepare */
+        when(configService.isJobProcessingEnabled()).thenReturn(true);
+        when(executionPool.hasFreeSlot()).thenReturn(false);
+
+        /* execute */
+        serviceToTest.triggerExecutionOfNextJob();
+
+        /* test */
+        verify(markerService, never()).markNextJobToExecuteByThisInstance();
+        verify(launcherService, never()).executeJob(any());
+    }
+
+    @Test
+    public void when_max_jobs_per_dispatch_is_3_but_execution_pool_has_only_one_free_slot_launcher_service_is_called_once() throws Exception {
+        /* prepare */
+        serviceToTest.maxJobsPerDispatch = 3;
+        ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
+        when(markerService.markNextJobToExecuteByThisInstance()).thenReturn(job);
+        when(configService.isJobProcessingEnabled()).thenReturn(true);
+        when(executionPool.hasFreeSlot()).thenReturn(true, false);
+
+        /* execute */
+        serviceToTest.triggerExecutionOfNextJob();
+
+        /* test */
+        verify(launcherService, times(1)).executeJob(job);
+    }
+
+    @Test
+    public void when_skip_locked_claim_enabled_and_3_free_slots_but_max_jobs_per_dispatch_is_2_marker_service_claims_2_jobs_and_all_are_launched() throws Exception {
+        /* prepare */
+        serviceToTest.skipLockedClaimEnabled = true;
+        serviceToTest.maxJobsPerDispatch = 2;
+        ScheduleSecHubJob job1 = mock(ScheduleSecHubJob.class);
+        ScheduleSecHubJob job2 = mock(ScheduleSecHubJob.class);
+        when(markerService.markNextJobsToExecuteByThisInstance(2)).thenReturn(Arrays.asList(job1, job2));
+        when(configService.isJobProcessingEnabled()).thenReturn(true);
+        when(executionPool.getAmountOfFreeSlots()).thenReturn(3);
+
+        /* execute */
+        serviceToTest.triggerExecutionOfNextJob();
+
+        /* test */
+        verify(markerService, never()).markNextJobToExecuteByThisInstance();
+        verify(launcherService).executeJob(job1);
+        verify(launcherService).executeJob(job2);
+        verify(dispatchStatistic, times(2)).addDispatchedJob(any());
+    }
+
+    @Test
+    public void when_skip_locked_claim_enabled_and_execution_pool_has_no_free_slot_marker_service_is_NOT_called() throws Exception {
+        /* prepare */
+        serviceToTest.skipLockedClaimEnabled = true;
+        serviceToTest.maxJobsPerDispatch = 2;
+        when(configService.isJobProcessingEnabled()).thenReturn(true);
+        when(executionPool.getAmountOfFreeSlots()).thenReturn(0);
+
+        /* execute */
+        serviceToTest.triggerExecutionOfNextJob();
+
+        /* test */
+        verify(markerService, never()).markNextJobsToExecuteByThisInstance(anyInt());
+        verify(launcherService, never()).executeJob(any());
+    }
+
+    @Test
+    public void when_skip_locked_claim_enabled_and_launch_fails_job_is_marked_as_failed() throws Exception {
+        /* prepare */
+        serviceToTest.skipLockedClaimEnabled = true;
+        ScheduleSecHubJob job = mock(ScheduleSecHubJob.class);
+        when(markerService.markNextJobsToExecuteByThisInstance(1)).thenReturn(Arrays.asList(job));
+        when(configService.isJobProcessingEnabled()).thenReturn(true);
+        when(executionPool.getAmountOfFreeSlots()).thenReturn(1);
+        doThrow(new IllegalStateException("launch failed")).when(launcherService).executeJob(job);
+
+        /* execute */
+        serviceToTest.triggerExecutionOfNextJob();
+
+        /* test */
+        verify(markerService).markJobExecutionFailed(job);
+        verify(dispatchStatistic, never()).addDispatchedJob(any());
+    }
+
 }
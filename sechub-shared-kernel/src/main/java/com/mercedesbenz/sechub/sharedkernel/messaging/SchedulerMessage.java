@@ -27,6 +27,13 @@ public class SchedulerMessage implements JSONable<SchedulerMessage> {
     private long amountOfJobsCancelRequested;
     private long amountOfJobsEnded;
 
+    private long amountOfJobsDispatched;
+    private long jobQueueWaitTimeAverageInMilliseconds;
+    private long jobQueueWaitTimeMaxInMilliseconds;
+
+    private long amountOfJobsInExecutionPool;
+    private long executionPoolMaxConcurrentJobs;
+
     public boolean isJobProcessingEnabled() {
         return jobProcessingEnabled;
     }
@@ -96,4 +103,52 @@ public class SchedulerMessage implements JSONable<SchedulerMessage> {
         this.amountOfJobsEnded = amountOfJobsEnded;
     }
 
+    /**
+     * @return amount of jobs dispatched by the scheduler instance which has
+     *         created this message
+     */
+    public long getAmountOfJobsDispatched() {
+        return amountOfJobsDispatched;
+    }
+
+    public void setAmountOfJobsDispatched(long amountOfJobsDispatched) {
+        this.amountOfJobsDispatched = amountOfJobsDispatched;
+    }
+
+    public long getJobQueueWaitTimeAverageInMilliseconds() {
+        return jobQueueWaitTimeAverageInMilliseconds;
+    }
+
+    public void setJobQueueWaitTimeAverageInMilliseconds(long jobQueueWaitTimeAverageInMilliseconds) {
+        this.jobQueueWaitTimeAverageInMilliseconds = jobQueueWaitTimeAverageInMilliseconds;
+    }
+
+    public long getJobQueueWaitTimeMaxInMilliseconds() {
+        return jobQueueWaitTimeMaxInMilliseconds;
+    }
+
+    public void setJobQueueWaitTimeMaxInMilliseconds(long jobQueueWaitTimeMaxInMilliseconds) {
+        this.jobQueueWaitTimeMaxInMilliseconds = jobQueueWaitTimeMaxInMilliseconds;
+    }
+
+    /**
+     * @return amount of jobs inside execution pool of the scheduler instance which
+     *         has created this message
+     */
+    public long getAmountOfJobsInExecutionPool() {
+        return amountOfJobsInExecutionPool;
+    }
+
+    public void setAmountOfJobsInExecutionPool(long amountOfJobsInExecutionPool) {
+        this.amountOfJobsInExecutionPool = amountOfJobsInExecutionPool;
+    }
+
+    public long getExecutionPoolMaxConcurrentJobs() {
+        return executionPoolMaxConcurrentJobs;
+    }
+
+    public void setExecutionPoolMaxConcurrentJobs(long executionPoolMaxConcurrentJobs) {
+        this.executionPoolMaxConcurrentJobs = executionPoolMaxConcurrentJobs;
+    }
+
 }
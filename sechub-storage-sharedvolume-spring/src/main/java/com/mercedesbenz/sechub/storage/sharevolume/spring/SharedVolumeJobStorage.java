@@ -81,10 +81,20 @@ public class SharedVolumeJobStorage implements JobStorage {
 
             LOG.debug("Stored:{} at {}", name, pathToFile);
         } catch (Exception e) {
+            /* abort: we do not keep partial written files */
+            deletePartialFile(pathToFile);
             throw new IOException("Was not able to store input stream into file: " + pathToFile, e);
         }
     }
 
+    private void deletePartialFile(Path pathToFile) {
+        try {
+            Files.deleteIfExists(pathToFile);
+        } catch (IOException e) {
+            LOG.warn("Was not able to delete partial written file: {}", pathToFile, e);
+        }
+    }
+
     public void deleteAll() throws IOException {
         try {
             if (Files.notExists(volumePath)) {
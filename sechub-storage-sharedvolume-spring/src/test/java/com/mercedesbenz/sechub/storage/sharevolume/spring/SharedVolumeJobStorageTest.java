@@ -45,6 +45,31 @@ class SharedVolumeJobStorageTest {
 
     }
 
+    @Test
+    void store_failing_stream_does_not_keep_partial_written_file() throws Exception {
+        /* prepare */
+        UUID uuid = UUID.randomUUID();
+        SharedVolumeJobStorage storage = new SharedVolumeJobStorage(rootLocation, "test1", uuid);
+
+        InputStream failingStream = new InputStream() {
+            private int count;
+
+            @Override
+            public int read() throws IOException {
+                if (count++ < 100) {
+                    return 'x';
+                }
+                throw new IOException("failing by intention");
+            }
+        };
+
+        /* execute */
+        assertThrows(IOException.class, () -> storage.store("partial.txt", failingStream, 200));
+
+        /* test */
+        assertFalse(storage.isExisting("partial.txt"));
+    }
+
     private SharedVolumeJobStorage storeTestData(UUID jobUUID, String fileName) throws IOException, FileNotFoundException {
         SharedVolumeJobStorage storage = new SharedVolumeJobStorage(rootLocation, "test1", jobUUID);
 
@@ -3,9 +3,15 @@ package com.mercedesbenz.sechub.domain.scan.product.sereco;
 
 import org.mockito.Mockito;
 
+import com.mercedesbenz.sechub.domain.scan.product.ProductResultStorageService;
+
 public class TestSerecoProductResultTransformer extends SerecoProductResultTransformer {
 
     public TestSerecoProductResultTransformer() {
         this.falsePositiveMarker = Mockito.mock(SerecoFalsePositiveMarker.class);
+        Mockito.when(falsePositiveMarker.createMarker(Mockito.any())).thenReturn(vulnerability -> {
+        });
+        /* results are never offloaded here - so no storage is necessary */
+        this.productResultStorageService = new ProductResultStorageService();
     }
 }
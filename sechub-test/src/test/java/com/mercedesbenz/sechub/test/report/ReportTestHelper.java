@@ -106,6 +106,7 @@ public class ReportTestHelper {
         ProductResult productResult = new ProductResult(UUID.fromString(sechubJobUUID), "project-1", info, serecoJSon);
         ReportTransformationResult result = serecoProductResultTransformer.transform(productResult);
         result.setAtLeastOneRealProductResultContained(hasProductResults);
+        result.loadStoredFindings();
 
         String transformationResultAsJson = result.toJSON();
         if (TestUtil.isTraceEnabled()) {
@@ -41,6 +41,10 @@ public class PDSTestURLBuilder extends AbstractTestURLBuilder {
         return buildUrl(API_PDS_JOB, jobUUID.toString(), "status");
     }
 
+    public String buildWaitForJobStatusChange(UUID jobUUID) {
+        return buildUrl(API_PDS_JOB, jobUUID.toString(), "wait-for-status-change");
+    }
+
     public String buildGetJobResult(UUID jobUUID) {
         return buildUrl(API_PDS_JOB, jobUUID.toString(), "result");
     }